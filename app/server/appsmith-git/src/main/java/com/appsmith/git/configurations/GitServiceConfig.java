@@ -13,4 +13,10 @@ public class GitServiceConfig {
 
     @Value("gitInitializeRepo/GitConnect-Initialize-Repo-Template")
     private String readmeTemplatePath;
+
+    @Value("${appsmith.git.repository.cache.max-size:100}")
+    private int repositoryCacheMaxSize;
+
+    @Value("${appsmith.git.repository.cache.idle-seconds:600}")
+    private long repositoryCacheIdleSeconds;
 }
@@ -1,5 +1,6 @@
 package com.appsmith.git.files;
 
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
@@ -11,26 +12,30 @@ import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.ArtifactGitReference;
+import com.appsmith.external.models.WorkingTreeChanges;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.ParsedFileCache;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectInserter;
 import org.json.JSONObject;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,6 +46,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,6 +55,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import static com.appsmith.external.git.constants.GitConstants.ACTION_COLLECTION_LIST;
@@ -86,6 +94,23 @@ public class FileUtilsCEImpl implements FileInterface {
 
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
+    private static final long MAX_PARSED_WIDGET_BYTES = 16 * 1024 * 1024;
+
+    // Widgets read earlier, to skip parsing the widgets that are the same across branches and pulls
+    private final ParsedFileCache parsedWidgetCache = new ParsedFileCache(MAX_PARSED_WIDGET_BYTES);
+
+    /**
+     * Resources read from the directory of a single page
+     */
+    private record PageReference(
+            String pageName,
+            Object page,
+            String pageDsl,
+            Map<String, Object> actions,
+            Map<String, String> actionBodies,
+            Map<String, Object> actionCollections,
+            Map<String, String> actionCollectionBodies) {}
+
     public FileUtilsCEImpl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
@@ -215,6 +240,226 @@ public class FileUtilsCEImpl implements FileInterface {
                 .subscribeOn(scheduler);
     }
 
+    /**
+     * This method will get the status of the branch as if the application had been saved to the local repo directory,
+     * without touching the working tree. Only the files of the modified resources are serialised, the same way as they
+     * would be saved, and their content is compared with the last commit of the branch by the ids of their git blobs.
+     *
+     * @param baseRepoSuffix       path suffix used to create a repo path
+     * @param artifactGitReference application reference object from which entire application can be rehydrated
+     * @param branchName           name of the branch for the current application
+     * @return status of the branch
+     */
+    @Override
+    public Mono<GitStatusDTO> getStatus(
+            Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName) {
+
+        ApplicationGitReference applicationGitReference = (ApplicationGitReference) artifactGitReference;
+
+        Stopwatch processStopwatch = new Stopwatch("FS application status");
+        return Mono.fromCallable(() -> {
+                    WorkingTreeChanges workingTreeChanges = getWorkingTreeChanges(applicationGitReference);
+                    processStopwatch.stopAndLogTimeInMillis();
+                    return workingTreeChanges;
+                })
+                .subscribeOn(scheduler)
+                .flatMap(workingTreeChanges -> {
+                    Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+                    return gitExecutor.getStatus(baseRepo, branchName, workingTreeChanges);
+                });
+    }
+
+    /**
+     * Finds the changes that updateEntitiesInRepo would make to the last commit of the branch, without writing them
+     *
+     * @param applicationGitReference application reference object from which entire application can be rehydrated
+     * @return changes to the files of the last commit, relative to the repo
+     */
+    protected WorkingTreeChanges getWorkingTreeChanges(ApplicationGitReference applicationGitReference)
+            throws IOException {
+
+        WorkingTreeChanges workingTreeChanges = new WorkingTreeChanges();
+        ModifiedResources modifiedResources = applicationGitReference.getModifiedResources();
+
+        // Directories of v1 of the git file format version
+        workingTreeChanges.delete(ACTION_DIRECTORY);
+        workingTreeChanges.delete(ACTION_COLLECTION_DIRECTORY);
+
+        writeFile(
+                workingTreeChanges,
+                Paths.get(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION),
+                fileOperations.serializeResource(applicationGitReference.getApplication()));
+        writeFile(
+                workingTreeChanges,
+                Paths.get(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                fileOperations.serializeMetadata(applicationGitReference));
+        writeFile(
+                workingTreeChanges,
+                Paths.get(CommonConstants.THEME + CommonConstants.JSON_EXTENSION),
+                fileOperations.serializeResource(applicationGitReference.getTheme()));
+
+        // Pages
+        Path pageDirectory = Paths.get(PAGE_DIRECTORY);
+        Set<String> validPages = new HashSet<>();
+        for (Map.Entry<String, Object> pageResource :
+                applicationGitReference.getPages().entrySet()) {
+            final String pageName = pageResource.getKey();
+            if (modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName)) {
+                Path pageSpecificDirectory = pageDirectory.resolve(pageName);
+                writeFile(
+                        workingTreeChanges,
+                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION),
+                        fileOperations.serializeResource(pageResource.getValue()));
+                Map<String, JSONObject> widgets = DSLTransformerHelper.flatten(
+                        new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
+                for (Map.Entry<String, JSONObject> widget : widgets.entrySet()) {
+                    String widgetName = getWidgetName(widget.getKey());
+                    Path widgetDirectory =
+                            getWidgetDirectory(pageSpecificDirectory, widget.getKey(), widgetName, widget.getValue());
+                    writeFile(
+                            workingTreeChanges,
+                            widgetDirectory.resolve(widgetName + CommonConstants.JSON_EXTENSION),
+                            fileOperations.serializeWidget(widget.getValue()));
+                }
+                workingTreeChanges.rewriteDirectory(getGitPath(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)));
+                workingTreeChanges.delete(getGitPath(
+                        pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION)));
+            }
+            validPages.add(pageName);
+        }
+        workingTreeChanges.retainDirectories(PAGE_DIRECTORY, validPages);
+
+        // JS Libs, if there's at least one change
+        if (modifiedResources != null
+                && !CollectionUtils.isEmpty(
+                        modifiedResources.getModifiedResourceMap().get(CUSTOM_JS_LIB_LIST))) {
+            Set<String> validJsLibs = new HashSet<>();
+            for (Map.Entry<String, Object> jsLibEntry :
+                    applicationGitReference.getJsLibraries().entrySet()) {
+                String fileNameWithExtension = getJsLibFileName(jsLibEntry.getKey()) + CommonConstants.JSON_EXTENSION;
+                if (modifiedResources.isResourceUpdated(CUSTOM_JS_LIB_LIST, jsLibEntry.getKey())) {
+                    writeFile(
+                            workingTreeChanges,
+                            Paths.get(JS_LIB_DIRECTORY, fileNameWithExtension),
+                            fileOperations.serializeResource(jsLibEntry.getValue()));
+                }
+                validJsLibs.add(fileNameWithExtension);
+            }
+            workingTreeChanges.retainFiles(JS_LIB_DIRECTORY, validJsLibs);
+        }
+
+        Map<String, Set<String>> validActionsMap = new HashMap<>();
+        Map<String, Set<String>> validActionCollectionsMap = new HashMap<>();
+        validPages.forEach(validPage -> {
+            validActionsMap.put(validPage, new HashSet<>());
+            validActionCollectionsMap.put(validPage, new HashSet<>());
+        });
+
+        // Actions
+        for (Map.Entry<String, Object> resource :
+                applicationGitReference.getActions().entrySet()) {
+            String[] names = resource.getKey().split(NAME_SEPARATOR);
+            if (names.length > 1 && StringUtils.hasLength(names[1])) {
+                final String queryName = names[0].replace(".", "-");
+                final String pageName = names[1];
+                Path actionDirectory = pageDirectory.resolve(pageName).resolve(ACTION_DIRECTORY);
+                validActionsMap
+                        .computeIfAbsent(pageName, key -> new HashSet<>())
+                        .add(queryName);
+                if (modifiedResources != null && modifiedResources.isResourceUpdated(ACTION_LIST, resource.getKey())) {
+                    String body = applicationGitReference.getActionBody().get(resource.getKey());
+                    Path actionSpecificDirectory = actionDirectory.resolve(queryName);
+                    if (StringUtils.hasLength(body)) {
+                        writeFile(
+                                workingTreeChanges,
+                                actionSpecificDirectory.resolve(queryName + CommonConstants.TEXT_FILE_EXTENSION),
+                                body.getBytes(StandardCharsets.UTF_8));
+                    }
+                    writeFile(
+                            workingTreeChanges,
+                            actionSpecificDirectory.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                            fileOperations.serializeResource(resource.getValue()));
+                    // The resource in the old file structure v2
+                    workingTreeChanges.delete(
+                            getGitPath(actionDirectory.resolve(queryName + CommonConstants.JSON_EXTENSION)));
+                }
+            }
+        }
+        validActionsMap.forEach((pageName, validActionNames) -> workingTreeChanges.retainDirectories(
+                getGitPath(pageDirectory.resolve(pageName).resolve(ACTION_DIRECTORY)), validActionNames));
+
+        // JSObjects
+        for (Map.Entry<String, Object> resource :
+                applicationGitReference.getActionCollections().entrySet()) {
+            String[] names = resource.getKey().split(NAME_SEPARATOR);
+            if (names.length > 1 && StringUtils.hasLength(names[1])) {
+                final String actionCollectionName = names[0];
+                final String pageName = names[1];
+                Path actionCollectionDirectory = pageDirectory.resolve(pageName).resolve(ACTION_COLLECTION_DIRECTORY);
+                validActionCollectionsMap
+                        .computeIfAbsent(pageName, key -> new HashSet<>())
+                        .add(actionCollectionName);
+                if (modifiedResources != null
+                        && modifiedResources.isResourceUpdated(ACTION_COLLECTION_LIST, resource.getKey())) {
+                    String body =
+                            applicationGitReference.getActionCollectionBody().get(resource.getKey());
+                    Path actionCollectionSpecificDirectory = actionCollectionDirectory.resolve(actionCollectionName);
+                    if (StringUtils.hasText(body)) {
+                        writeFile(
+                                workingTreeChanges,
+                                actionCollectionSpecificDirectory.resolve(
+                                        actionCollectionName + CommonConstants.JS_EXTENSION),
+                                body.getBytes(StandardCharsets.UTF_8));
+                    }
+                    writeFile(
+                            workingTreeChanges,
+                            actionCollectionSpecificDirectory.resolve(
+                                    CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                            fileOperations.serializeResource(resource.getValue()));
+                    // The resource in the old file structure v2
+                    workingTreeChanges.delete(getGitPath(
+                            actionCollectionDirectory.resolve(actionCollectionName + CommonConstants.JSON_EXTENSION)));
+                }
+            }
+        }
+        validActionCollectionsMap.forEach(
+                (pageName, validActionCollectionNames) -> workingTreeChanges.retainDirectories(
+                        getGitPath(pageDirectory.resolve(pageName).resolve(ACTION_COLLECTION_DIRECTORY)),
+                        validActionCollectionNames));
+
+        // Datasources
+        Set<String> validDatasourceFileNames = new HashSet<>();
+        for (Map.Entry<String, Object> resource :
+                applicationGitReference.getDatasources().entrySet()) {
+            String fileNameWithExtension = resource.getKey() + CommonConstants.JSON_EXTENSION;
+            writeFile(
+                    workingTreeChanges,
+                    Paths.get(DATASOURCE_DIRECTORY, fileNameWithExtension),
+                    fileOperations.serializeResource(resource.getValue()));
+            validDatasourceFileNames.add(fileNameWithExtension);
+        }
+        if (!applicationGitReference.getDatasources().isEmpty()) {
+            workingTreeChanges.retainFiles(DATASOURCE_DIRECTORY, validDatasourceFileNames);
+        }
+
+        return workingTreeChanges;
+    }
+
+    private static void writeFile(WorkingTreeChanges workingTreeChanges, Path path, byte[] content) {
+        try (ObjectInserter.Formatter formatter = new ObjectInserter.Formatter()) {
+            workingTreeChanges.writeFile(getGitPath(path), formatter.idFor(Constants.OBJ_BLOB, content));
+        }
+    }
+
+    /**
+     * @return the relative path, with / as the separator as in git trees
+     */
+    private static String getGitPath(Path path) {
+        List<String> names = new ArrayList<>();
+        path.forEach(name -> names.add(name.toString()));
+        return String.join(CommonConstants.DELIMITER_PATH, names);
+    }
+
     protected Set<String> updateEntitiesInRepo(ApplicationGitReference applicationGitReference, Path baseRepo) {
 
         Set<String> validDatasourceFileNames = new HashSet<>();
@@ -243,46 +488,21 @@ public class FileUtilsCEImpl implements FileInterface {
                 applicationGitReference.getPages().entrySet();
 
         Set<String> validPages = new HashSet<>();
+        List<Runnable> pageWrites = new ArrayList<>();
         for (Map.Entry<String, Object> pageResource : pageEntries) {
-            Map<String, String> validWidgetToParentMap = new HashMap<>();
             final String pageName = pageResource.getKey();
-            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
             boolean isResourceUpdated =
                     modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
             if (Boolean.TRUE.equals(isResourceUpdated)) {
-                // Save page metadata
-                saveResource(
+                pageWrites.add(() -> savePage(
                         pageResource.getValue(),
-                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
-                Map<String, JSONObject> result = DSLTransformerHelper.flatten(
-                        new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
-                result.forEach((key, jsonObject) -> {
-                    // get path with splitting the name via key
-                    String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
-                    String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
-                            .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
-                    // Replace the canvas Widget as a child and add it to the same level as parent
-                    childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
-                    if (!DSLTransformerHelper.hasChildren(jsonObject)
-                            && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
-                        // Save the widget as a directory or Save the widget as a file
-                        childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
-                    }
-                    Path path = Paths.get(
-                            String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
-                    validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
-                });
-                // Remove deleted widgets from the file system
-                deleteWidgets(
-                        pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
-
-                // Remove the canvas.json from the file system since the value is stored in the page.json
-                fileOperations.deleteFile(
-                        pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+                        applicationGitReference.getPageDsl().get(pageName),
+                        pageName,
+                        pageDirectory.resolve(pageName)));
             }
             validPages.add(pageName);
         }
+        writeInParallel(pageWrites);
 
         fileOperations.scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
 
@@ -318,6 +538,7 @@ public class FileUtilsCEImpl implements FileInterface {
         });
 
         // Save actions
+        List<Runnable> actionWrites = new ArrayList<>();
         for (Map.Entry<String, Object> resource :
                 applicationGitReference.getActions().entrySet()) {
             // queryName_pageName => nomenclature for the keys
@@ -338,20 +559,25 @@ public class FileUtilsCEImpl implements FileInterface {
                 }
                 validActionsMap.get(pageName).add(queryName);
                 if (Boolean.TRUE.equals(isResourceUpdated)) {
-                    saveActions(
-                            resource.getValue(),
-                            applicationGitReference.getActionBody().containsKey(resource.getKey())
-                                    ? applicationGitReference.getActionBody().get(resource.getKey())
-                                    : null,
-                            queryName,
-                            actionSpecificDirectory.resolve(queryName));
-                    // Delete the resource from the old file structure v2
-                    fileOperations.deleteFile(pageSpecificDirectory
-                            .resolve(ACTION_DIRECTORY)
-                            .resolve(queryName + CommonConstants.JSON_EXTENSION));
+                    actionWrites.add(() -> {
+                        saveActions(
+                                resource.getValue(),
+                                applicationGitReference.getActionBody().containsKey(resource.getKey())
+                                        ? applicationGitReference
+                                                .getActionBody()
+                                                .get(resource.getKey())
+                                        : null,
+                                queryName,
+                                actionSpecificDirectory.resolve(queryName));
+                        // Delete the resource from the old file structure v2
+                        fileOperations.deleteFile(pageSpecificDirectory
+                                .resolve(ACTION_DIRECTORY)
+                                .resolve(queryName + CommonConstants.JSON_EXTENSION));
+                    });
                 }
             }
         }
+        writeInParallel(actionWrites);
 
         validActionsMap.forEach((pageName, validActionNames) -> {
             Path pageSpecificDirectory = pageDirectory.resolve(pageName);
@@ -360,6 +586,7 @@ public class FileUtilsCEImpl implements FileInterface {
         });
 
         // Save JSObjects
+        List<Runnable> actionCollectionWrites = new ArrayList<>();
         for (Map.Entry<String, Object> resource :
                 applicationGitReference.getActionCollections().entrySet()) {
             // JSObjectName_pageName => nomenclature for the keys
@@ -378,17 +605,22 @@ public class FileUtilsCEImpl implements FileInterface {
                 boolean isResourceUpdated = modifiedResources != null
                         && modifiedResources.isResourceUpdated(ACTION_COLLECTION_LIST, resource.getKey());
                 if (Boolean.TRUE.equals(isResourceUpdated)) {
-                    saveActionCollection(
-                            resource.getValue(),
-                            applicationGitReference.getActionCollectionBody().get(resource.getKey()),
-                            actionCollectionName,
-                            actionCollectionSpecificDirectory.resolve(actionCollectionName));
-                    // Delete the resource from the old file structure v2
-                    fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
-                            actionCollectionName + CommonConstants.JSON_EXTENSION));
+                    actionCollectionWrites.add(() -> {
+                        saveActionCollection(
+                                resource.getValue(),
+                                applicationGitReference
+                                        .getActionCollectionBody()
+                                        .get(resource.getKey()),
+                                actionCollectionName,
+                                actionCollectionSpecificDirectory.resolve(actionCollectionName));
+                        // Delete the resource from the old file structure v2
+                        fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
+                                actionCollectionName + CommonConstants.JSON_EXTENSION));
+                    });
                 }
             }
         }
+        writeInParallel(actionCollectionWrites);
 
         // Verify if the old files are deleted
         validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> {
@@ -414,6 +646,77 @@ public class FileUtilsCEImpl implements FileInterface {
         return validPages;
     }
 
+    /**
+     * Runs the given writes in parallel, on at most as many threads as there are cores, and waits for all of them to
+     * complete. Each write is to the directory of a different resource, so they don't depend on each other.
+     */
+    private void writeInParallel(List<Runnable> writes) {
+        if (writes.size() <= 1) {
+            writes.forEach(Runnable::run);
+            return;
+        }
+        Flux.fromIterable(writes)
+                .parallel(Math.min(writes.size(), Schedulers.DEFAULT_POOL_SIZE))
+                .runOn(scheduler)
+                .doOnNext(Runnable::run)
+                .sequential()
+                .then()
+                .block();
+    }
+
+    /**
+     * This method is used to write the page metadata and every widget of the page to its own file, and to remove the
+     * files of the widgets that are no longer in the page
+     *
+     * @param pageResource          metadata of the page
+     * @param pageDsl               DSL of the page
+     * @param pageName              name of the page
+     * @param pageSpecificDirectory directory where the page is stored
+     */
+    private void savePage(Object pageResource, String pageDsl, String pageName, Path pageSpecificDirectory) {
+        Map<String, String> validWidgetToParentMap = new HashMap<>();
+        // Save page metadata
+        saveResource(pageResource, pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
+        Map<String, JSONObject> result = DSLTransformerHelper.flatten(new JSONObject(pageDsl));
+        result.forEach((key, jsonObject) -> {
+            String widgetName = getWidgetName(key);
+            Path path = getWidgetDirectory(pageSpecificDirectory, key, widgetName, jsonObject);
+            validWidgetToParentMap.put(widgetName, path.toFile().toString());
+            fileOperations.saveWidgets(jsonObject, widgetName, path);
+        });
+        // Remove deleted widgets from the file system
+        deleteWidgets(pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
+
+        // Remove the canvas.json from the file system since the value is stored in the page.json
+        fileOperations.deleteFile(
+                pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+    }
+
+    private static String getWidgetName(String key) {
+        // get path with splitting the name via key
+        return key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
+    }
+
+    /**
+     * @param pageSpecificDirectory directory where the page is stored
+     * @param key                   key of the widget in the flattened DSL of the page
+     * @param widgetName            name of the widget
+     * @param widget                the widget
+     * @return directory in which the widget is stored
+     */
+    private static Path getWidgetDirectory(
+            Path pageSpecificDirectory, String key, String widgetName, JSONObject widget) {
+        String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
+                .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
+        // Replace the canvas Widget as a child and add it to the same level as parent
+        childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
+        if (!DSLTransformerHelper.hasChildren(widget) && !DSLTransformerHelper.isTabsWidget(widget)) {
+            // Save the widget as a directory or Save the widget as a file
+            childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
+        }
+        return Paths.get(String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
      *
@@ -453,7 +756,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 String resourceType = ACTION_COLLECTION_BODY;
                 span.tag(RESOURCE_TYPE, resourceType);
                 observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
+                fileOperations.writeStringToFile(body, bodyPath);
             }
 
             // Write metadata for the jsObject
@@ -489,7 +792,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 String resourceType = NEW_ACTION_BODY;
                 span.tag(RESOURCE_TYPE, resourceType);
                 observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
+                fileOperations.writeStringToFile(body, bodyPath);
             }
 
             // Write metadata for the actions
@@ -503,12 +806,6 @@ public class FileUtilsCEImpl implements FileInterface {
         return false;
     }
 
-    private void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
-    }
-
     /**
      * This will reconstruct the application from the repo
      *
@@ -793,29 +1090,18 @@ public class FileUtilsCEImpl implements FileInterface {
         Map<String, String> actionCollectionBodyMap = new HashMap<>();
         if (directory.isDirectory()) {
             // Loop through all the directories and nested directories inside the pages directory to extract
-            // pages, actions and actionCollections from the JSON files
-            for (File page : Objects.requireNonNull(directory.listFiles())) {
-                if (page.isDirectory()) {
-                    pageMap.put(page.getName(), readPageMetadata(page.toPath()));
-
-                    JSONObject mainContainer = fileOperations.getMainContainer(pageMap.get(page.getName()));
-
-                    // Read widgets data recursively from the widgets directory
-                    Map<String, JSONObject> widgetsData = readWidgetsData(
-                            page.toPath().resolve(CommonConstants.WIDGETS).toString());
-                    // Construct the nested DSL from the widgets data
-                    Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
-                            widgetsData.keySet().stream().toList());
-                    JSONObject nestedDSL =
-                            DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
-                    pageDsl.put(page.getName(), nestedDSL.toString());
-                    actionMap.putAll(
-                            readAction(page.toPath().resolve(ACTION_DIRECTORY), page.getName(), actionBodyMap));
-                    actionCollectionMap.putAll(readActionCollection(
-                            page.toPath().resolve(ACTION_COLLECTION_DIRECTORY),
-                            page.getName(),
-                            actionCollectionBodyMap));
-                }
+            // pages, actions and actionCollections from the JSON files. Every page is read from its own directory,
+            // so the pages are read in parallel.
+            List<File> pages = Arrays.stream(Objects.requireNonNull(directory.listFiles()))
+                    .filter(File::isDirectory)
+                    .toList();
+            for (PageReference pageReference : readInParallel(pages, this::readPage)) {
+                pageMap.put(pageReference.pageName(), pageReference.page());
+                pageDsl.put(pageReference.pageName(), pageReference.pageDsl());
+                actionMap.putAll(pageReference.actions());
+                actionBodyMap.putAll(pageReference.actionBodies());
+                actionCollectionMap.putAll(pageReference.actionCollections());
+                actionCollectionBodyMap.putAll(pageReference.actionCollectionBodies());
             }
         }
         applicationGitReference.setActions(actionMap);
@@ -829,6 +1115,51 @@ public class FileUtilsCEImpl implements FileInterface {
                 fileOperations.readFiles(baseRepoPath.resolve(DATASOURCE_DIRECTORY), CommonConstants.EMPTY_STRING));
     }
 
+    private PageReference readPage(File page) {
+        Object pageMetadata = readPageMetadata(page.toPath());
+        JSONObject mainContainer = fileOperations.getMainContainer(pageMetadata);
+
+        // Read widgets data recursively from the widgets directory
+        Map<String, JSONObject> widgetsData =
+                readWidgetsData(page.toPath().resolve(CommonConstants.WIDGETS).toString());
+        // Construct the nested DSL from the widgets data
+        Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
+                widgetsData.keySet().stream().toList());
+        JSONObject nestedDSL = DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
+
+        Map<String, String> actionBodies = new HashMap<>();
+        Map<String, Object> actions = readAction(page.toPath().resolve(ACTION_DIRECTORY), page.getName(), actionBodies);
+        Map<String, String> actionCollectionBodies = new HashMap<>();
+        Map<String, Object> actionCollections = readActionCollection(
+                page.toPath().resolve(ACTION_COLLECTION_DIRECTORY), page.getName(), actionCollectionBodies);
+
+        return new PageReference(
+                page.getName(),
+                pageMetadata,
+                nestedDSL.toString(),
+                actions,
+                actionBodies,
+                actionCollections,
+                actionCollectionBodies);
+    }
+
+    /**
+     * Reads the given resources in parallel, on at most as many threads as there are cores, and waits for all of them
+     * to be read
+     */
+    private <T, R> List<R> readInParallel(List<T> resources, Function<T, R> reader) {
+        if (resources.size() <= 1) {
+            return resources.stream().map(reader).toList();
+        }
+        return Flux.fromIterable(resources)
+                .parallel(Math.min(resources.size(), Schedulers.DEFAULT_POOL_SIZE))
+                .runOn(scheduler)
+                .map(reader)
+                .sequential()
+                .collectList()
+                .block();
+    }
+
     private Map<String, JSONObject> readWidgetsData(String directoryPath) {
         Map<String, JSONObject> jsonMap = new HashMap<>();
         File directory = new File(directoryPath);
@@ -862,8 +1193,8 @@ public class FileUtilsCEImpl implements FileInterface {
                         + CommonConstants.MAIN_CONTAINER
                         + relativePath.substring(relativePath.indexOf("//") + 1);
                 try {
-                    String fileContent = new String(Files.readAllBytes(file.toPath()));
-                    JSONObject jsonObject = new JSONObject(fileContent);
+                    JSONObject jsonObject = (JSONObject)
+                            parsedWidgetCache.read(file.toPath(), content -> new JSONObject(new String(content)));
                     jsonMap.put(relativePath, jsonObject);
                 } catch (IOException exception) {
                     log.error("Error reading file: {}, error message {}", filePath, exception.getMessage());
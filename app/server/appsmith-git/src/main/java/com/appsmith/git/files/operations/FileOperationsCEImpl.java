@@ -12,6 +12,8 @@ import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.converters.GsonDoubleToLongConverter;
 import com.appsmith.git.converters.GsonUnorderedToOrderedConverter;
+import com.appsmith.git.helpers.FileHashIndex;
+import com.appsmith.git.helpers.ParsedFileCache;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
@@ -28,10 +30,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
@@ -75,6 +77,16 @@ public class FileOperationsCEImpl implements FileOperationsCE {
 
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
+    private static final long MAX_INDEXED_FILES = 100_000;
+
+    // Content of the files written earlier, to skip writing the files that haven't changed since then
+    protected final FileHashIndex fileHashIndex = new FileHashIndex(MAX_INDEXED_FILES);
+
+    private static final long MAX_PARSED_FILE_BYTES = 16 * 1024 * 1024;
+
+    // Files read earlier, to skip parsing the files that are the same across branches and pulls
+    protected final ParsedFileCache parsedFileCache = new ParsedFileCache(MAX_PARSED_FILE_BYTES);
+
     public FileOperationsCEImpl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
@@ -108,6 +120,32 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         saveResource(metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
     }
 
+    /**
+     * @return the content of the metadata file, the same as the one written by saveMetadataResource
+     */
+    @Override
+    public byte[] serializeMetadata(ApplicationGitReference applicationGitReference) {
+        JsonObject metadata = gson.fromJson(gson.toJson(applicationGitReference.getMetadata()), JsonObject.class);
+        metadata.addProperty(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
+        return serializeResource(metadata);
+    }
+
+    /**
+     * @return the content of the file in which the resource is stored, the same as the one written by writeToFile
+     */
+    @Override
+    public byte[] serializeResource(Object sourceEntity) {
+        return gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the content of the file in which the widget is stored, the same as the one written by saveWidgets
+     */
+    @Override
+    public byte[] serializeWidget(JSONObject sourceEntity) throws IOException {
+        return sourceEntity.toString(4).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
      *
@@ -136,7 +174,8 @@ public class FileOperationsCEImpl implements FileOperationsCE {
             span.tag(RESOURCE_TYPE, resourceType);
             observationHelper.startSpan(span, true);
 
-            writeStringToFile(sourceEntity.toString(4), path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
+            writeContentToFile(
+                    serializeWidget(sourceEntity), path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
         } catch (IOException e) {
             log.debug("Error while writings widgets data to file, {}", e.getMessage());
         } finally {
@@ -146,9 +185,23 @@ public class FileOperationsCEImpl implements FileOperationsCE {
 
     @Override
     public void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
+        writeContentToFile(sourceEntity.getBytes(StandardCharsets.UTF_8), path);
+    }
+
+    /**
+     * Writes the content to the file, unless the file already has the same content
+     *
+     * @param content content of the file
+     * @param path    file path where the content is to be written
+     * @return true if the file has been written
+     */
+    protected boolean writeContentToFile(byte[] content, Path path) throws IOException {
+        if (fileHashIndex.isUnchanged(path, content)) {
+            return false;
         }
+        Files.write(path, content);
+        fileHashIndex.recordWrite(path, content);
+        return true;
     }
 
     @Override
@@ -161,8 +214,8 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            gson.toJson(sourceEntity, fileWriter);
+        try {
+            writeContentToFile(serializeResource(sourceEntity), path);
             return true;
         } finally {
             observationHelper.endSpan(span, true);
@@ -259,8 +312,8 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         observationHelper.startSpan(span, true);
 
         Object file;
-        try (FileReader reader = new FileReader(filePath.toFile())) {
-            file = gson.fromJson(reader, Object.class);
+        try {
+            file = parsedFileCache.read(filePath, this::parseJson);
         } catch (Exception e) {
             log.error("Error while reading file {} with message {} with cause", filePath, e.getMessage(), e.getCause());
             return null;
@@ -282,8 +335,8 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         File directory = directoryPath.toFile();
         if (directory.isDirectory()) {
             Arrays.stream(Objects.requireNonNull(directory.listFiles())).forEach(file -> {
-                try (FileReader reader = new FileReader(file)) {
-                    resource.put(file.getName() + keySuffix, gson.fromJson(reader, Object.class));
+                try {
+                    resource.put(file.getName() + keySuffix, parsedFileCache.read(file.toPath(), this::parseJson));
                 } catch (Exception e) {
                     log.error(
                             "Error while reading file {} with message {} with cause",
@@ -296,6 +349,11 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         return resource;
     }
 
+    private Object parseJson(byte[] content) {
+        return gson.fromJson(
+                new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8), Object.class);
+    }
+
     /**
      * This method will read the content of the file as a plain text and does not apply the gson to json transformation
      *
@@ -27,11 +27,9 @@ import org.json.JSONObject;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -78,6 +76,30 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         saveResource(metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
     }
 
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_cleanup_feature_enabled)
+    @Override
+    public byte[] serializeMetadata(ApplicationGitReference applicationGitReference) {
+        ObjectNode metadata = objectMapper.valueToTree(applicationGitReference.getMetadata());
+        metadata.put(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
+        return serializeResource(metadata);
+    }
+
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_cleanup_feature_enabled)
+    @Override
+    public byte[] serializeResource(Object sourceEntity) {
+        try {
+            return objectWriter.writeValueAsBytes(sourceEntity);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_cleanup_feature_enabled)
+    @Override
+    public byte[] serializeWidget(JSONObject sourceEntity) throws IOException {
+        return objectWriter.writeValueAsBytes(objectReader.readTree(sourceEntity.toString()));
+    }
+
     @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_cleanup_feature_enabled)
     @Override
     public void saveWidgets(JSONObject sourceEntity, String resourceName, Path path) {
@@ -88,9 +110,8 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
             span.tag(RESOURCE_TYPE, resourceType);
             observationHelper.startSpan(span, true);
 
-            writeToFile(
-                    objectReader.readTree(sourceEntity.toString()),
-                    path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
+            writeContentToFile(
+                    serializeWidget(sourceEntity), path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
         } catch (IOException e) {
             log.debug("Error while writings widgets data to file, {}", e.getMessage());
         } finally {
@@ -109,8 +130,8 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            objectWriter.writeValue(fileWriter, sourceEntity);
+        try {
+            writeContentToFile(objectWriter.writeValueAsBytes(sourceEntity), path);
             return true;
         } finally {
             observationHelper.endSpan(span, true);
@@ -130,8 +151,8 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         observationHelper.startSpan(span, true);
 
         Object file;
-        try (FileReader reader = new FileReader(filePath.toFile())) {
-            file = objectReader.readValue(reader, Object.class);
+        try {
+            file = parsedFileCache.read(filePath, this::parseJson);
         } catch (Exception e) {
             log.error("Error while reading file {} with message {} with cause", filePath, e.getMessage(), e.getCause());
             return null;
@@ -154,8 +175,8 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         File directory = directoryPath.toFile();
         if (directory.isDirectory()) {
             Arrays.stream(Objects.requireNonNull(directory.listFiles())).forEach(file -> {
-                try (FileReader reader = new FileReader(file)) {
-                    resource.put(file.getName() + keySuffix, objectReader.readValue(reader, Object.class));
+                try {
+                    resource.put(file.getName() + keySuffix, parsedFileCache.read(file.toPath(), this::parseJson));
                 } catch (Exception e) {
                     log.error(
                             "Error while reading file {} with message {} with cause",
@@ -168,6 +189,10 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         return resource;
     }
 
+    private Object parseJson(byte[] content) throws IOException {
+        return objectReader.readValue(content, Object.class);
+    }
+
     @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_cleanup_feature_enabled)
     @Override
     public Integer getFileFormatVersion(Object metadata) {
@@ -0,0 +1,106 @@
+package com.appsmith.git.helpers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Keeps the hash of the content last written to every file, along with the size, modified time and identity of the
+ * file right after the write. A file whose content is the same as the one being written is left as it is, since
+ * writing it again would change its modified time and make git hash the file again on the next status or commit.
+ * <p>
+ * The hash is only trusted while the file on the disk hasn't been touched since it was written, e.g. by a reset or a
+ * checkout. Otherwise, the content is compared with the file on the disk instead.
+ */
+@Slf4j
+public class FileHashIndex {
+
+    private record FileState(byte[] hash, long size, FileTime lastModifiedTime, Object fileKey) {
+
+        boolean isSameFile(BasicFileAttributes attributes) {
+            return size == attributes.size()
+                    && lastModifiedTime.equals(attributes.lastModifiedTime())
+                    && Objects.equals(fileKey, attributes.fileKey());
+        }
+    }
+
+    private final Cache<Path, FileState> fileStates;
+
+    public FileHashIndex(long maxSize) {
+        this.fileStates = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * @return true if the file at the given path already has the given content
+     */
+    public boolean isUnchanged(Path path, byte[] content) {
+        final Path key = path.toAbsolutePath().normalize();
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            fileStates.invalidate(key);
+            return false;
+        } catch (IOException e) {
+            log.debug("Unable to read attributes of file {}, {}", key, e.getMessage());
+            return false;
+        }
+        if (!attributes.isRegularFile() || attributes.size() != content.length) {
+            return false;
+        }
+
+        final byte[] hash = hash(content);
+        final FileState fileState = fileStates.getIfPresent(key);
+        if (fileState != null && fileState.isSameFile(attributes)) {
+            return Arrays.equals(fileState.hash(), hash);
+        }
+
+        // The file has been written by someone else, or not since the server started
+        try {
+            if (!Arrays.equals(Files.readAllBytes(key), content)) {
+                return false;
+            }
+        } catch (IOException e) {
+            log.debug("Unable to read file {}, {}", key, e.getMessage());
+            return false;
+        }
+        fileStates.put(
+                key, new FileState(hash, attributes.size(), attributes.lastModifiedTime(), attributes.fileKey()));
+        return true;
+    }
+
+    /**
+     * Records the content that has just been written to the file at the given path
+     */
+    public void recordWrite(Path path, byte[] content) {
+        final Path key = path.toAbsolutePath().normalize();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+            fileStates.put(
+                    key,
+                    new FileState(
+                            hash(content), attributes.size(), attributes.lastModifiedTime(), attributes.fileKey()));
+        } catch (IOException e) {
+            fileStates.invalidate(key);
+        }
+    }
+
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.external.constants.AnalyticsEvents;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryBuilder;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.util.FS;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the JGit repositories that have been used recently open, so that the config, refs and pack indexes of a
+ * repository aren't read from the disk again for every git operation. The least recently used repositories are closed
+ * once there are more than the maximum number of them, and the others once they have been idle for a while.
+ * <p>
+ * The operations on a repository are also run one after the other, in the order they were submitted in, while the
+ * operations on different repositories run in parallel on the shared scheduler.
+ */
+@Slf4j
+public class GitRepositoryCache {
+
+    public static final String OPEN_REPOSITORIES_METRIC = "appsmith.git.repository.open";
+
+    public static final String QUEUED_OPERATIONS_METRIC = "appsmith.git.operation.queued";
+
+    public static final String OPERATION_METRIC = "appsmith.git.operation";
+
+    /**
+     * An open repository, along with the identity of its config file when it was opened. The config file is replaced
+     * when a repository is deleted and cloned again, in which case the repository is opened again as well. Inodes of
+     * deleted directories are reused right away on some file systems, so the identity of the git directory isn't enough.
+     */
+    private record RepositoryHandle(Repository repository, Object gitDirectoryKey) {}
+
+    /**
+     * The operations of a single repository that are waiting for the current one to finish
+     */
+    private static class OperationQueue {
+        private final Queue<Runnable> operations = new ArrayDeque<>();
+    }
+
+    private final Cache<Path, RepositoryHandle> repositories;
+
+    private final Map<Path, OperationQueue> operationQueues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queuedOperationCount = new AtomicInteger();
+
+    private final Scheduler scheduler;
+
+    private final MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    public GitRepositoryCache(long maxSize, Duration idleTimeout, Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.repositories = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTimeout)
+                // Close idle repositories even when no other repository is being used
+                .scheduler(com.github.benmanes.caffeine.cache.Scheduler.systemScheduler())
+                .executor(Runnable::run)
+                .removalListener((Path repoPath, RepositoryHandle handle, RemovalCause cause) -> {
+                    if (handle != null) {
+                        log.debug("Closing git repository {}, {}", repoPath, cause);
+                        // The operations that are still using the repository keep it open until they are done
+                        handle.repository().close();
+                    }
+                })
+                .build();
+
+        Gauge.builder(OPEN_REPOSITORIES_METRIC, repositories, Cache::estimatedSize)
+                .description("Number of git repositories kept open between operations")
+                .register(meterRegistry);
+        Gauge.builder(QUEUED_OPERATIONS_METRIC, queuedOperationCount, AtomicInteger::get)
+                .description("Number of git operations waiting for an earlier operation on the same repository")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens the repository at the given path, reusing the repository opened by an earlier operation if there is one.
+     * Closing the returned Git instance only releases the repository, which stays open for the next operation.
+     *
+     * @param repoPath Path to the working tree or to the git directory of the repository
+     * @throws org.eclipse.jgit.errors.RepositoryNotFoundException if there is no repository at the given path
+     */
+    public Git open(Path repoPath) throws IOException {
+        final Path key = getKey(repoPath);
+        final File gitDirectory =
+                RepositoryCache.FileKey.lenient(key.toFile(), FS.DETECTED).getFile();
+        final Object gitDirectoryKey = getGitDirectoryKey(gitDirectory);
+        if (gitDirectoryKey == null) {
+            // The repository has been deleted
+            repositories.invalidate(key);
+            return new CachedGit(openRepository(gitDirectory));
+        }
+
+        try {
+            RepositoryHandle handle = repositories.asMap().compute(key, (path, cachedHandle) -> {
+                RepositoryHandle openHandle = cachedHandle;
+                if (openHandle == null || !gitDirectoryKey.equals(openHandle.gitDirectoryKey())) {
+                    try {
+                        openHandle = new RepositoryHandle(openRepository(gitDirectory), gitDirectoryKey);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                // This operation's reference to the repository, released when the returned Git instance is closed
+                openHandle.repository().incrementOpen();
+                return openHandle;
+            });
+            return new CachedGit(handle.repository());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Closes the repository at the given path, if it is open, e.g. before the repository is deleted from the disk
+     */
+    public void invalidate(Path repoPath) {
+        repositories.invalidate(getKey(repoPath));
+    }
+
+    /**
+     * Runs a git operation on the given repository, after all the operations that have been submitted earlier for the
+     * same repository are done.
+     */
+    public <T> Mono<T> execute(Path repoPath, AnalyticsEvents operation, Callable<T> callable) {
+        final Timer timer = Timer.builder(OPERATION_METRIC)
+                .description("Time taken by git operations, without the time spent waiting for earlier operations")
+                .tag("operation", operation.getEventName())
+                .register(meterRegistry);
+        return Mono.fromCallable(() -> timer.recordCallable(callable)).subscribeOn(getScheduler(repoPath));
+    }
+
+    /**
+     * A scheduler that runs the tasks of the given repository one after the other, on the shared scheduler
+     */
+    public Scheduler getScheduler(Path repoPath) {
+        final Path key = getKey(repoPath);
+        return Schedulers.fromExecutor(task -> submit(key, task));
+    }
+
+    private void submit(Path key, Runnable task) {
+        operationQueues.compute(key, (path, queue) -> {
+            queuedOperationCount.incrementAndGet();
+            if (queue == null) {
+                // Nothing is running on this repository yet, so the task can start right away
+                queue = new OperationQueue();
+                scheduler.schedule(() -> runOperations(path));
+            }
+            queue.operations.add(task);
+            return queue;
+        });
+    }
+
+    private void runOperations(Path key) {
+        final Runnable task = pollOperation(key);
+        if (task == null) {
+            return;
+        }
+        try {
+            task.run();
+        } catch (Throwable e) {
+            log.error("Error running git operation on {}", key, e);
+        } finally {
+            // Give the other repositories a chance to run before the next operation of this one
+            scheduler.schedule(() -> runOperations(key));
+        }
+    }
+
+    /**
+     * @return The next operation of the repository, or null after removing the queue of the repository if there is
+     * none, so that the next operation submitted starts right away
+     */
+    private Runnable pollOperation(Path key) {
+        final Runnable[] task = new Runnable[1];
+        operationQueues.computeIfPresent(key, (path, queue) -> {
+            task[0] = queue.operations.poll();
+            return task[0] == null ? null : queue;
+        });
+        if (task[0] != null) {
+            queuedOperationCount.decrementAndGet();
+        }
+        return task[0];
+    }
+
+    private static Path getKey(Path repoPath) {
+        return repoPath.toAbsolutePath().normalize();
+    }
+
+    private static Repository openRepository(File gitDirectory) throws IOException {
+        // Same as Git.open
+        return new RepositoryBuilder()
+                .setFS(FS.DETECTED)
+                .setGitDir(gitDirectory)
+                .setMustExist(true)
+                .build();
+    }
+
+    private static Object getGitDirectoryKey(File gitDirectory) throws IOException {
+        try {
+            // JGit replaces the config file whenever it is written, which also refreshes the open repository
+            BasicFileAttributes attributes =
+                    Files.readAttributes(gitDirectory.toPath().resolve(Constants.CONFIG), BasicFileAttributes.class);
+            return Arrays.asList(attributes.fileKey(), attributes.lastModifiedTime());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A Git instance that releases its reference to the cached repository when it is closed
+     */
+    private static class CachedGit extends Git {
+
+        private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+        CachedGit(Repository repository) {
+            super(repository);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            if (isClosed.compareAndSet(false, true)) {
+                getRepository().close();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.appsmith.git.helpers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the files parsed from git repositories by the id of their git blob, i.e. by the hash of their content, so that
+ * the files that are the same across branches, or haven't changed since the last pull, aren't parsed again.
+ * <p>
+ * Callers get a copy of the cached file, since the parsed files are changed while the application is rebuilt from them.
+ */
+public class ParsedFileCache {
+
+    @FunctionalInterface
+    public interface FileParser {
+        Object parse(byte[] content) throws IOException;
+    }
+
+    private record ParsedFile(Object content, int size) {}
+
+    private final Cache<ObjectId, ParsedFile> parsedFiles;
+
+    /**
+     * @param maxContentBytes Maximum total size of the files whose parsed content is kept
+     */
+    public ParsedFileCache(long maxContentBytes) {
+        this.parsedFiles = Caffeine.newBuilder()
+                .maximumWeight(maxContentBytes)
+                .<ObjectId, ParsedFile>weigher((blobId, parsedFile) -> parsedFile.size())
+                .build();
+    }
+
+    /**
+     * Reads the file at the given path, and parses it unless a file with the same content has been parsed already
+     *
+     * @param filePath file on which the read operation will be performed
+     * @param parser   parses the content of the file
+     * @return a copy of the parsed file, which can be changed by the caller
+     */
+    public Object read(Path filePath, FileParser parser) throws IOException {
+        final byte[] content = Files.readAllBytes(filePath);
+        try (ObjectInserter.Formatter formatter = new ObjectInserter.Formatter()) {
+            final ObjectId blobId = formatter.idFor(Constants.OBJ_BLOB, content);
+            ParsedFile parsedFile = parsedFiles.getIfPresent(blobId);
+            if (parsedFile == null) {
+                Object parsedContent = parser.parse(content);
+                if (parsedContent == null) {
+                    return null;
+                }
+                parsedFile = new ParsedFile(parsedContent, content.length);
+                parsedFiles.put(blobId, parsedFile);
+            }
+            return deepCopy(parsedFile.content());
+        }
+    }
+
+    private static Object deepCopy(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+            map.forEach((key, entryValue) -> copy.put(key, deepCopy(entryValue)));
+            return copy;
+        } else if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(element -> copy.add(deepCopy(element)));
+            return copy;
+        } else if (value instanceof JSONObject jsonObject) {
+            JSONObject copy = new JSONObject();
+            // JSONObject.NULL is kept as it is, so that the properties with null values aren't dropped
+            jsonObject.keySet().forEach(key -> copy.put(key, deepCopy(jsonObject.get(key))));
+            return copy;
+        } else if (value instanceof JSONArray jsonArray) {
+            JSONArray copy = new JSONArray();
+            jsonArray.forEach(element -> copy.put(deepCopy(element)));
+            return copy;
+        }
+        // Strings, numbers and booleans can't be changed
+        return value;
+    }
+}
@@ -9,16 +9,17 @@ import com.appsmith.external.dtos.MergeStatusDTO;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.external.helpers.Stopwatch;
+import com.appsmith.external.models.WorkingTreeChanges;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.AppsmithBotAsset;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.constants.Constraint;
 import com.appsmith.git.constants.GitDirectories;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import com.appsmith.git.helpers.StopwatchHelpers;
 import io.micrometer.observation.ObservationRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.CreateBranchCommand;
 import org.eclipse.jgit.api.Git;
@@ -33,12 +34,17 @@ import org.eclipse.jgit.api.TransportConfigCallback;
 import org.eclipse.jgit.api.errors.CheckoutConflictException;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.merge.MergeStrategy;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.treewalk.TreeWalk;
 import org.eclipse.jgit.util.StringUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
@@ -58,7 +64,10 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -72,7 +81,6 @@ import static com.appsmith.git.constants.CommonConstants.FILE_MIGRATION_MESSAGE;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 
-@RequiredArgsConstructor
 @Component
 @Slf4j
 public class GitExecutorCEImpl implements GitExecutor {
@@ -88,8 +96,19 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     private final Scheduler scheduler = Schedulers.boundedElastic();
 
+    protected final GitRepositoryCache gitRepositoryCache;
+
     private static final String SUCCESS_MERGE_STATUS = "This branch has no conflicts with the base branch.";
 
+    public GitExecutorCEImpl(GitServiceConfig gitServiceConfig, ObservationRegistry observationRegistry) {
+        this.gitServiceConfig = gitServiceConfig;
+        this.observationRegistry = observationRegistry;
+        this.gitRepositoryCache = new GitRepositoryCache(
+                gitServiceConfig.getRepositoryCacheMaxSize(),
+                Duration.ofSeconds(gitServiceConfig.getRepositoryCacheIdleSeconds()),
+                scheduler);
+    }
+
     /**
      * This method will handle the git-commit functionality. Under the hood it checks if the repo has already been
      * initialised and will be initialised if git repo is not present
@@ -113,16 +132,14 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StringUtils.isEmptyOrNull(authorName) ? AppsmithBotAsset.APPSMITH_BOT_USERNAME : authorName;
         final String finalAuthorEmail =
                 StringUtils.isEmptyOrNull(authorEmail) ? AppsmithBotAsset.APPSMITH_BOT_EMAIL : authorEmail;
-        return Mono.fromCallable(() -> {
+        final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_COMMIT, () -> {
                     log.debug("Trying to commit to local repo path, {}", path);
-                    Path repoPath = path;
-                    if (TRUE.equals(isSuffixedPath)) {
-                        repoPath = createRepoPath(repoPath);
-                    }
                     Stopwatch processStopwatch =
                             StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_COMMIT.getEventName());
                     // Just need to open a repository here and make a commit
-                    try (Git git = Git.open(repoPath.toFile())) {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
                         // Stage all the files added and modified
                         git.add().addFilepattern(".").call();
                         // Stage modified and deleted files
@@ -143,8 +160,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_COMMIT)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     /**
@@ -167,13 +183,14 @@ public class GitExecutorCEImpl implements GitExecutor {
      */
     @Override
     public Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix) {
-        return Mono.fromCallable(() -> {
+        Path repoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_COMMIT_HISTORY, () -> {
                     log.debug(Thread.currentThread().getName() + ": get commit history for  " + repoSuffix);
                     List<GitLogDTO> commitLogs = new ArrayList<>();
-                    Path repoPath = createRepoPath(repoSuffix);
                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                             repoPath, AnalyticsEvents.GIT_COMMIT_HISTORY.getEventName());
-                    try (Git git = Git.open(repoPath.toFile())) {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
                         Iterable<RevCommit> gitLogs = git.log()
                                 .setMaxCount(Constraint.MAX_COMMIT_LOGS)
                                 .call();
@@ -191,8 +208,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                         return commitLogs;
                     }
                 })
-                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
-                .subscribeOn(scheduler);
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS));
     }
 
     @Override
@@ -213,13 +229,14 @@ public class GitExecutorCEImpl implements GitExecutor {
             Path repoSuffix, String remoteUrl, String publicKey, String privateKey, String branchName) {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
-        return Mono.fromCallable(() -> {
+        Path baseRepoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(baseRepoPath, AnalyticsEvents.GIT_PUSH, () -> {
                     log.debug(Thread.currentThread().getName() + ": pushing changes to remote " + remoteUrl);
-                    // open the repo
-                    Path baseRepoPath = createRepoPath(repoSuffix);
                     Stopwatch processStopwatch =
                             StopwatchHelpers.startStopwatch(baseRepoPath, AnalyticsEvents.GIT_PUSH.getEventName());
-                    try (Git git = Git.open(baseRepoPath.toFile())) {
+                    // open the repo
+                    try (Git git = gitRepositoryCache.open(baseRepoPath)) {
                         TransportConfigCallback transportConfigCallback =
                                 new SshTransportConfigCallback(privateKey, publicKey);
 
@@ -248,8 +265,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_PUSH)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     /** Clone the repo to the file path : container-volume/orgId/defaultAppId/repo/<Data>
@@ -266,13 +282,15 @@ public class GitExecutorCEImpl implements GitExecutor {
 
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CLONE.getEventName());
-        return Mono.fromCallable(() -> {
+        Path repoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_CLONE, () -> {
                     log.debug(Thread.currentThread().getName() + ": Cloning the repo from the remote " + remoteUrl);
                     final TransportConfigCallback transportConfigCallback =
                             new SshTransportConfigCallback(privateKey, publicKey);
-                    File file = Paths.get(gitServiceConfig.getGitRootPath())
-                            .resolve(repoSuffix)
-                            .toFile();
+                    File file = repoPath.toFile();
+                    // The repository that was open for the earlier clone, if any, is deleted along with its files
+                    gitRepositoryCache.invalidate(repoPath);
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
@@ -290,8 +308,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_CLONE_REPO)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
@@ -300,12 +317,13 @@ public class GitExecutorCEImpl implements GitExecutor {
         // open the repo
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
-        return Mono.fromCallable(() -> {
+        Path baseRepoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(baseRepoPath, AnalyticsEvents.GIT_CREATE_BRANCH, () -> {
                     log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName + "for the repo "
                             + repoSuffix);
                     // open the repo
-                    Path baseRepoPath = createRepoPath(repoSuffix);
-                    try (Git git = Git.open(baseRepoPath.toFile())) {
+                    try (Git git = gitRepositoryCache.open(baseRepoPath)) {
                         // Create and checkout to new branch
                         git.checkout()
                                 .setCreateBranch(TRUE)
@@ -320,8 +338,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_CREATE_BRANCH)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
@@ -330,12 +347,13 @@ public class GitExecutorCEImpl implements GitExecutor {
         // open the repo
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
-        return Mono.fromCallable(() -> {
+        Path baseRepoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(baseRepoPath, AnalyticsEvents.GIT_DELETE_BRANCH, () -> {
                     log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName + "for the repo "
                             + repoSuffix);
                     // open the repo
-                    Path baseRepoPath = createRepoPath(repoSuffix);
-                    try (Git git = Git.open(baseRepoPath.toFile())) {
+                    try (Git git = gitRepositoryCache.open(baseRepoPath)) {
                         // Create and checkout to new branch
                         List<String> deleteBranchList = git.branchDelete()
                                 .setBranchNames(branchName)
@@ -350,8 +368,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_DELETE_BRANCH)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
@@ -359,13 +376,14 @@ public class GitExecutorCEImpl implements GitExecutor {
 
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
-        return Mono.fromCallable(() -> {
+        Path baseRepoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(baseRepoPath, AnalyticsEvents.GIT_CHECKOUT, () -> {
                     log.debug(Thread.currentThread().getName() + ": Switching to the branch " + branchName);
                     // We can safely assume that repo has been already initialised either in commit or clone flow and
                     // can directly
                     // open the repo
-                    Path baseRepoPath = createRepoPath(repoSuffix);
-                    try (Git git = Git.open(baseRepoPath.toFile())) {
+                    try (Git git = gitRepositoryCache.open(baseRepoPath)) {
                         if (StringUtils.equalsIgnoreCase(
                                 branchName, git.getRepository().getBranch())) {
                             return TRUE;
@@ -386,8 +404,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .tag(CHECKOUT_REMOTE, FALSE.toString())
                 .name(GitSpan.FS_CHECKOUT_BRANCH)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
@@ -399,8 +416,10 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_PULL.getEventName());
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
-        try (Git git = Git.open(createRepoPath(repoSuffix).toFile())) {
-            return Mono.fromCallable(() -> {
+        Path repoPath = createRepoPath(repoSuffix);
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            return gitRepositoryCache
+                    .execute(repoPath, AnalyticsEvents.GIT_PULL, () -> {
                         log.debug(Thread.currentThread().getName() + ": Pull changes from remote  " + remoteUrl
                                 + " for the branch " + branchName);
                         // checkout the branch on which the merge command is run
@@ -448,17 +467,17 @@ public class GitExecutorCEImpl implements GitExecutor {
                     })
                     .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                     .name(GitSpan.FS_PULL)
-                    .tap(Micrometer.observation(observationRegistry))
-                    .subscribeOn(scheduler);
+                    .tap(Micrometer.observation(observationRegistry));
         }
     }
 
     @Override
     public Mono<List<GitBranchDTO>> listBranches(Path repoSuffix) {
         Path baseRepoPath = createRepoPath(repoSuffix);
-        return Mono.fromCallable(() -> {
+        return gitRepositoryCache
+                .execute(baseRepoPath, AnalyticsEvents.GIT_LIST_BRANCH, () -> {
                     log.debug(Thread.currentThread().getName() + ": Get branches for the application " + repoSuffix);
-                    Git git = Git.open(baseRepoPath.toFile());
+                    Git git = gitRepositoryCache.open(baseRepoPath);
                     List<Ref> refList = git.branchList()
                             .setListMode(ListBranchCommand.ListMode.ALL)
                             .call();
@@ -482,29 +501,28 @@ public class GitExecutorCEImpl implements GitExecutor {
                     git.close();
                     return branchList;
                 })
-                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
-                .subscribeOn(scheduler);
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS));
     }
 
     @Override
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
-        return Mono.fromCallable(() -> {
+        return gitRepositoryCache
+                .execute(baseRepoPath, AnalyticsEvents.GIT_LIST_BRANCH, () -> {
                     TransportConfigCallback transportConfigCallback =
                             new SshTransportConfigCallback(privateKey, publicKey);
-                    Git git = Git.open(baseRepoPath.toFile());
-
-                    return git.lsRemote()
-                            .setRemote(remoteUrl)
-                            .setTransportConfigCallback(transportConfigCallback)
-                            .callAsMap()
-                            .get("HEAD")
-                            .getTarget()
-                            .getName()
-                            .replace("refs/heads/", "");
+                    try (Git git = gitRepositoryCache.open(baseRepoPath)) {
+                        return git.lsRemote()
+                                .setRemote(remoteUrl)
+                                .setTransportConfigCallback(transportConfigCallback)
+                                .callAsMap()
+                                .get("HEAD")
+                                .getTarget()
+                                .getName()
+                                .replace("refs/heads/", "");
+                    }
                 })
-                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
-                .subscribeOn(scheduler);
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS));
     }
 
     /**
@@ -518,8 +536,9 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<GitStatusDTO> getStatus(Path repoPath, String branchName) {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
-        return Mono.fromCallable(() -> {
-                    try (Git git = Git.open(repoPath.toFile())) {
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_STATUS, () -> {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
                         log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath + ", branch "
                                 + branchName);
                         Status status = git.status().call();
@@ -545,20 +564,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                         response.setIsClean(status.isClean());
 
                         // remote status changes
-                        BranchTrackingStatus trackingStatus = BranchTrackingStatus.of(git.getRepository(), branchName);
-                        if (trackingStatus != null) {
-                            response.setAheadCount(trackingStatus.getAheadCount());
-                            response.setBehindCount(trackingStatus.getBehindCount());
-                            response.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
-                        } else {
-                            log.debug(
-                                    "Remote tracking details not present for branch: {}, repo: {}",
-                                    branchName,
-                                    repoPath);
-                            response.setAheadCount(0);
-                            response.setBehindCount(0);
-                            response.setRemoteBranch("untracked");
-                        }
+                        populateTrackingStatus(git.getRepository(), branchName, response);
 
                         // Remove modified changes from current branch so that checkout to other branches will be
                         // possible
@@ -575,8 +581,85 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .flatMap(response -> response)
                 .name(GitSpan.FS_STATUS)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Mono<GitStatusDTO> getStatus(Path repoPath, String branchName, WorkingTreeChanges workingTreeChanges) {
+        Stopwatch processStopwatch =
+                StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_STATUS, () -> {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
+                        log.debug(Thread.currentThread().getName() + ": Get status from tree for repo  " + repoPath
+                                + ", branch " + branchName);
+                        Repository repository = git.getRepository();
+                        // The files that aren't found in the last commit are the added ones
+                        Map<String, ObjectId> addedFiles = new HashMap<>(workingTreeChanges.getWrittenFiles());
+                        Set<String> modified = new HashSet<>();
+                        Set<String> removed = new HashSet<>();
+
+                        ObjectId commitId = repository.resolve(Constants.R_HEADS + branchName);
+                        if (commitId == null) {
+                            commitId = repository.resolve(Constants.HEAD);
+                        }
+                        if (commitId != null) {
+                            try (RevWalk revWalk = new RevWalk(repository);
+                                    TreeWalk treeWalk = new TreeWalk(repository)) {
+                                treeWalk.addTree(revWalk.parseCommit(commitId).getTree());
+                                treeWalk.setRecursive(true);
+                                while (treeWalk.next()) {
+                                    String path = treeWalk.getPathString();
+                                    ObjectId blobId = addedFiles.remove(path);
+                                    if (blobId != null) {
+                                        if (!blobId.equals(treeWalk.getObjectId(0))) {
+                                            modified.add(path);
+                                        }
+                                    } else if (workingTreeChanges.isDeleted(path)) {
+                                        removed.add(path);
+                                    }
+                                }
+                            }
+                        }
+
+                        GitStatusDTO response = new GitStatusDTO();
+                        response.setModified(modified);
+                        response.setAdded(new HashSet<>(addedFiles.keySet()));
+                        response.setRemoved(removed);
+
+                        populateModifiedEntities(response);
+
+                        // The working tree is reset before the artifact is saved to it, so there can't be conflicts
+                        response.setConflicting(Set.of());
+                        response.setIsClean(modified.isEmpty() && addedFiles.isEmpty() && removed.isEmpty());
+
+                        populateTrackingStatus(repository, branchName, response);
+
+                        processStopwatch.stopAndLogTimeInMillis();
+                        return response;
+                    }
+                })
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                .name(GitSpan.FS_STATUS)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    protected void populateTrackingStatus(Repository repository, String branchName, GitStatusDTO response)
+            throws IOException {
+        BranchTrackingStatus trackingStatus = BranchTrackingStatus.of(repository, branchName);
+        if (trackingStatus != null) {
+            response.setAheadCount(trackingStatus.getAheadCount());
+            response.setBehindCount(trackingStatus.getBehindCount());
+            response.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
+        } else {
+            log.debug(
+                    "Remote tracking details not present for branch: {}, repo: {}",
+                    branchName,
+                    repository.getDirectory());
+            response.setAheadCount(0);
+            response.setBehindCount(0);
+            response.setRemoteBranch("untracked");
+        }
     }
 
     protected void populateModifiedEntities(GitStatusDTO response) {
@@ -753,12 +836,14 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
-        return Mono.fromCallable(() -> {
+        Path repoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_MERGE, () -> {
                     Stopwatch processStopwatch =
                             StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE.getEventName());
                     log.debug(Thread.currentThread().getName() + ": Merge branch  " + sourceBranch + " on "
                             + destinationBranch);
-                    try (Git git = Git.open(createRepoPath(repoSuffix).toFile())) {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
                         try {
                             // checkout the branch on which the merge command is run
                             git.checkout()
@@ -791,8 +876,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_MERGE)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
@@ -806,9 +890,10 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
-        return Mono.fromCallable(() -> {
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_FETCH, () -> {
                     TransportConfigCallback config = new SshTransportConfigCallback(privateKey, publicKey);
-                    try (Git git = Git.open(repoPath.toFile())) {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
                         String fetchMessages;
                         if (TRUE.equals(isFetchAll)) {
                             fetchMessages = git.fetch()
@@ -836,15 +921,16 @@ public class GitExecutorCEImpl implements GitExecutor {
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_FETCH_REMOTE)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Mono<MergeStatusDTO> isMergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
-        return Mono.fromCallable(() -> {
+        Path repoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_MERGE_CHECK, () -> {
                     log.debug(
                             Thread.currentThread().getName()
                                     + ": Check mergeability for repo {} with src: {}, dest: {}",
@@ -852,7 +938,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                             sourceBranch,
                             destinationBranch);
 
-                    try (Git git = Git.open(createRepoPath(repoSuffix).toFile())) {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
 
                         // checkout the branch on which the merge command is run
                         try {
@@ -916,19 +1002,19 @@ public class GitExecutorCEImpl implements GitExecutor {
                         return Mono.error(e);
                     }
                 })
-                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
-                .subscribeOn(scheduler);
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS));
     }
 
     public Mono<String> checkoutRemoteBranch(Path repoSuffix, String branchName) {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
-        return Mono.fromCallable(() -> {
+        Path baseRepoPath = createRepoPath(repoSuffix);
+        return gitRepositoryCache
+                .execute(baseRepoPath, AnalyticsEvents.GIT_CHECKOUT_REMOTE_BRANCH, () -> {
                     log.debug(Thread.currentThread().getName() + ": Checking out remote branch origin/" + branchName
                             + " for the repo " + repoSuffix);
                     // open the repo
-                    Path baseRepoPath = createRepoPath(repoSuffix);
-                    try (Git git = Git.open(baseRepoPath.toFile())) {
+                    try (Git git = gitRepositoryCache.open(baseRepoPath)) {
                         // Create and checkout to new branch
                         git.checkout()
                                 .setCreateBranch(TRUE)
@@ -947,8 +1033,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .tag(CHECKOUT_REMOTE, TRUE.toString())
                 .name(GitSpan.FS_CHECKOUT_BRANCH)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
@@ -969,9 +1054,11 @@ public class GitExecutorCEImpl implements GitExecutor {
     }
 
     private Mono<Ref> resetToLastCommit(Git git) throws GitAPIException {
-        Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
-                git.getRepository().getDirectory().toPath().getParent(), AnalyticsEvents.GIT_RESET.getEventName());
-        return Mono.fromCallable(() -> {
+        Path repoPath = git.getRepository().getDirectory().toPath().getParent();
+        Stopwatch processStopwatch =
+                StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_RESET.getEventName());
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_RESET, () -> {
                     // Remove tracked files
                     Ref ref = git.reset().setMode(ResetCommand.ResetType.HARD).call();
                     // Remove untracked files
@@ -982,12 +1069,11 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .tag(HARD_RESET, Boolean.FALSE.toString())
                 .name(GitSpan.FS_RESET)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException {
-        try (Git git = Git.open(createRepoPath(repoSuffix).toFile())) {
+        try (Git git = gitRepositoryCache.open(createRepoPath(repoSuffix))) {
             return this.resetToLastCommit(git)
                     .flatMap(ref -> checkoutToBranch(repoSuffix, branchName))
                     .flatMap(checkedOut -> {
@@ -1004,7 +1090,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(aBoolean -> {
-                    try (Git git = Git.open(createRepoPath(repoSuffix).toFile())) {
+                    try (Git git = gitRepositoryCache.open(createRepoPath(repoSuffix))) {
                         Ref ref = git.reset()
                                 .setMode(ResetCommand.ResetType.HARD)
                                 .setRef("HEAD~1")
@@ -1025,7 +1111,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(isCheckedOut -> {
-                    try (Git git = Git.open(createRepoPath(repoSuffix).toFile())) {
+                    try (Git git = gitRepositoryCache.open(createRepoPath(repoSuffix))) {
                         RebaseResult result =
                                 git.rebase().setUpstream("origin/" + branchName).call();
                         if (result.getStatus().isSuccessful()) {
@@ -1055,14 +1141,14 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName) {
-        return Mono.fromCallable(() -> {
-                    try (Git git = Git.open(repoPath.toFile())) {
+        return gitRepositoryCache
+                .execute(repoPath, AnalyticsEvents.GIT_STATUS, () -> {
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
                         return BranchTrackingStatus.of(git.getRepository(), branchName);
                     }
                 })
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .name(GitSpan.FS_BRANCH_TRACK)
-                .tap(Micrometer.observation(observationRegistry))
-                .subscribeOn(scheduler);
+                .tap(Micrometer.observation(observationRegistry));
     }
 }
@@ -1,15 +1,22 @@
 package com.appsmith.git.helpers;
 
+import com.appsmith.external.dtos.GitStatusDTO;
+import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.models.ApplicationGitReference;
+import com.appsmith.external.models.WorkingTreeChanges;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.files.FileUtilsImpl;
 import com.appsmith.git.files.operations.FileOperationsImpl;
 import com.appsmith.git.service.GitExecutorImpl;
 import com.google.gson.GsonBuilder;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +30,15 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.appsmith.external.git.constants.GitConstants.NAME_SEPARATOR;
 import static com.appsmith.git.constants.GitDirectories.ACTION_COLLECTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.ACTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.PAGE_DIRECTORY;
@@ -87,6 +98,242 @@ public class FileUtilsImplTest {
         Assertions.assertFalse(actionCollectionDirectoryPath.toFile().exists());
     }
 
+    @Test
+    public void saveApplicationRef_whenResourcesAreUnchanged_skipsWritingFiles() throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(new HashMap<>(Map.of("name", "App1")));
+        applicationGitReference.setTheme(new HashMap<>());
+        applicationGitReference.setMetadata(new HashMap<>());
+        applicationGitReference.setPages(new HashMap<>(Map.of("Page1", new HashMap<>(Map.of("name", "Page1")))));
+        applicationGitReference.setPageDsl(new HashMap<>(
+                Map.of("Page1", "{\"widgetName\":\"MainContainer\",\"type\":\"CANVAS_WIDGET\",\"children\":[]}")));
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setModifiedResources(modifiedResources);
+
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, String> actionBody = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            String actionKey = "Query" + i + NAME_SEPARATOR + "Page1";
+            actions.put(actionKey, new HashMap<>(Map.of("name", "Query" + i)));
+            actionBody.put(actionKey, "SELECT * FROM users LIMIT " + i);
+        }
+        applicationGitReference.setActions(actions);
+        applicationGitReference.setActionBody(actionBody);
+
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Path queryDirectory =
+                localTestDirectoryPath.resolve(PAGE_DIRECTORY).resolve("Page1").resolve(ACTION_DIRECTORY);
+        Map<Path, FileTime> modifiedTimes = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(localTestDirectoryPath)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                modifiedTimes.put(path, Files.getLastModifiedTime(path));
+            }
+        }
+        // 20 queries with a body and metadata each, along with the page, application, theme and metadata files
+        Assertions.assertEquals(44, modifiedTimes.size());
+
+        actionBody.put("Query3" + NAME_SEPARATOR + "Page1", "SELECT * FROM orders");
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Path changedFile = queryDirectory.resolve("Query3").resolve("Query3.txt");
+        Assertions.assertEquals("SELECT * FROM orders", Files.readString(changedFile));
+        for (Map.Entry<Path, FileTime> entry : modifiedTimes.entrySet()) {
+            if (!entry.getKey().equals(changedFile)) {
+                Assertions.assertEquals(
+                        entry.getValue(), Files.getLastModifiedTime(entry.getKey()), entry.getKey() + " was rewritten");
+            }
+        }
+    }
+
+    @Test
+    public void reconstructApplicationRef_whenPagesAreSaved_readsEveryPage() throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.checkoutToBranch(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(new HashMap<>(Map.of("name", "App1")));
+        applicationGitReference.setTheme(new HashMap<>());
+        applicationGitReference.setMetadata(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setModifiedResources(modifiedResources);
+
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, String> actionBody = new HashMap<>();
+        String mainContainer = "{\"widgetName\":\"MainContainer\",\"type\":\"CANVAS_WIDGET\",\"children\":[]}";
+        for (int i = 0; i < 5; i++) {
+            String pageName = "Page" + i;
+            pages.put(
+                    pageName,
+                    Map.of(
+                            "unpublishedPage",
+                            Map.of(
+                                    "name",
+                                    pageName,
+                                    "layouts",
+                                    List.of(Map.of("dsl", new JSONObject(mainContainer).toMap())))));
+            pageDsl.put(
+                    pageName,
+                    mainContainer.replace(
+                            "[]", "[{\"widgetName\":\"Text" + i + "\",\"type\":\"TEXT_WIDGET\",\"text\":null}]"));
+            actions.put("Query" + i + NAME_SEPARATOR + pageName, new HashMap<>(Map.of("name", "Query" + i)));
+            actionBody.put("Query" + i + NAME_SEPARATOR + pageName, "SELECT " + i);
+        }
+        applicationGitReference.setPages(pages);
+        applicationGitReference.setPageDsl(pageDsl);
+        applicationGitReference.setActions(actions);
+        applicationGitReference.setActionBody(actionBody);
+
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        ApplicationGitReference reconstructedReference = fileUtils
+                .reconstructApplicationReferenceFromGitRepo("", "", "", "branch")
+                .block();
+
+        Assertions.assertEquals(
+                pages.keySet(), reconstructedReference.getPages().keySet());
+        // Resources read from the repo are keyed by their name followed by the name of the page
+        Assertions.assertEquals(5, reconstructedReference.getActions().size());
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertTrue(reconstructedReference.getActions().containsKey("Query" + i + "Page" + i));
+            Assertions.assertEquals(
+                    "SELECT " + i, reconstructedReference.getActionBody().get("Query" + i + "Page" + i));
+            JSONObject dsl = new JSONObject(reconstructedReference.getPageDsl().get("Page" + i));
+            JSONObject widget = dsl.getJSONArray("children").getJSONObject(0);
+            Assertions.assertEquals("Text" + i, widget.getString("widgetName"));
+            Assertions.assertTrue(widget.has("text"));
+        }
+    }
+
+    @Test
+    public void getStatus_whenResourcesAreChanged_returnsSameChangesAsSavedWorkingTree() throws Exception {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        GitExecutorImpl treeGitExecutor = new GitExecutorImpl(gitServiceConfig, ObservationRegistry.NOOP);
+        Mockito.when(gitExecutor.getStatus(
+                        Mockito.any(Path.class), Mockito.any(), Mockito.any(WorkingTreeChanges.class)))
+                .thenAnswer(invocation -> treeGitExecutor.getStatus(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(new HashMap<>(Map.of("name", "App1")));
+        applicationGitReference.setTheme(new HashMap<>());
+        applicationGitReference.setMetadata(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        applicationGitReference.setModifiedResources(modifiedResources);
+
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, String> actionBody = new HashMap<>();
+        Map<String, Object> actionCollections = new HashMap<>();
+        Map<String, String> actionCollectionBody = new HashMap<>();
+        String mainContainer = "{\"widgetName\":\"MainContainer\",\"type\":\"CANVAS_WIDGET\",\"children\":[]}";
+        for (int i = 0; i < 3; i++) {
+            String pageName = "Page" + i;
+            pages.put(pageName, new HashMap<>(Map.of("name", pageName)));
+            pageDsl.put(
+                    pageName,
+                    mainContainer.replace(
+                            "[]", "[{\"widgetName\":\"Text" + i + "\",\"type\":\"TEXT_WIDGET\",\"text\":\"Hi\"}]"));
+            actions.put("Query" + i + NAME_SEPARATOR + pageName, new HashMap<>(Map.of("name", "Query" + i)));
+            actionBody.put("Query" + i + NAME_SEPARATOR + pageName, "SELECT " + i);
+            actionCollections.put("JSObject" + i + NAME_SEPARATOR + pageName, new HashMap<>(Map.of("name", "JS")));
+            actionCollectionBody.put("JSObject" + i + NAME_SEPARATOR + pageName, "export default {}");
+        }
+        Map<String, Object> datasources = new HashMap<>(Map.of("DB1", Map.of("name", "DB1"), "DB2", Map.of()));
+        applicationGitReference.setPages(pages);
+        applicationGitReference.setPageDsl(pageDsl);
+        applicationGitReference.setActions(actions);
+        applicationGitReference.setActionBody(actionBody);
+        applicationGitReference.setActionCollections(actionCollections);
+        applicationGitReference.setActionCollectionBody(actionCollectionBody);
+        applicationGitReference.setDatasources(datasources);
+
+        Path repoSuffix = Path.of("workspaceId", "applicationId", "repoName");
+        Path repoPath = localTestDirectoryPath.resolve(repoSuffix);
+        String branchName;
+        try (Git git = Git.init().setDirectory(repoPath.toFile()).call()) {
+            branchName = git.getRepository().getBranch();
+            fileUtils
+                    .saveApplicationToGitRepo(repoSuffix, applicationGitReference, branchName)
+                    .block();
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").setSign(false).call();
+        }
+
+        GitStatusDTO unchangedStatus = fileUtils
+                .getStatus(repoSuffix, applicationGitReference, branchName)
+                .block();
+        Assertions.assertTrue(unchangedStatus.getIsClean());
+
+        // Change a query and a widget, add a query, and remove a page along with its resources and a datasource
+        actionBody.put("Query0" + NAME_SEPARATOR + "Page0", "SELECT 'changed'");
+        actions.put("Query3" + NAME_SEPARATOR + "Page1", new HashMap<>(Map.of("name", "Query3")));
+        actionBody.put("Query3" + NAME_SEPARATOR + "Page1", "SELECT 3");
+        pageDsl.put("Page1", pageDsl.get("Page1").replace("Hi", "Hello"));
+        pages.remove("Page2");
+        actions.remove("Query2" + NAME_SEPARATOR + "Page2");
+        actionCollections.remove("JSObject2" + NAME_SEPARATOR + "Page2");
+        datasources.remove("DB2");
+
+        GitStatusDTO status = fileUtils
+                .getStatus(repoSuffix, applicationGitReference, branchName)
+                .block();
+
+        fileUtils
+                .saveApplicationToGitRepo(repoSuffix, applicationGitReference, branchName)
+                .block();
+        try (Git git = Git.open(repoPath.toFile())) {
+            Status savedStatus = git.status().call();
+            Assertions.assertEquals(
+                    Stream.concat(savedStatus.getChanged().stream(), savedStatus.getModified().stream())
+                            .collect(Collectors.toSet()),
+                    status.getModified());
+            Assertions.assertEquals(
+                    Stream.concat(savedStatus.getAdded().stream(), savedStatus.getUntracked().stream())
+                            .collect(Collectors.toSet()),
+                    status.getAdded());
+            Assertions.assertEquals(
+                    Stream.concat(savedStatus.getRemoved().stream(), savedStatus.getMissing().stream())
+                            .collect(Collectors.toSet()),
+                    status.getRemoved());
+        }
+        Assertions.assertFalse(status.getIsClean());
+        Assertions.assertEquals(Set.of("Page2"), status.getPagesRemoved());
+        Assertions.assertEquals(Set.of("Page1"), status.getPagesModified());
+        Assertions.assertEquals(Set.of("Page0/Query0"), status.getQueriesModified());
+        Assertions.assertEquals(Set.of("Page1/Query3"), status.getQueriesAdded());
+        Assertions.assertEquals(Set.of("Page2/Query2"), status.getQueriesRemoved());
+        Assertions.assertEquals(1, status.getModifiedDatasources());
+    }
+
     @Test
     public void testScanAndDeleteDirectoryForDeletedResources() {
         Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
@@ -0,0 +1,105 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.external.constants.AnalyticsEvents;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitRepositoryCacheTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    private Path repoPath;
+
+    private GitRepositoryCache gitRepositoryCache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        repoPath = tempDirectory.resolve("repo");
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+        gitRepositoryCache = new GitRepositoryCache(10, Duration.ofMinutes(10), Schedulers.boundedElastic());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gitRepositoryCache.invalidate(repoPath);
+    }
+
+    @Test
+    public void open_whenRepositoryIsOpenedAgain_reusesRepository() throws IOException {
+        Repository repository;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+        }
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isSameAs(repository);
+        }
+        // The git directory resolves to the same repository as the working tree
+        try (Git git = gitRepositoryCache.open(repoPath.resolve(".git"))) {
+            assertThat(git.getRepository().getDirectory()).isEqualTo(repository.getDirectory());
+        }
+    }
+
+    @Test
+    public void open_whenRepositoryIsClonedAgain_opensNewRepository() throws Exception {
+        Repository repository;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+        }
+
+        FileUtils.deleteDirectory(repoPath.toFile());
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(repository);
+            assertThat(git.status().call().isClean()).isTrue();
+        }
+    }
+
+    @Test
+    public void execute_whenOperationsAreOnSameRepository_runsThemInOrder() {
+        final AtomicInteger runningOperations = new AtomicInteger();
+        final List<Integer> completedOperations = new CopyOnWriteArrayList<>();
+
+        List<Mono<Integer>> operations = IntStream.range(0, 20)
+                .mapToObj(index -> gitRepositoryCache.execute(repoPath, AnalyticsEvents.GIT_STATUS, () -> {
+                    assertThat(runningOperations.incrementAndGet()).isEqualTo(1);
+                    try (Git git = gitRepositoryCache.open(repoPath)) {
+                        git.status().call();
+                    }
+                    completedOperations.add(index);
+                    runningOperations.decrementAndGet();
+                    return index;
+                }))
+                .toList();
+
+        // Subscribed to one after the other, without waiting for the earlier ones to complete
+        List<Integer> results = Flux.fromIterable(operations)
+                .flatMapSequential(operation -> operation)
+                .collectList()
+                .block();
+
+        assertThat(results)
+                .containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+        assertThat(completedOperations).containsExactlyElementsOf(results);
+    }
+}
@@ -0,0 +1,49 @@
+package com.appsmith.git.helpers;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParsedFileCacheTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    public void read_whenContentIsTheSame_parsesFileOnce() throws IOException {
+        ParsedFileCache parsedFileCache = new ParsedFileCache(1024 * 1024);
+        AtomicInteger parseCount = new AtomicInteger();
+        ParsedFileCache.FileParser parser = content -> {
+            parseCount.incrementAndGet();
+            return new JSONObject(new String(content));
+        };
+
+        // Same content in two branches
+        String widget = "{\"widgetName\":\"Text1\",\"text\":\"Hello\",\"tooltip\":null}";
+        Path file1 = Files.writeString(tempDirectory.resolve("Text1.json"), widget);
+        Path file2 = Files.writeString(tempDirectory.resolve("Text1Copy.json"), widget);
+
+        JSONObject firstRead = (JSONObject) parsedFileCache.read(file1, parser);
+        firstRead.put("text", "Changed by the caller");
+        JSONObject secondRead = (JSONObject) parsedFileCache.read(file2, parser);
+
+        assertThat(parseCount.get()).isEqualTo(1);
+        assertThat(secondRead).isNotSameAs(firstRead);
+        assertThat(secondRead.getString("text")).isEqualTo("Hello");
+        assertThat(secondRead.isNull("tooltip")).isTrue();
+        assertThat(secondRead.has("tooltip")).isTrue();
+
+        // Changed content is parsed again
+        Files.writeString(file1, widget.replace("Hello", "World"));
+        assertThat(((JSONObject) parsedFileCache.read(file1, parser)).getString("text"))
+                .isEqualTo("World");
+        assertThat(parseCount.get()).isEqualTo(2);
+    }
+}
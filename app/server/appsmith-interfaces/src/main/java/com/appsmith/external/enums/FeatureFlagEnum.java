@@ -16,5 +16,6 @@ public enum FeatureFlagEnum {
     rollout_datasource_test_rate_limit_enabled,
     release_git_autocommit_feature_enabled,
     release_git_cleanup_feature_enabled,
+    release_git_tree_status_enabled,
     // Add EE flags below this line, to avoid conflicts.
 }
@@ -1,5 +1,6 @@
 package com.appsmith.external.git;
 
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.ArtifactGitReference;
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -34,6 +35,17 @@ public interface FileInterface {
             Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName)
             throws IOException, GitAPIException;
 
+    /**
+     * This method will get the status of the branch as if the application had been saved to the git repo, by comparing
+     * the content of the files that would be written with the last commit of the branch instead of writing them
+     *
+     * @param baseRepoSuffix path suffix used to create a repo path
+     * @param artifactGitReference application reference object from which entire application can be rehydrated
+     * @param branchName name of the branch for the current application
+     * @return Map of file names those are added, removed, modified
+     */
+    Mono<GitStatusDTO> getStatus(Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName);
+
     /**
      * This method will reconstruct the application from the repo
      *
@@ -4,6 +4,7 @@ import com.appsmith.external.dtos.GitBranchDTO;
 import com.appsmith.external.dtos.GitLogDTO;
 import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.MergeStatusDTO;
+import com.appsmith.external.models.WorkingTreeChanges;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
 import org.springframework.stereotype.Component;
@@ -130,6 +131,17 @@ public interface GitExecutor {
      */
     Mono<GitStatusDTO> getStatus(Path repoPath, String branchName);
 
+    /**
+     * This method will handle the git-status functionality by comparing the files of the last commit of the branch with
+     * the changes that saving the artifact would make to them, without touching the working tree
+     *
+     * @param repoPath Path to actual repo
+     * @param branchName branch name for which the status is required
+     * @param workingTreeChanges changes to the files of the last commit of the branch
+     * @return Map of file names those are added, removed, modified
+     */
+    Mono<GitStatusDTO> getStatus(Path repoPath, String branchName, WorkingTreeChanges workingTreeChanges);
+
     /**
      * @param repoSuffix suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
      * @param sourceBranch name of the branch whose commits will be referred amd merged to destinationBranch
@@ -18,6 +18,12 @@ public interface FileOperationsCE {
 
     void writeStringToFile(String sourceEntity, Path path) throws IOException;
 
+    byte[] serializeMetadata(ApplicationGitReference applicationGitReference);
+
+    byte[] serializeResource(Object sourceEntity);
+
+    byte[] serializeWidget(JSONObject sourceEntity) throws IOException;
+
     boolean writeToFile(Object sourceEntity, Path path) throws IOException;
 
     void scanAndDeleteFileForDeletedResources(Set<String> validResources, Path resourceDirectory);
@@ -0,0 +1,148 @@
+package com.appsmith.external.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Helpers for JDBC based plugins to emit the rows of a query result one at a time, as they are read from a server side
+ * cursor, instead of collecting them into a list first.
+ */
+@Slf4j
+public class JdbcStreamingUtils {
+
+    /**
+     * Number of rows the drivers are asked to fetch from the server in one round trip while streaming.
+     */
+    public static final int STREAMING_FETCH_SIZE = 500;
+
+    public static final String AFFECTED_ROWS_KEY = "affectedRows";
+
+    @FunctionalInterface
+    public interface StatementExecutor {
+        /**
+         * Creates and executes the statement for the query on the given connection. The fetch size should be set on
+         * the statement before it gets executed.
+         *
+         * @return the executed statement, whose result set or update count is read afterwards
+         */
+        Statement execute(Connection connection) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowMapper {
+        Map<String, Object> mapRow(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException, IOException;
+    }
+
+    private record StreamingContext(Statement statement, ResultSet resultSet, ResultSetMetaData metaData) {}
+
+    /**
+     * Executes a statement and emits the mapped rows of its result set one by one, as the downstream requests them.
+     * For statements that don't return a result set, a single row with the number of affected rows is emitted.
+     * <p>
+     * The connection, statement and result set are closed once the flux terminates or gets cancelled. The reads are
+     * blocking, hence the returned flux must be subscribed on a scheduler that allows blocking calls.
+     *
+     * @param connectionSupplier : Supplies the connection to execute the statement on, usually from a connection pool
+     * @param useCursor          : Some drivers, e.g. Postgres, only honour the fetch size inside a transaction. When set,
+     *                           auto commit is turned off for the duration of the execution and the transaction is
+     *                           committed once all the rows have been read.
+     * @param statementExecutor  : Executes the query on the connection
+     * @param rowMapper          : Converts the current row of the result set into the row to be returned
+     */
+    public static Flux<Map<String, Object>> streamRows(
+            Callable<Connection> connectionSupplier,
+            boolean useCursor,
+            StatementExecutor statementExecutor,
+            RowMapper rowMapper) {
+
+        return Flux.using(
+                connectionSupplier,
+                connection -> Flux.using(
+                        () -> {
+                            if (useCursor) {
+                                connection.setAutoCommit(false);
+                            }
+                            Statement statement = statementExecutor.execute(connection);
+                            ResultSet resultSet = statement.getResultSet();
+                            return new StreamingContext(
+                                    statement, resultSet, resultSet == null ? null : resultSet.getMetaData());
+                        },
+                        context -> readRows(connection, useCursor, context, rowMapper),
+                        JdbcStreamingUtils::closeQuietly),
+                connection -> {
+                    try {
+                        // Return the connection back to the pool
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.debug("Error returning connection to pool after streaming execution", e);
+                    }
+                });
+    }
+
+    private static Flux<Map<String, Object>> readRows(
+            Connection connection, boolean useCursor, StreamingContext context, RowMapper rowMapper) {
+        if (context.resultSet() == null) {
+            return Flux.defer(() -> {
+                        try {
+                            final int updateCount = Math.max(context.statement().getUpdateCount(), 0);
+                            if (useCursor) {
+                                connection.commit();
+                            }
+                            return Flux.just(Map.<String, Object>of(AFFECTED_ROWS_KEY, updateCount));
+                        } catch (SQLException e) {
+                            return Flux.error(e);
+                        }
+                    })
+                    .doOnError(error -> rollbackQuietly(connection, useCursor));
+        }
+
+        return Flux.<Map<String, Object>>generate(sink -> {
+                    try {
+                        if (context.resultSet().next()) {
+                            sink.next(rowMapper.mapRow(context.resultSet(), context.metaData()));
+                        } else {
+                            if (useCursor) {
+                                connection.commit();
+                            }
+                            sink.complete();
+                        }
+                    } catch (SQLException | IOException e) {
+                        sink.error(e);
+                    }
+                })
+                .doOnError(error -> rollbackQuietly(connection, useCursor))
+                .doOnCancel(() -> rollbackQuietly(connection, useCursor));
+    }
+
+    private static void rollbackQuietly(Connection connection, boolean useCursor) {
+        if (!useCursor) {
+            return;
+        }
+
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            log.debug("Error rolling back streaming execution", e);
+        }
+    }
+
+    private static void closeQuietly(StreamingContext context) {
+        try {
+            if (context.resultSet() != null) {
+                context.resultSet().close();
+            }
+            context.statement().close();
+        } catch (SQLException e) {
+            log.debug("Error closing statement after streaming execution", e);
+        }
+    }
+}
@@ -373,19 +373,29 @@ public class MustacheHelper {
     public static Mono<Map<String, Set<EntityDependencyNode>>> getPossibleEntityParentsMap(
             Flux<Tuple2<String, Set<String>>> bindingAndPossibleReferencesFlux, int types) {
 
-        return bindingAndPossibleReferencesFlux.collect(HashMap::new, (map, tuple) -> {
-            String bindingValue = tuple.getT1();
-            HashSet<EntityDependencyNode> totalParents = new HashSet<>();
-            tuple.getT2().forEach(reference -> {
-                if ((types & EXECUTABLE_ENTITY_REFERENCES) == EXECUTABLE_ENTITY_REFERENCES) {
-                    totalParents.addAll(MustacheHelper.getPossibleActions(reference));
-                }
-                if ((types & WIDGET_ENTITY_REFERENCES) == WIDGET_ENTITY_REFERENCES) {
-                    totalParents.addAll(MustacheHelper.getPossibleWidgets(reference));
-                }
-            });
-            map.put(bindingValue, totalParents);
+        return bindingAndPossibleReferencesFlux.collect(
+                HashMap::new, (map, tuple) -> map.put(tuple.getT1(), getPossibleEntityParents(tuple.getT2(), types)));
+    }
+
+    /**
+     * Creates the entity dependency nodes of the given types out of the global references found in a binding, the same
+     * way as {@link #getPossibleEntityParentsMap(Flux, int)} does for every binding
+     *
+     * @param references The global references found in a binding by AST logic
+     * @param types      The types of EntityDependencyNode references to look for
+     * @return A new set of all the possible entity dependency nodes in the references
+     */
+    public static Set<EntityDependencyNode> getPossibleEntityParents(Set<String> references, int types) {
+        HashSet<EntityDependencyNode> totalParents = new HashSet<>();
+        references.forEach(reference -> {
+            if ((types & EXECUTABLE_ENTITY_REFERENCES) == EXECUTABLE_ENTITY_REFERENCES) {
+                totalParents.addAll(MustacheHelper.getPossibleActions(reference));
+            }
+            if ((types & WIDGET_ENTITY_REFERENCES) == WIDGET_ENTITY_REFERENCES) {
+                totalParents.addAll(MustacheHelper.getPossibleWidgets(reference));
+            }
         });
+        return totalParents;
     }
 
     /**
@@ -420,6 +420,29 @@ public class PluginUtils {
         return getValueSafelyFromPropertyList(properties, index, Object.class);
     }
 
+    /**
+     * Finds out whether a query is to be run as a prepared statement, from the setting of the action. Older UI
+     * configurations used to set the value as a string, which may or may not be castable to a boolean. In case the
+     * setting is missing or of any other type, queries are run as prepared statements.
+     */
+    public static Boolean isPreparedStatement(Object preparedStatementValue) {
+        if (preparedStatementValue instanceof Boolean preparedStatement) {
+            return preparedStatement;
+        } else if (preparedStatementValue instanceof String preparedStatement) {
+            return Boolean.parseBoolean(preparedStatement);
+        }
+
+        return true;
+    }
+
+    /**
+     * Same as {@link #isPreparedStatement(Object)}, for plugins that keep the setting in their plugin specified
+     * templates
+     */
+    public static Boolean isPreparedStatement(List<Property> pluginSpecifiedTemplates, int preparedStatementIndex) {
+        return isPreparedStatement(getValueSafelyFromPropertyList(pluginSpecifiedTemplates, preparedStatementIndex));
+    }
+
     public static JSONObject parseStringIntoJSONObject(String body) throws JSONException {
         return new JSONObject(body);
     }
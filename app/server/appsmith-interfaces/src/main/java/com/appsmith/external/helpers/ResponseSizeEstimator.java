@@ -0,0 +1,152 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the serialized size of a result set while it is being read, so that plugins can
+ * enforce the maximum supported response size without re-serializing everything read so far (see {@link Sizeof}).
+ * Each value is accounted for exactly once, as it gets added to the response, which keeps the cost of the check
+ * proportional to the size of the value being added rather than the size of the whole response.
+ * <p>
+ * The estimate approximates the size of the JSON representation of the response and is not meant to be exact.
+ * This class is not thread safe; one instance is meant to be used per execution.
+ */
+@Getter
+public class ResponseSizeEstimator {
+
+    // Rough byte cost of the JSON punctuation around a key-value pair, i.e. quotes, colon and comma.
+    private static final int ENTRY_OVERHEAD = 4;
+
+    // Byte cost of the JSON punctuation around an object or an array.
+    private static final int CONTAINER_OVERHEAD = 2;
+
+    private static final int NULL_SIZE = 4;
+
+    private static final int BOOLEAN_SIZE = 5;
+
+    private static final int NUMBER_SIZE = 8;
+
+    private final long maxSize;
+
+    private long estimatedSize = CONTAINER_OVERHEAD;
+
+    public ResponseSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Accounts for a new row in the response. Should be called once before adding the cells of the row.
+     */
+    public void addRow() {
+        estimatedSize += CONTAINER_OVERHEAD + 1;
+    }
+
+    /**
+     * Accounts for one cell, i.e. a column name and its value, of the current row.
+     */
+    public void addCell(String columnName, Object value) {
+        estimatedSize += ENTRY_OVERHEAD + (columnName == null ? NULL_SIZE : columnName.length()) + estimate(value);
+    }
+
+    public boolean isLimitExceeded() {
+        return estimatedSize > maxSize;
+    }
+
+    /**
+     * Estimates the number of bytes taken by the given value once serialized to JSON.
+     */
+    public static long estimate(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence charSequence) {
+            return charSequence.length() + 2L;
+        }
+
+        if (value instanceof Number || value instanceof Character) {
+            return NUMBER_SIZE;
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (value instanceof byte[] bytes) {
+            // Binary data gets serialized as a Base64 string.
+            return 4L * ((bytes.length + 2) / 3) + 2;
+        }
+
+        if (value instanceof JsonNode jsonNode) {
+            return estimateJsonNode(jsonNode);
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            long size = CONTAINER_OVERHEAD;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += ENTRY_OVERHEAD + String.valueOf(entry.getKey()).length() + estimate(entry.getValue());
+            }
+            return size;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            long size = CONTAINER_OVERHEAD;
+            for (Object item : collection) {
+                size += 1 + estimate(item);
+            }
+            return size;
+        }
+
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            long size = CONTAINER_OVERHEAD;
+            for (int i = 0; i < length; i++) {
+                size += 1 + estimate(Array.get(value, i));
+            }
+            return size;
+        }
+
+        return String.valueOf(value).length() + 2L;
+    }
+
+    private static long estimateJsonNode(JsonNode jsonNode) {
+        if (jsonNode.isContainerNode()) {
+            long size = CONTAINER_OVERHEAD;
+            if (jsonNode.isObject()) {
+                var fields = jsonNode.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    size += ENTRY_OVERHEAD + field.getKey().length() + estimateJsonNode(field.getValue());
+                }
+            } else {
+                for (JsonNode item : jsonNode) {
+                    size += 1 + estimateJsonNode(item);
+                }
+            }
+            return size;
+        }
+
+        if (jsonNode.isTextual()) {
+            return jsonNode.textValue().length() + 2L;
+        }
+
+        if (jsonNode.isNull() || jsonNode.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (jsonNode.isBoolean()) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (jsonNode.isNumber()) {
+            return NUMBER_SIZE;
+        }
+
+        return jsonNode.asText().length() + 2L;
+    }
+}
@@ -0,0 +1,249 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bounded pool of {@link HttpClient} instances, each backed by its own {@link ConnectionProvider}, shared across
+ * action executions of REST API based plugins. Clients are keyed by the settings that make their connections
+ * incompatible with each other, i.e. the HTTP protocol and the SSL configuration of the datasource. Reusing the same
+ * client for executions with the same settings lets Reactor Netty keep connections, and the TLS sessions on them,
+ * alive between executions instead of doing a fresh handshake for every API call.
+ * <p>
+ * Every provider enforces a per-host connection limit and a bounded pending-acquire queue, evicts idle connections
+ * in the background, and publishes its pool metrics to the global Micrometer registry under the
+ * {@code reactor.netty.connection.provider} prefix. When the number of distinct settings exceeds the pool capacity,
+ * the least recently used provider stops being handed out. Clients obtained from it earlier may still be sending
+ * requests, or retrying them, so it is only disposed of once none of its connections are acquired or being waited
+ * for.
+ */
+@Slf4j
+public class HttpClientPool {
+
+    public static final String CONNECTION_PROVIDER_NAME_PREFIX = "rest-api-provider-";
+
+    private static final int DEFAULT_MAX_PROVIDERS = 64;
+
+    private static final int MAX_CONNECTIONS_PER_HOST = 100;
+
+    private static final int MAX_PENDING_ACQUIRES = 500;
+
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(60);
+
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(45);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    // Number of consecutive checks for which an evicted provider must be idle before it is disposed of
+    private static final int IDLE_CHECKS_BEFORE_DISPOSAL = 2;
+
+    private static final String PROVIDER_METRIC_PREFIX = "reactor.netty.connection.provider";
+
+    // Providers of all the pools that haven't been disposed of yet, including the evicted ones
+    private static final AtomicInteger LIVE_PROVIDERS = new AtomicInteger();
+
+    static {
+        Gauge.builder("appsmith.rest-api.connection-providers", LIVE_PROVIDERS, AtomicInteger::get)
+                .description("Number of pooled connection providers used by REST API based plugins")
+                .register(Metrics.globalRegistry);
+    }
+
+    private final int maxProviders;
+
+    private final Duration evictedProviderCheckInterval;
+
+    private final AtomicInteger providerCounter = new AtomicInteger();
+
+    private final Map<PoolKey, PooledClient> clients;
+
+    private final Set<PooledClient> evictedClients = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Identifies the set of settings that a pooled client is created for.
+     *
+     * @param certificate Base64 content of the self-signed certificate trusted by the client, if any
+     */
+    record PoolKey(HttpProtocol protocol, SSLDetails.AuthType sslAuthType, String certificate) {}
+
+    private record PooledClient(ConnectionProvider provider, ProviderActivity activity, HttpClient httpClient) {}
+
+    public HttpClientPool() {
+        this(DEFAULT_MAX_PROVIDERS);
+    }
+
+    public HttpClientPool(int maxProviders) {
+        this(maxProviders, EVICTION_INTERVAL);
+    }
+
+    HttpClientPool(int maxProviders, Duration evictedProviderCheckInterval) {
+        this.maxProviders = maxProviders;
+        this.evictedProviderCheckInterval = evictedProviderCheckInterval;
+        this.clients = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PoolKey, PooledClient> eldest) {
+                if (size() <= HttpClientPool.this.maxProviders) {
+                    return false;
+                }
+
+                log.debug("Evicting least recently used connection provider for {}", eldest.getKey());
+                disposeWhenIdle(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a pooled HTTP client suitable for the given datasource and protocol, creating it if required.
+     */
+    public HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        final PoolKey key = getPoolKey(datasourceConfiguration, httpProtocol);
+
+        synchronized (clients) {
+            return clients.computeIfAbsent(key, k -> createClient(k, datasourceConfiguration))
+                    .httpClient();
+        }
+    }
+
+    public int size() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    /**
+     * Number of evicted providers that are still in use, and hence haven't been disposed of yet
+     */
+    int evictedSize() {
+        return evictedClients.size();
+    }
+
+    PoolKey getPoolKey(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        SSLDetails ssl = datasourceConfiguration.getConnection() == null
+                ? null
+                : datasourceConfiguration.getConnection().getSsl();
+
+        if (ssl == null) {
+            return new PoolKey(httpProtocol, null, null);
+        }
+
+        // The certificate only changes the client's behaviour when it is trusted explicitly, see
+        // SSLHelper.sslCheckForHttpClient
+        String certificate =
+                SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE == ssl.getAuthType() && ssl.getCertificateFile() != null
+                        ? ssl.getCertificateFile().getBase64Content()
+                        : null;
+
+        return new PoolKey(httpProtocol, ssl.getAuthType(), certificate);
+    }
+
+    private void disposeWhenIdle(PooledClient pooledClient) {
+        evictedClients.add(pooledClient);
+        Flux.interval(evictedProviderCheckInterval)
+                .scan(0, (idleChecks, tick) -> pooledClient.activity().isIdle() ? idleChecks + 1 : 0)
+                .filter(idleChecks -> idleChecks >= IDLE_CHECKS_BEFORE_DISPOSAL)
+                .next()
+                .flatMap(idleChecks -> pooledClient.provider().disposeLater())
+                .doFinally(signalType -> {
+                    evictedClients.remove(pooledClient);
+                    LIVE_PROVIDERS.decrementAndGet();
+                })
+                .subscribe();
+    }
+
+    private PooledClient createClient(PoolKey key, DatasourceConfiguration datasourceConfiguration) {
+        final ProviderActivity activity = new ProviderActivity();
+        final ConnectionProvider provider = ConnectionProvider.builder(
+                        CONNECTION_PROVIDER_NAME_PREFIX + providerCounter.incrementAndGet())
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true, () -> activity)
+                .build();
+        LIVE_PROVIDERS.incrementAndGet();
+
+        final HttpClient httpClient = HttpClient.create(provider)
+                .protocol(key.protocol())
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+
+        return new PooledClient(provider, activity, httpClient);
+    }
+
+    /**
+     * Publishes the metrics of the connection pools of a provider, one per remote address, and keeps them to find
+     * out whether any of the pools is in use.
+     */
+    private static class ProviderActivity implements ConnectionProvider.MeterRegistrar {
+
+        private final Map<String, ConnectionPoolMetrics> poolMetrics = new ConcurrentHashMap<>();
+
+        private final Map<String, List<Meter>> poolMeters = new ConcurrentHashMap<>();
+
+        @Override
+        public void registerMetrics(
+                String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+            poolMetrics.put(id, metrics);
+
+            final Tags tags = Tags.of("id", id, "name", poolName, "remote.address", String.valueOf(remoteAddress));
+            poolMeters.put(
+                    id,
+                    List.of(
+                            registerGauge("total.connections", tags, metrics, ConnectionPoolMetrics::allocatedSize),
+                            registerGauge("active.connections", tags, metrics, ConnectionPoolMetrics::acquiredSize),
+                            registerGauge("idle.connections", tags, metrics, ConnectionPoolMetrics::idleSize),
+                            registerGauge(
+                                    "pending.connections", tags, metrics, ConnectionPoolMetrics::pendingAcquireSize)));
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            poolMetrics.remove(id);
+
+            final List<Meter> meters = poolMeters.remove(id);
+            if (meters != null) {
+                meters.forEach(Metrics.globalRegistry::remove);
+            }
+        }
+
+        boolean isIdle() {
+            return poolMetrics.values().stream()
+                    .allMatch(metrics -> metrics.acquiredSize() == 0 && metrics.pendingAcquireSize() == 0);
+        }
+
+        private static Meter registerGauge(
+                String name,
+                Tags tags,
+                ConnectionPoolMetrics metrics,
+                ToDoubleFunction<ConnectionPoolMetrics> valueFunction) {
+            return Gauge.builder(PROVIDER_METRIC_PREFIX + "." + name, metrics, valueFunction)
+                    .tags(tags)
+                    .register(Metrics.globalRegistry);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.appsmith.external.helpers.restApiUtils.helpers;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
@@ -17,7 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -32,13 +31,11 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -48,7 +45,7 @@ import java.util.Set;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
-@NoArgsConstructor
+@RequiredArgsConstructor
 public class RestAPIActivateUtils {
 
     public static final String SIGNATURE_HEADER_NAME = "X-APPSMITH-SIGNATURE";
@@ -62,6 +59,8 @@ public class RestAPIActivateUtils {
             "application/x-binary");
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    private final HttpClientPool httpClientPool;
+
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
             HttpMethod httpMethod,
@@ -304,17 +303,7 @@ public class RestAPIActivateUtils {
         if (httpProtocol == null) {
             httpProtocol = HttpProtocol.HTTP11;
         }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .protocol(httpProtocol)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        // Clients are shared across executions so that connections to the same hosts can be reused
+        return httpClientPool.getHttpClient(datasourceConfiguration, httpProtocol);
     }
 }
@@ -50,6 +50,17 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
     @JsonView({Views.Public.class, FromRequest.class, Git.class})
     Integer timeoutInMillisecond;
 
+    /*
+     * Opt-in caching of the results of successful executions. When the TTL is set, executions with the same parameters
+     * share one result, across all the users of the action, for that long. Only meant for read-only queries.
+     */
+    @JsonView({Views.Public.class, FromRequest.class, Git.class})
+    Integer resultCacheTtlInSeconds;
+
+    // Results larger than this are not cached
+    @JsonView({Views.Public.class, FromRequest.class, Git.class})
+    Integer resultCacheMaxSizeInBytes;
+
     @JsonView({Views.Public.class, FromRequest.class, Git.class})
     PaginationType paginationType = PaginationType.NONE;
 
@@ -0,0 +1,91 @@
+package com.appsmith.external.models;
+
+import lombok.Getter;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes that saving an artifact would make to the files of the last commit of a branch. The content of the written
+ * files is kept as the ids of their git blobs, so that the status of the branch can be found by comparing them with
+ * the last commit, without writing the artifact to the working tree.
+ * <p>
+ * All the paths are relative to the root of the repository and use / as the separator.
+ */
+public class WorkingTreeChanges {
+
+    private static final String SEPARATOR = "/";
+
+    // Ids of the blobs of the files that are written, by their path
+    @Getter
+    private final Map<String, ObjectId> writtenFiles = new HashMap<>();
+
+    // Files and directories that are deleted along with everything in them
+    private final Set<String> deletedPaths = new HashSet<>();
+
+    // Directories whose files, at any depth, are deleted unless their name is one of the retained names
+    private final Map<String, Set<String>> retainedFileNames = new HashMap<>();
+
+    // Directories whose subdirectories are deleted unless their name is one of the retained names
+    private final Map<String, Set<String>> retainedDirectoryNames = new HashMap<>();
+
+    // Directories whose files are deleted unless they are written again
+    private final Set<String> rewrittenDirectories = new HashSet<>();
+
+    public void writeFile(String path, ObjectId blobId) {
+        writtenFiles.put(path, blobId);
+    }
+
+    public void delete(String path) {
+        deletedPaths.add(path);
+    }
+
+    public void retainFiles(String directory, Set<String> fileNames) {
+        retainedFileNames.put(directory, fileNames);
+    }
+
+    public void retainDirectories(String directory, Set<String> directoryNames) {
+        retainedDirectoryNames.put(directory, directoryNames);
+    }
+
+    public void rewriteDirectory(String directory) {
+        rewrittenDirectories.add(directory);
+    }
+
+    /**
+     * @param path path of a file in the last commit
+     * @return true if the file is deleted, before the written files are added
+     */
+    public boolean isDeleted(String path) {
+        if (deletedPaths.contains(path)) {
+            return true;
+        }
+        final String fileName = path.substring(path.lastIndexOf(SEPARATOR) + 1);
+        // Check the directories that contain the file, starting from the closest one
+        String childDirectory = null;
+        int separatorIndex = path.lastIndexOf(SEPARATOR);
+        while (separatorIndex > 0) {
+            final String directory = path.substring(0, separatorIndex);
+            if (deletedPaths.contains(directory)) {
+                return true;
+            }
+            final Set<String> fileNames = retainedFileNames.get(directory);
+            if (fileNames != null && !fileNames.contains(fileName)) {
+                return true;
+            }
+            final Set<String> directoryNames = retainedDirectoryNames.get(directory);
+            if (directoryNames != null && childDirectory != null && !directoryNames.contains(childDirectory)) {
+                return true;
+            }
+            if (rewrittenDirectories.contains(directory) && !writtenFiles.containsKey(path)) {
+                return true;
+            }
+            childDirectory = directory.substring(directory.lastIndexOf(SEPARATOR) + 1);
+            separatorIndex = directory.lastIndexOf(SEPARATOR);
+        }
+        return false;
+    }
+}
@@ -8,6 +8,7 @@ import com.appsmith.external.helpers.restApiUtils.helpers.DataUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.DatasourceUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HeaderUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtils;
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientPool;
 import com.appsmith.external.helpers.restApiUtils.helpers.InitUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.RestAPIActivateUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.SmartSubstitutionUtils;
@@ -31,6 +32,9 @@ import java.util.Set;
 @Extension
 public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>, SmartSubstitutionInterface {
 
+    // Shared by all REST API based plugins so that connections get reused across action executions.
+    protected static final HttpClientPool HTTP_CLIENT_POOL = new HttpClientPool();
+
     protected SharedConfig sharedConfig;
     protected DataUtils dataUtils;
     protected SmartSubstitutionUtils smartSubstitutionUtils;
@@ -50,7 +54,7 @@ public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>,
         this.dataUtils = new DataUtils();
         this.smartSubstitutionUtils = new SmartSubstitutionUtils();
         this.uriUtils = new URIUtils();
-        this.restAPIActivateUtils = new RestAPIActivateUtils();
+        this.restAPIActivateUtils = new RestAPIActivateUtils(HTTP_CLIENT_POOL);
         this.initUtils = new InitUtils();
         this.headerUtils = new HeaderUtils();
         this.datasourceUtils = new DatasourceUtils();
@@ -14,14 +14,17 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.TriggerRequestDTO;
 import com.appsmith.external.models.TriggerResultDTO;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.micrometer.observation.ObservationRegistry;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -247,6 +250,46 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Appsmith Server calls this function when the action is executed in streaming mode. Instead of collecting the
+     * whole result into one {@link ActionExecutionResult}, the rows of the result are emitted as they are read from
+     * the datasource, so that they can be written to the response as they arrive.
+     * <p>
+     * The default implementation executes the action as usual and emits the rows of the result once the execution
+     * completes. Plugins that can read their results incrementally, e.g. through a database cursor, should override
+     * this function. A failed execution is signalled by emitting the unsuccessful {@link ActionExecutionResult} as the
+     * last element of the flux.
+     *
+     * @param connection              : This is the connection that is established to the data source. This connection is according
+     *                                to the parameters in Datasource Configuration
+     * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
+     *                                which would be used for substitution
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux of the rows returned by the execution
+     */
+    default Flux<Object> executeParameterizedStreaming(
+            C connection,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceConfiguration datasourceConfiguration,
+            ActionConfiguration actionConfiguration) {
+        return this.executeParameterized(connection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                .flatMapMany(actionExecutionResult -> {
+                    if (!Boolean.TRUE.equals(actionExecutionResult.getIsExecutionSuccess())) {
+                        return Flux.<Object>just(actionExecutionResult);
+                    }
+
+                    final Object body = actionExecutionResult.getBody();
+                    if (body instanceof ArrayNode arrayNode) {
+                        return Flux.<Object>fromIterable(arrayNode);
+                    } else if (body instanceof Collection<?> collection) {
+                        return Flux.<Object>fromIterable(collection);
+                    }
+
+                    return Mono.justOrEmpty(body);
+                });
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
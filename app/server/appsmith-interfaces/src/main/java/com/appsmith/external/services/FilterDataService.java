@@ -14,7 +14,7 @@ public class FilterDataService extends FilterDataServiceCE implements IFilterDat
         super();
     }
 
-    public static FilterDataService getInstance() {
+    public static synchronized FilterDataService getInstance() {
 
         if (instance == null) {
             instance = new FilterDataService();
@@ -0,0 +1,881 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.getValueDataType;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.parseValue;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Evaluates UQI data filters, i.e. where conditions, sorting, pagination and projection, directly in Java, without
+ * loading the data into the in memory database first.
+ * <p>
+ * The data is copied into a columnar form: numbers and booleans are stored in primitive arrays and strings are
+ * dictionary encoded, so that a condition is evaluated for a whole column at once, and for string columns once per
+ * distinct value. The results are the same as the ones of the SQL based filtering in {@link FilterDataServiceCE},
+ * including the way values are parsed, compared and how nulls are treated.
+ * <p>
+ * Anything that this engine does not reproduce exactly, e.g. date columns or a filter that would fail in the in
+ * memory database, makes {@link #filter} return an empty result so that the caller falls back to the SQL based
+ * filtering.
+ */
+@Slf4j
+class ColumnarFilterEngine {
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    // Maximum length of a VARCHAR column in the in memory database
+    private static final int MAX_STRING_LENGTH = 1_000_000;
+
+    private static final String DEFAULT_LIMIT = "20";
+
+    private static final String DEFAULT_OFFSET = "0";
+
+    private final ObjectMapper objectMapper;
+
+    ColumnarFilterEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Signals that the filter can't be evaluated by this engine and has to be run on the in memory database.
+     */
+    private static class UnsupportedFilterException extends RuntimeException {
+        UnsupportedFilterException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * @param items                 - data
+     * @param schema                - column names and data types, as generated by {@link FilterDataServiceCE#generateSchema}
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return the filtered rows, or empty if the filter has to be run on the in memory database instead
+     */
+    Optional<List<Map<String, Object>>> filter(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        try {
+            Map<String, Column> columns = loadColumns(items, schema, dataTypeConversionMap);
+            int rowCount = items.size();
+
+            BitSet selectedRows = selectRows(columns, rowCount, uqiDataFilterParams.getCondition());
+            int[] rows = sortRows(columns, selectedRows, uqiDataFilterParams.getSortBy());
+            rows = paginateRows(rows, uqiDataFilterParams.getPaginateBy());
+
+            return Optional.of(projectRows(columns, rows, uqiDataFilterParams.getProjectionColumns()));
+        } catch (UnsupportedFilterException | AppsmithPluginException e) {
+            // Errors are left to the in memory database as well, so that users get the exact same error messages
+            log.debug("Filter can't be evaluated in memory, falling back to the database : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, Column> loadColumns(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+
+        int rowCount = items.size();
+        String[] columnNames = schema.keySet().toArray(new String[0]);
+        DataType[] columnTypes = new DataType[columnNames.length];
+        Column[] columnArray = new Column[columnNames.length];
+
+        // Finding the data type of a value with a conversion map requires detecting the type of the value, which is
+        // costly for strings, hence it is done once per distinct value of each column
+        List<Map<String, DataType>> valueDataTypes = new ArrayList<>(columnNames.length);
+
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (int i = 0; i < columnNames.length; i++) {
+            columnTypes[i] = schema.get(columnNames[i]);
+            columnArray[i] = newColumn(columnTypes[i], rowCount);
+            columns.put(columnNames[i], columnArray[i]);
+            valueDataTypes.add(new HashMap<>());
+        }
+
+        int row = 0;
+        for (JsonNode item : items) {
+            for (int i = 0; i < columnNames.length; i++) {
+                JsonNode fieldNode = item.get(columnNames[i]);
+                if (fieldNode == null) {
+                    columnArray[i].setNull(row);
+                    continue;
+                }
+
+                String value = fieldNode.asText();
+                DataType columnType = columnTypes[i];
+                DataType valueDataType = dataTypeConversionMap == null
+                        ? getValueDataType(value, columnType, null)
+                        : valueDataTypes
+                                .get(i)
+                                .computeIfAbsent(
+                                        value, key -> getValueDataType(key, columnType, dataTypeConversionMap));
+                Object parsedValue = parseValue(value, valueDataType);
+                if (parsedValue == null) {
+                    columnArray[i].setNull(row);
+                } else {
+                    columnArray[i].set(row, parsedValue);
+                }
+            }
+            row++;
+        }
+
+        return columns;
+    }
+
+    private Column newColumn(DataType dataType, int rowCount) {
+        // Mirrors the SQL data types that the columns are created with in FilterDataServiceCE#generateTable
+        switch (dataType) {
+            case INTEGER:
+                return new IntColumn(rowCount);
+            case LONG:
+                return new LongColumn(rowCount);
+            case FLOAT:
+                return new FloatColumn(rowCount);
+            case DOUBLE:
+                return new DoubleColumn(rowCount);
+            case BOOLEAN:
+                return new BooleanColumn(rowCount);
+            case DATE:
+            case TIMESTAMP:
+                throw new UnsupportedFilterException("Unsupported column data type " + dataType);
+            default:
+                // Any other data type is created as VARCHAR
+                return new StringColumn(dataType, rowCount);
+        }
+    }
+
+    private BitSet selectRows(Map<String, Column> columns, int rowCount, Condition condition) {
+        BitSet allRows = new BitSet(rowCount);
+        allRows.set(0, rowCount);
+
+        if (!Condition.isValid(condition)) {
+            return allRows;
+        }
+
+        if (!isLogicalOperator(condition.getOperator()) || !(condition.getValue() instanceof List)) {
+            throw new UnsupportedFilterException("Unsupported root condition " + condition.getOperator());
+        }
+
+        BitSet selectedRows =
+                evaluateConditions(columns, rowCount, (List<Condition>) condition.getValue(), condition.getOperator());
+
+        return selectedRows == null ? allRows : selectedRows;
+    }
+
+    /**
+     * Evaluates the conditions the same way as the where clause generated by
+     * {@link FilterDataServiceCE#generateLogicalExpression}. A row is selected only when the condition is true for
+     * it, a comparison with null is never true.
+     *
+     * @return the selected rows, or null if there is no condition to apply
+     */
+    private BitSet evaluateConditions(
+            Map<String, Column> columns, int rowCount, List<Condition> conditions, ConditionalOperator logicOp) {
+
+        BitSet result = null;
+        boolean firstCondition = true;
+
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            if (operator == null) {
+                throw new UnsupportedFilterException("Missing operator");
+            }
+
+            BitSet conditionResult;
+            if (isLogicalOperator(operator)) {
+                if (!(condition.getValue() instanceof List)) {
+                    throw new UnsupportedFilterException("Missing sub conditions for " + operator);
+                }
+
+                conditionResult =
+                        evaluateConditions(columns, rowCount, (List<Condition>) condition.getValue(), operator);
+                if (conditionResult == null) {
+                    continue;
+                }
+
+                if (firstCondition) {
+                    // The generated where clause would start with the logical operator, which is invalid SQL
+                    throw new UnsupportedFilterException("Sub conditions before the first condition");
+                }
+            } else {
+                firstCondition = false;
+                conditionResult = evaluateCondition(columns, rowCount, condition);
+            }
+
+            if (result == null) {
+                result = conditionResult;
+            } else if (logicOp == ConditionalOperator.AND) {
+                result.and(conditionResult);
+            } else {
+                result.or(conditionResult);
+            }
+        }
+
+        return result;
+    }
+
+    private BitSet evaluateCondition(Map<String, Column> columns, int rowCount, Condition condition) {
+        String path = condition.getPath();
+        ConditionalOperator operator = condition.getOperator();
+        Column column = StringUtils.isEmpty(path) ? null : columns.get(path);
+        if (column == null) {
+            throw new UnsupportedFilterException("Unknown column " + path);
+        }
+
+        if (condition.getValue() != null && !(condition.getValue() instanceof String)) {
+            throw new UnsupportedFilterException("Unsupported value for column " + path);
+        }
+
+        String value = (String) condition.getValue();
+        if (StringUtils.isEmpty(value)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return column.nullRows(rowCount);
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return column.nonNullRows(rowCount);
+            }
+            throw new UnsupportedFilterException("Unsupported operator " + operator + " for empty value");
+        }
+
+        switch (operator) {
+            case LT:
+            case LTE:
+            case EQ:
+            case NOT_EQ:
+            case GT:
+            case GTE: {
+                Object param = column.parseParam(value);
+                return param == null ? new BitSet(rowCount) : column.compare(rowCount, operator, param);
+            }
+            case IN:
+            case NOT_IN: {
+                List<Object> arrayValues;
+                try {
+                    arrayValues = objectMapper.readValue(value, List.class);
+                } catch (IOException e) {
+                    throw new UnsupportedFilterException(value + " could not be parsed into an array");
+                }
+
+                if (arrayValues.isEmpty()) {
+                    throw new UnsupportedFilterException("Empty array for " + operator);
+                }
+
+                List<Object> params = new ArrayList<>(arrayValues.size());
+                for (Object arrayValue : arrayValues) {
+                    params.add(column.parseParam(String.valueOf(arrayValue)));
+                }
+
+                return operator == ConditionalOperator.IN
+                        ? column.in(rowCount, params)
+                        : column.notIn(rowCount, params);
+            }
+            case CONTAINS: {
+                if (!(column instanceof StringColumn stringColumn)) {
+                    throw new UnsupportedFilterException("Unsupported operator " + operator + " for column " + path);
+                }
+
+                // Values that are read as null don't match any row, like in the database
+                return column.parseParam(value) == null ? new BitSet(rowCount) : stringColumn.contains(rowCount, value);
+            }
+            default:
+                throw new UnsupportedFilterException("Unsupported operator " + operator);
+        }
+    }
+
+    private int[] sortRows(Map<String, Column> columns, BitSet selectedRows, List<Map<String, String>> sortBy) {
+        int[] rows = selectedRows.stream().toArray();
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return rows;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            Column column = columns.get(columnName);
+            String sortTypeValue = sortCondition.get(SORT_BY_TYPE_KEY);
+            if (column == null || columnName.contains("`") || sortTypeValue == null) {
+                throw new UnsupportedFilterException("Unsupported sort condition " + sortCondition);
+            }
+
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortTypeValue.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedFilterException("Unsupported sort type " + sortTypeValue);
+            }
+
+            // Nulls are the smallest values, i.e. they come first in ascending order and last in descending order
+            Comparator<Integer> columnComparator = column::compareRows;
+            if (sortType == SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        if (comparator == null) {
+            return rows;
+        }
+
+        // Stable sort, rows that compare equal keep their original order
+        return Arrays.stream(rows)
+                .boxed()
+                .sorted(comparator)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int[] paginateRows(int[] rows, Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return rows;
+        }
+
+        int limit = parsePaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), DEFAULT_LIMIT);
+        int offset = parsePaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), DEFAULT_OFFSET);
+
+        int from = Math.min(offset, rows.length);
+        int to = (int) Math.min((long) from + limit, rows.length);
+        return Arrays.copyOfRange(rows, from, to);
+    }
+
+    private int parsePaginationValue(String value, String defaultValue) {
+        if (isBlank(value)) {
+            value = defaultValue;
+        }
+
+        Object parsedValue = parseValue(value, getValueDataType(value, DataType.INTEGER, null));
+        if (!(parsedValue instanceof Integer intValue) || intValue < 0) {
+            throw new UnsupportedFilterException("Unsupported pagination value " + value);
+        }
+
+        return intValue;
+    }
+
+    private List<Map<String, Object>> projectRows(
+            Map<String, Column> columns, int[] rows, List<String> projectionColumns) {
+
+        List<String> columnNames;
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            columnNames = new ArrayList<>(columns.keySet());
+        } else {
+            for (String columnName : projectionColumns) {
+                if (columnName == null || columnName.contains("`") || !columns.containsKey(columnName)) {
+                    throw new UnsupportedFilterException("Unknown projection column " + columnName);
+                }
+            }
+            columnNames = projectionColumns;
+        }
+
+        Column[] projectedColumns = columnNames.stream().map(columns::get).toArray(Column[]::new);
+
+        List<Map<String, Object>> rowsList = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            Map<String, Object> rowMap = new LinkedHashMap<>(columnNames.size());
+            for (int i = 0; i < projectedColumns.length; i++) {
+                Object value = projectedColumns[i].get(row);
+                // Set null values to empty strings
+                rowMap.put(columnNames.get(i), value == null ? "" : value);
+            }
+            rowsList.add(rowMap);
+        }
+
+        return rowsList;
+    }
+
+    private static boolean isLogicalOperator(ConditionalOperator operator) {
+        return operator == ConditionalOperator.AND || operator == ConditionalOperator.OR;
+    }
+
+    private static boolean matches(ConditionalOperator operator, int comparison) {
+        switch (operator) {
+            case LT:
+                return comparison < 0;
+            case LTE:
+                return comparison <= 0;
+            case EQ:
+                return comparison == 0;
+            case NOT_EQ:
+                return comparison != 0;
+            case GT:
+                return comparison > 0;
+            case GTE:
+                return comparison >= 0;
+            default:
+                throw new UnsupportedFilterException("Unsupported operator " + operator);
+        }
+    }
+
+    /**
+     * A column of the data, stored in a type specific form. Each column keeps track of its null values separately.
+     */
+    private abstract static class Column {
+
+        protected final BitSet nulls = new BitSet();
+
+        protected final DataType dataType;
+
+        Column(DataType dataType) {
+            this.dataType = dataType;
+        }
+
+        void setNull(int row) {
+            nulls.set(row);
+        }
+
+        /**
+         * Stores a value, as parsed by {@link FilterDataServiceCE#parseValue}, in the given row.
+         */
+        abstract void set(int row, Object value);
+
+        /**
+         * Returns the value of the row, in the same type that the in memory database returns it in.
+         */
+        abstract Object get(int row);
+
+        /**
+         * Compares the non null values of two rows.
+         */
+        abstract int compareValues(int row1, int row2);
+
+        /**
+         * Converts a parsed condition value into the type of this column, the way the database would when comparing
+         * them.
+         */
+        abstract Object convertParam(Object value);
+
+        /**
+         * Returns the rows whose value compares to the given value as required by the operator.
+         */
+        abstract BitSet compare(int rowCount, ConditionalOperator operator, Object param);
+
+        int compareRows(int row1, int row2) {
+            boolean isNull1 = nulls.get(row1);
+            boolean isNull2 = nulls.get(row2);
+            if (isNull1 || isNull2) {
+                return isNull1 == isNull2 ? 0 : (isNull1 ? -1 : 1);
+            }
+            return compareValues(row1, row2);
+        }
+
+        Object parseParam(String value) {
+            Object parsedValue = parseValue(value, getValueDataType(value, dataType, null));
+            return parsedValue == null ? null : convertParam(parsedValue);
+        }
+
+        BitSet nullRows(int rowCount) {
+            return nulls.get(0, rowCount);
+        }
+
+        BitSet nonNullRows(int rowCount) {
+            BitSet rows = new BitSet(rowCount);
+            rows.set(0, rowCount);
+            rows.andNot(nulls);
+            return rows;
+        }
+
+        BitSet in(int rowCount, List<Object> params) {
+            BitSet rows = new BitSet(rowCount);
+            for (Object param : params) {
+                if (param != null) {
+                    rows.or(compare(rowCount, ConditionalOperator.EQ, param));
+                }
+            }
+            return rows;
+        }
+
+        BitSet notIn(int rowCount, List<Object> params) {
+            if (params.contains(null)) {
+                // A comparison with null is never true
+                return new BitSet(rowCount);
+            }
+
+            BitSet rows = nonNullRows(rowCount);
+            rows.andNot(in(rowCount, params));
+            return rows;
+        }
+
+        protected UnsupportedFilterException unsupportedValue(Object value) {
+            return new UnsupportedFilterException("Unsupported value " + value + " for column of type " + dataType);
+        }
+    }
+
+    private static class IntColumn extends Column {
+
+        private final int[] values;
+
+        IntColumn(int rowCount) {
+            super(DataType.INTEGER);
+            values = new int[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Integer) convertParam(value);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return Integer.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object convertParam(Object value) {
+            if (value instanceof Integer) {
+                return value;
+            }
+
+            // Conversion maps can make integer columns, e.g. the row index, receive decimal values
+            if (value instanceof BigDecimal decimal) {
+                try {
+                    return decimal.intValueExact();
+                } catch (ArithmeticException e) {
+                    throw unsupportedValue(value);
+                }
+            }
+
+            throw unsupportedValue(value);
+        }
+
+        @Override
+        BitSet compare(int rowCount, ConditionalOperator operator, Object param) {
+            int paramValue = (Integer) param;
+            BitSet rows = new BitSet(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row) && matches(operator, Integer.compare(values[row], paramValue))) {
+                    rows.set(row);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static class LongColumn extends Column {
+
+        private final long[] values;
+
+        LongColumn(int rowCount) {
+            super(DataType.LONG);
+            values = new long[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Long) convertParam(value);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return Long.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object convertParam(Object value) {
+            if (value instanceof Long) {
+                return value;
+            }
+
+            if (value instanceof BigDecimal decimal) {
+                try {
+                    return decimal.longValueExact();
+                } catch (ArithmeticException e) {
+                    throw unsupportedValue(value);
+                }
+            }
+
+            throw unsupportedValue(value);
+        }
+
+        @Override
+        BitSet compare(int rowCount, ConditionalOperator operator, Object param) {
+            long paramValue = (Long) param;
+            BitSet rows = new BitSet(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row) && matches(operator, Long.compare(values[row], paramValue))) {
+                    rows.set(row);
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Stored as REAL in the database, hence decimal values are rounded to single precision, both when inserted and
+     * when compared.
+     */
+    private static class FloatColumn extends Column {
+
+        private final float[] values;
+
+        FloatColumn(int rowCount) {
+            super(DataType.FLOAT);
+            values = new float[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Float) convertParam(value);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return Float.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object convertParam(Object value) {
+            if (!(value instanceof BigDecimal decimal) || Float.isInfinite(decimal.floatValue())) {
+                throw unsupportedValue(value);
+            }
+            return decimal.floatValue();
+        }
+
+        @Override
+        BitSet compare(int rowCount, ConditionalOperator operator, Object param) {
+            float paramValue = (Float) param;
+            BitSet rows = new BitSet(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row) && matches(operator, Float.compare(values[row], paramValue))) {
+                    rows.set(row);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        DoubleColumn(int rowCount) {
+            super(DataType.DOUBLE);
+            values = new double[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Double) convertParam(value);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return Double.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object convertParam(Object value) {
+            if (!(value instanceof BigDecimal decimal) || Double.isInfinite(decimal.doubleValue())) {
+                throw unsupportedValue(value);
+            }
+            return decimal.doubleValue();
+        }
+
+        @Override
+        BitSet compare(int rowCount, ConditionalOperator operator, Object param) {
+            double paramValue = (Double) param;
+            BitSet rows = new BitSet(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row) && matches(operator, Double.compare(values[row], paramValue))) {
+                    rows.set(row);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+
+        private final BitSet values;
+
+        BooleanColumn(int rowCount) {
+            super(DataType.BOOLEAN);
+            values = new BitSet(rowCount);
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values.set(row, (Boolean) convertParam(value));
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values.get(row);
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return Boolean.compare(values.get(row1), values.get(row2));
+        }
+
+        @Override
+        Object convertParam(Object value) {
+            if (!(value instanceof Boolean)) {
+                throw unsupportedValue(value);
+            }
+            return value;
+        }
+
+        @Override
+        BitSet compare(int rowCount, ConditionalOperator operator, Object param) {
+            boolean paramValue = (Boolean) param;
+            BitSet rows = new BitSet(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row) && matches(operator, Boolean.compare(values.get(row), paramValue))) {
+                    rows.set(row);
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Dictionary encoded string column. Conditions are evaluated once per distinct value and then applied to the rows
+     * through their dictionary codes.
+     */
+    private static class StringColumn extends Column {
+
+        private final int[] codes;
+
+        private final List<String> dictionary = new ArrayList<>();
+
+        private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+
+        // Position of each dictionary entry in the sorted dictionary, computed when the column is sorted on
+        private int[] ranks;
+
+        StringColumn(DataType dataType, int rowCount) {
+            super(dataType);
+            codes = new int[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            String stringValue = (String) convertParam(value);
+            if (stringValue.length() > MAX_STRING_LENGTH) {
+                throw unsupportedValue("of length " + stringValue.length());
+            }
+
+            codes[row] = dictionaryCodes.computeIfAbsent(stringValue, key -> {
+                dictionary.add(key);
+                return dictionary.size() - 1;
+            });
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : dictionary.get(codes[row]);
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            if (ranks == null) {
+                Integer[] sortedCodes = new Integer[dictionary.size()];
+                Arrays.setAll(sortedCodes, code -> code);
+                Arrays.sort(sortedCodes, Comparator.comparing(dictionary::get));
+
+                ranks = new int[dictionary.size()];
+                for (int rank = 0; rank < sortedCodes.length; rank++) {
+                    ranks[sortedCodes[rank]] = rank;
+                }
+            }
+            return Integer.compare(ranks[codes[row1]], ranks[codes[row2]]);
+        }
+
+        @Override
+        Object convertParam(Object value) {
+            if (!(value instanceof String)) {
+                throw unsupportedValue(value);
+            }
+            return value;
+        }
+
+        @Override
+        BitSet compare(int rowCount, ConditionalOperator operator, Object param) {
+            String paramValue = (String) param;
+            boolean[] matchingCodes = new boolean[dictionary.size()];
+            for (int code = 0; code < matchingCodes.length; code++) {
+                matchingCodes[code] = matches(operator, dictionary.get(code).compareTo(paramValue));
+            }
+            return selectCodes(rowCount, matchingCodes);
+        }
+
+        BitSet contains(int rowCount, String value) {
+            boolean[] matchingCodes = new boolean[dictionary.size()];
+            for (int code = 0; code < matchingCodes.length; code++) {
+                matchingCodes[code] = dictionary.get(code).contains(value);
+            }
+            return selectCodes(rowCount, matchingCodes);
+        }
+
+        private BitSet selectCodes(int rowCount, boolean[] matchingCodes) {
+            BitSet rows = new BitSet(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (!nulls.get(row) && matchingCodes[codes[row]]) {
+                    rows.set(row);
+                }
+            }
+            return rows;
+        }
+    }
+}
@@ -12,16 +12,19 @@ import com.appsmith.util.SerializationUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.h2.jdbc.JdbcSQLSyntaxErrorException;
+import org.h2.jdbcx.JdbcConnectionPool;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -29,6 +32,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -37,6 +41,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
@@ -52,9 +57,42 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
-    private Connection connection;
 
-    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
+    private final ColumnarFilterEngine columnarFilterEngine;
+
+    /**
+     * Filtering is spread over several independent in memory databases, each with its own pool of connections, so
+     * that concurrent filter requests neither serialize on a single connection nor contend on the locks of a single
+     * database. The partition for a request is derived from its (random) table name.
+     */
+    private final List<JdbcConnectionPool> partitions;
+
+    private static final String URL_PREFIX = "jdbc:h2:mem:filterDb_";
+
+    private static final String URL_OPTIONS = ";DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+
+    private static final int PARTITION_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final int MAX_CONNECTIONS_PER_PARTITION = 4;
+
+    // Number of rows sent to the database in one batch while ingesting the data
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final Timer CREATE_TABLE_TIMER = Timer.builder("appsmith.filter.table.create")
+            .description("Time taken to create the in memory table used for filtering")
+            .register(Metrics.globalRegistry);
+
+    private static final Timer INSERT_TIMER = Timer.builder("appsmith.filter.data.insert")
+            .description("Time taken to ingest the data to be filtered into the in memory table")
+            .register(Metrics.globalRegistry);
+
+    private static final Timer COLUMNAR_FILTER_TIMER = Timer.builder("appsmith.filter.columnar")
+            .description("Time taken to filter the data without the in memory database")
+            .register(Metrics.globalRegistry);
+
+    private static final Timer QUERY_TIMER = Timer.builder("appsmith.filter.query")
+            .description("Time taken to run the filter query on the in memory table")
+            .register(Metrics.globalRegistry);
 
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
@@ -99,15 +137,21 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
+        columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
 
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
+        partitions = IntStream.range(0, PARTITION_COUNT)
+                .mapToObj(index -> {
+                    JdbcConnectionPool pool = JdbcConnectionPool.create(URL_PREFIX + index + URL_OPTIONS, "", "");
+                    pool.setMaxConnections(MAX_CONNECTIONS_PER_PARTITION);
+                    return pool;
+                })
+                .toList();
+
+        Gauge.builder("appsmith.filter.connections.active", partitions, pools -> pools.stream()
+                        .mapToInt(JdbcConnectionPool::getActiveConnections)
+                        .sum())
+                .description("Number of in memory database connections currently used for filtering")
+                .register(Metrics.globalRegistry);
     }
 
     /**
@@ -134,24 +178,48 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
-
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
-
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+        // Most filters can be evaluated directly on the data, the in memory database is only needed for the rest
+        List<Map<String, Object>> finalResults = COLUMNAR_FILTER_TIMER
+                .record(() -> columnarFilterEngine.filter(items, schema, uqiDataFilterParams, dataTypeConversionMap))
+                .orElseGet(() -> filterDataWithDatabase(items, schema, uqiDataFilterParams, dataTypeConversionMap));
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
         return finalResultsNode;
     }
 
+    /**
+     * Filters the data by loading it into a table of the in memory database and running the filter as a SQL query.
+     */
+    List<Map<String, Object>> filterDataWithDatabase(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        String tableName = generateTableName();
+
+        // The whole lifecycle of the table happens on a single connection of the table's partition
+        return withConnection(tableName, conn -> {
+            CREATE_TABLE_TIMER.record(() -> createTable(conn, tableName, schema));
+
+            try {
+                // insert the data
+                INSERT_TIMER.record(() -> insertAllData(conn, tableName, items, schema, dataTypeConversionMap));
+
+                // Filter the data
+                return QUERY_TIMER.record(() ->
+                        executeFilterQueryNew(conn, tableName, schema, uqiDataFilterParams, dataTypeConversionMap));
+            } finally {
+                // Now that the data has been filtered. Clean Up. Drop the table
+                dropTable(conn, tableName);
+            }
+        });
+    }
+
     private List<Map<String, Object>> executeFilterQueryNew(
+            Connection conn,
             String tableName,
             Map<String, DataType> schema,
             UQIDataFilterParams uqiDataFilterParams,
@@ -162,8 +230,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder sb = new StringBuilder();
 
         // Add projection columns condition otherwise use `select *`
@@ -370,17 +436,24 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             Map<String, DataType> schema,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
-
-        List<String> quotedColumnNames =
-                columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
+        withConnection(tableName, conn -> {
+            insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
+            return null;
+        });
+    }
 
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
+    /**
+     * Ingests the data using a single prepared insert statement which is reused for every row, sending the rows to
+     * the database in batches of {@link #INSERT_BATCH_SIZE} within one transaction.
+     */
+    private void insertAllData(
+            Connection conn,
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
 
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
+        List<String> columnNames = new ArrayList<>(schema.keySet());
 
         // In order data types of all the columns
         List<DataType> columnTypes = new ArrayList<>();
@@ -388,80 +461,72 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             columnTypes.add(schema.get(columnName));
         }
 
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
+        String quotedColumnNames =
+                columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(", "));
+        String placeholders = String.join(", ", Collections.nCopies(columnNames.size(), "?"));
+        String insertQuery = "INSERT INTO " + tableName + " (" + quotedColumnNames + ") VALUES (" + placeholders + ");";
 
-        StringBuilder valuesMasterBuilder = new StringBuilder();
-
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
-
-        for (JsonNode item : items) {
-
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
-
-                insertReadyData(
-                        insertQueryBuilder.toString(),
-                        valuesMasterBuilder,
-                        inOrderValues,
-                        columnTypes,
-                        dataTypeConversionMap);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
-
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
+        try {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement preparedStatement = conn.prepareStatement(insertQuery)) {
+                int batchSize = 0;
+                for (JsonNode item : items) {
+                    for (int i = 0; i < columnNames.size(); i++) {
+                        JsonNode fieldNode = item.get(columnNames.get(i));
+                        if (fieldNode == null) {
+                            preparedStatement.setNull(i + 1, Types.NULL);
+                        } else {
+                            setValueInStatement(
+                                    preparedStatement,
+                                    i + 1,
+                                    fieldNode.asText(),
+                                    columnTypes.get(i),
+                                    dataTypeConversionMap);
+                        }
+                    }
+                    preparedStatement.addBatch();
 
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
+                    if (++batchSize == INSERT_BATCH_SIZE) {
+                        preparedStatement.executeBatch();
+                        batchSize = 0;
+                    }
                 }
 
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
+                if (batchSize > 0) {
+                    preparedStatement.executeBatch();
                 }
             }
 
-            // End the row
-            valuesBuilder.append(")");
-
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
+            conn.commit();
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            rollbackQuietly(conn);
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error in ingesting the data : " + e.getMessage());
+        } catch (AppsmithPluginException e) {
+            rollbackQuietly(conn);
+            throw e;
+        } finally {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.debug("Failed to restore auto commit on the filtering connection", e);
+            }
         }
+    }
 
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(
-                    insertQueryBuilder.toString(),
-                    valuesMasterBuilder,
-                    inOrderValues,
-                    columnTypes,
-                    dataTypeConversionMap);
+    private void rollbackQuietly(Connection conn) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            log.debug("Failed to rollback the data ingestion", e);
         }
     }
 
-    private void executeDbQuery(String query) {
+    private void executeDbQuery(Connection conn, String query) {
 
-        Connection conn = checkAndGetConnection();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
         try (Statement statement = conn.createStatement()) {
@@ -473,69 +538,45 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void insertReadyData(
-            String partialInsertQuery,
-            StringBuilder valuesBuilder,
-            List<String> inOrderValues,
-            List<DataType> columnTypes,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
-
-        String finalInsertQuery = insertQueryBuilder.toString();
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery)) {
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0;
-                        columnTypeCounter < columnTypes.size();
-                        columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(
-                            preparedStatement,
-                            valueCounter + 1,
-                            inOrderValues.get(valueCounter),
-                            columnTypes.get(columnTypeCounter),
-                            dataTypeConversionMap);
-                }
-            }
-
-            preparedStatement.executeUpdate();
-
-        } catch (SQLException e) {
-            e.printStackTrace();
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error in ingesting the data : " + e.getMessage());
-        }
-    }
+    /**
+     * Runs the callback with a connection from the partition that the given table belongs to. The connection is
+     * returned to its pool once the callback completes.
+     */
+    private <T> T withConnection(String tableName, Function<Connection, T> callback) {
+        JdbcConnectionPool pool = partitions.get(Math.floorMod(tableName.hashCode(), partitions.size()));
 
-    private Connection checkAndGetConnection() {
-        try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
+        try (Connection conn = pool.getConnection()) {
+            return callback.apply(conn);
         } catch (SQLException e) {
+            log.error(e.getMessage());
             throw new AppsmithPluginException(
                     AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
                     "Failed to connect to the filtering database");
         }
-
-        return connection;
     }
 
-    public String generateTable(Map<String, DataType> schema) {
-
+    private String generateTableName() {
         // Generate table name
         String generateUniqueId = RandomStringUtils.randomAlphabetic(16).toUpperCase();
 
         // Appending tbl_ before the generated unique id since using the string directly was throwing a SQL error
         // which I couldnt solve. Just appending a string to it though works perfectly.
-        String tableName = new StringBuilder("tbl_").append(generateUniqueId).toString();
+        return new StringBuilder("tbl_").append(generateUniqueId).toString();
+    }
+
+    public String generateTable(Map<String, DataType> schema) {
+
+        String tableName = generateTableName();
+
+        withConnection(tableName, conn -> {
+            createTable(conn, tableName, schema);
+            return null;
+        });
+
+        return tableName;
+    }
+
+    private void createTable(Connection conn, String tableName, Map<String, DataType> schema) {
 
         StringBuilder sb = new StringBuilder("CREATE TABLE ");
 
@@ -570,16 +611,22 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String createTableQuery = sb.toString();
 
-        executeDbQuery(createTableQuery);
-
-        return tableName;
+        executeDbQuery(conn, createTableQuery);
     }
 
     public void dropTable(String tableName) {
 
+        withConnection(tableName, conn -> {
+            dropTable(conn, tableName);
+            return null;
+        });
+    }
+
+    private void dropTable(Connection conn, String tableName) {
+
         String dropTableQuery = "DROP TABLE " + tableName + ";";
 
-        executeDbQuery(dropTableQuery);
+        executeDbQuery(conn, dropTableQuery);
     }
 
     /**
@@ -696,37 +743,8 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             DataType topRowDataType,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
-
-        String strNumericValue = value.trim().replaceAll(",", "");
-
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null
-                    && inputDataType != dataType
-                    && !datatypeCompatibilityMap
-                            .getOrDefault(dataType, Set.of())
-                            .contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
+        DataType dataType = getValueDataType(value, topRowDataType, dataTypeConversionMap);
+        Object parsedValue = parseValue(value, dataType);
 
         try {
             switch (dataType) {
@@ -735,20 +753,20 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
                     break;
                 }
                 case INTEGER: {
-                    preparedStatement.setInt(index, Integer.parseInt(strNumericValue));
+                    preparedStatement.setInt(index, (Integer) parsedValue);
                     break;
                 }
                 case LONG: {
-                    preparedStatement.setLong(index, Long.parseLong(strNumericValue));
+                    preparedStatement.setLong(index, (Long) parsedValue);
                     break;
                 }
                 case FLOAT:
                 case DOUBLE: {
-                    preparedStatement.setBigDecimal(index, new BigDecimal(String.valueOf(strNumericValue)));
+                    preparedStatement.setBigDecimal(index, (BigDecimal) parsedValue);
                     break;
                 }
                 case BOOLEAN: {
-                    preparedStatement.setBoolean(index, Boolean.parseBoolean(value));
+                    preparedStatement.setBoolean(index, (Boolean) parsedValue);
                     break;
                 }
                 case STRING:
@@ -763,6 +781,96 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             throw new AppsmithPluginException(
                     AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
                     "Error while interacting with value " + value + " : " + e.getMessage());
+        }
+
+        return preparedStatement;
+    }
+
+    /**
+     * Finds the data type that a value is stored or compared as, in a column of the given data type.
+     *
+     * @param value
+     * @param topRowDataType        - data type of the column, as found in the first row
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return the data type of the column, or {@link DataType#NULL} if the value is to be treated as null
+     */
+    static DataType getValueDataType(
+            String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            return DataType.NULL;
+        }
+
+        if (dataTypeConversionMap == null) {
+            // Only a null value changes the data type here, which can be checked without the costlier detection of
+            // all the other data types
+            return isNullValue(value) ? DataType.NULL : dataType;
+        }
+
+        // value is not empty.
+        DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+        DataType inputDataType = currentRowDataType;
+        if (dataTypeConversionMap != null) {
+            // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+            inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        }
+        if (DataType.NULL.equals(inputDataType)) {
+            dataType = DataType.NULL;
+        }
+        // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+        if (dataTypeConversionMap != null
+                && inputDataType != dataType
+                && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+            dataType = DataType.NULL;
+        }
+
+        return dataType;
+    }
+
+    /**
+     * Checks if {@link com.appsmith.external.helpers.DataTypeStringUtils#stringToKnownDataTypeConverter} would find
+     * the value to be of {@link DataType#NULL} type, i.e. a `null` literal or an empty array.
+     */
+    private static boolean isNullValue(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+
+        return "null".equals(value.toLowerCase().trim());
+    }
+
+    /**
+     * Parses the value into the Java type used to bind values of the given data type, i.e. Integer, Long, BigDecimal,
+     * Boolean or String. Returns null for {@link DataType#NULL}.
+     */
+    static Object parseValue(String value, DataType dataType) {
+
+        String strNumericValue = value == null ? null : value.trim().replaceAll(",", "");
+
+        try {
+            switch (dataType) {
+                case NULL:
+                    return null;
+                case INTEGER:
+                    return Integer.parseInt(strNumericValue);
+                case LONG:
+                    return Long.parseLong(strNumericValue);
+                case FLOAT:
+                case DOUBLE:
+                    return new BigDecimal(String.valueOf(strNumericValue));
+                case BOOLEAN:
+                    return Boolean.parseBoolean(value);
+                case STRING:
+                default:
+                    return value;
+            }
         } catch (IllegalArgumentException e) {
             // The data type recognized does not match the data type of the value being set via Prepared Statement
             // Add proper handling here.
@@ -771,8 +879,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
                     "Error while interacting with value " + value + " : " + e.getMessage()
                             + ". The data type value was being parsed to was : " + dataType);
         }
-
-        return preparedStatement;
     }
 
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
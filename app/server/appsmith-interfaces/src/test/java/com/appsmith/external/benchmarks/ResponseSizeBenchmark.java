@@ -0,0 +1,122 @@
+package com.appsmith.external.benchmarks;
+
+import com.appsmith.external.helpers.ResponseSizeEstimator;
+import com.appsmith.external.helpers.Sizeof;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways of checking the size of a result set while its rows are read:
+ * <ul>
+ *     <li>{@link Sizeof}, which Java-serializes all the rows read so far every 100 rows, as the JDBC plugins did</li>
+ *     <li>{@link ResponseSizeEstimator}, which accounts for every cell once, as it is read</li>
+ * </ul>
+ * The size limit is never reached, so both read all the rows. The {@link Sizeof} check is quadratic in the number of
+ * rows, so a single run with a million rows takes a long time.
+ * <p>
+ * Run with {@code mvn -pl appsmith-interfaces test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.appsmith.external.benchmarks.ResponseSizeBenchmark}, or pick the row counts with the JMH
+ * {@code -p rowCount=...} option when running {@code org.openjdk.jmh.Main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xmx4g"})
+public class ResponseSizeBenchmark {
+
+    // Frequency at which the JDBC plugins checked the size with Sizeof
+    private static final int HEAVY_OP_FREQUENCY = 100;
+
+    private static final String[] COLUMN_NAMES = {"id", "name", "email", "balance", "created_on", "active"};
+
+    @Param({"10000", "100000", "1000000"})
+    public int rowCount;
+
+    private List<Object[]> resultSet;
+
+    @Setup
+    public void setUp() {
+        resultSet = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            resultSet.add(new Object[] {
+                i,
+                "user_" + i,
+                "user_" + i + "@example.com",
+                BigDecimal.valueOf(i, 2),
+                LocalDate.of(2023, 1, 1).plusDays(i % 365).toString(),
+                i % 2 == 0
+            });
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> sizeof() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        int iterator = 0;
+        for (Object[] values : resultSet) {
+            if (iterator % HEAVY_OP_FREQUENCY == 0 && Sizeof.sizeof(rowsList) > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Result size is too large");
+            }
+            rowsList.add(readRow(values, null));
+            iterator++;
+        }
+        return rowsList;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> responseSizeEstimator() {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        ResponseSizeEstimator responseSizeEstimator = new ResponseSizeEstimator(Long.MAX_VALUE);
+        for (Object[] values : resultSet) {
+            if (responseSizeEstimator.isLimitExceeded()) {
+                throw new IllegalStateException("Result size is too large");
+            }
+            responseSizeEstimator.addRow();
+            rowsList.add(readRow(values, responseSizeEstimator));
+        }
+        return rowsList;
+    }
+
+    private static Map<String, Object> readRow(Object[] values, ResponseSizeEstimator responseSizeEstimator) {
+        Map<String, Object> row = new LinkedHashMap<>(COLUMN_NAMES.length);
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            row.put(COLUMN_NAMES[i], values[i]);
+            if (responseSizeEstimator != null) {
+                responseSizeEstimator.addCell(COLUMN_NAMES[i], values[i]);
+            }
+        }
+        return row;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ResponseSizeBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
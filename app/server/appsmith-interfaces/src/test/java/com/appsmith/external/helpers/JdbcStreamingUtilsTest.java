@@ -0,0 +1,103 @@
+package com.appsmith.external.helpers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.JdbcStreamingUtils.AFFECTED_ROWS_KEY;
+import static com.appsmith.external.helpers.JdbcStreamingUtils.STREAMING_FETCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdbcStreamingUtilsTest {
+
+    private static final String URL = "jdbc:h2:mem:streaming;DB_CLOSE_DELAY=-1";
+
+    private Connection setupConnection;
+
+    private Connection lastConnection;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        setupConnection = DriverManager.getConnection(URL);
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("CREATE TABLE users (id INT PRIMARY KEY, name VARCHAR(50))");
+            statement.execute("INSERT INTO users SELECT x, CONCAT('user_', x) FROM SYSTEM_RANGE(1, 1200)");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("DROP TABLE users");
+        }
+        setupConnection.close();
+    }
+
+    private Flux<Map<String, Object>> streamRows(String query) {
+        return JdbcStreamingUtils.streamRows(
+                () -> {
+                    lastConnection = DriverManager.getConnection(URL);
+                    return lastConnection;
+                },
+                true,
+                connection -> {
+                    Statement statement = connection.createStatement();
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    statement.execute(query);
+                    return statement;
+                },
+                (resultSet, metaData) -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        row.put(metaData.getColumnLabel(i).toLowerCase(), resultSet.getObject(i));
+                    }
+                    return row;
+                });
+    }
+
+    @Test
+    public void streamRows_withSelectQuery_emitsEveryRowAndClosesConnection() throws SQLException {
+        StepVerifier.create(streamRows("SELECT id, name FROM users ORDER BY id"))
+                .assertNext(row -> assertThat(row).containsEntry("id", 1).containsEntry("name", "user_1"))
+                .expectNextCount(1198)
+                .assertNext(row -> assertThat(row).containsEntry("id", 1200))
+                .verifyComplete();
+
+        assertThat(lastConnection.isClosed()).isTrue();
+    }
+
+    @Test
+    public void streamRows_withUpdateQuery_emitsAffectedRows() {
+        StepVerifier.create(streamRows("UPDATE users SET name = 'updated' WHERE id <= 10"))
+                .assertNext(row -> assertThat(row).containsEntry(AFFECTED_ROWS_KEY, 10))
+                .verifyComplete();
+    }
+
+    @Test
+    public void streamRows_whenCancelledAfterFirstRows_closesConnection() throws SQLException {
+        StepVerifier.create(streamRows("SELECT id, name FROM users ORDER BY id"))
+                .expectNextCount(5)
+                .thenCancel()
+                .verify();
+
+        assertThat(lastConnection.isClosed()).isTrue();
+    }
+
+    @Test
+    public void streamRows_withInvalidQuery_emitsErrorAndClosesConnection() throws SQLException {
+        StepVerifier.create(streamRows("SELECT * FROM missing_table"))
+                .expectError(SQLException.class)
+                .verify();
+
+        assertThat(lastConnection.isClosed()).isTrue();
+    }
+}
@@ -3,6 +3,7 @@ package com.appsmith.external.helpers;
 import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.Property;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import java.util.Map;
 
 import static com.appsmith.external.helpers.PluginUtils.OBJECT_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
+import static com.appsmith.external.helpers.PluginUtils.isPreparedStatement;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -206,4 +208,15 @@ public class PluginUtilsTest {
                         .count()
                 == AppsmithPluginError.values().length);
     }
+
+    @Test
+    public void testIsPreparedStatement_withBooleanStringOrMissingSetting_defaultsToTrue() {
+        assertEquals(false, isPreparedStatement(List.of(new Property("preparedStatement", false)), 0));
+        assertEquals(false, isPreparedStatement(List.of(new Property("preparedStatement", "false")), 0));
+        assertEquals(true, isPreparedStatement(List.of(new Property("preparedStatement", "true")), 0));
+        assertEquals(true, isPreparedStatement(List.of(new Property("preparedStatement", null)), 0));
+        assertEquals(true, isPreparedStatement(null, 0));
+        assertEquals(true, isPreparedStatement(List.of(), 0));
+        assertEquals(true, isPreparedStatement(Map.of("data", false)));
+    }
 }
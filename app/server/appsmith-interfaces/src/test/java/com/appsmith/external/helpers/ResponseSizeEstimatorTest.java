@@ -0,0 +1,57 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void estimate_withSimpleRows_isCloseToSerializedJsonSize() throws Exception {
+        ResponseSizeEstimator estimator = new ResponseSizeEstimator(Long.MAX_VALUE);
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "user_" + i);
+            row.put("active", i % 2 == 0);
+            row.put("tags", new String[] {"a", "b"});
+            row.put("meta", objectMapper.readTree("{\"k\": \"v\", \"n\": [1, 2]}"));
+
+            estimator.addRow();
+            row.forEach(estimator::addCell);
+            rows.add(row);
+        }
+
+        long actualSize = objectMapper.writeValueAsBytes(rows).length;
+        assertThat(estimator.getEstimatedSize()).isBetween(actualSize / 2, actualSize * 2);
+    }
+
+    @Test
+    public void isLimitExceeded_whenEstimateCrossesMaxSize_returnsTrue() {
+        ResponseSizeEstimator estimator = new ResponseSizeEstimator(100);
+
+        estimator.addRow();
+        estimator.addCell("column", "small");
+        assertThat(estimator.isLimitExceeded()).isFalse();
+
+        estimator.addCell("column", "x".repeat(100));
+        assertThat(estimator.isLimitExceeded()).isTrue();
+    }
+
+    @Test
+    public void estimate_withNullAndBinaryValues_accountsForSerializedForm() {
+        assertThat(ResponseSizeEstimator.estimate(null)).isEqualTo(4);
+        // 30 bytes get encoded as 40 Base64 characters, plus the quotes
+        assertThat(ResponseSizeEstimator.estimate(new byte[30])).isEqualTo(42);
+    }
+}
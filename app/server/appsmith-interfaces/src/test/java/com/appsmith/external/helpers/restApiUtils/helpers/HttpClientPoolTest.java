@@ -0,0 +1,106 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HttpClientPoolTest {
+
+    @Test
+    public void testGetHttpClient_withSameSettings_reusesClient() {
+        HttpClientPool pool = new HttpClientPool();
+
+        HttpClient first = pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+        HttpClient second = pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+
+        assertSame(first, second);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testGetHttpClient_withDifferentProtocolOrCertificate_createsNewClient() {
+        HttpClientPool pool = new HttpClientPool();
+
+        HttpClient http11 = pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+        HttpClient http2 = pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2);
+        assertNotSame(http11, http2);
+
+        HttpClient selfSigned = pool.getHttpClient(getSelfSignedDatasource("Y2VydDE="), HttpProtocol.HTTP11);
+        HttpClient otherSelfSigned = pool.getHttpClient(getSelfSignedDatasource("Y2VydDI="), HttpProtocol.HTTP11);
+        assertNotSame(http11, selfSigned);
+        assertNotSame(selfSigned, otherSelfSigned);
+        assertSame(selfSigned, pool.getHttpClient(getSelfSignedDatasource("Y2VydDE="), HttpProtocol.HTTP11));
+    }
+
+    @Test
+    public void testGetHttpClient_beyondCapacity_evictsLeastRecentlyUsedClient() {
+        HttpClientPool pool = new HttpClientPool(2);
+
+        HttpClient http11 = pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+        pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2);
+        pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2C);
+
+        assertEquals(2, pool.size());
+        assertNotSame(http11, pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11));
+    }
+
+    @Test
+    public void testGetHttpClient_whenEvictedClientIsInUse_disposesProviderOnceIdle() throws IOException {
+        HttpClientPool pool = new HttpClientPool(1, Duration.ofMillis(50));
+
+        try (MockWebServer mockEndpoint = new MockWebServer()) {
+            mockEndpoint.enqueue(new MockResponse().setBody("done").setHeadersDelay(500, TimeUnit.MILLISECONDS));
+            mockEndpoint.start();
+
+            HttpClient evicted = pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+            Mono<String> inFlightRequest = evicted.get()
+                    .uri(mockEndpoint.url("/").toString())
+                    .responseContent()
+                    .aggregate()
+                    .asString()
+                    .cache();
+            inFlightRequest.subscribe();
+
+            // Evict the client while its request is waiting for the response
+            pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2);
+            assertEquals(1, pool.evictedSize());
+
+            StepVerifier.create(inFlightRequest).expectNext("done").verifyComplete();
+        }
+
+        StepVerifier.create(Mono.fromCallable(pool::evictedSize)
+                        .filter(size -> size == 0)
+                        .repeatWhenEmpty(100, flux -> flux.delayElements(Duration.ofMillis(20))))
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    private DatasourceConfiguration getSelfSignedDatasource(String certificate) {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        sslDetails.setCertificateFile(new UploadedFile("cert.pem", certificate));
+
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+}
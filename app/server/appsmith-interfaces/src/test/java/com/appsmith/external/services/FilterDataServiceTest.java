@@ -15,6 +15,9 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -1336,4 +1339,33 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testFilterDataNew_withConcurrentRequests_filtersEachRequestIndependently() throws Exception {
+        // More rows than a single insert batch
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < 2500; i++) {
+            items.addObject().put("id", i).put("name", "user_" + i);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ArrayNode>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final String limit = String.valueOf(i * 100);
+                futures.add(executorService.submit(() -> {
+                    Condition condition = new Condition(
+                            null, ConditionalOperator.AND, List.of(new Condition("id", "LT", limit)), null);
+                    return filterDataService.filterDataNew(
+                            items.deepCopy(), new UQIDataFilterParams(condition, null, null, null));
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i * 100, futures.get(i).get().size());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
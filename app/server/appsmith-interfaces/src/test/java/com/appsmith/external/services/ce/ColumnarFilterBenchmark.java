@@ -0,0 +1,117 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.models.Condition.addValueDataType;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares the columnar filter engine with the in memory database for a filter with a nested condition, a sort and a
+ * page, as sent by a table widget.
+ * <p>
+ * Run with {@code mvn -pl appsmith-interfaces test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.appsmith.external.services.ce.ColumnarFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarFilterBenchmark {
+
+    private static final String[] NAMES = {"Michael", "Lindsay", "Tobias", "George", "Lucille", "Buster"};
+
+    @Param({"1000", "10000", "100000"})
+    public int rowCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FilterDataServiceCE filterDataService = (FilterDataServiceCE) FilterDataService.getInstance();
+
+    private final ColumnarFilterEngine columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+
+    private ArrayNode items;
+
+    private Map<String, DataType> schema;
+
+    private UQIDataFilterParams uqiDataFilterParams;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", String.valueOf(i));
+            item.put("name", NAMES[random.nextInt(NAMES.length)]);
+            item.put("price", String.valueOf(random.nextInt(10000) / 100.0));
+            item.put("active", String.valueOf(random.nextBoolean()));
+        }
+        schema = filterDataService.generateSchema(items, null);
+
+        Condition condition = new Condition(
+                null,
+                ConditionalOperator.AND,
+                List.of(
+                        new Condition("price", "GT", "20"),
+                        new Condition(
+                                null,
+                                ConditionalOperator.OR,
+                                List.of(new Condition("name", "CONTAINS", "o"), new Condition("active", "EQ", "true")),
+                                null)),
+                null);
+        uqiDataFilterParams = new UQIDataFilterParams(
+                addValueDataType(condition),
+                null,
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "price", SORT_BY_TYPE_KEY, "Descending")),
+                Map.of(PAGINATE_LIMIT_KEY, "20", PAGINATE_OFFSET_KEY, "40"));
+    }
+
+    @Benchmark
+    public Optional<List<Map<String, Object>>> columnarEngine() {
+        return columnarFilterEngine.filter(items, schema, uqiDataFilterParams, null);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> database() {
+        return filterDataService.filterDataWithDatabase(items, schema, uqiDataFilterParams, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ColumnarFilterBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,249 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.appsmith.external.models.Condition.addValueDataType;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same filters through the columnar engine and through the in memory database, and expects identical
+ * results from both.
+ */
+public class ColumnarFilterEngineTest {
+
+    // Every filter is also run through the in memory database, which takes most of the time of these tests
+    private static final int ROW_COUNT = 60;
+
+    private static final String[] NAMES = {"Michael", "Lindsay", "tobias", "Tobias Funke", "", "a_b", "50%", "ABD"};
+
+    private static final String[] NUMERIC_COLUMNS = {"id", "big", "price"};
+
+    private static final String[] STRING_COLUMNS = {"name", "note"};
+
+    private static final ConditionalOperator[] COMPARISON_OPERATORS = {
+        ConditionalOperator.LT,
+        ConditionalOperator.LTE,
+        ConditionalOperator.EQ,
+        ConditionalOperator.NOT_EQ,
+        ConditionalOperator.GT,
+        ConditionalOperator.GTE
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+
+    private final ColumnarFilterEngine columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void filter_withRandomFilters_matchesDatabaseResults() {
+        ArrayNode items = generateItems(ROW_COUNT);
+
+        for (int i = 0; i < 150; i++) {
+            assertSameResults(items, generateFilterParams(), null, true);
+        }
+    }
+
+    @Test
+    public void filter_withDataTypeConversionMap_matchesDatabaseResults() {
+        ArrayNode items = generateItems(ROW_COUNT);
+        Map<DataType, DataType> conversionMap = Map.of(
+                DataType.INTEGER, DataType.DOUBLE,
+                DataType.LONG, DataType.DOUBLE,
+                DataType.FLOAT, DataType.DOUBLE);
+
+        for (int i = 0; i < 50; i++) {
+            assertSameResults(items, generateFilterParams(), conversionMap, true);
+        }
+    }
+
+    @Test
+    public void filter_withDateColumn_fallsBackToDatabase() {
+        ArrayNode items = objectMapper.createArrayNode();
+        items.addObject().put("id", 1).put("date", "2021-09-01");
+
+        Map<String, DataType> schema = filterDataService.generateSchema(items, null);
+
+        assertThat(columnarFilterEngine.filter(items, schema, new UQIDataFilterParams(null, null, null, null), null))
+                .isEmpty();
+    }
+
+    @Test
+    public void filter_withInvalidValue_fallsBackToDatabase() {
+        ArrayNode items = generateItems(10);
+        Condition condition =
+                new Condition(null, ConditionalOperator.AND, List.of(new Condition("id", "GT", "not a number")), null);
+
+        assertSameResults(items, new UQIDataFilterParams(condition, null, null, null), null, false);
+    }
+
+    private void assertSameResults(
+            ArrayNode items,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap,
+            boolean expectColumnarResult) {
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            uqiDataFilterParams.setCondition(addValueDataType(condition));
+        }
+
+        Map<String, DataType> schema = filterDataService.generateSchema(items, dataTypeConversionMap);
+
+        Optional<List<Map<String, Object>>> columnarResult =
+                columnarFilterEngine.filter(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+        assertThat(columnarResult.isPresent()).isEqualTo(expectColumnarResult);
+
+        if (columnarResult.isPresent()) {
+            JsonNode expected = objectMapper.valueToTree(((FilterDataServiceCE) filterDataService)
+                    .filterDataWithDatabase(items, schema, uqiDataFilterParams, dataTypeConversionMap));
+            assertThat((JsonNode) objectMapper.valueToTree(columnarResult.get()))
+                    .as("Filter %s", uqiDataFilterParams)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private ArrayNode generateItems(int rowCount) {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", String.valueOf(i));
+            item.put("big", random.nextInt(10) == 0 ? "" : String.valueOf(3_000_000_000L + random.nextInt(20)));
+            item.put("price", random.nextInt(10) == 0 ? "" : (random.nextInt(2000) / 100.0) + "");
+            item.put("active", random.nextInt(10) == 0 ? "" : String.valueOf(random.nextBoolean()));
+            item.put("name", NAMES[random.nextInt(NAMES.length)]);
+            // The first row has no value, so the type of the column is found from the other rows
+            item.put("note", i == 0 ? "" : "note " + random.nextInt(5));
+        }
+        return items;
+    }
+
+    private UQIDataFilterParams generateFilterParams() {
+        Condition condition = null;
+        if (random.nextInt(5) != 0) {
+            condition = new Condition(null, randomLogicalOperator(), generateConditions(2), null);
+        }
+
+        List<Map<String, String>> sortBy = null;
+        if (random.nextBoolean()) {
+            String sortColumn = randomColumn();
+            sortBy = new ArrayList<>();
+            sortBy.add(Map.of(SORT_BY_COLUMN_NAME_KEY, sortColumn, SORT_BY_TYPE_KEY, randomSortType()));
+            // Makes the order deterministic for rows with equal values
+            sortBy.add(Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, randomSortType()));
+        }
+
+        Map<String, String> paginateBy = null;
+        if (random.nextBoolean()) {
+            paginateBy = new HashMap<>();
+            paginateBy.put(PAGINATE_LIMIT_KEY, random.nextBoolean() ? "" : String.valueOf(random.nextInt(50)));
+            paginateBy.put(
+                    PAGINATE_OFFSET_KEY, random.nextBoolean() ? "" : String.valueOf(random.nextInt(ROW_COUNT + 20)));
+        }
+
+        List<String> projection = random.nextBoolean() ? List.of("name", "id", "price") : null;
+
+        return new UQIDataFilterParams(condition, projection, sortBy, paginateBy);
+    }
+
+    private List<Condition> generateConditions(int depth) {
+        List<Condition> conditions = new ArrayList<>();
+        // Sub conditions are only valid after the first condition
+        conditions.add(generateCondition());
+
+        int count = random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            if (depth > 0 && random.nextInt(3) == 0) {
+                conditions.add(new Condition(null, randomLogicalOperator(), generateConditions(depth - 1), null));
+            } else {
+                conditions.add(generateCondition());
+            }
+        }
+        return conditions;
+    }
+
+    private Condition generateCondition() {
+        switch (random.nextInt(6)) {
+            case 0: {
+                String column = randomColumn();
+                return new Condition(column, randomComparisonOperator().name(), "");
+            }
+            case 1: {
+                String column = NUMERIC_COLUMNS[random.nextInt(NUMERIC_COLUMNS.length)];
+                String operator = random.nextBoolean() ? "IN" : "NOT_IN";
+                return new Condition(
+                        column, operator, "[" + randomNumericValue(column) + ", " + randomNumericValue(column) + "]");
+            }
+            case 2: {
+                String operator = random.nextBoolean() ? "IN" : "NOT_IN";
+                return new Condition(
+                        "name", operator, "[\"" + NAMES[random.nextInt(NAMES.length)] + "\", \"Michael\"]");
+            }
+            case 3: {
+                String value = random.nextBoolean() ? "_" : NAMES[random.nextInt(NAMES.length)].toLowerCase();
+                return new Condition(STRING_COLUMNS[random.nextInt(STRING_COLUMNS.length)], "CONTAINS", value);
+            }
+            case 4: {
+                return new Condition("active", randomComparisonOperator().name(), String.valueOf(random.nextBoolean()));
+            }
+            default: {
+                if (random.nextBoolean()) {
+                    return new Condition(
+                            "name", randomComparisonOperator().name(), NAMES[random.nextInt(NAMES.length)]);
+                }
+                String column = NUMERIC_COLUMNS[random.nextInt(NUMERIC_COLUMNS.length)];
+                return new Condition(column, randomComparisonOperator().name(), randomNumericValue(column));
+            }
+        }
+    }
+
+    private String randomNumericValue(String column) {
+        switch (column) {
+            case "id":
+                return String.valueOf(random.nextInt(ROW_COUNT));
+            case "big":
+                return String.valueOf(3_000_000_000L + random.nextInt(20));
+            default:
+                return String.valueOf(random.nextInt(2000) / 100.0);
+        }
+    }
+
+    private String randomColumn() {
+        String[] columns = {"id", "big", "price", "active", "name", "note"};
+        return columns[random.nextInt(columns.length)];
+    }
+
+    private ConditionalOperator randomLogicalOperator() {
+        return random.nextBoolean() ? ConditionalOperator.AND : ConditionalOperator.OR;
+    }
+
+    private ConditionalOperator randomComparisonOperator() {
+        return COMPARISON_OPERATORS[random.nextInt(COMPARISON_OPERATORS.length)];
+    }
+
+    private String randomSortType() {
+        return random.nextBoolean() ? "Ascending" : "Descending";
+    }
+}
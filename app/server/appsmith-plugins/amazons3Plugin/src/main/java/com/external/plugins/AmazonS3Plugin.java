@@ -7,14 +7,15 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -43,8 +44,11 @@ import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
 import com.external.utils.AmazonS3ErrorUtils;
+import com.external.utils.ObjectContentUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
@@ -60,10 +64,13 @@ import java.io.InputStream;
 import java.net.URL;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -71,6 +78,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -89,22 +97,30 @@ import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.KEY_BUCKET;
 import static com.external.plugins.constants.FieldName.KEY_DATA;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_SORT;
+import static com.external.plugins.constants.FieldName.LIST_START_AFTER;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_MAX_BYTES;
+import static com.external.plugins.constants.FieldName.READ_OFFSET;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.ACCESS_DENIED_ERROR_CODE;
 import static com.external.plugins.constants.S3PluginConstants.AWS_S3_SERVICE_PROVIDER;
 import static com.external.plugins.constants.S3PluginConstants.BASE64_DELIMITER;
 import static com.external.plugins.constants.S3PluginConstants.CUSTOM_ENDPOINT_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
+import static com.external.plugins.constants.S3PluginConstants.DEFAULT_READ_MAX_BYTES;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
+import static com.external.plugins.constants.S3PluginConstants.MAX_LIST_PAGE_SIZE;
+import static com.external.plugins.constants.S3PluginConstants.NEXT_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.S3PluginConstants.NO;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
@@ -125,6 +141,16 @@ public class AmazonS3Plugin extends BasePlugin {
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3>, SmartSubstitutionInterface {
         private final Scheduler scheduler = Schedulers.boundedElastic();
         private final FilterDataService filterDataService;
+
+        private static final Duration FILE_LISTING_MAX_AGE = Duration.ofSeconds(30);
+        private static final int MAX_CACHED_FILE_LISTINGS = 100;
+        private static final int MAX_CACHED_FILE_NAMES = 10000;
+
+        record FileListing(List<String> fileNames, String nextContinuationToken, Instant listedAt) {}
+
+        // Recent listings of the buckets of every connection, by the bucket, prefix and page that was listed
+        private final Map<AmazonS3, Map<String, FileListing>> recentFileListings =
+                Collections.synchronizedMap(new WeakHashMap<>());
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
 
         static {
@@ -142,7 +168,8 @@ public class AmazonS3Plugin extends BasePlugin {
         /*
          * - Exception thrown by this method is expected to be handled by the caller.
          */
-        ArrayList<String> getFilenamesFromObjectListing(ObjectListing objectListing) throws AppsmithPluginException {
+        ArrayList<String> getFilenamesFromObjectListing(ListObjectsV2Result objectListing)
+                throws AppsmithPluginException {
             if (objectListing == null) {
                 throw new AppsmithPluginException(
                         S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
@@ -160,8 +187,16 @@ public class AmazonS3Plugin extends BasePlugin {
 
         /*
          * - Exception thrown by this method is expected to be handled by the caller.
+         * - When a page size is given, only a single page of files is listed, starting after the given file name or
+         *   from the given continuation token. Otherwise, all the files with the prefix are listed.
          */
-        ArrayList<String> listAllFilesInBucket(AmazonS3 connection, String bucketName, String prefix)
+        FileListing listFilesInBucket(
+                AmazonS3 connection,
+                String bucketName,
+                String prefix,
+                Integer pageSize,
+                String startAfter,
+                String continuationToken)
                 throws AppsmithPluginException {
             if (connection == null) {
                 throw new AppsmithPluginException(
@@ -186,15 +221,92 @@ public class AmazonS3Plugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.EMPTY_PREFIX_ERROR_MSG);
             }
 
-            ObjectListing result = connection.listObjects(bucketName, prefix);
+            ListObjectsV2Request listObjectsRequest =
+                    new ListObjectsV2Request().withBucketName(bucketName).withPrefix(prefix);
+            if (pageSize != null) {
+                listObjectsRequest
+                        .withMaxKeys(pageSize)
+                        .withStartAfter(startAfter)
+                        .withContinuationToken(continuationToken);
+            }
+
+            ListObjectsV2Result result = connection.listObjectsV2(listObjectsRequest);
             ArrayList<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
 
-            while (result.isTruncated()) {
-                result = connection.listNextBatchOfObjects(result);
+            while (pageSize == null && result.isTruncated()) {
+                listObjectsRequest.setContinuationToken(result.getNextContinuationToken());
+                result = connection.listObjectsV2(listObjectsRequest);
                 fileList.addAll(getFilenamesFromObjectListing(result));
             }
 
-            return fileList;
+            return new FileListing(
+                    fileList, pageSize == null ? null : result.getNextContinuationToken(), Instant.now());
+        }
+
+        /*
+         * - Exception thrown by this method is expected to be handled by the caller.
+         * - A listing is reused by the queries that list the same page of the same bucket within a short time, e.g.
+         *   when a table is refreshed, unless files have been written with the connection since then.
+         */
+        FileListing getRecentFileListing(
+                AmazonS3 connection,
+                String bucketName,
+                String prefix,
+                Integer pageSize,
+                String startAfter,
+                String continuationToken)
+                throws AppsmithPluginException {
+            final String listingKey = String.join(
+                    "/",
+                    bucketName,
+                    prefix,
+                    String.valueOf(pageSize),
+                    String.valueOf(startAfter),
+                    String.valueOf(continuationToken));
+            final Map<String, FileListing> connectionFileListings =
+                    recentFileListings.computeIfAbsent(connection, key -> createFileListingCache());
+
+            final FileListing recentFileListing = connectionFileListings.get(listingKey);
+            if (recentFileListing != null
+                    && recentFileListing.listedAt().plus(FILE_LISTING_MAX_AGE).isAfter(Instant.now())) {
+                return recentFileListing;
+            }
+
+            final FileListing fileListing =
+                    listFilesInBucket(connection, bucketName, prefix, pageSize, startAfter, continuationToken);
+            // Large listings aren't kept, since they would take up a lot of memory for every connection
+            if (fileListing.fileNames().size() <= MAX_CACHED_FILE_NAMES) {
+                connectionFileListings.put(listingKey, fileListing);
+            }
+            return fileListing;
+        }
+
+        private static Map<String, FileListing> createFileListingCache() {
+            return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, FileListing> eldest) {
+                    return size() > MAX_CACHED_FILE_LISTINGS;
+                }
+            });
+        }
+
+        private Integer getPageSize(Map<String, Object> formData) {
+            String pageSize = getDataValueSafelyFromFormData(formData, LIST_PAGE_SIZE, STRING_TYPE);
+            if (StringUtils.isNullOrEmpty(pageSize) || pageSize.isBlank()) {
+                return null;
+            }
+
+            try {
+                int value = Integer.parseInt(pageSize.trim());
+                if (value > 0 && value <= MAX_LIST_PAGE_SIZE) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below along with the numbers that are out of range
+            }
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG, MAX_LIST_PAGE_SIZE));
         }
 
         ArrayList<String> getSignedUrls(
@@ -381,20 +493,62 @@ public class AmazonS3Plugin extends BasePlugin {
 
         /*
          * - Exception thrown here needs to be handled by the caller.
+         * - Only the bytes from the offset are read, and at most maxBytes of them, when these are given.
+         * - When maxBytes isn't given, a file with more than DEFAULT_READ_MAX_BYTES left to read is rejected, either from
+         *   its content length or while its content is read.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
+        String readFile(
+                AmazonS3 connection, String bucketName, String path, Boolean encodeContent, Long offset, Long maxBytes)
+                throws IOException {
+            if (maxBytes != null && maxBytes == 0) {
+                return "";
             }
 
-            return result;
+            GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+            long start = offset == null ? 0 : offset;
+            long maxLength = maxBytes == null ? DEFAULT_READ_MAX_BYTES : maxBytes;
+            // A range is only asked for when the user gave one, since S3 rejects any range on an empty object
+            if (maxBytes != null) {
+                getObjectRequest.setRange(start, start + maxBytes - 1);
+            } else if (start > 0) {
+                getObjectRequest.setRange(start);
+            }
+
+            try (S3Object fullObject = connection.getObject(getObjectRequest);
+                    S3ObjectInputStream content = fullObject.getObjectContent()) {
+                ObjectMetadata objectMetadata = fullObject.getObjectMetadata();
+                long contentLength = objectMetadata == null ? -1 : objectMetadata.getContentLength();
+                if (contentLength > maxLength) {
+                    content.abort();
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            String.format(S3ErrorMessages.FILE_TOO_LARGE_TO_READ_ERROR_MSG, maxLength));
+                }
+
+                if (Boolean.TRUE.equals(encodeContent)) {
+                    return ObjectContentUtils.readAsBase64(content, contentLength, maxLength);
+                }
+                return ObjectContentUtils.readAsText(content, contentLength, maxLength);
+            }
+        }
+
+        private Long getByteCount(Map<String, Object> formData, String field, String label) {
+            String byteCount = getDataValueSafelyFromFormData(formData, field, STRING_TYPE);
+            if (StringUtils.isNullOrEmpty(byteCount) || byteCount.isBlank()) {
+                return null;
+            }
+
+            try {
+                long value = Long.parseLong(byteCount.trim());
+                if (value >= 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below along with the negative numbers
+            }
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(S3ErrorMessages.BYTE_COUNT_NOT_A_NUMBER_ERROR_MSG, label, label));
         }
 
         @Override
@@ -463,6 +617,8 @@ public class AmazonS3Plugin extends BasePlugin {
                 ActionConfiguration actionConfiguration) {
 
             final String[] query = new String[1];
+            final JsonNode[] headers = new JsonNode[1];
+            final boolean[] isWriteAction = new boolean[1];
             Map<String, Object> requestProperties = new HashMap<>();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
@@ -534,13 +690,55 @@ public class AmazonS3Plugin extends BasePlugin {
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                     S3ErrorMessages.MANDATORY_PARAMETER_FILE_PATH_MISSING_ERROR_MSG));
                         }
+                        // Files written with this query would make the recent listings of the connection stale
+                        isWriteAction[0] = s3Action != AmazonS3Action.LIST
+                                && s3Action != AmazonS3Action.LIST_BUCKETS
+                                && s3Action != AmazonS3Action.READ_FILE;
+                        if (isWriteAction[0]) {
+                            recentFileListings.remove(connection);
+                        }
+
                         Object actionResult;
                         switch (s3Action) {
                             case LIST:
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                Integer pageSize = getPageSize(formData);
+                                String startAfter = null;
+                                String continuationToken = null;
+                                if (pageSize != null) {
+                                    requestParams.add(new RequestParamDTO(LIST_PAGE_SIZE, pageSize, null, null, null));
+
+                                    startAfter =
+                                            getDataValueSafelyFromFormData(formData, LIST_START_AFTER, STRING_TYPE);
+                                    if (StringUtils.isNullOrEmpty(startAfter)) {
+                                        startAfter = null;
+                                    } else {
+                                        requestParams.add(
+                                                new RequestParamDTO(LIST_START_AFTER, startAfter, null, null, null));
+                                    }
+
+                                    continuationToken = getDataValueSafelyFromFormData(
+                                            formData, LIST_CONTINUATION_TOKEN, STRING_TYPE);
+                                    if (StringUtils.isNullOrEmpty(continuationToken)) {
+                                        continuationToken = null;
+                                    } else {
+                                        requestParams.add(new RequestParamDTO(
+                                                LIST_CONTINUATION_TOKEN, continuationToken, null, null, null));
+                                    }
+                                }
+
+                                FileListing fileListing = getRecentFileListing(
+                                        connection, bucketName, prefix, pageSize, startAfter, continuationToken);
+                                ArrayList<String> listOfFiles = new ArrayList<>(fileListing.fileNames());
+
+                                if (pageSize != null) {
+                                    // The next page is listed by running the query again with this token
+                                    ObjectNode listingHeaders = objectMapper.createObjectNode();
+                                    listingHeaders.put(NEXT_CONTINUATION_TOKEN, fileListing.nextContinuationToken());
+                                    headers[0] = listingHeaders;
+                                }
 
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
@@ -744,14 +942,22 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String result;
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
+                                Boolean encodeContent = YES.equals(isBase64);
+                                requestParams.add(
+                                        new RequestParamDTO(READ_DATATYPE, encodeContent ? YES : NO, null, null, null));
 
-                                if (YES.equals(isBase64)) {
-                                    requestParams.add(new RequestParamDTO(READ_DATATYPE, YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
-                                } else {
-                                    requestParams.add(new RequestParamDTO(READ_DATATYPE, NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
+                                Long offset = getByteCount(formData, READ_OFFSET, "Start byte offset");
+                                if (offset != null) {
+                                    requestParams.add(
+                                            new RequestParamDTO(READ_OFFSET, String.valueOf(offset), null, null, null));
+                                }
+                                Long maxBytes = getByteCount(formData, READ_MAX_BYTES, "Max bytes");
+                                if (maxBytes != null) {
+                                    requestParams.add(new RequestParamDTO(
+                                            READ_MAX_BYTES, String.valueOf(maxBytes), null, null, null));
                                 }
+
+                                result = readFile(connection, bucketName, path, encodeContent, offset, maxBytes);
                                 actionResult = Map.of("fileData", result);
                                 break;
                             case DELETE_FILE:
@@ -795,9 +1001,17 @@ public class AmazonS3Plugin extends BasePlugin {
                     })
                     .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException(error.getMessage()))
                     .flatMap(obj -> obj)
+                    // A listing made while the files were being written may have been cached before the write was
+                    // done, so the listings are dropped again once it is done, before its result is given back
+                    .doOnTerminate(() -> {
+                        if (isWriteAction[0]) {
+                            recentFileListings.remove(connection);
+                        }
+                    })
                     .flatMap(result -> {
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
                         actionExecutionResult.setBody(result);
+                        actionExecutionResult.setHeaders(headers[0]);
                         actionExecutionResult.setIsExecutionSuccess(true);
                         log.debug("In the S3 Plugin, got action execution result");
                         return Mono.just(actionExecutionResult);
@@ -1019,9 +1233,11 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         private String getOneFileNameOrDefault(AmazonS3 connection, String bucketName, String defaultFileName) {
-            ArrayList<String> listOfFiles;
+            List<String> listOfFiles;
             try {
-                listOfFiles = listAllFilesInBucket(connection, bucketName, "");
+                // Only the first file is needed
+                listOfFiles = listFilesInBucket(connection, bucketName, "", 1, null, null)
+                        .fileNames();
             } catch (AppsmithPluginException e) {
                 return defaultFileName;
             }
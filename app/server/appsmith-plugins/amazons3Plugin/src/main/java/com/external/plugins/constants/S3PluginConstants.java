@@ -10,6 +10,9 @@ public class S3PluginConstants {
     public static final String NO = "NO";
     public static final String BASE64_DELIMITER = ";base64,";
     public static final String AWS_S3_SERVICE_PROVIDER = "amazon-s3";
+    public static final String NEXT_CONTINUATION_TOKEN = "nextContinuationToken";
+    public static final int MAX_LIST_PAGE_SIZE = 1000; // max keys that S3 returns in a single listing
+    public static final long DEFAULT_READ_MAX_BYTES = 64L * 1024 * 1024; // max bytes read when 'Max bytes' isn't set
     public static String DEFAULT_FILE_NAME = "MyFile.txt";
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
 }
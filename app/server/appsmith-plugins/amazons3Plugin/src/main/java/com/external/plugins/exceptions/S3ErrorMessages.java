@@ -62,6 +62,19 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
                     + "any non-negative integer. Please note that the maximum expiry "
                     + "duration supported by Amazon S3 is 7 days i.e. 10080 minutes.";
 
+    public static final String BYTE_COUNT_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter '%s' is NOT a number. Please ensure that the input to '%s' field is a valid number - i.e. "
+                    + "any non-negative integer.";
+
+    public static final String FILE_TOO_LARGE_TO_READ_ERROR_MSG =
+            "The file has more than %d bytes, which is the most that can be read in one query without setting 'Max "
+                    + "bytes'. Please set 'Max bytes', and use 'Start byte offset' to read the file in parts.";
+
+    public static final String PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter 'Page size' is NOT a number. Please ensure that the input to 'Page size' field is a valid "
+                    + "number - i.e. any positive integer. Please note that the maximum page size supported by "
+                    + "Amazon S3 is %d files.";
+
     public static final String ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG =
             "Appsmith server has encountered an unexpected error when getting "
                     + "list of files from AWS S3 server. Please reach out to Appsmith customer "
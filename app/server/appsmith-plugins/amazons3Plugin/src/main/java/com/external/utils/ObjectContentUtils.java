@@ -0,0 +1,85 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.S3ErrorMessages;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Reads the content of S3 objects in chunks, so that a file isn't held in memory both as bytes and as the text that is
+ * returned for it.
+ */
+public class ObjectContentUtils {
+
+    // A multiple of 3, so that every chunk except the last one is Base64 encoded without padding
+    static final int READ_CHUNK_SIZE = 3 * 16 * 1024;
+
+    // Largest capacity that a byte array can be created with
+    private static final long MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private ObjectContentUtils() {}
+
+    /**
+     * @param content       content of the object, which is read till the end but isn't closed
+     * @param contentLength number of bytes in the content if it is known, to size the result up front
+     * @param maxLength     most bytes that are read from the content
+     * @return the content encoded as Base64
+     * @throws AppsmithPluginException if the content has more than maxLength bytes
+     */
+    public static String readAsBase64(InputStream content, long contentLength, long maxLength) throws IOException {
+        final Base64.Encoder encoder = Base64.getEncoder();
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(getCapacity(4 * ((contentLength + 2) / 3)));
+        final byte[] chunk = new byte[READ_CHUNK_SIZE];
+        final byte[] encodedChunk = new byte[4 * READ_CHUNK_SIZE / 3];
+        long length = 0;
+        int chunkLength;
+        while ((chunkLength = content.readNBytes(chunk, 0, READ_CHUNK_SIZE)) > 0) {
+            length = checkLength(length + chunkLength, maxLength);
+            final byte[] source = chunkLength == READ_CHUNK_SIZE ? chunk : Arrays.copyOf(chunk, chunkLength);
+            result.write(encodedChunk, 0, encoder.encode(source, encodedChunk));
+        }
+        // Base64 is ASCII, so the String is built straight from the encoded bytes with one byte per character
+        return result.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param content       content of the object, which is read till the end but isn't closed
+     * @param contentLength number of bytes in the content if it is known, to size the result up front
+     * @param maxLength     most bytes that are read from the content
+     * @return the content decoded as text with the default charset
+     * @throws AppsmithPluginException if the content has more than maxLength bytes
+     */
+    public static String readAsText(InputStream content, long contentLength, long maxLength) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(getCapacity(contentLength));
+        final byte[] chunk = new byte[READ_CHUNK_SIZE];
+        long length = 0;
+        int chunkLength;
+        while ((chunkLength = content.readNBytes(chunk, 0, READ_CHUNK_SIZE)) > 0) {
+            length = checkLength(length + chunkLength, maxLength);
+            result.write(chunk, 0, chunkLength);
+        }
+        return result.toString(Charset.defaultCharset());
+    }
+
+    private static long checkLength(long length, long maxLength) {
+        if (length > maxLength) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(S3ErrorMessages.FILE_TOO_LARGE_TO_READ_ERROR_MSG, maxLength));
+        }
+        return length;
+    }
+
+    private static int getCapacity(long length) {
+        return length > 0 ? (int) Math.min(length, MAX_CAPACITY) : DEFAULT_CAPACITY;
+    }
+}
@@ -6,7 +6,10 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
-import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
@@ -34,6 +37,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
@@ -61,7 +65,9 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -69,8 +75,11 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_MAX_BYTES;
+import static com.external.plugins.constants.FieldName.READ_OFFSET;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
+import static com.external.plugins.constants.S3PluginConstants.DEFAULT_READ_MAX_BYTES;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
 import static com.external.plugins.constants.S3PluginConstants.NO;
 import static com.external.plugins.constants.S3PluginConstants.YES;
@@ -90,13 +99,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -288,9 +301,9 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        ListObjectsV2Result mockObjectListing = mock(ListObjectsV2Result.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -302,7 +315,6 @@ public class AmazonS3PluginTest {
         when(mockS3ObjectSummary.getKey()).thenReturn(dummyKey1).thenReturn(dummyKey2);
 
         when(mockObjectListing.isTruncated()).thenReturn(true).thenReturn(false);
-        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
         when(mockObjectListing.getObjectSummaries()).thenReturn(mockS3ObjectSummaryList);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
@@ -321,6 +333,142 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testListFilesInBucketWithPageSize() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_PREFIX, "");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "1");
+        setDataValueSafelyInFormData(configMap, LIST_CONTINUATION_TOKEN, "token_1");
+
+        actionConfiguration.setFormData(configMap);
+
+        ListObjectsV2Result mockObjectListing = mock(ListObjectsV2Result.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(mockObjectListing);
+
+        S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
+        when(mockS3ObjectSummary.getKey()).thenReturn("file_path_2");
+        when(mockObjectListing.getObjectSummaries()).thenReturn(List.of(mockS3ObjectSummary));
+        when(mockObjectListing.isTruncated()).thenReturn(true);
+        when(mockObjectListing.getNextContinuationToken()).thenReturn("token_2");
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                // The same page is listed again from the recent listings of the connection
+                .then(pluginExecutor.executeParameterized(
+                        mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode node = (ArrayNode) result.getBody();
+                    assertEquals(1, node.size());
+                    assertEquals("file_path_2", node.get(0).get("fileName").asText());
+                    assertEquals(
+                            "token_2",
+                            result.getHeaders().get("nextContinuationToken").asText());
+                })
+                .verifyComplete();
+
+        // Only one page is listed, even though there are more files in the bucket
+        ArgumentCaptor<ListObjectsV2Request> requestCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(mockConnection, times(1)).listObjectsV2(requestCaptor.capture());
+        assertEquals(1, requestCaptor.getValue().getMaxKeys().intValue());
+        assertEquals("token_1", requestCaptor.getValue().getContinuationToken());
+    }
+
+    @Test
+    public void testListFilesInBucket_whenListedWhileFileIsDeleted_listsFilesAgainAfterDelete() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        Map<String, Object> listConfigMap = new HashMap<>();
+        setDataValueSafelyInFormData(listConfigMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(listConfigMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(listConfigMap, LIST_PREFIX, "");
+        setDataValueSafelyInFormData(listConfigMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(listConfigMap, LIST_PAGE_SIZE, "1");
+        ActionConfiguration listActionConfiguration = new ActionConfiguration();
+        listActionConfiguration.setFormData(listConfigMap);
+
+        Map<String, Object> deleteConfigMap = new HashMap<>();
+        setDataValueSafelyInFormData(deleteConfigMap, PATH, "file_path_1");
+        setDataValueSafelyInFormData(deleteConfigMap, COMMAND, "DELETE_FILE");
+        setDataValueSafelyInFormData(deleteConfigMap, BUCKET, "bucket_name");
+        ActionConfiguration deleteActionConfiguration = new ActionConfiguration();
+        deleteActionConfiguration.setFormData(deleteConfigMap);
+
+        ListObjectsV2Result mockObjectListing = mock(ListObjectsV2Result.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(mockObjectListing);
+
+        S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
+        when(mockS3ObjectSummary.getKey()).thenReturn("file_path_1");
+        when(mockObjectListing.getObjectSummaries()).thenReturn(List.of(mockS3ObjectSummary));
+        when(mockObjectListing.isTruncated()).thenReturn(false);
+
+        // The files are listed by another query while the file is being deleted
+        doAnswer(invocation -> pluginExecutor
+                        .executeParameterized(
+                                mockConnection, executeActionDTO, datasourceConfiguration, listActionConfiguration)
+                        .block())
+                .when(mockConnection)
+                .deleteObject(anyString(), anyString());
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(
+                        mockConnection, executeActionDTO, datasourceConfiguration, deleteActionConfiguration)
+                .then(pluginExecutor.executeParameterized(
+                        mockConnection, executeActionDTO, datasourceConfiguration, listActionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        // The listing made during the delete isn't given back once the delete is done
+        verify(mockConnection, times(2)).listObjectsV2(any(ListObjectsV2Request.class));
+    }
+
+    @Test
+    public void testListFilesInBucketWithInvalidPageSize() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_PREFIX, "");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "5000");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            String.format(S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG, 1000), result.getBody());
+                })
+                .verifyComplete();
+    }
+
     /*
      * - This method tests the create file program flow till the point where an actual call is made by the AmazonS3
      *   connection to upload a file.
@@ -607,7 +755,7 @@ public class AmazonS3PluginTest {
 
         S3Object mockS3Object = mock(S3Object.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
 
         String dummyContent = "Hello World !!!\n";
         InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
@@ -645,7 +793,7 @@ public class AmazonS3PluginTest {
 
         S3Object mockS3Object = mock(S3Object.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
 
         String dummyContent = "Hello World !!!\n";
         InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
@@ -680,6 +828,166 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testReadFileFromPathWithOffsetAndMaxBytes() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        setDataValueSafelyInFormData(configMap, READ_OFFSET, "6");
+        setDataValueSafelyInFormData(configMap, READ_MAX_BYTES, "5");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(mockConnection.getObject(getObjectRequestCaptor.capture())).thenReturn(mockS3Object);
+
+        // S3 only sends the requested range of the file
+        String dummyContent = "World";
+        InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
+        S3ObjectInputStream dummyS3ObjectInputStream = new S3ObjectInputStream(dummyInputStream, null);
+        when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(dummyContent, body.get("fileData"));
+
+                    GetObjectRequest getObjectRequest = getObjectRequestCaptor.getValue();
+                    assertEquals("bucket_name", getObjectRequest.getBucketName());
+                    assertEquals("path", getObjectRequest.getKey());
+                    assertArrayEquals(new long[] {6, 10}, getObjectRequest.getRange());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileFromPathWithNegativeOffset_returnsErrorMessage() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_OFFSET, "-1");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileLargerThanDefaultMaxBytes_returnsErrorMessage() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(mockConnection.getObject(getObjectRequestCaptor.capture())).thenReturn(mockS3Object);
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(DEFAULT_READ_MAX_BYTES + 1);
+        when(mockS3Object.getObjectMetadata()).thenReturn(objectMetadata);
+        S3ObjectInputStream dummyS3ObjectInputStream =
+                new S3ObjectInputStream(new ByteArrayInputStream(new byte[0]), null);
+        when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                    assertEquals(
+                            String.format(S3ErrorMessages.FILE_TOO_LARGE_TO_READ_ERROR_MSG, DEFAULT_READ_MAX_BYTES),
+                            result.getBody());
+                    assertNull(getObjectRequestCaptor.getValue().getRange());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadEmptyFile_returnsEmptyContentWithoutRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(mockConnection.getObject(getObjectRequestCaptor.capture())).thenReturn(mockS3Object);
+
+        // S3 rejects a ranged read of an empty object, so no range may be asked for here
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(0);
+        when(mockS3Object.getObjectMetadata()).thenReturn(objectMetadata);
+        S3ObjectInputStream dummyS3ObjectInputStream =
+                new S3ObjectInputStream(new ByteArrayInputStream(new byte[0]), null);
+        when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals("", body.get("fileData"));
+                    assertNull(getObjectRequestCaptor.getValue().getRange());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testDeleteFile() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -742,9 +1050,9 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        ListObjectsV2Result mockObjectListing = mock(ListObjectsV2Result.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -756,7 +1064,6 @@ public class AmazonS3PluginTest {
         when(mockS3ObjectSummary.getKey()).thenReturn(dummyKey1).thenReturn(dummyKey2);
 
         when(mockObjectListing.isTruncated()).thenReturn(true).thenReturn(false);
-        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
         when(mockObjectListing.getObjectSummaries()).thenReturn(mockS3ObjectSummaryList);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
@@ -794,9 +1101,9 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        ListObjectsV2Result mockObjectListing = mock(ListObjectsV2Result.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -808,7 +1115,6 @@ public class AmazonS3PluginTest {
         when(mockS3ObjectSummary.getKey()).thenReturn(dummyKey1).thenReturn(dummyKey2);
 
         when(mockObjectListing.isTruncated()).thenReturn(true).thenReturn(false);
-        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
         when(mockObjectListing.getObjectSummaries()).thenReturn(mockS3ObjectSummaryList);
 
         URL dummyUrl1 = new URL("http", "dummy_url_1", "");
@@ -858,9 +1164,9 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        ListObjectsV2Result mockObjectListing = mock(ListObjectsV2Result.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -872,7 +1178,6 @@ public class AmazonS3PluginTest {
         when(mockS3ObjectSummary.getKey()).thenReturn(dummyKey1).thenReturn(dummyKey2);
 
         when(mockObjectListing.isTruncated()).thenReturn(true).thenReturn(false);
-        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
         when(mockObjectListing.getObjectSummaries()).thenReturn(mockS3ObjectSummaryList);
 
         URL dummyUrl1 = new URL("http", "dummy_url_1", "");
@@ -922,9 +1227,9 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        ListObjectsV2Result mockObjectListing = mock(ListObjectsV2Result.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -936,7 +1241,6 @@ public class AmazonS3PluginTest {
         when(mockS3ObjectSummary.getKey()).thenReturn(dummyKey1).thenReturn(dummyKey2);
 
         when(mockObjectListing.isTruncated()).thenReturn(true).thenReturn(false);
-        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
         when(mockObjectListing.getObjectSummaries()).thenReturn(mockS3ObjectSummaryList);
 
         URL dummyUrl1 = new URL("http", "dummy_url_1", "");
@@ -0,0 +1,69 @@
+package com.external.utils;
+
+import com.amazonaws.util.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading an object as Base64 in chunks with reading it into a byte array and encoding the whole array, which
+ * is how files were read before. Run with the gc profiler to compare the bytes allocated per read as well.
+ * <p>
+ * Run with {@code mvn -pl appsmith-plugins/amazons3Plugin test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.external.utils.ObjectContentBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectContentBenchmark {
+
+    @Param({"1048576", "16777216"})
+    public int contentLength;
+
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        content = new byte[contentLength];
+        new Random(42).nextBytes(content);
+    }
+
+    @Benchmark
+    public String chunked() throws IOException {
+        return ObjectContentUtils.readAsBase64(new ByteArrayInputStream(content), contentLength, contentLength);
+    }
+
+    @Benchmark
+    public String wholeArray() throws IOException {
+        byte[] bytes = IOUtils.toByteArray(new ByteArrayInputStream(content));
+        return new String(Base64.getEncoder().encode(bytes));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ObjectContentBenchmark.class.getSimpleName())
+                        .addProfiler("gc")
+                        .build())
+                .run();
+    }
+}
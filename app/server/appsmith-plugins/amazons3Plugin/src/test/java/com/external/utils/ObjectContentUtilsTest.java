@@ -0,0 +1,65 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.S3ErrorMessages;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ObjectContentUtilsTest {
+
+    @Test
+    public void readAsBase64_whenContentSpansManyChunks_encodesWholeContent() throws IOException {
+        Random random = new Random(0);
+        int chunkSize = ObjectContentUtils.READ_CHUNK_SIZE;
+        for (int length : new int[] {0, 1, 2, chunkSize - 1, chunkSize, chunkSize + 1, 3 * chunkSize + 2}) {
+            byte[] content = new byte[length];
+            random.nextBytes(content);
+
+            // The content length isn't known for every object
+            assertEquals(
+                    Base64.getEncoder().encodeToString(content),
+                    ObjectContentUtils.readAsBase64(new ByteArrayInputStream(content), length, length));
+            assertEquals(
+                    Base64.getEncoder().encodeToString(content),
+                    ObjectContentUtils.readAsBase64(new ByteArrayInputStream(content), -1, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void readAsText_whenCharacterSpansChunks_decodesWholeContent() throws IOException {
+        String text = "\u00e9".repeat(ObjectContentUtils.READ_CHUNK_SIZE) + "Hello World !!!\n";
+        byte[] content = text.getBytes();
+
+        assertEquals(
+                new String(content),
+                ObjectContentUtils.readAsText(new ByteArrayInputStream(content), content.length, content.length));
+    }
+
+    @Test
+    public void readAsBase64_whenContentIsLongerThanMaxLength_throwsException() {
+        byte[] content = new byte[ObjectContentUtils.READ_CHUNK_SIZE + 1];
+
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> ObjectContentUtils.readAsBase64(new ByteArrayInputStream(content), -1, content.length - 1));
+        assertEquals(
+                String.format(S3ErrorMessages.FILE_TOO_LARGE_TO_READ_ERROR_MSG, content.length - 1),
+                exception.getMessage());
+    }
+
+    @Test
+    public void readAsText_whenContentIsLongerThanMaxLength_throwsException() {
+        byte[] content = "Hello World !!!\n".getBytes();
+
+        assertThrows(
+                AppsmithPluginException.class,
+                () -> ObjectContentUtils.readAsText(new ByteArrayInputStream(content), -1, 5));
+    }
+}
@@ -12,6 +12,7 @@ import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
+import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -30,6 +31,8 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.external.plugins.commands.Aggregate;
+import com.external.plugins.commands.Find;
 import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
@@ -45,10 +48,12 @@ import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
 import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
@@ -61,7 +66,6 @@ import org.bson.codecs.MapCodecProvider;
 import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.conversions.Bson;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.pf4j.Extension;
@@ -82,6 +86,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -89,6 +94,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -104,7 +111,9 @@ import static com.appsmith.external.helpers.PluginUtils.setValueSafelyInFormData
 import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
 import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
 import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
+import static com.external.plugins.constants.FieldName.CURSOR;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
@@ -129,11 +138,14 @@ import static com.external.plugins.utils.DatasourceUtils.hasNonEmptyURI;
 import static com.external.plugins.utils.DatasourceUtils.isAuthenticated;
 import static com.external.plugins.utils.DatasourceUtils.isHostStringConnectionURI;
 import static com.external.plugins.utils.DatasourceUtils.isUsingURI;
+import static com.external.plugins.utils.MongoPluginUtils.ID;
 import static com.external.plugins.utils.MongoPluginUtils.convertMongoFormInputToRawCommand;
+import static com.external.plugins.utils.MongoPluginUtils.encodeContinuationToken;
 import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndStructureForACollection;
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
 import static com.external.plugins.utils.MongoPluginUtils.getRawQuery;
 import static com.external.plugins.utils.MongoPluginUtils.isRawCommand;
+import static com.external.plugins.utils.MongoPluginUtils.mergeSampledDocuments;
 import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static org.apache.logging.log4j.util.Strings.isBlank;
@@ -155,8 +167,27 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUES = "values";
 
+    private static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
+    // Most characters of json that the rows read from a cursor are converted to, the size of a single batch of rows
+    private static final long MAX_RESPONSE_SIZE = 16 * 1024 * 1024;
+
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
+    // Number of collections whose structure is found at the same time
+    private static final int STRUCTURE_DISCOVERY_CONCURRENCY = 8;
+
+    private static final int DEFAULT_STRUCTURE_SAMPLE_SIZE = 10;
+
+    // Number of documents sampled from every collection to find its columns
+    private static final int STRUCTURE_SAMPLE_SIZE = getStructureSampleSize();
+
+    private static final Duration STRUCTURE_CACHE_MAX_AGE = Duration.ofMinutes(10);
+
+    private record CollectionStructure(long documentCount, Instant discoveredAt, DatasourceStructure.Table table) {}
+
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
 
     /**
@@ -225,6 +256,13 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        /**
+         * Structures of the collections of every connection by their namespace, so that only the collections that have
+         * changed are sampled again when the structure of a datasource is refreshed
+         */
+        private final Map<MongoClient, Map<String, CollectionStructure>> collectionStructures =
+                Collections.synchronizedMap(new WeakHashMap<>());
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -308,7 +346,7 @@ public class MongoPlugin extends BasePlugin {
                 log.info("Encountered null connection in MongoDB plugin. Reporting back.");
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
-            Mono<Document> mongoOutputMono;
+            Mono<ActionExecutionResult> resultMono;
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
@@ -318,9 +356,22 @@ public class MongoPlugin extends BasePlugin {
                 final Map<String, Object> formData = actionConfiguration.getFormData();
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
-                Bson command = Document.parse(query);
-
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                Document command = Document.parse(query);
+
+                // Rows of find and aggregate commands are read through a cursor of the driver, past their first batch
+                if (Find.isCursorCommand(command)) {
+                    resultMono = readCursor(
+                            Find.getCursor(database, command),
+                            Find.getRowLimit(command),
+                            Find.isContinuable(command),
+                            result);
+                } else if (Aggregate.isCursorCommand(command)) {
+                    resultMono = readCursor(
+                            Aggregate.getCursor(database, command), Aggregate.getRowLimit(command), false, result);
+                } else {
+                    resultMono = Mono.from(database.runCommand(command))
+                            .flatMap(mongoOutput -> readCommandOutput(mongoOutput, result));
+                }
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -330,7 +381,7 @@ public class MongoPlugin extends BasePlugin {
             }
 
             Instant requestedAt = Instant.now();
-            return mongoOutputMono
+            return resultMono
                     .onErrorMap(
                             MongoTimeoutException.class,
                             error -> new AppsmithPluginException(
@@ -351,105 +402,6 @@ public class MongoPlugin extends BasePlugin {
                     // database drops the connection which makes the client throw the following exception.
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
-                    .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
-
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
-
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
-
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
-
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
-                            }
-
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
-                        }
-
-                        return Mono.just(result);
-                    })
                     .onErrorResume(error -> {
                         if (error instanceof StaleConnectionException) {
                             log.debug("The mongo connection seems to have been invalidated or doesn't exist anymore");
@@ -484,6 +436,185 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private Mono<ActionExecutionResult> readCommandOutput(Document mongoOutput, ActionExecutionResult result) {
+            // Rows of find, aggregate and getMore commands that are run as they are, are read from their single batch
+            if (mongoOutput.get(CURSOR) instanceof Document) {
+                return readBatch(mongoOutput, result);
+            }
+            try {
+                /*
+                 * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
+                 * processing of DbRef Object.
+                 * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
+                 */
+                DocumentCodec documentCodec = new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
+
+                JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
+
+                // The output json contains the key "ok". This is the status of the command
+                BigInteger status = outputJson.getBigInteger("ok");
+                JSONArray headerArray = new JSONArray();
+
+                if (BigInteger.ONE.equals(status)) {
+                    result.setIsExecutionSuccess(true);
+                    result.setDataTypes(
+                            List.of(new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
+
+                    /*
+                     For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                     we either get the modified new value or the pre-modified old value (depending on the
+                     `new` field in the command. Let's return that value to the user.
+                    */
+                    if (outputJson.has(VALUE)) {
+                        result.setBody(objectMapper.readTree(cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
+                                .toString()));
+                    }
+
+                    /*
+                     The json contains key "n" when insert/update command is issued. "n" for update
+                     signifies the no of documents selected for update. "n" in case of insert signifies the
+                     number of documents inserted.
+                    */
+                    if (outputJson.has("n")) {
+                        JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
+                        result.setBody(objectMapper.readTree(body.toString()));
+                        headerArray.put(body);
+                    }
+
+                    /*
+                     The json key contains key "nModified" in case of update command. This signifies the no of
+                     documents updated.
+                    */
+                    if (outputJson.has(N_MODIFIED)) {
+                        JSONObject body = new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
+                        result.setBody(objectMapper.readTree(body.toString()));
+                        headerArray.put(body);
+                    }
+
+                    /*
+                     The json contains key "values" when distinct command is used.
+                    */
+                    if (outputJson.has(VALUES)) {
+                        JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
+
+                        ObjectNode resultNode = objectMapper.createObjectNode();
+
+                        // Create a JSON structure with the results stored with a key to abide by the
+                        // Server-Client contract of only sending array of objects in result.
+                        resultNode.putArray(VALUES).addAll((ArrayNode) objectMapper.readTree(outputResult.toString()));
+
+                        result.setBody(objectMapper.readTree(resultNode.toString()));
+                    }
+
+                    /*
+                    TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                     that are important to the headerArray.
+                     */
+                }
+
+                JSONObject statusJson = new JSONObject().put("ok", status);
+                headerArray.put(statusJson);
+                result.setHeaders(objectMapper.readTree(headerArray.toString()));
+            } catch (JsonProcessingException e) {
+                return Mono.error(new AppsmithPluginException(
+                        MongoPluginError.QUERY_EXECUTION_FAILED,
+                        MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        e.getMessage()));
+            }
+
+            return Mono.just(result);
+        }
+
+        /**
+         * Reads the rows of a find or aggregate command from its cursor, converting each row as it arrives. Reading
+         * stops when the row limit is reached, or when the converted rows would go over MAX_RESPONSE_SIZE. Stopping
+         * cancels the cursor, so that the driver kills it on the server instead of leaving it open till it times out.
+         * When the rows are sorted by _id, the _id of the last row is returned in the headers as a continuation token,
+         * which a later execution of a find command can pass to read the rows that come after it.
+         */
+        private Mono<ActionExecutionResult> readCursor(
+                Publisher<Document> cursor, long rowLimit, boolean isContinuable, ActionExecutionResult result) {
+            final DocumentCodec documentCodec = new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
+            final ArrayNode rows = objectMapper.createArrayNode();
+            final long[] responseSize = {0};
+            final boolean[] isSizeLimitReached = {false};
+            final Object[] lastId = {null};
+
+            return Flux.from(cursor)
+                    .take(rowLimit)
+                    .<Document>handle((row, sink) -> {
+                        final String json = cleanUp(new JSONObject(row.toJson(documentCodec)))
+                                .toString();
+                        responseSize[0] += json.length();
+                        if (responseSize[0] > MAX_RESPONSE_SIZE && !rows.isEmpty()) {
+                            isSizeLimitReached[0] = true;
+                            sink.complete();
+                            return;
+                        }
+                        try {
+                            rows.add(objectMapper.readTree(json));
+                        } catch (JsonProcessingException e) {
+                            sink.error(new AppsmithPluginException(
+                                    MongoPluginError.QUERY_EXECUTION_FAILED,
+                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    e.getMessage()));
+                            return;
+                        }
+                        lastId[0] = row.get(ID);
+                    })
+                    .then(Mono.fromCallable(() -> {
+                        result.setIsExecutionSuccess(true);
+                        result.setDataTypes(List.of(
+                                new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
+                        result.setBody(rows);
+                        ArrayNode headers = objectMapper.createArrayNode();
+                        headers.addObject().put("ok", 1);
+                        if (isContinuable && lastId[0] != null) {
+                            headers.addObject().put(CONTINUATION_TOKEN, encodeContinuationToken(lastId[0]));
+                        }
+                        result.setHeaders(headers);
+                        if (isSizeLimitReached[0]) {
+                            result.setMessages(Set.of(String.format(
+                                    MongoPluginErrorMessages.RESPONSE_SIZE_LIMIT_REACHED_MSG,
+                                    rows.size(),
+                                    MAX_RESPONSE_SIZE / (1024 * 1024))));
+                        }
+                        return result;
+                    }));
+        }
+
+        /**
+         * Converts the rows of the single batch of a command that returns a cursor, e.g. a getMore command or a find
+         * command with options that its cursor can't be given, one at a time, instead of converting the whole output
+         * of the command to a single json string first.
+         */
+        private Mono<ActionExecutionResult> readBatch(Document output, ActionExecutionResult result) {
+            final DocumentCodec documentCodec = new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
+            final Document cursor = output.get(CURSOR, Document.class);
+            final String batchKey = cursor.containsKey(FIRST_BATCH) ? FIRST_BATCH : NEXT_BATCH;
+            final ArrayNode rows = objectMapper.createArrayNode();
+            try {
+                for (Document row : cursor.getList(batchKey, Document.class, List.of())) {
+                    rows.add(objectMapper.readTree(
+                            cleanUp(new JSONObject(row.toJson(documentCodec))).toString()));
+                }
+            } catch (JsonProcessingException e) {
+                return Mono.error(new AppsmithPluginException(
+                        MongoPluginError.QUERY_EXECUTION_FAILED,
+                        MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        e.getMessage()));
+            }
+
+            result.setIsExecutionSuccess(true);
+            result.setDataTypes(
+                    List.of(new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
+            result.setBody(rows);
+            ArrayNode headers = objectMapper.createArrayNode();
+            headers.addObject().put("ok", 1);
+            result.setHeaders(headers);
+            return Mono.just(result);
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -900,10 +1031,10 @@ public class MongoPlugin extends BasePlugin {
         public Mono<DatasourceStructure> getStructure(
                 MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration, Boolean isMock) {
             final DatasourceStructure structure = new DatasourceStructure();
-            List<DatasourceStructure.Table> tables = new ArrayList<>();
-            structure.setTables(tables);
 
             final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+            final Map<String, CollectionStructure> cachedStructures =
+                    collectionStructures.computeIfAbsent(mongoClient, client -> new ConcurrentHashMap<>());
 
             return Flux.from(database.listCollectionNames())
                     .filter(collectionName -> {
@@ -912,38 +1043,14 @@ public class MongoPlugin extends BasePlugin {
                         }
                         return true;
                     })
-                    .flatMap(collectionName -> {
-                        final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
-                        final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
-                        tables.add(new DatasourceStructure.Table(
-                                DatasourceStructure.TableType.COLLECTION,
-                                null,
-                                collectionName,
-                                columns,
-                                new ArrayList<>(),
-                                templates));
-
-                        return Mono.zip(
-                                Mono.just(columns),
-                                Mono.just(templates),
-                                Mono.just(collectionName),
-                                Mono.from(database.getCollection(collectionName)
-                                        .find()
-                                        .limit(1)
-                                        .first()));
-                    })
-                    .flatMap(tuple -> {
-                        final ArrayList<DatasourceStructure.Column> columns = tuple.getT1();
-                        final ArrayList<DatasourceStructure.Template> templates = tuple.getT2();
-                        String collectionName = tuple.getT3();
-                        Document document = tuple.getT4();
-
-                        generateTemplatesAndStructureForACollection(collectionName, document, columns, templates);
-
-                        return Mono.just(structure);
-                    })
+                    .flatMapSequential(
+                            collectionName -> getCollectionStructure(database, collectionName, cachedStructures),
+                            STRUCTURE_DISCOVERY_CONCURRENCY)
                     .collectList()
-                    .thenReturn(structure)
+                    .map(tables -> {
+                        structure.setTables(tables);
+                        return structure;
+                    })
                     /**
                      * This is to catch the cases when Mongo connection pool closes for some reason and hence throws
                      * IllegalStateException when query is run.
@@ -966,6 +1073,67 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Finds the columns of a collection from a random sample of its documents, unless the collection has been sampled
+         * recently and its document count hasn't changed since then.
+         */
+        private Mono<DatasourceStructure.Table> getCollectionStructure(
+                MongoDatabase database, String collectionName, Map<String, CollectionStructure> cachedStructures) {
+            final String namespace = database.getName() + "." + collectionName;
+            final MongoCollection<Document> collection = database.getCollection(collectionName);
+            return Mono.from(collection.estimatedDocumentCount())
+                    // Views don't have a document count, so they are sampled every time
+                    .onErrorResume(MongoCommandException.class, error -> Mono.just(-1L))
+                    .flatMap(documentCount -> {
+                        final CollectionStructure cachedStructure = cachedStructures.get(namespace);
+                        if (cachedStructure != null
+                                && documentCount >= 0
+                                && cachedStructure.documentCount() == documentCount
+                                && cachedStructure
+                                        .discoveredAt()
+                                        .plus(STRUCTURE_CACHE_MAX_AGE)
+                                        .isAfter(Instant.now())) {
+                            return Mono.just(cachedStructure.table());
+                        }
+
+                        final Stopwatch stopwatch = new Stopwatch("Mongo structure of collection " + namespace);
+                        return sampleDocuments(collection, documentCount).map(documents -> {
+                            final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
+                            final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
+                            if (!documents.isEmpty()) {
+                                generateTemplatesAndStructureForACollection(
+                                        collectionName, mergeSampledDocuments(documents), columns, templates);
+                            }
+                            final DatasourceStructure.Table table = new DatasourceStructure.Table(
+                                    DatasourceStructure.TableType.COLLECTION,
+                                    null,
+                                    collectionName,
+                                    columns,
+                                    new ArrayList<>(),
+                                    templates);
+                            if (documentCount >= 0) {
+                                cachedStructures.put(
+                                        namespace, new CollectionStructure(documentCount, Instant.now(), table));
+                            }
+                            stopwatch.stopAndLogTimeInMillis();
+                            return table;
+                        });
+                    });
+        }
+
+        private Mono<List<Document>> sampleDocuments(MongoCollection<Document> collection, long documentCount) {
+            // Small collections are read as they are, since $sample would have to sort all of their documents anyway
+            if (documentCount >= 0 && documentCount <= STRUCTURE_SAMPLE_SIZE) {
+                return Flux.from(collection.find().limit(STRUCTURE_SAMPLE_SIZE)).collectList();
+            }
+            return Flux.from(collection.aggregate(List.of(Aggregates.sample(STRUCTURE_SAMPLE_SIZE))))
+                    .collectList()
+                    // Collections that can't be sampled, e.g. some system collections, are read from the start
+                    .onErrorResume(
+                            MongoCommandException.class,
+                            error -> Flux.from(collection.find().limit(1)).collectList());
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
@@ -1056,6 +1224,18 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
+    private static int getStructureSampleSize() {
+        final String sampleSize = System.getenv("APPSMITH_MONGO_STRUCTURE_SAMPLE_SIZE");
+        if (sampleSize == null || sampleSize.isBlank()) {
+            return DEFAULT_STRUCTURE_SAMPLE_SIZE;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(sampleSize.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_STRUCTURE_SAMPLE_SIZE;
+        }
+    }
+
     private static Object cleanUp(Object object) {
         if (object instanceof JSONObject) {
             JSONObject jsonObject = (JSONObject) object;
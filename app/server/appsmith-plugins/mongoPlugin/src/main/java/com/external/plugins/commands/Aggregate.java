@@ -8,6 +8,8 @@ import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -21,6 +23,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
@@ -28,9 +32,15 @@ import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresen
 import static com.external.plugins.constants.FieldName.AGGREGATE;
 import static com.external.plugins.constants.FieldName.AGGREGATE_LIMIT;
 import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
+import static com.external.plugins.constants.FieldName.ALLOW_DISK_USE;
+import static com.external.plugins.constants.FieldName.BATCH_SIZE;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COLLECTION;
 import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.CURSOR;
+import static com.external.plugins.constants.FieldName.HINT;
+import static com.external.plugins.constants.FieldName.MAX_TIME_MS;
+import static com.external.plugins.constants.FieldName.PIPELINE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.utils.MongoPluginUtils.parseSafely;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -42,6 +52,13 @@ public class Aggregate extends MongoCommand {
     String pipeline;
     String limit;
 
+    // Options of an aggregate command that its cursor can be given, other commands are run as they are
+    private static final Set<String> CURSOR_OPTIONS =
+            Set.of(AGGREGATE, PIPELINE, CURSOR, ALLOW_DISK_USE, HINT, MAX_TIME_MS);
+
+    // Stages that write the output of the pipeline to a collection instead of returning it
+    private static final Set<String> OUTPUT_STAGES = Set.of("$out", "$merge");
+
     public Aggregate(ActionConfiguration actionConfiguration) {
         super(actionConfiguration);
 
@@ -113,11 +130,78 @@ public class Aggregate extends MongoCommand {
         if (!isBlank(this.limit)) {
             limit = Integer.parseInt(this.limit);
         }
-        commandDocument.put("cursor", parseSafely("cursor", "{batchSize: " + limit + "}"));
+        commandDocument.put(CURSOR, parseSafely("cursor", "{batchSize: " + limit + "}"));
 
         return commandDocument;
     }
 
+    /**
+     * @return whether the command is an aggregate command on a collection whose options can all be given to a cursor of
+     * the driver, and whose pipeline returns its output instead of writing it to a collection
+     */
+    public static boolean isCursorCommand(Document command) {
+        if (command.isEmpty()
+                || !AGGREGATE.equals(command.keySet().iterator().next())
+                || !(command.get(AGGREGATE) instanceof String)
+                || !CURSOR_OPTIONS.containsAll(command.keySet())
+                || !(command.get(PIPELINE) instanceof List<?> pipeline)
+                || !pipeline.stream().allMatch(Document.class::isInstance)
+                || (command.containsKey(HINT)
+                        && !(command.get(HINT) instanceof Document || command.get(HINT) instanceof String))) {
+            return false;
+        }
+        if (!pipeline.isEmpty()
+                && !Collections.disjoint(OUTPUT_STAGES, ((Document) pipeline.get(pipeline.size() - 1)).keySet())) {
+            return false;
+        }
+        return !command.containsKey(CURSOR)
+                || (command.get(CURSOR) instanceof Document cursor
+                        && Set.of(BATCH_SIZE).containsAll(cursor.keySet()));
+    }
+
+    /**
+     * Creates the cursor that runs an aggregate command. The driver reads the batches of the cursor as its rows are
+     * requested, and kills the cursor on the server when the rows are cancelled before the cursor is exhausted.
+     *
+     * @param command a command for which {@link #isCursorCommand(Document)} holds
+     */
+    public static AggregatePublisher<Document> getCursor(MongoDatabase database, Document command) {
+        List<Document> pipeline = command.getList(PIPELINE, Document.class);
+        AggregatePublisher<Document> cursor =
+                database.getCollection(command.getString(AGGREGATE)).aggregate(pipeline);
+
+        if (getBatchSize(command) > 0) {
+            cursor = cursor.batchSize(getBatchSize(command));
+        }
+        if (command.get(ALLOW_DISK_USE) instanceof Boolean allowDiskUse) {
+            cursor = cursor.allowDiskUse(allowDiskUse);
+        }
+        if (command.get(HINT) instanceof Document hint) {
+            cursor = cursor.hint(hint);
+        } else if (command.get(HINT) instanceof String hint) {
+            cursor = cursor.hintString(hint);
+        }
+        if (command.get(MAX_TIME_MS) instanceof Number maxTime) {
+            cursor = cursor.maxTime(maxTime.longValue(), TimeUnit.MILLISECONDS);
+        }
+
+        return cursor;
+    }
+
+    /**
+     * The limit of the form is sent as the size of the first batch, and only that batch used to be returned, so the
+     * batch size stays the most rows that the aggregate command returns.
+     */
+    public static long getRowLimit(Document command) {
+        return getBatchSize(command) > 0 ? getBatchSize(command) : Long.MAX_VALUE;
+    }
+
+    private static int getBatchSize(Document command) {
+        return command.get(CURSOR) instanceof Document cursor && cursor.get(BATCH_SIZE) instanceof Number batchSize
+                ? batchSize.intValue()
+                : 0;
+    }
+
     /**
      * This method coverts Mongo plugin's form inputs to Mongo's native query. Currently, it is meant to help users
      * switch easily from form based input to raw input mode by providing a readily available translation of the form
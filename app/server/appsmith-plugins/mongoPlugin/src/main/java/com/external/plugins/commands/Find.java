@@ -1,8 +1,13 @@
 package com.external.plugins.commands;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,20 +18,34 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
 import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
+import static com.external.plugins.constants.FieldName.BATCH_SIZE;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COLLECTION;
 import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.FILTER;
 import static com.external.plugins.constants.FieldName.FIND;
+import static com.external.plugins.constants.FieldName.FIND_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.FIND_LIMIT;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SKIP;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
+import static com.external.plugins.constants.FieldName.HINT;
+import static com.external.plugins.constants.FieldName.LIMIT;
+import static com.external.plugins.constants.FieldName.MAX_TIME_MS;
+import static com.external.plugins.constants.FieldName.PROJECTION;
+import static com.external.plugins.constants.FieldName.SKIP;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static com.external.plugins.constants.FieldName.SORT;
+import static com.external.plugins.utils.MongoPluginUtils.ID;
+import static com.external.plugins.utils.MongoPluginUtils.decodeContinuationToken;
+import static com.external.plugins.utils.MongoPluginUtils.isSortedById;
 import static com.external.plugins.utils.MongoPluginUtils.parseSafely;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -39,6 +58,11 @@ public class Find extends MongoCommand {
     String projection;
     String limit;
     String skip;
+    String continuationToken;
+
+    // Options of a find command that its cursor can be given, other commands are run as they are
+    private static final Set<String> CURSOR_OPTIONS =
+            Set.of(FIND, FILTER, SORT, PROJECTION, SKIP, LIMIT, BATCH_SIZE, HINT, MAX_TIME_MS);
 
     public Find(ActionConfiguration actionConfiguration) {
         super(actionConfiguration);
@@ -64,6 +88,11 @@ public class Find extends MongoCommand {
         if (validConfigurationPresentInFormData(formData, FIND_SKIP)) {
             this.skip = PluginUtils.getDataValueSafelyFromFormData(formData, FIND_SKIP, STRING_TYPE);
         }
+
+        if (validConfigurationPresentInFormData(formData, FIND_CONTINUATION_TOKEN)) {
+            this.continuationToken =
+                    PluginUtils.getDataValueSafelyFromFormData(formData, FIND_CONTINUATION_TOKEN, STRING_TYPE);
+        }
     }
 
     @Override
@@ -76,14 +105,37 @@ public class Find extends MongoCommand {
 
         document.put(FIND, this.collection);
 
-        document.put("filter", parseSafely("Query", this.query));
+        Document filter = parseSafely("Query", this.query);
+        Document sort = StringUtils.isNullOrEmpty(this.sort) ? null : parseSafely("Sort", this.sort);
+
+        /*
+        The documents after the continuation token are the ones with a larger _id than the last document that was
+        returned, which only holds when the documents are sorted by _id. Skip is left out, since the documents before
+        the continuation token are already skipped.
+        */
+        boolean hasContinuationToken = !StringUtils.isNullOrEmpty(this.continuationToken);
+        if (hasContinuationToken) {
+            if (sort != null && !isSortedById(sort)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        MongoPluginErrorMessages.CONTINUATION_TOKEN_WITH_SORT_ERROR_MSG);
+            }
+            sort = new Document(ID, 1);
+            Document afterContinuationToken =
+                    new Document(ID, new Document("$gt", decodeContinuationToken(this.continuationToken)));
+            filter = filter.isEmpty()
+                    ? afterContinuationToken
+                    : new Document("$and", List.of(filter, afterContinuationToken));
+        }
+
+        document.put(FILTER, filter);
 
-        if (!StringUtils.isNullOrEmpty(this.sort)) {
-            document.put("sort", parseSafely("Sort", this.sort));
+        if (sort != null) {
+            document.put(SORT, sort);
         }
 
         if (!StringUtils.isNullOrEmpty(this.projection)) {
-            document.put("projection", parseSafely("Projection", this.projection));
+            document.put(PROJECTION, parseSafely("Projection", this.projection));
         }
 
         // Default to returning 10 documents if not mentioned
@@ -91,16 +143,85 @@ public class Find extends MongoCommand {
         if (!StringUtils.isNullOrEmpty(this.limit)) {
             limit = Integer.parseInt(this.limit);
         }
-        document.put("limit", limit);
-        document.put("batchSize", limit);
+        document.put(LIMIT, limit);
+        document.put(BATCH_SIZE, limit);
 
-        if (!StringUtils.isNullOrEmpty(this.skip)) {
-            document.put("skip", Long.parseLong(this.skip));
+        if (!StringUtils.isNullOrEmpty(this.skip) && !hasContinuationToken) {
+            document.put(SKIP, Long.parseLong(this.skip));
         }
 
         return document;
     }
 
+    /**
+     * @return whether the command is a find command whose options can all be given to a cursor of the driver
+     */
+    public static boolean isCursorCommand(Document command) {
+        return !command.isEmpty()
+                && FIND.equals(command.keySet().iterator().next())
+                && command.get(FIND) instanceof String
+                && CURSOR_OPTIONS.containsAll(command.keySet())
+                && (!command.containsKey(FILTER) || command.get(FILTER) instanceof Document)
+                && (!command.containsKey(SORT) || command.get(SORT) instanceof Document)
+                && (!command.containsKey(PROJECTION) || command.get(PROJECTION) instanceof Document)
+                && (!command.containsKey(HINT)
+                        || command.get(HINT) instanceof Document
+                        || command.get(HINT) instanceof String);
+    }
+
+    /**
+     * Creates the cursor that runs a find command. The driver reads the batches of the cursor as its rows are
+     * requested, and kills the cursor on the server when the rows are cancelled before the cursor is exhausted.
+     *
+     * @param command a command for which {@link #isCursorCommand(Document)} holds
+     */
+    public static FindPublisher<Document> getCursor(MongoDatabase database, Document command) {
+        FindPublisher<Document> cursor =
+                database.getCollection(command.getString(FIND)).find(command.get(FILTER, new Document()));
+
+        if (command.get(SORT) instanceof Document sort) {
+            cursor = cursor.sort(sort);
+        }
+        if (command.get(PROJECTION) instanceof Document projection) {
+            cursor = cursor.projection(projection);
+        }
+        if (command.get(SKIP) instanceof Number skip) {
+            cursor = cursor.skip(skip.intValue());
+        }
+        if (command.get(LIMIT) instanceof Number limit) {
+            cursor = cursor.limit(limit.intValue());
+        }
+        if (command.get(BATCH_SIZE) instanceof Number batchSize) {
+            cursor = cursor.batchSize(batchSize.intValue());
+        }
+        if (command.get(HINT) instanceof Document hint) {
+            cursor = cursor.hint(hint);
+        } else if (command.get(HINT) instanceof String hint) {
+            cursor = cursor.hintString(hint);
+        }
+        if (command.get(MAX_TIME_MS) instanceof Number maxTime) {
+            cursor = cursor.maxTime(maxTime.longValue(), TimeUnit.MILLISECONDS);
+        }
+
+        return cursor;
+    }
+
+    /**
+     * @return the most rows that the find command returns, where a negative limit returns a single batch of that size
+     */
+    public static long getRowLimit(Document command) {
+        return command.get(LIMIT) instanceof Number limit && limit.longValue() != 0
+                ? Math.abs(limit.longValue())
+                : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return whether a continuation token can be returned for the rows of the find command
+     */
+    public static boolean isContinuable(Document command) {
+        return isSortedById(command.get(SORT));
+    }
+
     @Override
     public List<DatasourceStructure.Template> generateTemplate(Map<String, Object> templateConfiguration) {
         String collectionName = (String) templateConfiguration.get("collectionName");
@@ -27,6 +27,16 @@ public class FieldName {
     public static final String KEY = "key";
     public static final String PIPELINES = "arrayPipelines";
     public static final String DOCUMENTS = "documents";
+    public static final String CONTINUATION_TOKEN = "continuationToken";
+
+    // Command options
+    public static final String FILTER = "filter";
+    public static final String PIPELINE = "pipeline";
+    public static final String CURSOR = "cursor";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String HINT = "hint";
+    public static final String MAX_TIME_MS = "maxTimeMS";
+    public static final String ALLOW_DISK_USE = "allowDiskUse";
 
     public static final String AGGREGATE_PIPELINES = AGGREGATE + "." + PIPELINES;
     public static final String AGGREGATE_LIMIT = AGGREGATE + "." + LIMIT;
@@ -43,6 +53,7 @@ public class FieldName {
     public static final String DISTINCT_KEY = DISTINCT + "." + KEY;
     public static final String FIND_LIMIT = FIND + "." + LIMIT;
     public static final String FIND_SKIP = FIND + "." + SKIP;
+    public static final String FIND_CONTINUATION_TOKEN = FIND + "." + CONTINUATION_TOKEN;
     public static final String UPDATE_LIMIT = UPDATE_MANY + "." + LIMIT;
 
     public static final String RAW = "RAW";
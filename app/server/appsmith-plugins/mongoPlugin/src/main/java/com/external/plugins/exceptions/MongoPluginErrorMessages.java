@@ -25,6 +25,15 @@ public class MongoPluginErrorMessages {
     public static final String PIPELINE_ARRAY_PARSING_FAILED_ERROR_MSG =
             "Array of pipelines could not be parsed into expected Mongo BSON Array format.";
 
+    public static final String CONTINUATION_TOKEN_NOT_VALID_ERROR_MSG =
+            "Continuation token is not valid. Please use the continuation token returned by the previous execution.";
+
+    public static final String CONTINUATION_TOKEN_WITH_SORT_ERROR_MSG =
+            "Continuation token can only be used when the documents are sorted by _id, i.e. with the sort {_id: 1}.";
+
+    public static final String RESPONSE_SIZE_LIMIT_REACHED_MSG =
+            "Only the first %d documents were returned, since the response can't be larger than %d MB.";
+
     public static final String PIPELINE_STAGE_NOT_VALID_ERROR_MSG = "Pipeline stage is not a valid JSON object.";
 
     public static final String DOCUMENTS_NOT_PARSABLE_INTO_JSON_ARRAY_ERROR_MSG =
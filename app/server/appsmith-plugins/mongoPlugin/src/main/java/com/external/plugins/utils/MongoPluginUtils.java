@@ -18,7 +18,9 @@ import com.external.plugins.commands.UpdateMany;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
 import org.bson.BsonInvalidOperationException;
 import org.bson.Document;
+import org.bson.json.JsonMode;
 import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.json.JSONArray;
@@ -28,6 +30,7 @@ import org.springframework.util.StringUtils;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
@@ -44,6 +47,8 @@ import static com.external.plugins.constants.FieldName.RAW;
 
 public class MongoPluginUtils {
 
+    public static final String ID = "_id";
+
     public static Document parseSafely(String fieldName, String input) {
         try {
             return Document.parse(input);
@@ -163,6 +168,23 @@ public class MongoPluginUtils {
         return databaseName;
     }
 
+    /**
+     * Combines the fields of the documents sampled from a collection, so that the fields that are only present in some
+     * of the documents are found as well. The value of every field is taken from the first document in which it isn't
+     * null, so that its type can be found.
+     */
+    public static Document mergeSampledDocuments(List<Document> documents) {
+        final Document mergedDocument = new Document();
+        for (Document document : documents) {
+            document.forEach((name, value) -> {
+                if (mergedDocument.get(name) == null) {
+                    mergedDocument.put(name, value);
+                }
+            });
+        }
+        return mergedDocument;
+    }
+
     public static void generateTemplatesAndStructureForACollection(
             String collectionName,
             Document document,
@@ -240,6 +262,50 @@ public class MongoPluginUtils {
         templates.addAll(new Aggregate().generateTemplate(templateConfiguration));
     }
 
+    /**
+     * A continuation token is the _id of the last document that was returned, written as extended JSON so that its
+     * type is kept, and Base64 encoded so that it can be passed around as an opaque string.
+     */
+    public static String encodeContinuationToken(Object id) {
+        final String json = new Document(ID, id)
+                .toJson(JsonWriterSettings.builder()
+                        .outputMode(JsonMode.EXTENDED)
+                        .build());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the _id of the last document that was returned before the continuation token was created
+     */
+    public static Object decodeContinuationToken(String continuationToken) {
+        try {
+            final byte[] json = Base64.getUrlDecoder().decode(continuationToken.trim());
+            final Document document = Document.parse(new String(json, StandardCharsets.UTF_8));
+            if (document.containsKey(ID)) {
+                return document.get(ID);
+            }
+        } catch (IllegalArgumentException | JsonParseException | BsonInvalidOperationException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    MongoPluginErrorMessages.CONTINUATION_TOKEN_NOT_VALID_ERROR_MSG,
+                    e.getMessage());
+        }
+        throw new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                MongoPluginErrorMessages.CONTINUATION_TOKEN_NOT_VALID_ERROR_MSG);
+    }
+
+    /**
+     * @return whether the sort of a find command only sorts the documents by _id in ascending order, which is what a
+     * continuation token relies on
+     */
+    public static boolean isSortedById(Object sort) {
+        return sort instanceof Document sortDocument
+                && sortDocument.size() == 1
+                && sortDocument.get(ID) instanceof Number direction
+                && direction.intValue() == 1;
+    }
+
     public static String urlEncode(String text) {
         return URLEncoder.encode(text, StandardCharsets.UTF_8);
     }
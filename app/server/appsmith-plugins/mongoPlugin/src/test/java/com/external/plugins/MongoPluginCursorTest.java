@@ -0,0 +1,277 @@
+package com.external.plugins;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.external.plugins.commands.Find;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.COLLECTION;
+import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.FIND_CONTINUATION_TOKEN;
+import static com.external.plugins.constants.FieldName.FIND_SKIP;
+import static com.external.plugins.constants.FieldName.FIND_SORT;
+import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static com.external.plugins.utils.MongoPluginUtils.decodeContinuationToken;
+import static com.external.plugins.utils.MongoPluginUtils.encodeContinuationToken;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests how the rows of find and aggregate commands are read from the cursors of the driver, which are mocked here.
+ */
+public class MongoPluginCursorTest {
+
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+
+    private MongoClient mongoClient;
+
+    private MongoDatabase database;
+
+    private MongoCollection<Document> collection;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        mongoClient = mock(MongoClient.class);
+        database = mock(MongoDatabase.class);
+        collection = mock(MongoCollection.class);
+        when(mongoClient.getDatabase(anyString())).thenReturn(database);
+        when(database.getCollection(anyString())).thenReturn(collection);
+    }
+
+    private DatasourceConfiguration createDatasourceConfiguration() {
+        Connection connection = new Connection();
+        connection.setDefaultDatabaseName("test");
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setConnection(connection);
+        return dsConfig;
+    }
+
+    private ActionConfiguration createRawActionConfiguration(String query) {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, query);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+        return actionConfiguration;
+    }
+
+    private Mono<ActionExecutionResult> execute(String query) {
+        return pluginExecutor.executeCommon(
+                mongoClient, createDatasourceConfiguration(), createRawActionConfiguration(query), new ArrayList<>());
+    }
+
+    private static List<Document> createRows(int count, int valueLength) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Document("_id", i).append("value", "x".repeat(valueLength)))
+                .toList();
+    }
+
+    /**
+     * Makes the cursor emit the rows, and sets cancelled when the rows are cancelled before all of them are read,
+     * which is when the driver kills the cursor on the server.
+     */
+    @SuppressWarnings("unchecked")
+    private static void emitRows(Publisher<Document> cursor, Flux<Document> rows, AtomicBoolean cancelled) {
+        doAnswer(invocation -> {
+                    rows.doOnCancel(() -> cancelled.set(true))
+                            .subscribe((Subscriber<Document>) invocation.getArgument(0));
+                    return null;
+                })
+                .when(cursor)
+                .subscribe(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private FindPublisher<Document> mockFindCursor(Flux<Document> rows, AtomicBoolean cancelled) {
+        FindPublisher<Document> cursor = mock(FindPublisher.class, RETURNS_SELF);
+        emitRows(cursor, rows, cancelled);
+        when(collection.find(any(Document.class))).thenReturn(cursor);
+        return cursor;
+    }
+
+    @Test
+    public void testFind_readsRowsPastFirstBatchUpToLimit_andCancelsCursor() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        FindPublisher<Document> cursor = mockFindCursor(Flux.fromIterable(createRows(10, 1)), cancelled);
+
+        StepVerifier.create(execute("{find: \"users\", filter: {age: 1}, limit: 3, batchSize: 1}"))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(3, ((ArrayNode) result.getBody()).size());
+                    assertEquals("[{\"ok\":1}]", result.getHeaders().toString());
+                })
+                .verifyComplete();
+
+        assertTrue(cancelled.get());
+        verify(collection).find(new Document("age", 1));
+        verify(cursor).limit(3);
+        verify(cursor).batchSize(1);
+        verify(database, never()).runCommand(any());
+    }
+
+    @Test
+    public void testFindSortedById_returnsContinuationTokenOfLastRow() {
+        mockFindCursor(Flux.fromIterable(createRows(2, 1)), new AtomicBoolean());
+
+        StepVerifier.create(execute("{find: \"users\", sort: {_id: 1}, limit: 2}"))
+                .assertNext(result -> {
+                    assertEquals(2, ((ArrayNode) result.getBody()).size());
+                    String continuationToken =
+                            result.getHeaders().get(1).get("continuationToken").asText();
+                    assertEquals(1, decodeContinuationToken(continuationToken));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFind_whenRowsGoOverResponseSize_returnsFirstRowsAndCancelsCursor() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        // Each row is converted to more than 1 MB of json, so 16 rows fit in the response
+        mockFindCursor(Flux.fromIterable(createRows(20, 1024 * 1024)), cancelled);
+
+        StepVerifier.create(execute("{find: \"users\", sort: {_id: 1}}"))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(15, ((ArrayNode) result.getBody()).size());
+                    assertEquals(
+                            14,
+                            decodeContinuationToken(result.getHeaders()
+                                    .get(1)
+                                    .get("continuationToken")
+                                    .asText()));
+                    assertEquals(1, result.getMessages().size());
+                })
+                .verifyComplete();
+
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    public void testFind_whenCursorFails_reportsStaleConnection() {
+        mockFindCursor(Flux.error(new IllegalStateException()), new AtomicBoolean());
+
+        StepVerifier.create(execute("{find: \"users\", limit: 10}"))
+                .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
+                .verify();
+    }
+
+    @Test
+    public void testFindWithOptionThatCursorCannotBeGiven_runsCommand() {
+        when(database.runCommand(any()))
+                .thenReturn(Mono.just(
+                        new Document("cursor", new Document("firstBatch", createRows(2, 1))).append("ok", 1)));
+
+        StepVerifier.create(execute("{find: \"users\", limit: 2, collation: {locale: \"fr\"}}"))
+                .assertNext(result -> assertEquals(2, ((ArrayNode) result.getBody()).size()))
+                .verifyComplete();
+
+        verify(collection, never()).find(any(Document.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAggregate_readsUpToBatchSizeOfCommand_andCancelsCursor() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AggregatePublisher<Document> cursor = mock(AggregatePublisher.class, RETURNS_SELF);
+        emitRows(cursor, Flux.fromIterable(createRows(10, 1)), cancelled);
+        when(collection.aggregate(anyList())).thenReturn(cursor);
+
+        StepVerifier.create(execute("{aggregate: \"users\", pipeline: [{$match: {}}], cursor: {batchSize: 4}}"))
+                .assertNext(result -> {
+                    assertEquals(4, ((ArrayNode) result.getBody()).size());
+                    assertEquals("[{\"ok\":1}]", result.getHeaders().toString());
+                })
+                .verifyComplete();
+
+        assertTrue(cancelled.get());
+        verify(cursor).batchSize(4);
+    }
+
+    @Test
+    public void testAggregateWithOutputStage_runsCommand() {
+        when(database.runCommand(any())).thenReturn(Mono.just(new Document("ok", 1)));
+
+        StepVerifier.create(execute("{aggregate: \"users\", pipeline: [{$out: \"copy\"}], cursor: {}}"))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        verify(collection, never()).aggregate(anyList());
+    }
+
+    @Test
+    public void testFindFormWithContinuationToken_readsRowsAfterToken() {
+        ObjectId lastId = new ObjectId();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "FIND");
+        setDataValueSafelyInFormData(configMap, COLLECTION, "users");
+        setDataValueSafelyInFormData(configMap, FIND_SKIP, "20");
+        setDataValueSafelyInFormData(configMap, FIND_CONTINUATION_TOKEN, encodeContinuationToken(lastId));
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        Document command = new Find(actionConfiguration).parseCommand();
+
+        assertEquals(new Document("_id", new Document("$gt", lastId)), command.get("filter"));
+        assertEquals(new Document("_id", 1), command.get("sort"));
+        assertNull(command.get("skip"));
+        assertTrue(Find.isCursorCommand(command));
+        assertTrue(Find.isContinuable(command));
+    }
+
+    @Test
+    public void testFindFormWithContinuationTokenAndOtherSort_throwsError() {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "FIND");
+        setDataValueSafelyInFormData(configMap, COLLECTION, "users");
+        setDataValueSafelyInFormData(configMap, FIND_SORT, "{name: 1}");
+        setDataValueSafelyInFormData(configMap, FIND_CONTINUATION_TOKEN, encodeContinuationToken(1));
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        Find find = new Find(actionConfiguration);
+
+        assertThrows(AppsmithPluginException.class, find::parseCommand);
+        assertFalse(Find.isContinuable(new Document("find", "users").append("sort", new Document("name", 1))));
+    }
+}
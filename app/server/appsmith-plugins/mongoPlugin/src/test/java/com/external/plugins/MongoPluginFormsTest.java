@@ -42,11 +42,13 @@ import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COLLECTION;
 import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
 import static com.external.plugins.constants.FieldName.DELETE_LIMIT;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_KEY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.FIND_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.FIND_LIMIT;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -56,6 +58,7 @@ import static com.external.plugins.constants.FieldName.UPDATE_LIMIT;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -324,6 +327,47 @@ public class MongoPluginFormsTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testFindFormCommandWithContinuationToken_readsNextPage() {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "FIND");
+        setDataValueSafelyInFormData(configMap, FIND_SORT, "{ _id: 1 }");
+        setDataValueSafelyInFormData(configMap, FIND_LIMIT, "2");
+        setDataValueSafelyInFormData(configMap, COLLECTION, "users");
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        List<JsonNode> firstPageIds = new ArrayList<>();
+        Mono<ActionExecutionResult> executeMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor
+                        .executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                        .flatMap(firstPage -> {
+                            assertEquals(2, ((ArrayNode) firstPage.getBody()).size());
+                            ((ArrayNode) firstPage.getBody()).forEach(row -> firstPageIds.add(row.get("_id")));
+                            String continuationToken = firstPage
+                                    .getHeaders()
+                                    .get(1)
+                                    .get(CONTINUATION_TOKEN)
+                                    .asText();
+                            setDataValueSafelyInFormData(configMap, FIND_CONTINUATION_TOKEN, continuationToken);
+                            return pluginExecutor.executeParameterized(
+                                    conn, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+                        }));
+        StepVerifier.create(executeMono)
+                .assertNext(secondPage -> {
+                    // The users collection has three users, and other tests may insert more
+                    assertTrue(secondPage.getIsExecutionSuccess());
+                    assertFalse(((ArrayNode) secondPage.getBody()).isEmpty());
+                    ((ArrayNode) secondPage.getBody())
+                            .forEach(row -> assertFalse(firstPageIds.contains(row.get("_id"))));
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testInsertFormCommandArrayDocuments() {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
@@ -388,6 +388,35 @@ public class MongoPluginQueriesTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testFindWithLimitLargerThanBatchSize_readsAllBatchesOfCursor() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{\n" + "      find: \"users\",\n" + "      limit: 3,\n" + "      batchSize: 1,\n" + "    }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(3, ((ArrayNode) result.getBody()).size());
+                    assertEquals("[{\"ok\":1}]", result.getHeaders().toString());
+                })
+                .verifyComplete();
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testStructure() {
@@ -414,12 +443,14 @@ public class MongoPluginQueriesTest {
                     assertArrayEquals(
                             new DatasourceStructure.Column[] {
                                 new DatasourceStructure.Column("_id", "ObjectId", null, true),
+                                new DatasourceStructure.Column("aLong", "Long", null, false),
                                 new DatasourceStructure.Column("age", "Integer", null, false),
                                 new DatasourceStructure.Column("dob", "Date", null, false),
                                 new DatasourceStructure.Column("gender", "String", null, false),
                                 new DatasourceStructure.Column("luckyNumber", "Long", null, false),
                                 new DatasourceStructure.Column("name", "String", null, false),
                                 new DatasourceStructure.Column("netWorth", "BigDecimal", null, false),
+                                new DatasourceStructure.Column("ts", "Object", null, false),
                                 new DatasourceStructure.Column("updatedByCommand", "Object", null, false),
                             },
                             usersTable.getColumns().toArray());
@@ -488,12 +519,14 @@ public class MongoPluginQueriesTest {
                                     + "  \"documents\": [\n"
                                     + "    {\n"
                                     + "      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
                                     + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "    }\n"
                                     + "  ]\n"
@@ -505,12 +538,15 @@ public class MongoPluginQueriesTest {
                             PluginUtils.getDataValueSafelyFromFormData(
                                     (Map<String, Object>) insertTemplate.getConfiguration(), COMMAND, STRING_TYPE));
                     assertEquals(
-                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n" + "      \"age\": 1,\n"
+                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
+                                    + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "}]",
                             PluginUtils.getDataValueSafelyFromFormData(
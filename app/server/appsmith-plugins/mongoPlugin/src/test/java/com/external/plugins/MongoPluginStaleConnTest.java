@@ -79,8 +79,7 @@ public class MongoPluginStaleConnTest {
         Map<String, Object> configMap = new HashMap<>();
         setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
         setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
-        setDataValueSafelyInFormData(
-                configMap, BODY, "{\n" + "      find: \"address\",\n" + "      limit: 10,\n" + "    }");
+        setDataValueSafelyInFormData(configMap, BODY, "{\n" + "      count: \"address\",\n" + "    }");
         actionConfiguration.setFormData(configMap);
 
         MongoClient spyMongoClient = spy(MongoClient.class);
@@ -102,8 +101,7 @@ public class MongoPluginStaleConnTest {
         Map<String, Object> configMap = new HashMap<>();
         setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
         setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
-        setDataValueSafelyInFormData(
-                configMap, BODY, "{\n" + "      find: \"address\",\n" + "      limit: 10,\n" + "    }");
+        setDataValueSafelyInFormData(configMap, BODY, "{\n" + "      count: \"address\",\n" + "    }");
         actionConfiguration.setFormData(configMap);
 
         MongoClient spyMongoClient = spy(MongoClient.class);
@@ -2,10 +2,15 @@ package com.external.plugins.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.DatasourceConfiguration;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MongoPluginUtilsTest {
@@ -60,4 +65,33 @@ public class MongoPluginUtilsTest {
                 AppsmithPluginException.class,
                 () -> MongoPluginUtils.parseSafelyDocumentAndArrayOfDocuments("field", "[abc, pqr]"));
     }
+
+    @Test
+    void testMergeSampledDocuments_withDifferentFields_keepsAllFieldsWithNonNullValues() {
+        final Document mergedDocument = MongoPluginUtils.mergeSampledDocuments(List.of(
+                new Document("name", "Cierra Vega").append("age", null).append("email", null),
+                new Document("name", "Alden Cantrell").append("age", 30).append("luckyNumber", 7L)));
+
+        assertEquals(List.of("name", "age", "email", "luckyNumber"), List.copyOf(mergedDocument.keySet()));
+        assertEquals("Cierra Vega", mergedDocument.get("name"));
+        assertEquals(30, mergedDocument.get("age"));
+        assertNull(mergedDocument.get("email"));
+        assertEquals(7L, mergedDocument.get("luckyNumber"));
+    }
+
+    @Test
+    void testContinuationToken_keepsTypeOfId() {
+        ObjectId objectId = new ObjectId();
+
+        assertEquals(
+                objectId, MongoPluginUtils.decodeContinuationToken(MongoPluginUtils.encodeContinuationToken(objectId)));
+        assertEquals(5L, MongoPluginUtils.decodeContinuationToken(MongoPluginUtils.encodeContinuationToken(5L)));
+        assertEquals("id", MongoPluginUtils.decodeContinuationToken(MongoPluginUtils.encodeContinuationToken("id")));
+    }
+
+    @Test
+    void testDecodeContinuationToken_withInvalidToken_throwsError() {
+        assertThrows(AppsmithPluginException.class, () -> MongoPluginUtils.decodeContinuationToken("not a token"));
+        assertThrows(AppsmithPluginException.class, () -> MongoPluginUtils.decodeContinuationToken("e30"));
+    }
 }
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JdbcStreamingUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -17,7 +18,6 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.MustacheBindingToken;
 import com.appsmith.external.models.Param;
-import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
@@ -38,6 +38,7 @@ import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -68,8 +69,10 @@ import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.PluginConstants.PluginName.MSSQL_PLUGIN_NAME;
+import static com.appsmith.external.helpers.JdbcStreamingUtils.STREAMING_FETCH_SIZE;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.isPreparedStatement;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.constants.MssqlPluginConstants.GENERATE_CRUD_PAGE_SELECT_QUERY;
 import static com.external.plugins.exceptions.MssqlErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
@@ -141,24 +144,8 @@ public class MssqlPlugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, MssqlErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement =
+                    isPreparedStatement(actionConfiguration.getPluginSpecifiedTemplates(), PREPARED_STATEMENT_INDEX);
 
             // In case of non-prepared statement, simply do bind replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -175,6 +162,75 @@ public class MssqlPlugin extends BasePlugin {
             return executeCommon(hikariDSConnection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
 
+        /**
+         * Streams the rows of the result as they are read from the server, with the driver fetching {@link
+         * JdbcStreamingUtils#STREAMING_FETCH_SIZE} rows at a time, instead of collecting the whole result in memory.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                HikariDataSource hikariDSConnection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, MssqlErrorMessages.MISSING_QUERY_ERROR_MSG));
+            }
+
+            final JdbcStreamingUtils.StatementExecutor statementExecutor;
+            if (FALSE.equals(
+                    isPreparedStatement(actionConfiguration.getPluginSpecifiedTemplates(), PREPARED_STATEMENT_INDEX))) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                final String substitutedQuery = actionConfiguration.getBody();
+                statementExecutor = connectionFromPool -> {
+                    Statement statement = connectionFromPool.createStatement();
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    statement.execute(substitutedQuery);
+                    return statement;
+                };
+            } else {
+                List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                statementExecutor = connectionFromPool -> {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(updatedQuery);
+                    preparedQuery.setFetchSize(STREAMING_FETCH_SIZE);
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
+                            preparedQuery, mustacheKeysInOrder, executeActionDTO.getParams(), new ArrayList<>());
+                    preparedQuery.execute();
+                    return preparedQuery;
+                };
+            }
+
+            return JdbcStreamingUtils.streamRows(
+                            () -> {
+                                try {
+                                    return mssqlDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                            hikariDSConnection, MSSQL_PLUGIN_NAME);
+                                } catch (SQLException e) {
+                                    // Same as in executeCommon, this should trigger the recreation of the connection
+                                    // pool.
+                                    throw new StaleConnectionException(e.getMessage());
+                                }
+                            },
+                            false,
+                            statementExecutor,
+                            MssqlExecuteUtils::getRow)
+                    .cast(Object.class)
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException)
+                                    && !(error instanceof StaleConnectionException),
+                            error -> new AppsmithPluginException(
+                                    MssqlPluginError.QUERY_EXECUTION_FAILED,
+                                    MssqlErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error.getMessage(),
+                                    error instanceof SQLException sqlException
+                                            ? "SQLSTATE: " + sqlException.getSQLState()
+                                            : null))
+                    .subscribeOn(scheduler);
+        }
+
         public Mono<ActionExecutionResult> executeCommon(
                 HikariDataSource hikariDSConnection,
                 ActionConfiguration actionConfiguration,
@@ -83,49 +83,55 @@ public class MssqlExecuteUtils {
             rowsList.add(Map.of("affectedRows", updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
+                rowsList.add(getRow(resultSet, metaData));
+            }
+        }
+    }
 
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
+    /**
+     * Reads the current row of the result set into a map of column names to values.
+     */
+    public static Map<String, Object> getRow(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException {
+        final int colCount = metaData.getColumnCount();
 
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
+        // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+        Map<String, Object> row = new LinkedHashMap<>(colCount);
 
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
+        for (int i = 1; i <= colCount; i++) {
+            Object value;
+            final String typeName = metaData.getColumnTypeName(i);
 
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                        resultSet.getDate(i).toLocalDate(),
-                                        resultSet.getTime(i).toLocalTime()))
-                                + "Z";
+            if (resultSet.getObject(i) == null) {
+                value = null;
 
-                    } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+            } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
 
-                    } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getString(i);
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                resultSet.getDate(i).toLocalDate(),
+                                resultSet.getTime(i).toLocalTime()))
+                        + "Z";
 
-                    } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getObject(i).toString();
+            } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
 
-                    } else {
-                        value = resultSet.getObject(i);
-                    }
+            } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getString(i);
 
-                    row.put(metaData.getColumnName(i), value);
-                }
+            } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getObject(i).toString();
 
-                rowsList.add(row);
+            } else {
+                value = resultSet.getObject(i);
             }
+
+            row.put(metaData.getColumnName(i), value);
         }
+
+        return row;
     }
 }
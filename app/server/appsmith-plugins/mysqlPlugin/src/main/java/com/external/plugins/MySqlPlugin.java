@@ -82,6 +82,7 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.helpers.PluginUtils.MATCH_QUOTED_WORDS_REGEX;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.isPreparedStatement;
 import static com.appsmith.external.helpers.SSHUtils.getConnectionContext;
 import static com.appsmith.external.helpers.SSHUtils.isSSHTunnelConnected;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
@@ -193,24 +194,8 @@ public class MySqlPlugin extends BasePlugin {
 
             final Map<String, Object> requestData = new HashMap<>();
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement =
+                    isPreparedStatement(actionConfiguration.getPluginSpecifiedTemplates(), PREPARED_STATEMENT_INDEX);
 
             requestData.put("preparedStatement", TRUE.equals(isPreparedStatement));
 
@@ -247,6 +232,96 @@ public class MySqlPlugin extends BasePlugin {
                     connectionContext, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
         }
 
+        /**
+         * Streams the rows of the result as they are decoded by the driver instead of collecting the whole result in
+         * memory. Since the rows are not collected, the maximum response size is not enforced in this mode.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                ConnectionContext<ConnectionPool> connectionContext,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        MySQLErrorMessages.MISSING_PARAMETER_QUERY_ERROR_MSG));
+            }
+
+            final Boolean isPreparedStatement =
+                    isPreparedStatement(actionConfiguration.getPluginSpecifiedTemplates(), PREPARED_STATEMENT_INDEX);
+            List<MustacheBindingToken> mustacheKeysInOrder = null;
+            if (FALSE.equals(isPreparedStatement)) {
+                actionConfiguration.setBody(query.trim());
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+            } else {
+                query = query.trim();
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                actionConfiguration.setBody(MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder));
+            }
+
+            final String finalQuery = QueryUtils.removeQueryComments(actionConfiguration.getBody());
+            if (TRUE.equals(isPreparedStatement) && isIsOperatorUsed(finalQuery)) {
+                return Flux.error(new AppsmithPluginException(
+                        MySQLPluginError.IS_KEYWORD_NOT_ALLOWED_IN_PREPARED_STATEMENT,
+                        MySQLErrorMessages.IS_KEYWORD_NOT_SUPPORTED_IN_PS_ERROR_MSG));
+            }
+
+            final boolean isSelectOrShowOrDescQuery = getIsSelectOrShowOrDescQuery(finalQuery);
+            final List<MustacheBindingToken> mustacheValuesInOrder = mustacheKeysInOrder;
+            final SSHTunnelContext sshTunnelContext = connectionContext.getSshTunnelContext();
+
+            return Flux.usingWhen(
+                            connectionContext.getConnection().create(),
+                            connection -> Mono.from(connection.validate(ValidationDepth.LOCAL))
+                                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
+                                    .onErrorMap(
+                                            TimeoutException.class,
+                                            error -> new StaleConnectionException(error.getMessage()))
+                                    .flatMapMany(isConnectionValid -> {
+                                        if (!isConnectionValid || !isSSHTunnelConnected(sshTunnelContext)) {
+                                            return Flux.error(new StaleConnectionException(
+                                                    CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG));
+                                        }
+
+                                        return createAndExecuteQueryFromConnection(
+                                                finalQuery,
+                                                connection,
+                                                isPreparedStatement,
+                                                mustacheValuesInOrder,
+                                                executeActionDTO,
+                                                new HashMap<>(),
+                                                new LinkedHashMap<>());
+                                    })
+                                    .concatMap(result -> isSelectOrShowOrDescQuery
+                                            ? Flux.from(result.map(this::getRow))
+                                            : Flux.from(result.getRowsUpdated())
+                                                    .map(rowsUpdated -> Map.<String, Object>of(
+                                                            "affectedRows",
+                                                            ObjectUtils.defaultIfNull(rowsUpdated, 0)))),
+                            Connection::close)
+                    .cast(Object.class)
+                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(PoolShutdownException.class, error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(
+                            R2dbcNonTransientResourceException.class,
+                            error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException)
+                                    && !(error instanceof StaleConnectionException),
+                            error -> new AppsmithPluginException(
+                                    MySQLPluginError.QUERY_EXECUTION_FAILED,
+                                    MySQLErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error.getMessage(),
+                                    error instanceof R2dbcException r2dbcException
+                                            ? "SQLSTATE: " + r2dbcException.getSqlState()
+                                            : null))
+                    .subscribeOn(scheduler);
+        }
+
         @Override
         public ActionConfiguration getSchemaPreviewActionConfig(Template queryTemplate, Boolean isMock) {
             ActionConfiguration actionConfig = new ActionConfiguration();
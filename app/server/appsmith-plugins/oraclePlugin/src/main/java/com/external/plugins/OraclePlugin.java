@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JdbcStreamingUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -23,6 +24,7 @@ import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
+import com.external.plugins.utils.OracleExecuteUtils;
 import com.external.plugins.utils.OracleSpecificDataTypes;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +33,7 @@ import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -61,11 +64,13 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.constants.CommonFieldName.BODY;
 import static com.appsmith.external.constants.CommonFieldName.PREPARED_STATEMENT;
 import static com.appsmith.external.constants.PluginConstants.PluginName.ORACLE_PLUGIN_NAME;
+import static com.appsmith.external.helpers.JdbcStreamingUtils.STREAMING_FETCH_SIZE;
 import static com.appsmith.external.helpers.PluginUtils.OBJECT_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFormData;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.isPreparedStatement;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.OracleDatasourceUtils.JDBC_DRIVER;
@@ -144,16 +149,8 @@ public class OraclePlugin extends BasePlugin {
                         OracleErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement = TRUE;
-            Object preparedStatementObject =
-                    getDataValueSafelyFromFormData(formData, PREPARED_STATEMENT, OBJECT_TYPE, TRUE);
-            if (preparedStatementObject instanceof Boolean) {
-                isPreparedStatement = (Boolean) preparedStatementObject;
-            } else if (preparedStatementObject instanceof String) {
-                // Older UI configuration used to set this value as a string which may/may not be castable to a boolean
-                // directly. This is to ensure we are backward compatible
-                isPreparedStatement = Boolean.parseBoolean((String) preparedStatementObject);
-            }
+            Boolean isPreparedStatement = isPreparedStatement(
+                    getDataValueSafelyFromFormData(formData, PREPARED_STATEMENT, OBJECT_TYPE, TRUE));
 
             // In case of non-prepared statement, simply do binding-replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -185,6 +182,80 @@ public class OraclePlugin extends BasePlugin {
                     executeActionDTO);
         }
 
+        /**
+         * Streams the rows of the result as they are read from the server, with the driver fetching {@link
+         * JdbcStreamingUtils#STREAMING_FETCH_SIZE} rows per round trip, instead of collecting the whole result in
+         * memory.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                HikariDataSource connectionPool,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+            final Map<String, Object> formData = actionConfiguration.getFormData();
+            String query = getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE, null);
+            if (isBlank(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        OracleErrorMessages.MISSING_QUERY_ERROR_MSG));
+            }
+
+            final JdbcStreamingUtils.StatementExecutor statementExecutor;
+            if (FALSE.equals(isPreparedStatement(
+                    getDataValueSafelyFromFormData(formData, PREPARED_STATEMENT, OBJECT_TYPE, TRUE)))) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                final String substitutedQuery =
+                        getDataValueSafelyFromFormData(actionConfiguration.getFormData(), BODY, STRING_TYPE, null);
+                statementExecutor = connectionFromPool -> {
+                    Statement statement = connectionFromPool.createStatement();
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    statement.execute(substitutedQuery);
+                    return statement;
+                };
+            } else {
+                List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                String replacedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                // Semicolons are only allowed with PL/SQL syntax, same as in executeParameterized
+                final String updatedQuery =
+                        isPLSQL(replacedQuery) ? replacedQuery : removeSemicolonFromQuery(replacedQuery);
+                statementExecutor = connectionFromPool -> {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(updatedQuery);
+                    preparedQuery.setFetchSize(STREAMING_FETCH_SIZE);
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
+                            preparedQuery, mustacheKeysInOrder, executeActionDTO.getParams(), new ArrayList<>());
+                    preparedQuery.execute();
+                    return preparedQuery;
+                };
+            }
+
+            return JdbcStreamingUtils.streamRows(
+                            () -> {
+                                try {
+                                    return oracleDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                            connectionPool, ORACLE_PLUGIN_NAME);
+                                } catch (SQLException e) {
+                                    // Same as in executeCommon, this should trigger the recreation of the pool.
+                                    throw new StaleConnectionException(e.getMessage());
+                                }
+                            },
+                            false,
+                            statementExecutor,
+                            OracleExecuteUtils::getRow)
+                    .cast(Object.class)
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException)
+                                    && !(error instanceof StaleConnectionException),
+                            error -> new AppsmithPluginException(
+                                    OraclePluginError.QUERY_EXECUTION_FAILED,
+                                    OracleErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error.getMessage(),
+                                    error instanceof SQLException sqlException
+                                            ? "SQLSTATE: " + sqlException.getSQLState()
+                                            : null))
+                    .subscribeOn(scheduler);
+        }
+
         private Mono<ActionExecutionResult> executeCommon(
                 HikariDataSource connectionPool,
                 DatasourceConfiguration datasourceConfiguration,
@@ -132,63 +132,71 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
             rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
-
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
-
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
-
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-                    } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
-                        /**
-                         * clob, nclob are textual data.
-                         * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
-                         */
-                        value = String.valueOf(
-                                ((CLOB) resultSet.getObject(i)).getTarget().getPrefetchedData());
-                    } else if (resultSet.getObject(i) instanceof OracleArray) {
-                        value = ((OracleArray) resultSet.getObject(i)).getArray();
-                    } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = Base64.getEncoder().encodeToString((byte[]) resultSet.getObject(i));
-                    } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = ((OracleBlob) resultSet.getObject(i))
-                                .getBytes(1L, (int) ((OracleBlob) resultSet.getObject(i)).length());
-                    } else {
-                        value = resultSet.getObject(i).toString();
-                    }
-
-                    row.put(metaData.getColumnName(i), value);
-                }
-
-                rowsList.add(row);
+                rowsList.add(getRow(resultSet, metaData));
             }
         }
     }
+
+    /**
+     * Reads the current row of the result set into a map of column names to values, converting the Oracle specific
+     * types into values that can be serialized into the response.
+     */
+    public static Map<String, Object> getRow(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException {
+        final int colCount = metaData.getColumnCount();
+
+        // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+        Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+        for (int i = 1; i <= colCount; i++) {
+            Object value;
+            final String typeName = metaData.getColumnTypeName(i);
+
+            if (resultSet.getObject(i) == null) {
+                value = null;
+
+            } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
+                    || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
+                    || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+            } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
+                /**
+                 * clob, nclob are textual data.
+                 * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
+                 */
+                value = String.valueOf(
+                        ((CLOB) resultSet.getObject(i)).getTarget().getPrefetchedData());
+            } else if (resultSet.getObject(i) instanceof OracleArray) {
+                value = ((OracleArray) resultSet.getObject(i)).getArray();
+            } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                /**
+                 * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
+                 * base64 encoded string. The correct way to read the data for these types is for the user to
+                 * cast them to a type before reading them, example:
+                 * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
+                 */
+                value = Base64.getEncoder().encodeToString((byte[]) resultSet.getObject(i));
+            } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                /**
+                 * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
+                 * base64 encoded string. The correct way to read the data for these types is for the user to
+                 * cast them to a type before reading them, example:
+                 * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
+                 */
+                value = ((OracleBlob) resultSet.getObject(i))
+                        .getBytes(1L, (int) ((OracleBlob) resultSet.getObject(i)).length());
+            } else {
+                value = resultSet.getObject(i).toString();
+            }
+
+            row.put(metaData.getColumnName(i), value);
+        }
+
+        return row;
+    }
 }
@@ -8,7 +8,9 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JdbcStreamingUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResponseSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -45,6 +47,7 @@ import org.pf4j.PluginWrapper;
 import org.postgresql.util.PGobject;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -84,10 +87,11 @@ import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRES_PLUGIN_NAME;
+import static com.appsmith.external.helpers.JdbcStreamingUtils.STREAMING_FETCH_SIZE;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
+import static com.appsmith.external.helpers.PluginUtils.isPreparedStatement;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.appsmith.external.models.SSLDetails.AuthType.VERIFY_CA;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
@@ -130,8 +134,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
@@ -237,24 +239,8 @@ public class PostgresPlugin extends BasePlugin {
                         PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement =
+                    isPreparedStatement(actionConfiguration.getPluginSpecifiedTemplates(), PREPARED_STATEMENT_INDEX);
 
             // In case of non-prepared statement, simply do bind replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -280,6 +266,83 @@ public class PostgresPlugin extends BasePlugin {
                     explicitCastDataTypes);
         }
 
+        /**
+         * Streams the rows of the result through a server side cursor, fetching {@link
+         * JdbcStreamingUtils#STREAMING_FETCH_SIZE} rows per round trip, instead of collecting the whole result in
+         * memory. Since the rows are not collected, the maximum response size is not enforced in this mode.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                HikariDataSource connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
+            }
+
+            final JdbcStreamingUtils.StatementExecutor statementExecutor;
+            if (FALSE.equals(
+                    isPreparedStatement(actionConfiguration.getPluginSpecifiedTemplates(), PREPARED_STATEMENT_INDEX))) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                final String substitutedQuery = actionConfiguration.getBody();
+                statementExecutor = connectionFromPool -> {
+                    Statement statement = connectionFromPool.createStatement();
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    statement.execute(substitutedQuery);
+                    return statement;
+                };
+            } else {
+                List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                List<DataType> explicitCastDataTypes = extractExplicitCasting(updatedQuery);
+                statementExecutor = connectionFromPool -> {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(updatedQuery);
+                    preparedQuery.setFetchSize(STREAMING_FETCH_SIZE);
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
+                            preparedQuery,
+                            mustacheKeysInOrder,
+                            executeActionDTO.getParams(),
+                            new ArrayList<>(),
+                            connectionFromPool,
+                            explicitCastDataTypes);
+                    preparedQuery.execute();
+                    return preparedQuery;
+                };
+            }
+
+            return JdbcStreamingUtils.streamRows(
+                            () -> {
+                                try {
+                                    return postgresDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                            connection, POSTGRES_PLUGIN_NAME);
+                                } catch (SQLException e) {
+                                    // Same as in executeCommon, failing to get a connection from the pool should
+                                    // trigger the recreation of the pool.
+                                    throw new StaleConnectionException(e.getMessage());
+                                }
+                            },
+                            true,
+                            statementExecutor,
+                            this::getRow)
+                    .cast(Object.class)
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException)
+                                    && !(error instanceof StaleConnectionException),
+                            error -> new AppsmithPluginException(
+                                    PostgresPluginError.QUERY_EXECUTION_FAILED,
+                                    PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error.getMessage(),
+                                    error instanceof SQLException sqlException
+                                            ? "SQLSTATE: " + sqlException.getSQLState()
+                                            : null))
+                    .subscribeOn(scheduler);
+        }
+
         @Override
         public ActionConfiguration getSchemaPreviewActionConfig(Template queryTemplate, Boolean isMock) {
             ActionConfiguration actionConfig = new ActionConfiguration();
@@ -412,90 +475,29 @@ public class PostgresPlugin extends BasePlugin {
                             } else {
 
                                 ResultSetMetaData metaData = resultSet.getMetaData();
-                                int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
+                                ResponseSizeEstimator responseSizeEstimator =
+                                        new ResponseSizeEstimator(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
 
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
+                                    // The estimate is updated incrementally as each cell is read, hence this check
+                                    // is cheap enough to be done for every row.
+                                    if (responseSizeEstimator.isLimitExceeded()) {
+                                        log.debug(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED,
+                                                responseSizeEstimator.getEstimatedSize());
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
                                     }
 
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
-                                    }
+                                    responseSizeEstimator.addRow();
+                                    Map<String, Object> row = getRow(resultSet, metaData);
+                                    row.forEach(responseSizeEstimator::addCell);
 
                                     rowsList.add(row);
-
-                                    iterator++;
                                 }
                             }
 
@@ -600,6 +602,73 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Reads the current row of the result set into a map of column names to values, converting the Postgres
+         * specific types into values that can be serialized into the response.
+         */
+        private Map<String, Object> getRow(ResultSet resultSet, ResultSetMetaData metaData)
+                throws SQLException, IOException {
+            final int colCount = metaData.getColumnCount();
+
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the
+            // response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(
+                            resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()))
+                            + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = objectMapper.readTree(resultSet.getString(i));
+                } else {
+                    value = resultSet.getObject(i);
+
+                    /**
+                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
+                     * are
+                     * only interested in the value and not the type, it makes sense to extract out
+                     * the value as a string.
+                     * Reference:
+                     * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                     */
+                    if (value instanceof PGobject) {
+                        value = ((PGobject) value).getValue();
+                    }
+                }
+
+                row.put(metaData.getColumnName(i), value);
+            }
+
+            return row;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -422,6 +423,42 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteStreaming_emitsRowsOneByOne() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT id, username FROM users ORDER BY id");
+
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("preparedStatement", "false"));
+        actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+
+        Flux<Object> rowsFlux = dsConnectionMono.flatMapMany(conn -> pluginExecutor.executeParameterizedStreaming(
+                conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(rowsFlux)
+                .assertNext(row -> assertEquals("Jack", ((Map<?, ?>) row).get("username")))
+                .assertNext(row -> assertEquals("Jill", ((Map<?, ?>) row).get("username")))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteStreaming_withInvalidQuery_emitsError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM missing_table");
+
+        Flux<Object> rowsFlux = dsConnectionMono.flatMapMany(conn -> pluginExecutor.executeParameterizedStreaming(
+                conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(rowsFlux).expectError(AppsmithPluginException.class).verify();
+    }
+
     @Test
     public void testExecute() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
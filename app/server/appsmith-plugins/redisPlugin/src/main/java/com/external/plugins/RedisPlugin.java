@@ -9,29 +9,41 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.RedisErrorMessages;
 import com.external.plugins.exceptions.RedisPluginError;
+import com.external.plugins.models.RedisConnection;
 import com.external.utils.RedisURIUtils;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TransactionResult;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.NestedMultiOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
-import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
-import redis.clients.jedis.JedisPoolConfig;
-import redis.clients.jedis.Protocol;
-import redis.clients.jedis.exceptions.JedisException;
-import redis.clients.jedis.util.SafeEncoder;
-
-import java.net.URI;
+
+import java.net.URISyntaxException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -40,11 +52,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Slf4j
@@ -52,19 +67,63 @@ public class RedisPlugin extends BasePlugin {
     private static final int CONNECTION_TIMEOUT = 60;
     private static final String CMD_KEY = "cmd";
     private static final String ARGS_KEY = "args";
+    private static final String CONNECTION_TAG = "connection";
+    private static final String SHARED_CONNECTION = "shared";
+    private static final String DEDICATED_CONNECTION = "dedicated";
+    private static final int MULTIPLE_COMMANDS_INDEX = 0;
 
     public RedisPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
     @Extension
-    public static class RedisPluginExecutor implements PluginExecutor<JedisPool> {
+    public static class RedisPluginExecutor implements PluginExecutor<RedisConnection> {
+
+        /**
+         * Commands that change the state of the connection, or block it until a reply is available. These can't be
+         * sent on the shared connection of the datasource, so the queries that use them are run on a connection of
+         * their own.
+         */
+        private static final Set<String> DEDICATED_CONNECTION_COMMANDS = Set.of(
+                "MULTI",
+                "EXEC",
+                "DISCARD",
+                "WATCH",
+                "UNWATCH",
+                "SELECT",
+                "AUTH",
+                "HELLO",
+                "RESET",
+                "BLPOP",
+                "BRPOP",
+                "BRPOPLPUSH",
+                "BLMOVE",
+                "BZPOPMIN",
+                "BZPOPMAX");
+
+        /**
+         * Commands that put the connection in subscriber mode, or stream to it until it is closed. They never give a
+         * reply that a query can return, so they are rejected instead of waiting until the query times out.
+         */
+        private static final Set<String> UNSUPPORTED_COMMANDS = Set.of("SUBSCRIBE", "PSUBSCRIBE", "MONITOR");
+
+        // Event loops shared by the clients of all the Redis datasources
+        private static final ClientResources CLIENT_RESOURCES = DefaultClientResources.create();
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private static final AtomicInteger PENDING_COMMANDS =
+                Metrics.globalRegistry.gauge("appsmith.redis.commands.pending", new AtomicInteger());
+
+        private static final AtomicInteger SHARED_CONNECTIONS = Metrics.globalRegistry.gauge(
+                "appsmith.redis.connections", Tags.of(CONNECTION_TAG, SHARED_CONNECTION), new AtomicInteger());
+
+        private static final AtomicInteger DEDICATED_CONNECTIONS = Metrics.globalRegistry.gauge(
+                "appsmith.redis.connections", Tags.of(CONNECTION_TAG, DEDICATED_CONNECTION), new AtomicInteger());
+
+        private record ParsedCommand(CommandType type, String[] args) {}
 
         @Override
         public Mono<ActionExecutionResult> execute(
-                JedisPool jedisPool,
+                RedisConnection redisConnection,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
@@ -72,58 +131,61 @@ public class RedisPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams =
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
 
-            Jedis jedis;
-            try {
-                jedis = jedisPool.getResource();
-            } catch (Exception e) {
-                return Mono.error(new AppsmithPluginException(
-                        RedisPluginError.QUERY_EXECUTION_FAILED,
-                        RedisErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                        e.getMessage()));
-            }
-            return Mono.fromCallable(() -> {
+            return Mono.defer(() -> {
                         if (StringUtils.isNullOrEmpty(query)) {
                             return Mono.error(new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                     String.format(RedisErrorMessages.BODY_IS_NULL_OR_EMPTY_ERROR_MSG, query)));
                         }
 
-                        Map cmdAndArgs = getCommandAndArgs(query.trim());
-                        if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                        List<Map<String, Object>> commandsAndArgs = getCommandsAndArgs(
+                                query.trim(), isMultipleCommands(actionConfiguration.getPluginSpecifiedTemplates()));
+                        if (commandsAndArgs.isEmpty()) {
                             return Mono.error(new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                     RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG));
                         }
 
-                        Protocol.Command command;
-                        try {
-                            // Commands are in upper case
-                            command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
-                        } catch (IllegalArgumentException exc) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    String.format(
-                                            RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG,
-                                            cmdAndArgs.get(CMD_KEY))));
-                        }
-
-                        Object commandOutput;
-                        if (cmdAndArgs.containsKey(ARGS_KEY)) {
-                            commandOutput = jedis.sendCommand(command, (String[]) cmdAndArgs.get(ARGS_KEY));
-                        } else {
-                            commandOutput = jedis.sendCommand(command);
+                        List<ParsedCommand> commands = new ArrayList<>();
+                        for (Map<String, Object> cmdAndArgs : commandsAndArgs) {
+                            CommandType command;
+                            try {
+                                // Commands are in upper case
+                                command = CommandType.valueOf((String) cmdAndArgs.get(CMD_KEY));
+                            } catch (IllegalArgumentException exc) {
+                                return Mono.error(new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                        String.format(
+                                                RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG,
+                                                cmdAndArgs.get(CMD_KEY))));
+                            }
+                            if (UNSUPPORTED_COMMANDS.contains(command.name())) {
+                                return Mono.error(new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                        String.format(
+                                                RedisErrorMessages.UNSUPPORTED_REDIS_COMMAND_ERROR_MSG, command)));
+                            }
+                            commands.add(new ParsedCommand(
+                                    command, (String[]) cmdAndArgs.getOrDefault(ARGS_KEY, new String[0])));
                         }
 
-                        ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                        actionExecutionResult.setBody(
-                                objectMapper.valueToTree(removeQuotes(processCommandOutput(commandOutput))));
-                        actionExecutionResult.setIsExecutionSuccess(true);
-
-                        log.debug("In the RedisPlugin, got action execution result");
-                        return Mono.just(actionExecutionResult);
+                        return sendCommands(redisConnection, commands).map(commandOutputs -> {
+                            // A query with a single command gives its output as it is, and a query with many commands
+                            // gives the output of each of them in order
+                            Object body = commandOutputs.size() == 1
+                                    ? processCommandOutput(commandOutputs.get(0))
+                                    : commandOutputs.stream()
+                                            .map(this::processCommandOutput)
+                                            .collect(Collectors.toList());
+
+                            ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
+                            actionExecutionResult.setBody(objectMapper.valueToTree(removeQuotes(body)));
+                            actionExecutionResult.setIsExecutionSuccess(true);
+
+                            log.debug("In the RedisPlugin, got action execution result");
+                            return actionExecutionResult;
+                        });
                     })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
                         error.printStackTrace();
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -145,18 +207,64 @@ public class RedisPlugin extends BasePlugin {
                         ActionExecutionResult result = actionExecutionResult;
                         result.setRequest(request);
                         return result;
-                    })
-                    .doFinally(signalType -> {
-                        /**
-                         * - Return resource back to the pool.
-                         * - https://stackoverflow.com/questions/54902337/is-it-necessary-to-use-jedis-close
-                         * - https://www.baeldung.com/jedis-java-redis-client-library:
-                         */
-                        if (jedis != null) {
-                            jedis.close();
-                        }
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        /**
+         * Sends the commands of a query to Redis, and gives their outputs in the same order. The commands are sent on
+         * the shared connection of the datasource, unless one of them changes the state of the connection, in which
+         * case they are sent on a connection that is opened for the query and closed once all the outputs are read.
+         */
+        private Mono<List<Object>> sendCommands(RedisConnection redisConnection, List<ParsedCommand> commands) {
+            final boolean isDedicatedConnectionNeeded = commands.stream()
+                    .anyMatch(command -> DEDICATED_CONNECTION_COMMANDS.contains(
+                            command.type().name()));
+            final Timer executionTimer = Timer.builder("appsmith.redis.execute")
+                    .tag(CONNECTION_TAG, isDedicatedConnectionNeeded ? DEDICATED_CONNECTION : SHARED_CONNECTION)
+                    .register(Metrics.globalRegistry);
+
+            return Mono.defer(() -> {
+                final Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+                final Mono<List<Object>> commandOutputsMono;
+                if (isDedicatedConnectionNeeded) {
+                    commandOutputsMono = Mono.usingWhen(
+                            Mono.fromCompletionStage(() -> redisConnection
+                                            .getClient()
+                                            .connectAsync(StringCodec.UTF8, redisConnection.getRedisURI()))
+                                    .doOnNext(connection -> DEDICATED_CONNECTIONS.incrementAndGet()),
+                            connection -> dispatchCommands(connection, commands),
+                            connection -> Mono.fromCompletionStage(connection.closeAsync())
+                                    .doFinally(signalType -> DEDICATED_CONNECTIONS.decrementAndGet()));
+                } else {
+                    commandOutputsMono = dispatchCommands(redisConnection.getSharedConnection(), commands);
+                }
+                return commandOutputsMono.doFinally(signalType -> sample.stop(executionTimer));
+            });
+        }
+
+        /**
+         * All the commands are written to the connection before any of their outputs is read, so they reach Redis as
+         * a single pipeline instead of one round trip per command.
+         */
+        private Mono<List<Object>> dispatchCommands(
+                StatefulRedisConnection<String, String> connection, List<ParsedCommand> commands) {
+            final RedisAsyncCommands<String, String> asyncCommands = connection.async();
+            final List<RedisFuture<?>> commandFutures = new ArrayList<>();
+            for (ParsedCommand command : commands) {
+                final CommandArgs<String, String> commandArgs = new CommandArgs<>(StringCodec.UTF8);
+                for (String arg : command.args()) {
+                    commandArgs.add(arg);
+                }
+                PENDING_COMMANDS.incrementAndGet();
+                final RedisFuture<?> commandFuture =
+                        asyncCommands.dispatch(command.type(), new NestedMultiOutput<>(StringCodec.UTF8), commandArgs);
+                commandFuture.whenComplete((output, error) -> PENDING_COMMANDS.decrementAndGet());
+                commandFutures.add(commandFuture);
+            }
+
+            return Flux.fromIterable(commandFutures)
+                    .concatMap(commandFuture -> Mono.<Object>fromCompletionStage(commandFuture))
+                    .collectList();
         }
 
         /**
@@ -182,7 +290,20 @@ public class RedisPlugin extends BasePlugin {
             return result;
         }
 
-        private Map getCommandAndArgs(String query) {
+        /**
+         * Queries saved before many commands could be run in one query may have a single command spread over many
+         * lines, so each line is a command of its own only when the query is set to run multiple commands.
+         */
+        private boolean isMultipleCommands(List<Property> pluginSpecifiedTemplates) {
+            final Object multipleCommands =
+                    getValueSafelyFromPropertyList(pluginSpecifiedTemplates, MULTIPLE_COMMANDS_INDEX);
+            if (multipleCommands instanceof Boolean isMultipleCommands) {
+                return isMultipleCommands;
+            }
+            return multipleCommands instanceof String value && Boolean.parseBoolean(value);
+        }
+
+        private List<Map<String, Object>> getCommandsAndArgs(String query, boolean isMultipleCommands) {
             /**
              * - This regex matches either a whole word, or anything inside double quotes. If something is inside
              * single quotes then it gets matched like a whole word
@@ -193,91 +314,106 @@ public class RedisPlugin extends BasePlugin {
              * (4) "my val"
              * (5) '{"a":"b"}'
              * Please note that the above example string is not a valid redis cmd and is only mentioned here for info.
+             * - When the query runs multiple commands, every line of the query is a command of its own, unless the
+             * line break is inside quotes. Otherwise the whole query is a single command.
              */
             String redisCmdRegex = "\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+";
             Pattern pattern = Pattern.compile(redisCmdRegex);
             Matcher matcher = pattern.matcher(query);
-            Map<String, Object> cmdAndArgs = new HashMap<>();
+            List<Map<String, Object>> commandsAndArgs = new ArrayList<>();
+            Map<String, Object> cmdAndArgs = null;
             List<String> args = new ArrayList<>();
+            int previousMatchEnd = 0;
             while (matcher.find()) {
-                if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                if (cmdAndArgs == null
+                        || (isMultipleCommands
+                                && query.substring(previousMatchEnd, matcher.start())
+                                        .contains("\n"))) {
+                    addArgs(cmdAndArgs, args);
+                    cmdAndArgs = new HashMap<>();
                     cmdAndArgs.put(CMD_KEY, matcher.group().toUpperCase());
+                    commandsAndArgs.add(cmdAndArgs);
+                    args = new ArrayList<>();
                 } else {
                     args.add(matcher.group());
                 }
+                previousMatchEnd = matcher.end();
             }
+            addArgs(cmdAndArgs, args);
+
+            return commandsAndArgs;
+        }
 
-            if (args.size() > 0) {
+        private void addArgs(Map<String, Object> cmdAndArgs, List<String> args) {
+            if (cmdAndArgs != null && args.size() > 0) {
                 cmdAndArgs.put(ARGS_KEY, args.toArray(new String[0]));
             }
-
-            return cmdAndArgs;
         }
 
         // This will be updated as we encounter different outputs.
-        private List<Map<String, String>> processCommandOutput(Object commandOutput) {
-            if (commandOutput == null) {
-                return List.of(Map.of("result", "null"));
-            } else if (commandOutput instanceof byte[]) {
-                return List.of(Map.of("result", SafeEncoder.encode((byte[]) commandOutput)));
-            } else if (commandOutput instanceof List) {
-                List<byte[]> commandList = (List<byte[]>) commandOutput;
-                return commandList.stream()
-                        .map(obj -> Map.of("result", SafeEncoder.encode(obj)))
-                        .collect(Collectors.toList());
-            } else {
-                return List.of(Map.of("result", String.valueOf(commandOutput)));
-            }
+        private List<Map<String, Object>> processCommandOutput(Object commandOutput) {
+            // Outputs of the commands run in a transaction are given by EXEC
+            final Stream<?> values = commandOutput instanceof TransactionResult transactionResult
+                    ? transactionResult.stream()
+                    : ((List<?>) commandOutput).stream();
+            return values.map(value -> Map.of("result", processValue(value))).collect(Collectors.toList());
         }
 
-        /**
-         * - Config taken from https://www.baeldung.com/jedis-java-redis-client-library
-         * - To understand what these config mean:
-         * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
-         */
-        private JedisPoolConfig buildPoolConfig() {
-            final JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(5);
-            poolConfig.setMaxIdle(5);
-            poolConfig.setMinIdle(0);
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
-            poolConfig.setTestWhileIdle(true);
-            poolConfig.setMinEvictableIdleTimeMillis(Duration.ofSeconds(60).toMillis());
-            poolConfig.setTimeBetweenEvictionRunsMillis(Duration.ofSeconds(30).toMillis());
-            poolConfig.setNumTestsPerEvictionRun(3);
-            poolConfig.setBlockWhenExhausted(true);
-            return poolConfig;
+        private Object processValue(Object value) {
+            if (value == null) {
+                return "null";
+            } else if (value instanceof List || value instanceof TransactionResult) {
+                return processCommandOutput(value);
+            } else if (value instanceof Throwable error) {
+                return error.getMessage();
+            } else {
+                return String.valueOf(value);
+            }
         }
 
         @Override
-        public Mono<JedisPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-            return Mono.fromCallable(() -> {
-                        final JedisPoolConfig poolConfig = buildPoolConfig();
-                        int timeout =
-                                (int) Duration.ofSeconds(CONNECTION_TIMEOUT).toMillis();
-                        URI uri = RedisURIUtils.getURI(datasourceConfiguration);
-                        JedisPool jedisPool = new JedisPool(poolConfig, uri, timeout);
-                        return jedisPool;
-                    })
-                    .subscribeOn(scheduler);
+        public Mono<RedisConnection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.defer(() -> {
+                final RedisURI redisURI;
+                try {
+                    redisURI = RedisURI.create(RedisURIUtils.getURI(datasourceConfiguration));
+                } catch (URISyntaxException e) {
+                    return Mono.error(e);
+                }
+                redisURI.setTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT));
+
+                final RedisClient client = RedisClient.create(CLIENT_RESOURCES, redisURI);
+                client.setOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT))
+                                .build())
+                        .build());
+
+                return Mono.fromCompletionStage(client.connectAsync(StringCodec.UTF8, redisURI))
+                        .map(sharedConnection -> {
+                            SHARED_CONNECTIONS.incrementAndGet();
+                            return new RedisConnection(client, redisURI, sharedConnection);
+                        })
+                        .onErrorResume(error ->
+                                Mono.fromCompletionStage(client.shutdownAsync()).then(Mono.error(error)));
+            });
         }
 
         @Override
-        public void datasourceDestroy(JedisPool jedisPool) {
-            // Schedule on elastic thread pool and subscribe immediately.
-            Mono.fromSupplier(() -> {
-                        try {
-                            if (jedisPool != null) {
-                                jedisPool.destroy();
-                            }
-                        } catch (JedisException e) {
-                            log.debug("Error destroying Jedis pool.");
-                        }
+        public void datasourceDestroy(RedisConnection redisConnection) {
+            if (redisConnection == null) {
+                return;
+            }
 
+            // The client is shut down once its connection is closed, but the shared event loops are kept running
+            Mono.fromCompletionStage(() -> redisConnection.getSharedConnection().closeAsync())
+                    .then(Mono.fromCompletionStage(
+                            () -> redisConnection.getClient().shutdownAsync()))
+                    .doFinally(signalType -> SHARED_CONNECTIONS.decrementAndGet())
+                    .onErrorResume(error -> {
+                        log.debug("Error closing Redis connection.", error);
                         return Mono.empty();
                     })
-                    .subscribeOn(scheduler)
                     .subscribe();
         }
 
@@ -345,31 +481,25 @@ public class RedisPlugin extends BasePlugin {
             return false;
         }
 
-        private Mono<Void> verifyPing(JedisPool connectionPool) {
-            String pingResponse;
-            try {
-                Jedis jedis = connectionPool.getResource();
-                pingResponse = jedis.ping();
-            } catch (Exception exc) {
-                return Mono.error(exc);
-            }
-
-            if (!"PONG".equals(pingResponse)) {
-                return Mono.error(new RuntimeException(
-                        String.format(RedisErrorMessages.NO_PONG_RESPONSE_ERROR_MSG, pingResponse)));
-            }
+        private Mono<Void> verifyPing(RedisConnection redisConnection) {
+            return Mono.fromCompletionStage(
+                            () -> redisConnection.getSharedConnection().async().ping())
+                    .flatMap(pingResponse -> {
+                        if (!"PONG".equals(pingResponse)) {
+                            return Mono.error(new RuntimeException(
+                                    String.format(RedisErrorMessages.NO_PONG_RESPONSE_ERROR_MSG, pingResponse)));
+                        }
 
-            return Mono.empty();
+                        return Mono.empty();
+                    });
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(JedisPool connectionPool) {
+        public Mono<DatasourceTestResult> testDatasource(RedisConnection redisConnection) {
 
-            return Mono.just(connectionPool)
-                    .flatMap(c -> verifyPing(connectionPool))
+            return verifyPing(redisConnection)
                     .then(Mono.just(new DatasourceTestResult()))
-                    .onErrorResume(error ->
-                            Mono.just(new DatasourceTestResult(error.getCause().getMessage())));
+                    .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage())));
         }
     }
 }
@@ -13,6 +13,9 @@ public class RedisErrorMessages extends BasePluginErrorMessages {
 
     public static final String INVALID_REDIS_COMMAND_ERROR_MSG = "Not a valid Redis command: %s";
 
+    public static final String UNSUPPORTED_REDIS_COMMAND_ERROR_MSG =
+            "Redis command %s is not supported, since it waits for messages instead of returning a result.";
+
     public static final String NO_PONG_RESPONSE_ERROR_MSG = "Expected PONG in response of PING but got %s";
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG =
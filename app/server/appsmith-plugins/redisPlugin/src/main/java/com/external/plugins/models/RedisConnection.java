@@ -0,0 +1,23 @@
+package com.external.plugins.models;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Connection to a Redis datasource. Queries are sent on the shared connection, which Lettuce multiplexes between all
+ * the queries of the datasource. The client is kept to open dedicated connections for the queries that change the
+ * state of the connection, like transactions.
+ */
+@Getter
+@AllArgsConstructor
+public class RedisConnection {
+
+    private final RedisClient client;
+
+    private final RedisURI redisURI;
+
+    private final StatefulRedisConnection<String, String> sharedConnection;
+}
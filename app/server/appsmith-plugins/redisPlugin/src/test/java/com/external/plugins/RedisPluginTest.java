@@ -7,9 +7,11 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.external.plugins.exceptions.RedisErrorMessages;
 import com.external.plugins.exceptions.RedisPluginError;
+import com.external.plugins.models.RedisConnection;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +24,6 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import redis.clients.jedis.JedisPool;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -69,11 +70,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldCreateDatasource() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
-        StepVerifier.create(jedisPoolMono).assertNext(Assertions::assertNotNull).verifyComplete();
+        StepVerifier.create(redisConnectionMono)
+                .assertNext(Assertions::assertNotNull)
+                .verifyComplete();
 
-        pluginExecutor.datasourceDestroy(jedisPoolMono.block());
+        pluginExecutor.datasourceDestroy(redisConnectionMono.block());
     }
 
     @Test
@@ -161,7 +164,7 @@ public class RedisPluginTest {
     public void itShouldThrowErrorIfHostnameIsInvalid() {
 
         String invalidHost = "invalidHost";
-        String errorMessage = "Failed connecting to " + invalidHost + ":" + port;
+        String errorMessage = "Unable to connect to " + invalidHost;
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         Endpoint endpoint = new Endpoint();
@@ -175,7 +178,8 @@ public class RedisPluginTest {
                 .assertNext(datasourceTestResult -> {
                     assertNotNull(datasourceTestResult);
                     assertFalse(datasourceTestResult.isSuccess());
-                    assertTrue(datasourceTestResult.getInvalids().contains(errorMessage));
+                    assertTrue(datasourceTestResult.getInvalids().stream()
+                            .anyMatch(invalid -> invalid.startsWith(errorMessage)));
                 })
                 .verifyComplete();
     }
@@ -183,12 +187,12 @@ public class RedisPluginTest {
     @Test
     public void itShouldThrowErrorIfEmptyBody() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(result -> {
@@ -202,13 +206,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldThrowErrorIfInvalidRedisCommand() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("LOL");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(result -> {
@@ -222,13 +226,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldExecuteCommandWithoutArgs() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("PING");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -243,13 +247,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldExecuteCommandWithArgs() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         // Getting a non-existent key
         ActionConfiguration getActionConfiguration = new ActionConfiguration();
         getActionConfiguration.setBody("GET key");
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, getActionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, getActionConfiguration));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
                     assertNotNull(actionExecutionResult);
@@ -278,8 +282,8 @@ public class RedisPluginTest {
         ActionConfiguration setActionConfigurationManyKeys = new ActionConfiguration();
         setActionConfigurationManyKeys.setBody("mset key1 value key2 \"value\" key3 \"my value\" key4 'value' key5 'my "
                 + "value' key6 '{\"a\":\"b\"}'");
-        actionExecutionResultMono = jedisPoolMono.flatMap(jedisPool ->
-                pluginExecutor.execute(jedisPool, datasourceConfiguration, setActionConfigurationManyKeys));
+        actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, setActionConfigurationManyKeys));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
                     assertNotNull(actionExecutionResult);
@@ -292,8 +296,8 @@ public class RedisPluginTest {
         // Verify the keys
         ActionConfiguration getActionConfigurationManyKeys = new ActionConfiguration();
         getActionConfigurationManyKeys.setBody("mget key1 key2 key3 key4 key5 key6");
-        actionExecutionResultMono = jedisPoolMono.flatMap(jedisPool ->
-                pluginExecutor.execute(jedisPool, datasourceConfiguration, getActionConfigurationManyKeys));
+        actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, getActionConfigurationManyKeys));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
                     assertNotNull(actionExecutionResult);
@@ -309,19 +313,116 @@ public class RedisPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void itShouldExecuteCommandsOnSeparateLinesAsPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("set pipelineKey \"my\nvalue\"\nget pipelineKey\nincr pipelineCounter");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("multipleCommands", true)));
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(3, node.size());
+                    assertEquals("OK", node.get(0).get(0).get("result").asText());
+                    assertEquals("my\nvalue", node.get(1).get(0).get("result").asText());
+                    assertEquals("1", node.get(2).get(0).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldExecuteTransactionOnDedicatedConnection() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("MULTI\nset transactionKey value\nget transactionKey\nEXEC");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("multipleCommands", true)));
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(4, node.size());
+                    // The output of EXEC has the outputs of the commands in the transaction
+                    final JsonNode execOutput = node.get(3);
+                    assertEquals(
+                            "OK",
+                            execOutput.get(0).get("result").get(0).get("result").asText());
+                    assertEquals(
+                            "value",
+                            execOutput.get(1).get("result").get(0).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldExecuteCommandOnSeveralLinesAsSingleCommand() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        // Queries that don't run multiple commands keep treating line breaks as spaces
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("mset\nmultiLineKey1 value1\nmultiLineKey2 value2");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(1, node.size());
+                    assertEquals("OK", node.get(0).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldThrowErrorIfSubscribeCommand() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SUBSCRIBE channel");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                    assertEquals(
+                            String.format(RedisErrorMessages.UNSUPPORTED_REDIS_COMMAND_ERROR_MSG, "SUBSCRIBE"),
+                            result.getBody());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testSelectedDatabase() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         DBAuth auth = new DBAuth();
         auth.setDatabaseName("7"); // set database to select
         datasourceConfiguration.setAuthentication(auth);
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("CLIENT INFO");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -338,13 +439,13 @@ public class RedisPluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         DBAuth auth = new DBAuth();
         datasourceConfiguration.setAuthentication(auth);
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnection> redisConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("CLIENT INFO");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = redisConnectionMono.flatMap(redisConnection ->
+                pluginExecutor.execute(redisConnection, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
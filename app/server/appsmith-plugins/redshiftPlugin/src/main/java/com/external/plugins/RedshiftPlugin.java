@@ -1,8 +1,10 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.JdbcStreamingUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -25,6 +27,7 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -50,6 +53,7 @@ import java.util.stream.Collectors;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.PluginConstants.PluginName.REDSHIFT_PLUGIN_NAME;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.JDBC_DRIVER_LOADING_ERROR_MSG;
+import static com.appsmith.external.helpers.JdbcStreamingUtils.STREAMING_FETCH_SIZE;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.external.utils.RedshiftDatasourceUtils.createConnectionPool;
@@ -326,6 +330,58 @@ public class RedshiftPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Streams the rows of the result through a server side cursor, fetching {@link
+         * JdbcStreamingUtils#STREAMING_FETCH_SIZE} rows per round trip, instead of collecting the whole result in
+         * memory.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                HikariDataSource connectionPool,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        RedshiftErrorMessages.QUERY_PARAMETER_MISSING_ERROR_MSG));
+            }
+
+            return JdbcStreamingUtils.streamRows(
+                            () -> {
+                                try {
+                                    return redshiftDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                            connectionPool, REDSHIFT_PLUGIN_NAME);
+                                } catch (SQLException e) {
+                                    // Same as in execute, this should trigger the recreation of the pool.
+                                    throw new StaleConnectionException(e.getMessage());
+                                }
+                            },
+                            true,
+                            connection -> {
+                                Statement statement = connection.createStatement();
+                                statement.setFetchSize(STREAMING_FETCH_SIZE);
+                                statement.execute(query);
+                                return statement;
+                            },
+                            (resultSet, metaData) -> getRow(resultSet))
+                    .cast(Object.class)
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException)
+                                    && !(error instanceof StaleConnectionException),
+                            error -> new AppsmithPluginException(
+                                    RedshiftPluginError.QUERY_EXECUTION_FAILED,
+                                    RedshiftErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error.getMessage(),
+                                    error instanceof SQLException sqlException
+                                            ? "SQLSTATE: " + sqlException.getSQLState()
+                                            : null))
+                    .subscribeOn(scheduler);
+        }
+
         public void printConnectionPoolStatus(HikariDataSource connectionPool, boolean isFetchingStructure) {
             HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
             int idleConnections = poolProxy.getIdleConnections();
@@ -0,0 +1,43 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.caching.codec.CacheCodec;
+import com.appsmith.caching.codec.JacksonCacheCodec;
+import com.appsmith.server.featureflags.CachedFeatures;
+import com.appsmith.server.featureflags.CachedFlags;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Stores the values of the caches read on almost every request in the compact Smile binary format, instead of Java
+ * serialization.
+ */
+@Configuration
+public class CacheCodecConfig {
+
+    @Bean
+    public CacheCodec permissionGroupsCacheCodec() {
+        return JacksonCacheCodec.smile(
+                TypeFactory.defaultInstance().constructCollectionType(Set.class, String.class),
+                "permissionGroupsForUser");
+    }
+
+    @Bean
+    public CacheCodec featureFlagsCacheCodec() {
+        return JacksonCacheCodec.smile(TypeFactory.defaultInstance().constructType(CachedFlags.class), "featureFlag");
+    }
+
+    @Bean
+    public CacheCodec tenantFeaturesCacheCodec() {
+        return JacksonCacheCodec.smile(
+                TypeFactory.defaultInstance().constructType(CachedFeatures.class), "tenantNewFeatures");
+    }
+
+    @Bean
+    public CacheCodec astReferencesCacheCodec() {
+        return JacksonCacheCodec.smile(
+                TypeFactory.defaultInstance().constructCollectionType(Set.class, String.class), "astReferences");
+    }
+}
@@ -68,6 +68,14 @@ public class CommonConfig {
     @Value("${appsmith.rts.port:8091}")
     private String rtsPort;
 
+    // Maximum number of binding values whose AST references are cached in memory
+    @Value("${appsmith.rts.ast.cache.max-size:100000}")
+    private long rtsAstCacheMaxSize;
+
+    // Share the cached AST references between instances through Redis
+    @Value("${appsmith.rts.ast.cache.redis.enabled:false}")
+    private boolean rtsAstCacheRedisEnabled;
+
     @Value("${appsmith.micrometer.tracing.detail.enabled:false}")
     private boolean tracingDetail;
 
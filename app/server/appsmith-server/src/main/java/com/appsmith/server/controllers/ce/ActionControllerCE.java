@@ -92,6 +92,29 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    /**
+     * Same as {@link #executeAction}, except that the rows of the result are written to the response as newline
+     * delimited JSON while they are read from the datasource, instead of being collected into a single response.
+     */
+    @JsonView(Views.Public.class)
+    @PostMapping(
+            value = "/execute/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Object> executeActionStreaming(
+            @RequestBody Flux<Part> partFlux,
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            @RequestHeader(name = FieldName.HEADER_ENVIRONMENT_ID, required = false) String environmentId,
+            ServerWebExchange serverWebExchange) {
+
+        return actionExecutionSolution.executeActionStreaming(
+                partFlux,
+                branchName,
+                environmentId,
+                serverWebExchange.getRequest().getHeaders(),
+                Boolean.FALSE);
+    }
+
     @JsonView(Views.Public.class)
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(
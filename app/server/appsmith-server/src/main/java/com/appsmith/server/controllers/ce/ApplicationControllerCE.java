@@ -36,7 +36,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -53,6 +53,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -207,15 +208,16 @@ public class ApplicationControllerCE {
 
     @JsonView(Views.Public.class)
     @GetMapping("/export/{id}")
-    public Mono<ResponseEntity<Object>> getApplicationFile(
-            @PathVariable String id, @RequestParam(name = FieldName.BRANCH_NAME, required = false) String branchName) {
-        log.debug("Going to export application with id: {}, branch: {}", id, branchName);
-
-        return exportService.getArtifactFile(id, branchName, APPLICATION).map(fetchedResource -> {
-            HttpHeaders responseHeaders = fetchedResource.getHttpHeaders();
-            Object applicationResource = fetchedResource.getArtifactResource();
-            return new ResponseEntity<>(applicationResource, responseHeaders, HttpStatus.OK);
-        });
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(
+            @PathVariable String id,
+            @RequestParam(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            @RequestParam(name = "gzip", required = false, defaultValue = "false") boolean isGzipEnabled) {
+        log.debug("Going to export application with id: {}, branch: {}, gzip: {}", id, branchName, isGzipEnabled);
+
+        return exportService
+                .streamArtifactFile(id, branchName, APPLICATION, isGzipEnabled)
+                .map(fetchedResource -> new ResponseEntity<>(
+                        fetchedResource.getArtifactContent(), fetchedResource.getHttpHeaders(), HttpStatus.OK));
     }
 
     @JsonView(Views.Public.class)
@@ -32,6 +32,13 @@ public class ApplicationSnapshot extends BaseDomain {
      */
     private int chunkOrder;
 
+    /**
+     * Compression of the data, i.e. gzip, which is the same for all the chunks of a snapshot. The data of the chunks is
+     * split after it is compressed, so it has to be joined before it is decompressed. Null for the snapshots that were
+     * stored without compression.
+     */
+    private String compression;
+
     /**
      * Adding this method as updatedAt field in BaseDomain is annotated with @JsonIgnore
      *
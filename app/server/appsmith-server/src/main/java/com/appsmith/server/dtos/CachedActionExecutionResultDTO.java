@@ -0,0 +1,34 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.caching.model.WeightedCacheValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Result of an action execution, as stored in the action result cache. The result is kept serialized, so that every
+ * cache hit gets its own copy to modify.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedActionExecutionResultDTO implements Serializable, WeightedCacheValue {
+
+    private static final int BYTES_PER_WEIGHT = 1024;
+
+    // The ActionExecutionResult, serialized as JSON
+    byte[] result;
+
+    // Whether the body of the result was a JsonNode, rather than e.g. a plain string
+    boolean jsonBody;
+
+    // Epoch millis after which the result must not be served anymore
+    long expiresAt;
+
+    @Override
+    public int getWeight() {
+        return 1 + result.length / BYTES_PER_WEIGHT;
+    }
+}
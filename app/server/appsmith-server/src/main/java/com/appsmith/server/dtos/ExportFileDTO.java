@@ -1,10 +1,15 @@
 package com.appsmith.server.dtos;
 
 import lombok.Data;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
 
 @Data
 public class ExportFileDTO {
     HttpHeaders httpHeaders;
     Object artifactResource;
+
+    // Serialised content of the artifact, when the file is streamed instead of being returned as an object
+    Flux<DataBuffer> artifactContent;
 }
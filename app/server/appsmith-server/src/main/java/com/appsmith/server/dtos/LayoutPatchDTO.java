@@ -0,0 +1,53 @@
+package com.appsmith.server.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A JSON-Patch style delta to the DSL of a layout, keyed by the widgetId of every widget that has changed. The paths of
+ * the operations are relative to the widget, e.g. `/text` or `/textStyle/color`, and can't point into the widgetId,
+ * widgetName, type or children of the widget, since renames and structural changes need the complete layout update.
+ */
+@Getter
+@Setter
+public class LayoutPatchDTO {
+
+    @NotEmpty
+    @Valid
+    private List<WidgetPatchDTO> widgets;
+
+    @Getter
+    @Setter
+    public static class WidgetPatchDTO {
+        @NotNull private String widgetId;
+
+        @NotEmpty
+        @Valid
+        private List<OperationDTO> operations;
+    }
+
+    @Getter
+    @Setter
+    public static class OperationDTO {
+        @NotNull private OperationType op;
+
+        @NotNull private String path;
+
+        private Object value;
+    }
+
+    public enum OperationType {
+        @JsonProperty("add")
+        ADD,
+        @JsonProperty("replace")
+        REPLACE,
+        @JsonProperty("remove")
+        REMOVE
+    }
+}
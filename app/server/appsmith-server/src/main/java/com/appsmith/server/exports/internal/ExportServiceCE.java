@@ -27,4 +27,13 @@ public interface ExportServiceCE {
             String artifactId, String branchName, ArtifactType artifactType);
 
     Mono<ExportFileDTO> getArtifactFile(String artifactId, String branchName, ArtifactType artifactType);
+
+    /**
+     * Exports the artifact as a file whose content is written to the response while the json is being serialised
+     *
+     * @param isGzipEnabled whether the content should be compressed with gzip
+     * @return headers of the file along with its content, in {@link ExportFileDTO#getArtifactContent()}
+     */
+    Mono<ExportFileDTO> streamArtifactFile(
+            String artifactId, String branchName, ArtifactType artifactType, boolean isGzipEnabled);
 }
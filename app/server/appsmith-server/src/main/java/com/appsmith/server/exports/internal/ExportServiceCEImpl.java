@@ -20,24 +20,32 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exports.exportable.ExportableService;
 import com.appsmith.server.exports.internal.artifactbased.ArtifactBasedExportService;
+import com.appsmith.server.helpers.OutputStreamPublisher;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import static com.appsmith.server.constants.ce.FieldNameCE.ARTIFACT_CONTEXT;
 import static java.lang.Boolean.TRUE;
@@ -54,6 +62,10 @@ public class ExportServiceCEImpl implements ExportServiceCE {
     private final ExportableService<CustomJSLib> customJSLibExportableService;
     protected final Gson gson;
 
+    private static final int EXPORT_CHUNK_SIZE = 64 * 1024;
+
+    private static final String GZIP_ENCODING = "gzip";
+
     public ExportServiceCEImpl(
             SessionUserService sessionUserService,
             AnalyticsService analyticsService,
@@ -289,20 +301,65 @@ public class ExportServiceCEImpl implements ExportServiceCE {
                     String stringifiedFile = gson.toJson(artifactExchangeJson);
                     String artifactName = artifactExchangeJson.getArtifact().getName();
                     Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
-                    HttpHeaders responseHeaders = new HttpHeaders();
-                    ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
-                            .filename(artifactName + ".json", StandardCharsets.UTF_8)
-                            .build();
-                    responseHeaders.setContentDisposition(contentDisposition);
-                    responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
                     ExportFileDTO exportFileDTO = new ExportFileDTO();
                     exportFileDTO.setArtifactResource(jsonObject);
+                    exportFileDTO.setHttpHeaders(getExportFileHeaders(artifactName));
+                    return exportFileDTO;
+                });
+    }
+
+    /**
+     * Exports the artifact like {@link #getArtifactFile}, but the json is written straight to the response as data
+     * buffers, instead of being converted to a string and parsed again before the response is written.
+     *
+     * @param isGzipEnabled : whether the content should be compressed with gzip, in which case the content encoding
+     *                      header is set as well
+     */
+    @Override
+    public Mono<ExportFileDTO> streamArtifactFile(
+            String artifactId, String branchName, ArtifactType artifactType, boolean isGzipEnabled) {
+        return exportByArtifactIdAndBranchName(artifactId, branchName, artifactType)
+                .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
+                .map(artifactExchangeJson -> {
+                    String artifactName = artifactExchangeJson.getArtifact().getName();
+                    HttpHeaders responseHeaders = getExportFileHeaders(artifactName);
+                    if (isGzipEnabled) {
+                        responseHeaders.set(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+                    }
+
+                    Flux<DataBuffer> artifactContent = OutputStreamPublisher.create(
+                            outputStream -> {
+                                OutputStream contentStream = isGzipEnabled
+                                        ? new GZIPOutputStream(outputStream, EXPORT_CHUNK_SIZE)
+                                        : outputStream;
+                                // Closing the json writer finishes the gzip stream and publishes the last chunk
+                                try (JsonWriter jsonWriter = gson.newJsonWriter(
+                                        new OutputStreamWriter(contentStream, StandardCharsets.UTF_8))) {
+                                    gson.toJson(artifactExchangeJson, artifactExchangeJson.getClass(), jsonWriter);
+                                }
+                            },
+                            DefaultDataBufferFactory.sharedInstance,
+                            EXPORT_CHUNK_SIZE,
+                            Schedulers.boundedElastic());
+
+                    ExportFileDTO exportFileDTO = new ExportFileDTO();
+                    exportFileDTO.setArtifactContent(artifactContent);
                     exportFileDTO.setHttpHeaders(responseHeaders);
                     return exportFileDTO;
                 });
     }
 
+    private HttpHeaders getExportFileHeaders(String artifactName) {
+        HttpHeaders responseHeaders = new HttpHeaders();
+        ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
+                .filename(artifactName + ".json", StandardCharsets.UTF_8)
+                .build();
+        responseHeaders.setContentDisposition(contentDisposition);
+        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+        return responseHeaders;
+    }
+
     /**
      * To send analytics event for import and export of application
      *
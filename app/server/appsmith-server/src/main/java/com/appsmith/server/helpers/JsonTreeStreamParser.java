@@ -0,0 +1,155 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Builds a tree of json elements out of a json document that arrives in data buffers, e.g. an uploaded file, while
+ * the buffers arrive. Every buffer is parsed as soon as it is fed and can be released right after, so the document is
+ * never held in memory as bytes, only as the tree that is built from it.
+ * <p>
+ * The document is parsed as leniently as Gson does, i.e. comments, single quotes and unquoted names are allowed. Any
+ * content after the first json value is ignored.
+ */
+public class JsonTreeStreamParser {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS)
+            .build();
+
+    private final JsonParser parser;
+
+    private final ByteBufferFeeder feeder;
+
+    /**
+     * The arrays and objects that are being built, the innermost one first
+     */
+    private final Deque<JsonElement> openElements = new ArrayDeque<>();
+
+    private JsonElement root;
+
+    /**
+     * Name of the field whose value is parsed next, or null once the value has been added
+     */
+    private String fieldName;
+
+    public JsonTreeStreamParser() {
+        try {
+            parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Parses the readable bytes of the buffer and adds the elements found in them to the tree. The buffer isn't
+     * referred to anymore once this returns, so the caller may release it.
+     *
+     * @throws IOException if the bytes aren't valid json
+     */
+    public void feed(DataBuffer dataBuffer) throws IOException {
+        if (isComplete()) {
+            return;
+        }
+        try (DataBuffer.ByteBufferIterator byteBuffers = dataBuffer.readableByteBuffers()) {
+            while (byteBuffers.hasNext() && !isComplete()) {
+                ByteBuffer byteBuffer = byteBuffers.next();
+                feeder.feedInput(byteBuffer);
+                readTokens();
+            }
+        }
+    }
+
+    /**
+     * Parses whatever is left once the whole document has been fed.
+     *
+     * @return the json value of the document, or null if the document is empty
+     * @throws IOException if the document ends before its json value does
+     */
+    public JsonElement complete() throws IOException {
+        if (!isComplete()) {
+            feeder.endOfInput();
+            readTokens();
+            if (root != null && !isComplete()) {
+                throw new IOException("Unexpected end of json document");
+            }
+        }
+        parser.close();
+        return root;
+    }
+
+    /**
+     * The json value of the document, which is only partly built until the whole value has been fed. The elements of
+     * an object or an array are added to it as they are parsed.
+     */
+    public JsonElement getRoot() {
+        return root;
+    }
+
+    private boolean isComplete() {
+        return root != null && openElements.isEmpty();
+    }
+
+    private void readTokens() throws IOException {
+        JsonToken token;
+        while (!isComplete() && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT -> openElements.push(add(new JsonObject()));
+                case START_ARRAY -> openElements.push(add(new JsonArray()));
+                case END_OBJECT, END_ARRAY -> {
+                    // The non-blocking parser doesn't always report a field without a value when the input is split
+                    // right after the colon
+                    if (fieldName != null) {
+                        throw new JsonParseException(parser, "Missing value of field " + fieldName);
+                    }
+                    openElements.pop();
+                }
+                case FIELD_NAME -> fieldName = parser.currentName();
+                case VALUE_STRING -> add(new JsonPrimitive(parser.getText()));
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                    // Numbers are kept as text, like Gson does, so that they are read with the type of the field
+                    add(new JsonPrimitive(new LazilyParsedNumber(parser.getText())));
+                }
+                case VALUE_TRUE -> add(new JsonPrimitive(true));
+                case VALUE_FALSE -> add(new JsonPrimitive(false));
+                case VALUE_NULL -> add(JsonNull.INSTANCE);
+                default -> {
+                    // Embedded objects are never found in json text
+                }
+            }
+        }
+    }
+
+    private JsonElement add(JsonElement element) {
+        JsonElement parent = openElements.peek();
+        if (parent == null) {
+            root = element;
+        } else if (parent.isJsonObject()) {
+            parent.getAsJsonObject().add(fieldName, element);
+            fieldName = null;
+        } else {
+            parent.getAsJsonArray().add(element);
+        }
+        return element;
+    }
+}
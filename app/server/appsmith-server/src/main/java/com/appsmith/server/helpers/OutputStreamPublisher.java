@@ -0,0 +1,175 @@
+package com.appsmith.server.helpers;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Publishes the bytes written to an output stream as data buffers of a fixed size, so that a large response can be sent
+ * to the client while it is being written, instead of being built in memory first. The writer runs on the given
+ * scheduler and waits for the subscriber to ask for more buffers, so only a few buffers are held in memory at a time,
+ * however large the response is.
+ */
+public class OutputStreamPublisher {
+
+    @FunctionalInterface
+    public interface OutputStreamWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    private OutputStreamPublisher() {}
+
+    /**
+     * @param writer        writes the content to the given output stream, which is closed once the writer is done
+     * @param bufferFactory creates the published data buffers
+     * @param chunkSize     size of every data buffer, except the last one
+     * @param scheduler     scheduler on which the blocking writer is run
+     * @return the written content, which is written again for every subscriber
+     */
+    public static Flux<DataBuffer> create(
+            OutputStreamWriter writer, DataBufferFactory bufferFactory, int chunkSize, Scheduler scheduler) {
+        return Flux.create(sink -> {
+            final ChunkedOutputStream outputStream = new ChunkedOutputStream(sink, bufferFactory, chunkSize);
+            sink.onRequest(outputStream::request);
+            sink.onDispose(outputStream::cancel);
+            scheduler.schedule(() -> {
+                try {
+                    writer.write(outputStream);
+                    outputStream.close();
+                    sink.complete();
+                } catch (Throwable e) {
+                    // The writer fails once the subscriber has cancelled, which isn't an error for anyone
+                    if (!outputStream.isCancelled()) {
+                        sink.error(e);
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * Fills a chunk with the written bytes, and publishes it once it is full and the subscriber has asked for it
+     */
+    private static class ChunkedOutputStream extends OutputStream {
+
+        private final FluxSink<DataBuffer> sink;
+
+        private final DataBufferFactory bufferFactory;
+
+        private final int chunkSize;
+
+        private byte[] chunk;
+
+        private int position = 0;
+
+        private long demand = 0;
+
+        private boolean cancelled = false;
+
+        private boolean closed = false;
+
+        ChunkedOutputStream(FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory, int chunkSize) {
+            this.sink = sink;
+            this.bufferFactory = bufferFactory;
+            this.chunkSize = chunkSize;
+            this.chunk = new byte[chunkSize];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            if (position == chunkSize) {
+                publishChunk();
+            }
+            chunk[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            ensureOpen();
+            while (length > 0) {
+                if (position == chunkSize) {
+                    publishChunk();
+                }
+                final int count = Math.min(length, chunkSize - position);
+                System.arraycopy(bytes, offset, chunk, position, count);
+                position += count;
+                offset += count;
+                length -= count;
+            }
+        }
+
+        /**
+         * Partly filled chunks aren't published on flush, since writers like {@link java.util.zip.GZIPOutputStream}
+         * flush often, which would send a lot of small buffers to the client.
+         */
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            if (position > 0) {
+                publishChunk();
+            }
+            closed = true;
+        }
+
+        synchronized void request(long count) {
+            demand = demand + count < 0 ? Long.MAX_VALUE : demand + count;
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void publishChunk() throws IOException {
+            awaitDemand();
+            final byte[] content = position == chunkSize ? chunk : Arrays.copyOf(chunk, position);
+            sink.next(bufferFactory.wrap(content));
+            // The published chunk is owned by the data buffer now
+            chunk = new byte[chunkSize];
+            position = 0;
+        }
+
+        private synchronized void awaitDemand() throws IOException {
+            while (demand == 0 && !cancelled) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the subscriber");
+                }
+            }
+            if (cancelled) {
+                throw new IOException("The subscriber has cancelled");
+            }
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("The stream is closed");
+            }
+        }
+    }
+}
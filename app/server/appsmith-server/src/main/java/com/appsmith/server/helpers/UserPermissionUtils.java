@@ -8,7 +8,6 @@ import com.appsmith.server.exceptions.AppsmithException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
@@ -19,7 +18,30 @@ public class UserPermissionUtils {
                 .filter(policy -> policy.getPermission().equals(aclPermission.getValue()))
                 .findFirst();
         return permissionPolicy.isPresent()
-                && !Collections.disjoint(permissionPolicy.get().getPermissionGroups(), permissionGroups);
+                && sharesPermissionGroup(permissionPolicy.get().getPermissionGroups(), permissionGroups);
+    }
+
+    /**
+     * Checks whether a policy grants its permission to any of the given permission groups. Unlike
+     * {@link java.util.Collections#disjoint}, which always iterates the second argument when the first one is a set,
+     * this walks the smaller of the two sets and probes the other one.
+     */
+    public static boolean sharesPermissionGroup(Set<String> policyPermissionGroups, Set<String> permissionGroups) {
+        if (policyPermissionGroups == null || permissionGroups == null) {
+            return false;
+        }
+        Set<String> iterated = policyPermissionGroups;
+        Set<String> probed = permissionGroups;
+        if (iterated.size() > probed.size()) {
+            iterated = permissionGroups;
+            probed = policyPermissionGroups;
+        }
+        for (String permissionGroup : iterated) {
+            if (probed.contains(permissionGroup)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static Mono<Boolean> validateDomainObjectPermissionsOrError(
@@ -28,8 +50,9 @@ public class UserPermissionUtils {
             Mono<Set<String>> permissionGroupIdsMono,
             AclPermission aclPermission,
             AppsmithError appsmithError) {
+        // The permission groups are resolved once and reused for every domain object
         return baseDomainFlux
-                .zipWith(permissionGroupIdsMono.repeat())
+                .zipWith(permissionGroupIdsMono.cache().repeat())
                 .map(tuple -> {
                     if (!validateDomainObjectPermissionExists(tuple.getT1(), aclPermission, tuple.getT2())) {
                         throw new AppsmithException(
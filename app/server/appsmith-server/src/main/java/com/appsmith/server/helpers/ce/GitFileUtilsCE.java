@@ -1,6 +1,7 @@
 package com.appsmith.server.helpers.ce;
 
 import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.git.FileInterface;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ActionDTO;
@@ -127,6 +128,20 @@ public class GitFileUtilsCE {
         }
     }
 
+    /**
+     * This method will get the status of the branch as if the application had been saved to the local repo directory,
+     * without writing it to the working tree.
+     *
+     * @param baseRepoSuffix  path suffix used to create a local repo path
+     * @param applicationJson application reference object from which entire application can be rehydrated
+     * @param branchName      name of the branch for the current application
+     * @return status of the branch
+     */
+    public Mono<GitStatusDTO> getStatus(Path baseRepoSuffix, ApplicationJson applicationJson, String branchName) {
+        ApplicationGitReference applicationReference = createApplicationReference(applicationJson);
+        return fileUtils.getStatus(baseRepoSuffix, applicationReference, branchName);
+    }
+
     public Mono<Path> saveApplicationToLocalRepoWithAnalytics(
             Path baseRepoSuffix, ApplicationJson applicationJson, String branchName)
             throws IOException, GitAPIException {
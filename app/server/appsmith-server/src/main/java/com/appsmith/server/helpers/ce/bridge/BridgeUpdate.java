@@ -17,6 +17,11 @@ public class BridgeUpdate implements UpdateDefinition {
         return this;
     }
 
+    public BridgeUpdate unset(@NonNull String key) {
+        update.unset(key);
+        return this;
+    }
+
     public BridgeUpdate push(@NonNull String key, @NonNull Object value) {
         update.push(key, value);
         return this;
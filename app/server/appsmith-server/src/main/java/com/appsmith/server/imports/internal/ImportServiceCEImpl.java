@@ -21,6 +21,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ImportArtifactPermissionProvider;
 import com.appsmith.server.helpers.ImportExportUtils;
+import com.appsmith.server.helpers.JsonTreeStreamParser;
 import com.appsmith.server.imports.importable.ImportableService;
 import com.appsmith.server.imports.internal.artifactbased.ArtifactBasedImportService;
 import com.appsmith.server.migrations.ArtifactSchemaMigration;
@@ -28,11 +29,12 @@ import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.Part;
@@ -41,6 +43,7 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -54,6 +57,8 @@ public class ImportServiceCEImpl implements ImportServiceCE {
 
     public static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.APPLICATION_JSON);
     private static final String INVALID_JSON_FILE = "invalid json file";
+    private static final String CLIENT_SCHEMA_VERSION = "clientSchemaVersion";
+    private static final String SERVER_SCHEMA_VERSION = "serverSchemaVersion";
     private final ArtifactBasedImportService<Application, ApplicationImportDTO, ApplicationJson>
             applicationImportService;
     private final SessionUserService sessionUserService;
@@ -63,7 +68,6 @@ public class ImportServiceCEImpl implements ImportServiceCE {
     private final AnalyticsService analyticsService;
     private final ImportableService<Plugin> pluginImportableService;
     private final ImportableService<Datasource> datasourceImportableService;
-    private final GsonBuilder gsonBuilder;
     private final ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
 
     /**
@@ -109,18 +113,84 @@ public class ImportServiceCEImpl implements ImportServiceCE {
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        return DataBufferUtils.join(filePart.content())
-                .map(dataBuffer -> {
-                    byte[] data = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(data);
-                    DataBufferUtils.release(dataBuffer);
-                    return new String(data);
-                })
-                .map(jsonString -> {
-                    gsonBuilder.registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter);
-                    Gson gson = gsonBuilder.create();
-                    return gson.fromJson(jsonString, ArtifactExchangeJson.class);
-                });
+        return Mono.defer(() -> {
+            final JsonTreeStreamParser jsonParser = new JsonTreeStreamParser();
+            return filePart.content()
+                    .doOnNext(dataBuffer -> {
+                        try {
+                            jsonParser.feed(dataBuffer);
+                        } catch (IOException e) {
+                            log.error("Unable to parse imported json", e);
+                            throw new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
+                        } finally {
+                            DataBufferUtils.release(dataBuffer);
+                        }
+                        validatePartialJson(jsonParser.getRoot());
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .then(Mono.fromCallable(() -> {
+                        try {
+                            return jsonParser.complete();
+                        } catch (IOException e) {
+                            log.error("Unable to parse imported json", e);
+                            throw new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
+                        }
+                    }))
+                    .switchIfEmpty(
+                            Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE)))
+                    .map(this::readArtifactExchangeJson);
+        });
+    }
+
+    /**
+     * Checks the part of the uploaded json that has been parsed so far, so that a file that can't be imported is
+     * rejected while it is still being uploaded. The schema versions are usually at the top of the file.
+     */
+    private static void validatePartialJson(JsonElement json) {
+        if (json == null) {
+            return;
+        }
+        if (!json.isJsonObject()) {
+            log.error("Imported json is not an object");
+            throw new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
+        }
+        final JsonObject jsonObject = json.getAsJsonObject();
+        if (jsonObject.has(CLIENT_SCHEMA_VERSION) && jsonObject.has(SERVER_SCHEMA_VERSION)) {
+            checkSchemaVersions(jsonObject);
+        }
+    }
+
+    /**
+     * Builds the artifact json out of the tree of json elements parsed from the upload. The schema versions are
+     * checked on that tree, so that an incompatible file is rejected before the resources in it are deserialised.
+     */
+    private ArtifactExchangeJson readArtifactExchangeJson(JsonElement json) {
+        if (!json.isJsonObject()) {
+            log.error("Imported json is not an object");
+            throw new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
+        }
+
+        final JsonObject jsonObject = json.getAsJsonObject();
+        checkSchemaVersions(jsonObject);
+        return artifactExchangeJsonAdapter.deserialize(jsonObject, ArtifactExchangeJson.class, null);
+    }
+
+    private static void checkSchemaVersions(JsonObject jsonObject) {
+        if (!ArtifactSchemaMigration.isCompatible(
+                getSchemaVersion(jsonObject, CLIENT_SCHEMA_VERSION),
+                getSchemaVersion(jsonObject, SERVER_SCHEMA_VERSION))) {
+            throw new AppsmithException(AppsmithError.INCOMPATIBLE_IMPORTED_JSON);
+        }
+    }
+
+    private static int getSchemaVersion(JsonObject jsonObject, String fieldName) {
+        final JsonElement schemaVersion = jsonObject.get(fieldName);
+        if (schemaVersion == null
+                || !schemaVersion.isJsonPrimitive()
+                || !schemaVersion.getAsJsonPrimitive().isNumber()) {
+            return 0;
+        }
+        return schemaVersion.getAsInt();
     }
 
     /**
@@ -12,7 +12,6 @@ import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
-import com.google.gson.GsonBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
@@ -27,7 +26,6 @@ public class ImportServiceImpl extends ImportServiceCEImpl implements ImportServ
             AnalyticsService analyticsService,
             ImportableService<Plugin> pluginImportableService,
             ImportableService<Datasource> datasourceImportableService,
-            GsonBuilder gsonBuilder,
             ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter) {
         super(
                 applicationImportService,
@@ -38,7 +36,6 @@ public class ImportServiceImpl extends ImportServiceCEImpl implements ImportServ
                 analyticsService,
                 pluginImportableService,
                 datasourceImportableService,
-                gsonBuilder,
                 artifactExchangeJsonAdapter);
     }
 }
@@ -2,6 +2,7 @@ package com.appsmith.server.layouts;
 
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.UpdateMultiplePageLayoutDTO;
 import net.minidev.json.JSONObject;
 import reactor.core.publisher.Mono;
@@ -12,6 +13,13 @@ public interface UpdateLayoutServiceCE {
     Mono<LayoutDTO> updateLayout(
             String defaultPageId, String defaultApplicationId, String layoutId, Layout layout, String branchName);
 
+    /**
+     * Applies a delta, keyed by widgetId, to the DSL of a layout in edit mode. Unlike the complete layout update, only
+     * the patched widgets are processed, and only their patched properties are written, as long as their bindings
+     * haven't changed.
+     */
+    Mono<LayoutDTO> patchLayout(String defaultPageId, String layoutId, LayoutPatchDTO layoutPatch, String branchName);
+
     Mono<Integer> updateMultipleLayouts(
             String defaultApplicationId, String branchName, UpdateMultiplePageLayoutDTO updateMultiplePageLayoutDTO);
 
@@ -14,11 +14,14 @@ import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.UpdateMultiplePageLayoutDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.WidgetSpecificUtils;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
+import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.onload.internal.OnLoadExecutablesUtil;
 import com.appsmith.server.services.AnalyticsService;
@@ -40,6 +43,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +51,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.helpers.StringUtils.dotted;
 import static com.appsmith.server.services.ce.ApplicationPageServiceCEImpl.EVALUATION_VERSION;
 import static java.lang.Boolean.FALSE;
 
@@ -65,6 +70,10 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
 
     private final ObjectMapper objectMapper;
 
+    // Renames and structural changes of the DSL go through the complete layout update or the refactoring flow
+    private static final Set<String> NON_PATCHABLE_WIDGET_PROPERTIES =
+            Set.of(FieldName.WIDGET_ID, FieldName.WIDGET_NAME, FieldName.WIDGET_TYPE, FieldName.CHILDREN);
+
     private final String layoutOnLoadActionErrorToastMessage =
             "A cyclic dependency error has been encountered on current page, \nqueries on page load will not run. \n Please check debugger and Appsmith documentation for more information";
 
@@ -238,6 +247,266 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
                 .map(responseUtils::updateLayoutDTOWithDefaultResources);
     }
 
+    @Override
+    public Mono<LayoutDTO> patchLayout(
+            String defaultPageId, String layoutId, LayoutPatchDTO layoutPatch, String branchName) {
+        Mono<LayoutDTO> patchedLayoutMono = findPageToPatch(defaultPageId, branchName)
+                .flatMap(page -> patchPageLayout(page, layoutId, layoutPatch, true)
+                        .switchIfEmpty(Mono.defer(() -> {
+                            // The layout has changed since it was read, e.g. because of a concurrent layout update.
+                            // Apply the patch to the latest layout instead, with a complete layout update.
+                            return findPageToPatch(defaultPageId, branchName)
+                                    .flatMap(latestPage -> patchPageLayout(latestPage, layoutId, layoutPatch, false));
+                        })));
+
+        if (!StringUtils.hasLength(branchName)) {
+            return patchedLayoutMono;
+        }
+        return patchedLayoutMono.map(responseUtils::updateLayoutDTOWithDefaultResources);
+    }
+
+    private Mono<NewPage> findPageToPatch(String defaultPageId, String branchName) {
+        Mono<NewPage> pageMono = StringUtils.hasLength(branchName)
+                ? newPageService.findByBranchNameAndDefaultPageId(
+                        branchName, defaultPageId, pagePermission.getEditPermission())
+                : newPageService.findById(defaultPageId, pagePermission.getEditPermission());
+
+        return pageMono.filter(page -> page.getUnpublishedPage() != null
+                        && page.getUnpublishedPage().getDeletedAt() == null)
+                .switchIfEmpty(Mono.error(
+                        new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE_ID, defaultPageId)));
+    }
+
+    /**
+     * Applies the patch to the stored DSL of the layout, re-extracting the bindings of the patched widgets only. If
+     * none of these bindings have changed, then neither have the on load executables of the page, and only the patched
+     * properties of the widgets are written to the page. Otherwise, the patched layout goes through the complete
+     * layout update.
+     *
+     * @return The updated layout, without the DSL which the client already has, or an empty Mono if the partial update
+     * didn't match the stored page anymore
+     */
+    private Mono<LayoutDTO> patchPageLayout(
+            NewPage page, String layoutId, LayoutPatchDTO layoutPatch, boolean isPartialUpdateAllowed) {
+        final String pageId = page.getId();
+        final List<Layout> layouts = page.getUnpublishedPage().getLayouts();
+
+        int layoutIndex = -1;
+        for (int i = 0; layouts != null && i < layouts.size(); i++) {
+            if (layoutId.equals(layouts.get(i).getId())) {
+                layoutIndex = i;
+                break;
+            }
+        }
+        if (layoutIndex == -1 || layouts.get(layoutIndex).getDsl() == null) {
+            return Mono.error(new AppsmithException(
+                    AppsmithError.ACL_NO_RESOURCE_FOUND,
+                    FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID,
+                    pageId + ", " + layoutId));
+        }
+        final Layout layout = layouts.get(layoutIndex);
+        final String layoutPath = dotted(NewPage.Fields.unpublishedPage_layouts, String.valueOf(layoutIndex));
+
+        Map<String, List<LayoutPatchDTO.OperationDTO>> operationsByWidgetId = new LinkedHashMap<>();
+        for (LayoutPatchDTO.WidgetPatchDTO widgetPatch : layoutPatch.getWidgets()) {
+            operationsByWidgetId
+                    .computeIfAbsent(widgetPatch.getWidgetId(), widgetId -> new ArrayList<>())
+                    .addAll(widgetPatch.getOperations());
+        }
+
+        Map<String, Map<String, Object>> widgetsByPath = new HashMap<>();
+        Map<String, String> widgetPathsById = new HashMap<>();
+        indexWidgetsById(layout.getDsl(), dotted(layoutPath, Layout.Fields.dsl), widgetsByPath, widgetPathsById);
+
+        final Set<String> storedEscapedWidgetNames = layout.getMongoEscapedWidgetNames() == null
+                ? Set.of()
+                : Set.copyOf(layout.getMongoEscapedWidgetNames());
+        Set<String> escapedWidgetNames = new HashSet<>(storedEscapedWidgetNames);
+        Map<String, String> widgetIdsByPath = new HashMap<>();
+        BridgeUpdate update = Bridge.update();
+        boolean isBindingChanged = false;
+
+        for (Map.Entry<String, List<LayoutPatchDTO.OperationDTO>> entry : operationsByWidgetId.entrySet()) {
+            final String widgetId = entry.getKey();
+            final String widgetPath = widgetPathsById.get(widgetId);
+            if (widgetPath == null) {
+                return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID));
+            }
+            final Map<String, Object> widget = widgetsByPath.get(widgetPath);
+            final String widgetName = String.valueOf(widget.get(FieldName.WIDGET_NAME));
+
+            Map<String, Set<String>> bindingsBeforePatch = new HashMap<>();
+            try {
+                extractDynamicBindingsFromWidget(
+                        unEscapeWidgetKeys(widget), bindingsBeforePatch, pageId, layoutId, CreatorContextType.PAGE);
+            } catch (AppsmithException e) {
+                // The stored bindings are invalid, so there is nothing to compare the patched bindings with
+                isBindingChanged = true;
+            }
+
+            Set<String> patchedProperties;
+            try {
+                patchedProperties = applyWidgetOperations(widget, entry.getValue());
+            } catch (AppsmithException e) {
+                return Mono.error(e);
+            }
+
+            Map<String, Set<String>> bindingsAfterPatch = new HashMap<>();
+            try {
+                extractDynamicBindingsFromWidget(
+                        unEscapeWidgetKeys(widget), bindingsAfterPatch, pageId, layoutId, CreatorContextType.PAGE);
+            } catch (AppsmithException e) {
+                return sendUpdateLayoutAnalyticsEvent(
+                                pageId, layoutId, layout.getDsl(), false, e, CreatorContextType.PAGE)
+                        .then(Mono.error(e));
+            }
+            isBindingChanged = isBindingChanged || !bindingsBeforePatch.equals(bindingsAfterPatch);
+
+            // Only the patched properties of the widget are written, escaped the same way as the complete DSL is
+            escapedWidgetNames.remove(widgetName);
+            JSONObject escapedWidget = removeSpecialCharactersFromKeys(unEscapeWidgetKeys(widget), escapedWidgetNames);
+            for (String property : patchedProperties) {
+                if (escapedWidget.containsKey(property)) {
+                    update.set(dotted(widgetPath, property), escapedWidget.get(property));
+                } else {
+                    update.unset(dotted(widgetPath, property));
+                }
+            }
+            widgetIdsByPath.put(widgetPath, widgetId);
+        }
+
+        if (isBindingChanged || !isPartialUpdateAllowed) {
+            // The widgets in the stored DSL have been patched in place
+            layout.setDsl(this.unescapeMongoSpecialCharacters(layout));
+            return updateLayout(pageId, page.getApplicationId(), layoutId, layout);
+        }
+
+        if (!escapedWidgetNames.equals(storedEscapedWidgetNames)) {
+            update.set(dotted(layoutPath, Layout.Fields.mongoEscapedWidgetNames), escapedWidgetNames);
+        }
+
+        return newPageService
+                .updateUnpublishedLayout(
+                        pageId, layoutId, layoutIndex, widgetIdsByPath, update, pagePermission.getEditPermission())
+                .filter(matchedCount -> matchedCount > 0)
+                .flatMap(matchedCount -> applicationService
+                        .saveLastEditInformation(page.getApplicationId())
+                        .then(Mono.defer(() -> {
+                            LayoutDTO layoutDTO = generateResponseDTO(layout);
+                            layoutDTO.setDsl(null);
+                            layoutDTO.setActionUpdates(new ArrayList<>());
+                            layoutDTO.setMessages(new ArrayList<>());
+
+                            return sendUpdateLayoutAnalyticsEvent(
+                                            pageId, layoutId, layout.getDsl(), true, null, CreatorContextType.PAGE)
+                                    .thenReturn(layoutDTO);
+                        })));
+    }
+
+    /**
+     * Walks the DSL and indexes every widget by its path in the page document, e.g.
+     * unpublishedPage.layouts.0.dsl.children.1, skipping the same empty children that the complete layout update drops.
+     */
+    private void indexWidgetsById(
+            Map<String, Object> dsl,
+            String path,
+            Map<String, Map<String, Object>> widgetsByPath,
+            Map<String, String> widgetPathsById) {
+        Object widgetId = dsl.get(FieldName.WIDGET_ID);
+        if (dsl.get(FieldName.WIDGET_NAME) == null || widgetId == null) {
+            return;
+        }
+        widgetsByPath.put(path, dsl);
+        widgetPathsById.putIfAbsent(String.valueOf(widgetId), path);
+
+        if (dsl.get(FieldName.CHILDREN) instanceof List<?> children) {
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i) instanceof Map<?, ?> child && !child.isEmpty()) {
+                    indexWidgetsById(
+                            (Map<String, Object>) child,
+                            dotted(path, FieldName.CHILDREN, String.valueOf(i)),
+                            widgetsByPath,
+                            widgetPathsById);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies JSON-Patch style operations to the properties of a widget in place.
+     *
+     * @return The top level properties of the widget that have been modified
+     */
+    private Set<String> applyWidgetOperations(Map<String, Object> widget, List<LayoutPatchDTO.OperationDTO> operations)
+            throws AppsmithException {
+        Set<String> patchedProperties = new HashSet<>();
+
+        for (LayoutPatchDTO.OperationDTO operation : operations) {
+            List<String> tokens = parsePatchPath(operation.getPath());
+            String property = tokens.get(0);
+            if (NON_PATCHABLE_WIDGET_PROPERTIES.contains(property)
+                    || property.contains(".")
+                    || property.startsWith("$")) {
+                throw new AppsmithException(AppsmithError.INVALID_PARAMETER, operation.getPath());
+            }
+
+            // Walk up to the object that holds the last token of the path
+            Map<String, Object> parent = widget;
+            for (String token : tokens.subList(0, tokens.size() - 1)) {
+                if (!(parent.get(token) instanceof Map<?, ?> next)) {
+                    throw new AppsmithException(AppsmithError.INVALID_PARAMETER, operation.getPath());
+                }
+                parent = (Map<String, Object>) next;
+            }
+
+            String key = tokens.get(tokens.size() - 1);
+            switch (operation.getOp()) {
+                case ADD -> parent.put(key, operation.getValue());
+                case REPLACE -> {
+                    if (!parent.containsKey(key)) {
+                        throw new AppsmithException(AppsmithError.INVALID_PARAMETER, operation.getPath());
+                    }
+                    parent.put(key, operation.getValue());
+                }
+                case REMOVE -> {
+                    if (!parent.containsKey(key)) {
+                        throw new AppsmithException(AppsmithError.INVALID_PARAMETER, operation.getPath());
+                    }
+                    parent.remove(key);
+                }
+            }
+            patchedProperties.add(property);
+        }
+
+        return patchedProperties;
+    }
+
+    /**
+     * Splits a JSON Pointer, e.g. /textStyle/color, into its unescaped tokens.
+     */
+    private List<String> parsePatchPath(String path) throws AppsmithException {
+        if (path == null || !path.startsWith("/") || path.length() == 1) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, path);
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : path.substring(1).split("/", -1)) {
+            if (token.isEmpty()) {
+                throw new AppsmithException(AppsmithError.INVALID_PARAMETER, path);
+            }
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+
+    private JSONObject unEscapeWidgetKeys(Map<String, Object> widget) {
+        JSONObject widgetCopy = new JSONObject(widget);
+        if (FieldName.TABLE_WIDGET.equals(widgetCopy.getAsString(FieldName.WIDGET_TYPE))) {
+            return WidgetSpecificUtils.unEscapeTableWidgetPrimaryColumns(widgetCopy);
+        }
+        return widgetCopy;
+    }
+
     @Override
     public Mono<Integer> updateMultipleLayouts(
             String defaultApplicationId, String branchName, UpdateMultiplePageLayoutDTO updateMultiplePageLayoutDTO) {
@@ -376,12 +645,58 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
         }
 
         String widgetName = dsl.getAsString(FieldName.WIDGET_NAME);
-        String widgetId = dsl.getAsString(FieldName.WIDGET_ID);
-        String widgetType = dsl.getAsString(FieldName.WIDGET_TYPE);
 
         // Since we are parsing this widget in this, add it to the global set of widgets found so far in the DSL.
         widgetNames.add(widgetName);
 
+        // Pick all the dynamic bindings of this particular widget
+        extractDynamicBindingsFromWidget(dsl, widgetDynamicBindingsMap, creatorId, layoutId, creatorType);
+
+        // Escape the widget keys if required and update dsl and escapedWidgetNames
+        removeSpecialCharactersFromKeys(dsl, escapedWidgetNames);
+
+        // Fetch the children of the current node in the DSL and recursively iterate over them to extract bindings
+        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
+        ArrayList<Object> newChildren = new ArrayList<>();
+        if (children != null) {
+            for (int i = 0; i < children.size(); i++) {
+                Map data = (Map) children.get(i);
+                JSONObject object = new JSONObject();
+                // If the children tag exists and there are entries within it
+                if (!CollectionUtils.isEmpty(data)) {
+                    object.putAll(data);
+                    JSONObject child = extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                            object,
+                            widgetNames,
+                            widgetDynamicBindingsMap,
+                            creatorId,
+                            layoutId,
+                            escapedWidgetNames,
+                            creatorType);
+                    newChildren.add(child);
+                }
+            }
+            dsl.put(FieldName.CHILDREN, newChildren);
+        }
+
+        return dsl;
+    }
+
+    /**
+     * Extracts the dynamic bindings of a single widget, without walking into its children, into
+     * widgetDynamicBindingsMap, keyed by the complete path of every binding, i.e. widgetName.fieldPath
+     */
+    private void extractDynamicBindingsFromWidget(
+            JSONObject dsl,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            String creatorId,
+            String layoutId,
+            CreatorContextType creatorType)
+            throws AppsmithException {
+        String widgetName = dsl.getAsString(FieldName.WIDGET_NAME);
+        String widgetId = dsl.getAsString(FieldName.WIDGET_ID);
+        String widgetType = dsl.getAsString(FieldName.WIDGET_TYPE);
+
         // Start by picking all fields where we expect to find dynamic bindings for this particular widget
         ArrayList<Object> dynamicallyBoundedPathList = (ArrayList<Object>) dsl.get(FieldName.DYNAMIC_BINDING_PATH_LIST);
 
@@ -503,35 +818,6 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
                 }
             }
         }
-
-        // Escape the widget keys if required and update dsl and escapedWidgetNames
-        removeSpecialCharactersFromKeys(dsl, escapedWidgetNames);
-
-        // Fetch the children of the current node in the DSL and recursively iterate over them to extract bindings
-        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
-        ArrayList<Object> newChildren = new ArrayList<>();
-        if (children != null) {
-            for (int i = 0; i < children.size(); i++) {
-                Map data = (Map) children.get(i);
-                JSONObject object = new JSONObject();
-                // If the children tag exists and there are entries within it
-                if (!CollectionUtils.isEmpty(data)) {
-                    object.putAll(data);
-                    JSONObject child = extractAllWidgetNamesAndDynamicBindingsFromDSL(
-                            object,
-                            widgetNames,
-                            widgetDynamicBindingsMap,
-                            creatorId,
-                            layoutId,
-                            escapedWidgetNames,
-                            creatorType);
-                    newChildren.add(child);
-                }
-            }
-            dsl.put(FieldName.CHILDREN, newChildren);
-        }
-
-        return dsl;
     }
 
     private JSONObject removeSpecialCharactersFromKeys(JSONObject dsl, Set<String> escapedWidgetNames) {
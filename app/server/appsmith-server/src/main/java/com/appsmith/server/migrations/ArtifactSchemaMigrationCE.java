@@ -10,8 +10,16 @@ import com.appsmith.server.helpers.CollectionUtils;
 public class ArtifactSchemaMigrationCE {
 
     private static boolean checkCompatibility(ArtifactExchangeJson artifactExchangeJson) {
-        return (artifactExchangeJson.getClientSchemaVersion() <= JsonSchemaVersions.clientVersion)
-                && (artifactExchangeJson.getServerSchemaVersion() <= JsonSchemaVersions.serverVersion);
+        return isCompatible(
+                artifactExchangeJson.getClientSchemaVersion(), artifactExchangeJson.getServerSchemaVersion());
+    }
+
+    /**
+     * @return true if the json with the given schema versions can be migrated to the versions of this instance
+     */
+    public static boolean isCompatible(int clientSchemaVersion, int serverSchemaVersion) {
+        return (clientSchemaVersion <= JsonSchemaVersions.clientVersion)
+                && (serverSchemaVersion <= JsonSchemaVersions.serverVersion);
     }
 
     public static ArtifactExchangeJson migrateArtifactExchangeJsonToLatestSchema(
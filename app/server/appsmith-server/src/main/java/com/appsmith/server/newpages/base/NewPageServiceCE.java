@@ -7,12 +7,14 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.PageUpdateDTO;
+import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.services.CrudService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface NewPageServiceCE extends CrudService<NewPage, String> {
@@ -92,4 +94,12 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
     Flux<NewPage> findPageSlugsByApplicationIds(List<String> applicationIds, AclPermission aclPermission);
 
     Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission);
+
+    Mono<Integer> updateUnpublishedLayout(
+            String pageId,
+            String layoutId,
+            int layoutIndex,
+            Map<String, String> widgetIdsByPath,
+            BridgeUpdate update,
+            AclPermission permission);
 }
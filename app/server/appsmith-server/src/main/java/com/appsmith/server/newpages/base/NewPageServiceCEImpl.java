@@ -18,6 +18,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.TextUtils;
+import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.BaseService;
@@ -692,4 +693,15 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
     public Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission) {
         return repository.publishPages(pageIds, permission);
     }
+
+    @Override
+    public Mono<Integer> updateUnpublishedLayout(
+            String pageId,
+            String layoutId,
+            int layoutIndex,
+            Map<String, String> widgetIdsByPath,
+            BridgeUpdate update,
+            AclPermission permission) {
+        return repository.updateUnpublishedLayout(pageId, layoutId, layoutIndex, widgetIdsByPath, update, permission);
+    }
 }
@@ -0,0 +1,250 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedAcyclicGraph;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.appsmith.external.helpers.MustacheHelper.getPossibleParents;
+
+/**
+ * The directed acyclic graph of the on load executables of a creator, e.g. a page, which is kept between computations
+ * and patched with the edges that have changed since the last one, instead of being built again from all the edges.
+ * <p>
+ * Every edge found in the bindings adds a few edges to the graph, e.g. the implicit edges between a property path and
+ * its parents, and these graph edges are shared by many of the binding edges. Every graph edge and every vertex is
+ * therefore counted, and is only removed from the graph once no binding edge adds it anymore.
+ */
+class OnLoadDependencyGraph {
+
+    private record GraphEdge(String source, String target) {}
+
+    private DirectedAcyclicGraph<String, DefaultEdge> dag = new DirectedAcyclicGraph<>(DefaultEdge.class);
+
+    /**
+     * The edges found in the bindings, with the graph edges that each of them adds. An edge with an unknown entity
+     * adds no graph edges.
+     */
+    private final Map<ExecutableDependencyEdge, List<GraphEdge>> graphEdgesByEdge = new HashMap<>();
+
+    /**
+     * The edges found in the bindings, by the entity names their vertices could belong to. These are the edges that
+     * may become valid or invalid when entities are added to the creator or removed from it.
+     */
+    private final Map<String, Set<ExecutableDependencyEdge>> edgesByPossibleEntityName = new HashMap<>();
+
+    private final Map<GraphEdge, Integer> graphEdgeCounts = new HashMap<>();
+
+    private final Map<String, Integer> vertexCounts = new HashMap<>();
+
+    private Set<String> standaloneVertices = Set.of();
+
+    private Set<String> entityNames = Set.of();
+
+    DirectedAcyclicGraph<String, DefaultEdge> getDag() {
+        return dag;
+    }
+
+    /**
+     * Patches the graph to hold exactly the given edges. Only the edges that have been added or removed since the last
+     * update, and the edges of the entities that have been added or removed, are expanded into graph edges.
+     * <p>
+     * If the update fails, e.g. because of a cyclical dependency, the graph is cleared, so that the next update builds
+     * it again from all the edges.
+     *
+     * @param edges              : All the edges found in the bindings of the creator
+     * @param standaloneVertices : Vertices that are part of the graph even if no edge has them
+     * @param entityNames        : Names of all the entities of the creator. Edges with a vertex that doesn't belong to
+     *                           any of these entities are left out of the graph.
+     * @param expandEdge         : Expands an edge with known entities into all the edges it adds to the graph, itself
+     *                           included
+     */
+    void update(
+            Set<ExecutableDependencyEdge> edges,
+            Set<String> standaloneVertices,
+            Set<String> entityNames,
+            Function<ExecutableDependencyEdge, Set<ExecutableDependencyEdge>> expandEdge) {
+        try {
+            patch(edges, standaloneVertices, entityNames, expandEdge);
+        } catch (RuntimeException e) {
+            clear();
+            throw e;
+        }
+    }
+
+    private void patch(
+            Set<ExecutableDependencyEdge> edges,
+            Set<String> standaloneVertices,
+            Set<String> entityNames,
+            Function<ExecutableDependencyEdge, Set<ExecutableDependencyEdge>> expandEdge) {
+
+        Set<ExecutableDependencyEdge> removedEdges = new HashSet<>(graphEdgesByEdge.keySet());
+        removedEdges.removeAll(edges);
+
+        Set<ExecutableDependencyEdge> addedEdges = new HashSet<>(edges);
+        addedEdges.removeAll(graphEdgesByEdge.keySet());
+
+        // Edges that are kept, but whose vertices may have become valid or invalid with the entities that have been
+        // added or removed
+        Set<ExecutableDependencyEdge> revalidatedEdges = new HashSet<>();
+        if (!entityNames.equals(this.entityNames)) {
+            Set<String> changedEntityNames = new HashSet<>(entityNames);
+            changedEntityNames.addAll(this.entityNames);
+            for (String entityName : changedEntityNames) {
+                if (entityNames.contains(entityName) != this.entityNames.contains(entityName)) {
+                    revalidatedEdges.addAll(edgesByPossibleEntityName.getOrDefault(entityName, Set.of()));
+                }
+            }
+            revalidatedEdges.removeAll(removedEdges);
+        }
+
+        // First take all the edges that are gone out of the graph, so that an edge that is added afterwards only
+        // induces a cycle if the graph with all the given edges has one
+        for (ExecutableDependencyEdge edge : removedEdges) {
+            removeGraphEdges(graphEdgesByEdge.remove(edge));
+            forEachPossibleEntityName(edge, entityName -> {
+                Set<ExecutableDependencyEdge> entityEdges = edgesByPossibleEntityName.get(entityName);
+                entityEdges.remove(edge);
+                if (entityEdges.isEmpty()) {
+                    edgesByPossibleEntityName.remove(entityName);
+                }
+            });
+        }
+        for (ExecutableDependencyEdge edge : revalidatedEdges) {
+            removeGraphEdges(graphEdgesByEdge.put(edge, List.of()));
+        }
+        for (String vertex : this.standaloneVertices) {
+            if (!standaloneVertices.contains(vertex)) {
+                removeVertex(vertex);
+            }
+        }
+
+        this.entityNames = Set.copyOf(entityNames);
+
+        for (String vertex : standaloneVertices) {
+            if (!this.standaloneVertices.contains(vertex)) {
+                addVertex(vertex);
+            }
+        }
+        this.standaloneVertices = Set.copyOf(standaloneVertices);
+
+        for (ExecutableDependencyEdge edge : addedEdges) {
+            String source = edge.getSourceNode().getReferenceString();
+            String target = edge.getTargetNode().getReferenceString();
+            // If an edge comprises vertices that depend on itself (caused by self-referencing),
+            // We want to throw an error before attempting to create the DAG
+            // Example: Text1.text has the value {{ Text1.text }}
+            if (source.equals(target)) {
+                throw new AppsmithException(AppsmithError.CYCLICAL_DEPENDENCY_ERROR, edge.toString());
+            }
+            forEachPossibleEntityName(edge, entityName -> edgesByPossibleEntityName
+                    .computeIfAbsent(entityName, key -> new HashSet<>())
+                    .add(edge));
+            graphEdgesByEdge.put(edge, addGraphEdges(edge, expandEdge));
+        }
+        for (ExecutableDependencyEdge edge : revalidatedEdges) {
+            graphEdgesByEdge.put(edge, addGraphEdges(edge, expandEdge));
+        }
+    }
+
+    private void forEachPossibleEntityName(ExecutableDependencyEdge edge, Consumer<String> entityNameConsumer) {
+        Set<String> possibleEntityNames =
+                new HashSet<>(getPossibleParents(edge.getSourceNode().getReferenceString()));
+        possibleEntityNames.addAll(getPossibleParents(edge.getTargetNode().getReferenceString()));
+        possibleEntityNames.forEach(entityNameConsumer);
+    }
+
+    /**
+     * An edge is valid if both its vertices are property paths of a known entity, i.e. one of the entity names
+     * generated from the path is an executable, a widget or a static variable provided by appsmith.
+     */
+    private boolean isValid(ExecutableDependencyEdge edge) {
+        return hasKnownEntity(edge.getSourceNode().getReferenceString())
+                && hasKnownEntity(edge.getTargetNode().getReferenceString());
+    }
+
+    private boolean hasKnownEntity(String vertex) {
+        return getPossibleParents(vertex).stream().anyMatch(entityNames::contains);
+    }
+
+    private List<GraphEdge> addGraphEdges(
+            ExecutableDependencyEdge edge,
+            Function<ExecutableDependencyEdge, Set<ExecutableDependencyEdge>> expandEdge) {
+        if (!isValid(edge)) {
+            return List.of();
+        }
+
+        List<GraphEdge> graphEdges = expandEdge.apply(edge).stream()
+                .map(expandedEdge -> new GraphEdge(
+                        expandedEdge.getSourceNode().getReferenceString(),
+                        expandedEdge.getTargetNode().getReferenceString()))
+                .distinct()
+                .toList();
+
+        for (GraphEdge graphEdge : graphEdges) {
+            if (graphEdgeCounts.merge(graphEdge, 1, Integer::sum) > 1) {
+                continue;
+            }
+            addVertex(graphEdge.source());
+            addVertex(graphEdge.target());
+            try {
+                dag.addEdge(graphEdge.source(), graphEdge.target());
+            } catch (IllegalArgumentException e) {
+                // This error is also thrown when adding an edge which makes the graph cyclical
+                if (e.getMessage().contains("Edge would induce a cycle")) {
+                    throw new AppsmithException(
+                            AppsmithError.CYCLICAL_DEPENDENCY_ERROR, graphEdge.source() + " : " + graphEdge.target());
+                }
+            }
+        }
+        return graphEdges;
+    }
+
+    private void removeGraphEdges(List<GraphEdge> graphEdges) {
+        if (graphEdges == null) {
+            return;
+        }
+        for (GraphEdge graphEdge : graphEdges) {
+            if (graphEdgeCounts.merge(graphEdge, -1, Integer::sum) > 0) {
+                continue;
+            }
+            graphEdgeCounts.remove(graphEdge);
+            dag.removeEdge(graphEdge.source(), graphEdge.target());
+            removeVertex(graphEdge.source());
+            removeVertex(graphEdge.target());
+        }
+    }
+
+    private void addVertex(String vertex) {
+        if (vertexCounts.merge(vertex, 1, Integer::sum) == 1) {
+            dag.addVertex(vertex);
+        }
+    }
+
+    private void removeVertex(String vertex) {
+        if (vertexCounts.merge(vertex, -1, Integer::sum) > 0) {
+            return;
+        }
+        vertexCounts.remove(vertex);
+        dag.removeVertex(vertex);
+    }
+
+    private void clear() {
+        dag = new DirectedAcyclicGraph<>(DefaultEdge.class);
+        graphEdgesByEdge.clear();
+        edgesByPossibleEntityName.clear();
+        graphEdgeCounts.clear();
+        vertexCounts.clear();
+        standaloneVertices = Set.of();
+        entityNames = Set.of();
+    }
+}
@@ -12,12 +12,13 @@ import com.appsmith.external.models.Property;
 import com.appsmith.server.domains.ExecutableDependencyEdge;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
-import com.appsmith.server.exceptions.AppsmithError;
-import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.onload.executables.ExecutableOnLoadService;
 import com.appsmith.server.services.AstService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
@@ -26,19 +27,22 @@ import org.jgrapht.graph.DirectedAcyclicGraph;
 import org.jgrapht.traverse.BreadthFirstIterator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
-import reactor.util.function.Tuples;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -72,6 +76,21 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
     // TODO : Add all the global variables exposed on the client side.
     private final Set<String> APPSMITH_GLOBAL_VARIABLES = Set.of();
 
+    /**
+     * Dependency graph of every creator that has been updated recently, which the next computation of the same creator
+     * patches instead of building the graph again, see {@link OnLoadGraphState}. Layouts are saved far more often than
+     * the bindings in them or the executables change, e.g. when widgets are moved around, in which case the last
+     * computation is reused as it is.
+     * <p>
+     * The graphs are only kept in memory, like the edges that stopped being stored in the layouts. A graph is built
+     * from all the bindings again the first time its creator is updated after a restart or after it has been evicted,
+     * which doesn't call RTS for the bindings it has seen before, as AST caches their references in Redis too.
+     */
+    private final Cache<String, OnLoadGraphState> graphStates = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
     /**
      * This function computes the sequenced on page load executables.
      * <p>
@@ -104,153 +123,315 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
             Set<String> executablesUsedInDSLRef,
             CreatorContextType creatorType) {
 
-        Set<String> onLoadExecutableSetRef = new HashSet<>();
-        Set<String> explicitUserSetOnLoadExecutablesRef = new HashSet<>();
-        Set<String> bindingsFromExecutablesRef = ConcurrentHashMap.newKeySet();
-
-        // Function `extractAndSetExecutableBindingsInGraphEdges` updates this map to keep a track of all the
-        // executables which have been discovered while walking the executables to ensure that we don't end up in a
-        // recursive infinite loop
-        // in case of a cyclical relationship between executables (and not specific paths) and helps us exit at the
-        // appropriate junction.
-        // e.g : Consider the following relationships :
-        // Api1.actionConfiguration.body <- Api2.data.users[0].name
-        // Api2.actionConfiguration.url <- Api1.actionConfiguration.url
-        // In the above case, the two executables depend on each other without there being a real cyclical dependency.
-        Map<String, EntityDependencyNode> executablesFoundDuringWalkRef = new HashMap<>();
-
-        Flux<Executable> allExecutablesByCreatorIdFlux = getAllExecutablesByCreatorIdFlux(creatorId, creatorType);
-
-        Mono<Map<String, Executable>> executableNameToExecutableMapMono = allExecutablesByCreatorIdFlux
-                .flatMapIterable(executable -> {
-                    Set<String> executableNames = executable.getExecutableNames();
-                    return executableNames.stream()
-                            .map(executableName -> Tuples.of(executableName, executable))
-                            .toList();
-                })
-                .collectMap(Tuple2::getT1, Tuple2::getT2)
-                .cache();
-
-        Mono<Set<String>> executablesInCreatorContextMono = allExecutablesByCreatorIdFlux
-                .flatMapIterable(Executable::getExecutableNames)
-                .collect(Collectors.toSet())
-                .cache();
-
-        Set<EntityDependencyNode> executableBindingsInDslRef = new HashSet<>();
-
-        Mono<Set<ExecutableDependencyEdge>> directlyReferencedExecutablesToGraphMono =
-                addDirectlyReferencedExecutablesToGraph(
-                        edgesRef,
-                        executablesUsedInDSLRef,
-                        bindingsFromExecutablesRef,
-                        executablesFoundDuringWalkRef,
-                        widgetDynamicBindingsMap,
-                        executableNameToExecutableMapMono,
-                        executableBindingsInDslRef,
-                        evaluatedVersion);
-
-        // This following `createAllEdgesForPageMono` publisher traverses the executables and widgets to add all
-        // possible edges between all possible entity paths
-
-        // First find all the executables in the page whose name matches the possible entity names found in the bindings
-        // in the widget
-        Mono<Set<ExecutableDependencyEdge>> createAllEdgesForPageMono = directlyReferencedExecutablesToGraphMono
-                // Add dependencies of all on page load executables set by the user in the graph
-                .flatMap(updatedEdges -> addExplicitUserSetOnLoadExecutablesToGraph(
-                        creatorId,
-                        updatedEdges,
-                        explicitUserSetOnLoadExecutablesRef,
-                        executablesFoundDuringWalkRef,
-                        bindingsFromExecutablesRef,
-                        executableNameToExecutableMapMono,
-                        executableBindingsInDslRef,
-                        evaluatedVersion,
-                        creatorType))
-                // For all the executables found so far, recursively walk the dynamic bindings of the executables to
-                // find more relationships with other executables (& widgets)
-                .flatMap(updatedEdges -> recursivelyAddExecutablesAndTheirDependentsToGraphFromBindings(
-                        updatedEdges,
-                        executablesFoundDuringWalkRef,
-                        bindingsFromExecutablesRef,
-                        executableNameToExecutableMapMono,
-                        evaluatedVersion))
-                // At last, add all the widget relationships to the graph as well.
-                .zipWith(executablesInCreatorContextMono)
-                .flatMap(tuple -> {
-                    Set<ExecutableDependencyEdge> updatedEdges = tuple.getT1();
-                    return addWidgetRelationshipToGraph(updatedEdges, widgetDynamicBindingsMap, evaluatedVersion);
-                });
+        OnLoadGraphState graphState = graphStates.get(creatorId, key -> new OnLoadGraphState());
 
-        // Create a graph given edges
-        Mono<DirectedAcyclicGraph<String, DefaultEdge>> createGraphMono = Mono.zip(
-                        executablesInCreatorContextMono, createAllEdgesForPageMono)
-                .map(tuple -> {
-                    Set<String> allExecutables = tuple.getT1();
-                    Set<ExecutableDependencyEdge> updatedEdges = tuple.getT2();
-                    return constructDAG(allExecutables, widgetNames, updatedEdges, executableBindingsInDslRef);
-                })
-                .cache();
+        return getAllExecutablesByCreatorIdFlux(creatorId, creatorType)
+                .collectList()
+                .flatMap(executables -> {
+                    OnLoadGraphState.Inputs inputs =
+                            getGraphInputs(evaluatedVersion, widgetNames, widgetDynamicBindingsMap, executables);
+                    OnLoadGraphState.Computation lastComputation = graphState.getLastComputation();
+
+                    if (lastComputation != null && lastComputation.inputs().equals(inputs)) {
+                        return reuseOnLoadExecutables(
+                                lastComputation.outputs(),
+                                executables,
+                                edgesRef,
+                                flatPageLoadExecutablesRef,
+                                executablesUsedInDSLRef);
+                    }
 
-        // Generate on page load schedule
-        Mono<List<Set<String>>> computeOnPageLoadScheduleNamesMono = Mono.zip(
-                        executableNameToExecutableMapMono, createGraphMono)
-                .map(tuple -> {
-                    Map<String, Executable> executableNameToExecutableMap = tuple.getT1();
-                    DirectedAcyclicGraph<String, DefaultEdge> graph = tuple.getT2();
+                    return computeOnLoadExecutables(
+                            creatorId,
+                            evaluatedVersion,
+                            widgetNames,
+                            edgesRef,
+                            widgetDynamicBindingsMap,
+                            flatPageLoadExecutablesRef,
+                            executablesUsedInDSLRef,
+                            creatorType,
+                            executables,
+                            graphState,
+                            inputs);
+                });
+    }
 
-                    return computeOnPageLoadExecutablesSchedulingOrder(
-                            graph,
-                            onLoadExecutableSetRef,
-                            executableNameToExecutableMap,
-                            explicitUserSetOnLoadExecutablesRef);
-                })
-                .map(onPageLoadExecutablesSchedulingOrder -> {
-                    // Find all explicitly turned on executables which haven't found their way into the scheduling order
-                    // This scenario would happen if an explicitly turned on for page load executable does not have any
-                    // relationships in the page with any widgets/executables.
-                    Set<String> pageLoadExecutableNames = new HashSet<>();
-                    pageLoadExecutableNames.addAll(onLoadExecutableSetRef);
-                    pageLoadExecutableNames.addAll(explicitUserSetOnLoadExecutablesRef);
-                    pageLoadExecutableNames.removeAll(onLoadExecutableSetRef);
-
-                    // If any of the explicitly set on page load executables havent been added yet, add them to the 0th
-                    // set
-                    // of executables set since no relationships were found with any other appsmith entity
-                    if (!pageLoadExecutableNames.isEmpty()) {
-                        onLoadExecutableSetRef.addAll(pageLoadExecutableNames);
-
-                        // In case there are no page load executables, initialize the 0th set of page load executables
-                        // list.
-                        if (onPageLoadExecutablesSchedulingOrder.isEmpty()) {
-                            onPageLoadExecutablesSchedulingOrder.add(new HashSet<>());
+    private Mono<List<Set<DslExecutableDTO>>> computeOnLoadExecutables(
+            String creatorId,
+            Integer evaluatedVersion,
+            Set<String> widgetNames,
+            Set<ExecutableDependencyEdge> edgesRef,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            List<Executable> flatPageLoadExecutablesRef,
+            Set<String> executablesUsedInDSLRef,
+            CreatorContextType creatorType,
+            List<Executable> executables,
+            OnLoadGraphState graphState,
+            OnLoadGraphState.Inputs inputs) {
+
+        Map<String, Executable> executableNameToExecutableMap = getExecutableNameToExecutableMap(executables);
+
+        Map<String, EntityReferenceType> executableTypes = new HashMap<>();
+        executableNameToExecutableMap.forEach((executableName, executable) ->
+                executableTypes.put(executableName, executable.getEntityReferenceType()));
+        OnLoadGraphState.Edges edges = graphState.getEdges(evaluatedVersion, executableTypes);
+
+        // Only the widget paths whose bindings have changed since the last computation are looked at again
+        Map<String, OnLoadGraphState.WidgetPathEdges> widgetPathEdgesRef = new ConcurrentHashMap<>();
+        Map<String, Set<String>> changedWidgetDynamicBindingsMap = new HashMap<>();
+        widgetDynamicBindingsMap.forEach((widgetPath, bindings) -> {
+            OnLoadGraphState.WidgetPathEdges widgetPathEdges = edges.widgetPathEdges.get(widgetPath);
+            if (widgetPathEdges != null && widgetPathEdges.bindings().equals(bindings)) {
+                widgetPathEdgesRef.put(widgetPath, widgetPathEdges);
+            } else {
+                changedWidgetDynamicBindingsMap.put(widgetPath, Set.copyOf(bindings));
+            }
+        });
+        Set<String> changedWidgetBindings = new HashSet<>();
+        changedWidgetDynamicBindingsMap.values().forEach(changedWidgetBindings::addAll);
+
+        Mono<Void> findWidgetPathEdgesMono = findReferences(edges, changedWidgetBindings, evaluatedVersion)
+                .then(Mono.fromRunnable(() -> changedWidgetDynamicBindingsMap.forEach((widgetPath, bindings) -> {
+                    OnLoadGraphState.WidgetPathEdges widgetPathEdges =
+                            findWidgetPathEdges(widgetPath, bindings, executableNameToExecutableMap, edges);
+                    edges.widgetPathEdges.put(widgetPath, widgetPathEdges);
+                    widgetPathEdgesRef.put(widgetPath, widgetPathEdges);
+                })));
+
+        Map<String, Executable> explicitUserSetOnLoadExecutables = new HashMap<>();
+
+        // The executables referred to in the DSL are walked first, then the ones that have been set to run on load by
+        // the user explicitly, and then recursively all the executables they depend on
+        Set<String> executablesWalkedFromDsl = new HashSet<>();
+        Map<String, OnLoadGraphState.ExecutableEdges> walkedExecutablesRef = new HashMap<>();
+
+        Mono<Void> walkExecutablesMono = findWidgetPathEdgesMono
+                .thenMany(getUnpublishedOnLoadExecutablesExplicitSetByUserInCreatorContextFlux(creatorId, creatorType))
+                .doOnNext(executable ->
+                        explicitUserSetOnLoadExecutables.put(executable.getUserExecutableName(), executable))
+                .then(Mono.defer(() -> {
+                    Map<String, Executable> executablesToWalk = new HashMap<>();
+                    for (OnLoadGraphState.WidgetPathEdges widgetPathEdges : widgetPathEdgesRef.values()) {
+                        for (String executableName : widgetPathEdges.executableNames()) {
+                            Executable executable = executableNameToExecutableMap.get(executableName);
+                            // Check if the executable has been deleted in unpublished state. If yes, ignore it.
+                            if (executable.getDeletedAt() == null) {
+                                executablesToWalk.put(executableName, executable);
+                            }
                         }
-
-                        onPageLoadExecutablesSchedulingOrder.get(0).addAll(pageLoadExecutableNames);
                     }
+                    executablesWalkedFromDsl.addAll(executablesToWalk.keySet());
+                    explicitUserSetOnLoadExecutables.forEach((executableName, executable) -> {
+                        if (executable.getDeletedAt() == null) {
+                            executablesToWalk.putIfAbsent(executableName, executable);
+                        }
+                    });
+                    return walkExecutables(
+                            executablesToWalk,
+                            walkedExecutablesRef,
+                            edges,
+                            executableNameToExecutableMap,
+                            inputs.executableFingerprints(),
+                            evaluatedVersion);
+                }));
 
-                    return onPageLoadExecutablesSchedulingOrder;
-                });
+        AtomicReference<List<Set<String>>> schedulingOrderRef = new AtomicReference<>();
+        Set<String> onLoadExecutableSetRef = new HashSet<>();
+
+        // Patch the graph with all the edges found, and generate the on page load schedule
+        Mono<List<Set<String>>> computeOnPageLoadScheduleNamesMono = walkExecutablesMono.then(Mono.fromCallable(() -> {
+            Set<ExecutableDependencyEdge> allEdges = new HashSet<>();
+            Set<String> executableBindingsInDsl = new HashSet<>();
+
+            for (OnLoadGraphState.WidgetPathEdges widgetPathEdges : widgetPathEdgesRef.values()) {
+                allEdges.addAll(widgetPathEdges.executableEdges());
+                allEdges.addAll(widgetPathEdges.widgetEdges());
+                // These executables are directly referenced in the DSL. They are ideal candidates for on page load
+                executablesUsedInDSLRef.addAll(widgetPathEdges.executableNames());
+                widgetPathEdges
+                        .executableBindingsInDsl()
+                        .forEach(node -> executableBindingsInDsl.add(node.getReferenceString()));
+            }
+
+            walkedExecutablesRef.forEach((executableName, executableEdges) -> {
+                allEdges.addAll(executableEdges.edges());
+                // The references to executables found in the executables that the user has set to run on load are
+                // part of the graph as well
+                if (explicitUserSetOnLoadExecutables.containsKey(executableName)
+                        && !executablesWalkedFromDsl.contains(executableName)) {
+                    executableEdges
+                            .executableReferences()
+                            .forEach(node -> executableBindingsInDsl.add(node.getReferenceString()));
+                }
+            });
+            edgesRef.addAll(allEdges);
+
+            Set<String> entityNames = new HashSet<>(executableNameToExecutableMap.keySet());
+            entityNames.addAll(widgetNames);
+            entityNames.addAll(APPSMITH_GLOBAL_VARIABLES);
+
+            List<Set<String>> onPageLoadExecutablesSchedulingOrder;
+            synchronized (graphState) {
+                OnLoadDependencyGraph dependencyGraph = graphState.getDependencyGraph();
+                dependencyGraph.update(allEdges, executableBindingsInDsl, entityNames, this::expandEdge);
+
+                onPageLoadExecutablesSchedulingOrder = computeOnPageLoadExecutablesSchedulingOrder(
+                        dependencyGraph.getDag(),
+                        onLoadExecutableSetRef,
+                        executableNameToExecutableMap,
+                        explicitUserSetOnLoadExecutables.keySet());
+            }
+            edges.retainAll(widgetDynamicBindingsMap.keySet(), executableNameToExecutableMap.keySet());
+
+            // Find all explicitly turned on executables which haven't found their way into the scheduling order
+            // This scenario would happen if an explicitly turned on for page load executable does not have any
+            // relationships in the page with any widgets/executables.
+            Set<String> pageLoadExecutableNames = new HashSet<>(explicitUserSetOnLoadExecutables.keySet());
+            pageLoadExecutableNames.removeAll(onLoadExecutableSetRef);
+
+            // If any of the explicitly set on page load executables havent been added yet, add them to the 0th set
+            // of executables set since no relationships were found with any other appsmith entity
+            if (!pageLoadExecutableNames.isEmpty()) {
+                onLoadExecutableSetRef.addAll(pageLoadExecutableNames);
+
+                // In case there are no page load executables, initialize the 0th set of page load executables list.
+                if (onPageLoadExecutablesSchedulingOrder.isEmpty()) {
+                    onPageLoadExecutablesSchedulingOrder.add(new HashSet<>());
+                }
+
+                onPageLoadExecutablesSchedulingOrder.get(0).addAll(pageLoadExecutableNames);
+            }
+
+            // Keep a copy of the schedule for the next computations, before the executables turned off by the user
+            // are filtered out of it
+            schedulingOrderRef.set(copySchedulingOrder(onPageLoadExecutablesSchedulingOrder));
+            return onPageLoadExecutablesSchedulingOrder;
+        }));
+
+        Set<String> onLoadExecutableNames = new HashSet<>();
 
         // Transform the schedule order into client feasible DTO
-        Mono<List<Set<DslExecutableDTO>>> computeCompletePageLoadExecutableScheduleMono =
-                filterAndTransformSchedulingOrderToDTO(
-                                onLoadExecutableSetRef,
-                                executableNameToExecutableMapMono,
-                                computeOnPageLoadScheduleNamesMono)
-                        .cache();
-
-        // With the final on page load scheduling order, also set the on page load executables which would be updated
-        // by the caller function
-        Mono<List<Executable>> flatPageLoadExecutablesMono = computeCompletePageLoadExecutableScheduleMono
-                .then(executableNameToExecutableMapMono)
-                .map(executableMap -> {
-                    onLoadExecutableSetRef.stream()
-                            .forEach(executableName ->
-                                    flatPageLoadExecutablesRef.add(executableMap.get(executableName)));
-                    return flatPageLoadExecutablesRef;
-                });
+        return filterAndTransformSchedulingOrderToDTO(
+                        onLoadExecutableSetRef,
+                        Mono.just(executableNameToExecutableMap),
+                        computeOnPageLoadScheduleNamesMono.doOnNext(
+                                ignored -> onLoadExecutableNames.addAll(onLoadExecutableSetRef)))
+                // With the final on page load scheduling order, also set the on page load executables which would be
+                // updated by the caller function
+                .doOnNext(ignored -> onLoadExecutableSetRef.forEach(executableName ->
+                        flatPageLoadExecutablesRef.add(executableNameToExecutableMap.get(executableName))))
+                .doOnNext(ignored -> graphState.setLastComputation(new OnLoadGraphState.Computation(
+                        inputs,
+                        new OnLoadGraphState.Outputs(
+                                schedulingOrderRef.get(),
+                                onLoadExecutableNames,
+                                Set.copyOf(executablesUsedInDSLRef),
+                                Set.copyOf(edgesRef)))));
+    }
 
-        return createGraphMono.then(flatPageLoadExecutablesMono).then(computeCompletePageLoadExecutableScheduleMono);
+    /**
+     * Fills the references given by the caller, and returns the scheduling order, from the outputs of an earlier
+     * computation. The executables are the ones that have just been fetched, so that the scheduling order holds their
+     * latest state.
+     */
+    private Mono<List<Set<DslExecutableDTO>>> reuseOnLoadExecutables(
+            OnLoadGraphState.Outputs outputs,
+            List<Executable> executables,
+            Set<ExecutableDependencyEdge> edgesRef,
+            List<Executable> flatPageLoadExecutablesRef,
+            Set<String> executablesUsedInDSLRef) {
+
+        edgesRef.addAll(outputs.edges());
+        executablesUsedInDSLRef.addAll(outputs.executablesUsedInDsl());
+
+        Set<String> onLoadExecutableSetRef = new HashSet<>(outputs.onLoadExecutableNames());
+        Map<String, Executable> executableMap = getExecutableNameToExecutableMap(executables);
+
+        return filterAndTransformSchedulingOrderToDTO(
+                        onLoadExecutableSetRef,
+                        Mono.just(executableMap),
+                        Mono.just(copySchedulingOrder(outputs.schedulingOrder())))
+                .doOnNext(ignored -> onLoadExecutableSetRef.forEach(
+                        executableName -> flatPageLoadExecutablesRef.add(executableMap.get(executableName))));
+    }
+
+    private Map<String, Executable> getExecutableNameToExecutableMap(List<Executable> executables) {
+        Map<String, Executable> executableNameToExecutableMap = new HashMap<>();
+        for (Executable executable : executables) {
+            for (String executableName : executable.getExecutableNames()) {
+                executableNameToExecutableMap.put(executableName, executable);
+            }
+        }
+        return executableNameToExecutableMap;
+    }
+
+    private List<Set<String>> copySchedulingOrder(List<Set<String>> schedulingOrder) {
+        List<Set<String>> copy = new ArrayList<>();
+        for (Set<String> executableNames : schedulingOrder) {
+            copy.add(new HashSet<>(executableNames));
+        }
+        return copy;
+    }
+
+    private OnLoadGraphState.Inputs getGraphInputs(
+            Integer evaluatedVersion,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            List<Executable> executables) {
+
+        Map<String, Set<String>> widgetDynamicBindings = new HashMap<>();
+        widgetDynamicBindingsMap.forEach(
+                (widgetPath, bindings) -> widgetDynamicBindings.put(widgetPath, Set.copyOf(bindings)));
+
+        Map<String, String> executableFingerprints = new HashMap<>();
+        for (Executable executable : executables) {
+            executableFingerprints.put(executable.getId(), getExecutableFingerprint(executable));
+        }
+
+        return new OnLoadGraphState.Inputs(
+                evaluatedVersion, Set.copyOf(widgetNames), widgetDynamicBindings, executableFingerprints);
+    }
+
+    /**
+     * Returns a fingerprint of everything in the executable that the on load executables computation depends on. The
+     * configuration is part of it through a hash, since the bindings are extracted from it.
+     */
+    protected String getExecutableFingerprint(Executable executable) {
+        String configurationHash;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            configurationHash = HexFormat.of()
+                    .formatHex(digest.digest(objectMapper.writeValueAsBytes(executable.getExecutableConfiguration())));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            // Such an executable never matches an earlier computation
+            log.debug("Unable to compute the fingerprint of executable {}", executable.getId(), e);
+            configurationHash = UUID.randomUUID().toString();
+        }
+
+        List<String> dynamicBindingPaths = executable.getDynamicBindingPathList() == null
+                ? null
+                : executable.getDynamicBindingPathList().stream()
+                        .map(Property::getKey)
+                        .toList();
+
+        return String.join(
+                "|",
+                executable.getId(),
+                String.valueOf(executable.getEntityReferenceType()),
+                sortedString(executable.getExecutableNames()),
+                String.valueOf(executable.getExecuteOnLoad()),
+                String.valueOf(executable.getUserSetOnLoad()),
+                String.valueOf(executable.getDeletedAt()),
+                sortedString(executable.getJsonPathKeys()),
+                String.valueOf(dynamicBindingPaths),
+                configurationHash);
+    }
+
+    private String sortedString(Set<String> values) {
+        if (values == null) {
+            return "null";
+        }
+        return values.stream().map(String::valueOf).sorted().toList().toString();
     }
 
     @Override
@@ -454,186 +635,360 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      * This method is used to find all possible global entity references in the given set of bindings.
      * We'll be able to find valid executable references only at this point. For widgets, we just assume that all
      * references are possible candidates
+     * <p>
+     * If the bindings have been found in the DSL, we also want to capture entity references that would be qualified
+     * to run on page load first.
      *
-     * @param executableNameToExecutableMapMono : This map is used to filter only valid executable references in bindings
-     * @param bindings                          : The set of bindings to find references from
-     * @param evalVersion                       : Depending on the evaluated version, the way the AST parsing logic picks entities in the dynamic binding will change
+     * @param executableNameToExecutableMap : This map is used to filter only valid executable references in bindings
+     * @param bindingToPossibleParentMap    : The possible references to global entities in each of the bindings
+     * @param bindingsInDsl                 : All references to executables are also added to this set if it is given
      * @return A set of any possible reference found in the binding that qualifies as a global entity reference
      */
-    private Mono<Set<EntityDependencyNode>> getPossibleEntityReferences(
-            Mono<Map<String, Executable>> executableNameToExecutableMapMono, Set<String> bindings, int evalVersion) {
-        return getPossibleEntityReferences(executableNameToExecutableMapMono, bindings, evalVersion, null);
+    private Set<EntityDependencyNode> getPossibleEntityReferences(
+            Map<String, Executable> executableNameToExecutableMap,
+            Map<String, Set<EntityDependencyNode>> bindingToPossibleParentMap,
+            Set<EntityDependencyNode> bindingsInDsl) {
+
+        Set<EntityDependencyNode> possibleEntitiesReferences = new HashSet<>();
+
+        // From these references, we will try to validate executable references at this point
+        // Each identified node is already annotated with the expected type of entity we need to search for
+        bindingToPossibleParentMap.entrySet().stream().forEach(entry -> {
+            Set<EntityDependencyNode> bindingsWithExecutableReference = new HashSet<>();
+            entry.getValue().stream().forEach(binding -> {
+                // For each possible reference node, check if the reference was to an executable
+                Executable executable = executableNameToExecutableMap.get(binding.getValidEntityName());
+
+                if (executable != null) {
+                    // If it was, and had been identified as the same type of executable as what exists in this app,
+                    if (binding.getEntityReferenceType().equals(executable.getEntityReferenceType())) {
+                        // Copy over some data from the identified executable, this ensures that we do not have
+                        // to query the DB again later
+                        binding.setExecutable(executable);
+                        bindingsWithExecutableReference.add(binding);
+                        // Only if this is not a direct JS function call,
+                        // add it to a possible on page load executable call.
+                        // This discards the following type:
+                        // {{ JSObject1.func() }}
+                        if (!TRUE.equals(binding.getIsFunctionCall())) {
+                            possibleEntitiesReferences.add(binding);
+                        }
+                        // We're ignoring any reference that was identified as a widget but actually matched
+                        // an executable
+                        // We wouldn't have discarded JS collection names here, but this is just an
+                        // optimization, so it's fine
+                    }
+                } else {
+                    // If the reference node was identified as a widget, directly add it as a possible reference
+                    // Because we are not doing any validations for widget references at this point
+                    if (EntityReferenceType.WIDGET.equals(binding.getEntityReferenceType())) {
+                        possibleEntitiesReferences.add(binding);
+                    }
+                }
+            });
+
+            if (!bindingsWithExecutableReference.isEmpty() && bindingsInDsl != null) {
+                bindingsInDsl.addAll(bindingsWithExecutableReference);
+            }
+        });
+
+        return possibleEntitiesReferences;
     }
 
     /**
-     * Similar to the overridden method, this method is used to find all possible global entity references in the given set of bindings.
-     * However, here we are assuming that the call came from when we were trying to analyze the DSL.
-     * For such cases, we also want to capture entity references that would be qualified to run on page load first.
+     * This method uses the mustache helper utility to classify the global references that AST has found in the
+     * bindings into possible types of EntityDependencyNodes. The references must have been found by
+     * {@link #findReferences(OnLoadGraphState.Edges, Set, int)} first.
      *
-     * @param executableNameToExecutableMono : This map is used to filter only valid executable references in bindings
-     * @param bindings                       : The set of bindings to find references from
-     * @param evalVersion                    : Depending on the evaluated version, the way the AST parsing logic picks entities in the dynamic binding will change
-     * @param bindingsInDsl                  : All references are also added to this set if they should be qualified to run on page load first.
-     * @return A set of any possible reference found in the binding that qualifies as a global entity reference
+     * @param bindings : A set of binding values as string to analyze
+     * @param types    : The types of EntityDependencyNode references to look for
+     * @param edges    : The edges holding the references found in the bindings
+     * @return A map of each of the provided binding values to the possible set of EntityDependencyNodes found in the binding
      */
-    private Mono<Set<EntityDependencyNode>> getPossibleEntityReferences(
-            Mono<Map<String, Executable>> executableNameToExecutableMono,
-            Set<String> bindings,
-            int evalVersion,
-            Set<EntityDependencyNode> bindingsInDsl) {
-        // We want to be finding both type of references
-        final int entityTypes = EXECUTABLE_ENTITY_REFERENCES | WIDGET_ENTITY_REFERENCES;
-
-        return executableNameToExecutableMono
-                .zipWith(getPossibleEntityParentsMap(bindings, entityTypes, evalVersion))
-                .map(tuple -> {
-                    Map<String, Executable> executableMap = tuple.getT1();
-                    // For each binding, here we receive a set of possible references to global entities
-                    // At this point we're guaranteed that these references are made to possible variables,
-                    // but we do not know if those entities exist in the global namespace yet
-                    Map<String, Set<EntityDependencyNode>> bindingToPossibleParentMap = tuple.getT2();
-
-                    Set<EntityDependencyNode> possibleEntitiesReferences = new HashSet<>();
-
-                    // From these references, we will try to validate executable references at this point
-                    // Each identified node is already annotated with the expected type of entity we need to search for
-                    bindingToPossibleParentMap.entrySet().stream().forEach(entry -> {
-                        Set<EntityDependencyNode> bindingsWithExecutableReference = new HashSet<>();
-                        entry.getValue().stream().forEach(binding -> {
-                            // For each possible reference node, check if the reference was to an executable
-                            Executable executable = executableMap.get(binding.getValidEntityName());
-
-                            if (executable != null) {
-                                // If it was, and had been identified as the same type of executable as what exists in
-                                // this app,
-                                if (binding.getEntityReferenceType().equals(executable.getEntityReferenceType())) {
-                                    // Copy over some data from the identified executable, this ensures that we do not
-                                    // have
-                                    // to query the DB again later
-                                    binding.setExecutable(executable);
-                                    bindingsWithExecutableReference.add(binding);
-                                    // Only if this is not a direct JS function call,
-                                    // add it to a possible on page load executable call.
-                                    // This discards the following type:
-                                    // {{ JSObject1.func() }}
-                                    if (!TRUE.equals(binding.getIsFunctionCall())) {
-                                        possibleEntitiesReferences.add(binding);
-                                    }
-                                    // We're ignoring any reference that was identified as a widget but actually matched
-                                    // an executable
-                                    // We wouldn't have discarded JS collection names here, but this is just an
-                                    // optimization, so it's fine
-                                }
-                            } else {
-                                // If the reference node was identified as a widget, directly add it as a possible
-                                // reference
-                                // Because we are not doing any validations for widget references at this point
-                                if (EntityReferenceType.WIDGET.equals(binding.getEntityReferenceType())) {
-                                    possibleEntitiesReferences.add(binding);
-                                }
-                            }
-                        });
-
-                        if (!bindingsWithExecutableReference.isEmpty() && bindingsInDsl != null) {
-                            bindingsInDsl.addAll(bindingsWithExecutableReference);
-                        }
-                    });
-
-                    return possibleEntitiesReferences;
-                });
+    private Map<String, Set<EntityDependencyNode>> getPossibleEntityParentsMap(
+            Set<String> bindings, int types, OnLoadGraphState.Edges edges) {
+        Map<String, Set<EntityDependencyNode>> possibleEntityParentsMap = new HashMap<>();
+        for (String binding : bindings) {
+            possibleEntityParentsMap.put(
+                    binding,
+                    MustacheHelper.getPossibleEntityParents(
+                            edges.referencesByBinding.getOrDefault(binding, Set.of()), types));
+        }
+        return possibleEntityParentsMap;
     }
 
     /**
-     * This method is an abstraction that queries the ast service for possible global references as string values,
-     * and then uses the mustache helper utility to classify these global references into possible types of EntityDependencyNodes
+     * Queries the ast service for the possible global references in the bindings whose references haven't been found
+     * before, in a single call.
      *
+     * @param edges       : The edges where the references found in every binding are kept
      * @param bindings    : A set of binding values as string to analyze
-     * @param types       : The types of EntityDependencyNode references to look for
      * @param evalVersion : Depending on the evaluated version, the way the AST parsing logic picks entities in the dynamic binding will change
-     * @return A mono of a map of each of the provided binding values to the possible set of EntityDependencyNodes found in the binding
      */
-    private Mono<Map<String, Set<EntityDependencyNode>>> getPossibleEntityParentsMap(
-            Set<String> bindings, int types, int evalVersion) {
-        Flux<Tuple2<String, Set<String>>> findingToReferencesFlux =
-                astService.getPossibleReferencesFromDynamicBinding(new ArrayList<>(bindings), evalVersion);
-        return MustacheHelper.getPossibleEntityParentsMap(findingToReferencesFlux, types);
+    private Mono<Void> findReferences(OnLoadGraphState.Edges edges, Set<String> bindings, int evalVersion) {
+        List<String> newBindings = bindings.stream()
+                .filter(binding -> !edges.referencesByBinding.containsKey(binding))
+                .toList();
+        if (newBindings.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return astService
+                .getPossibleReferencesFromDynamicBinding(newBindings, evalVersion)
+                .doOnNext(tuple -> edges.referencesByBinding.put(tuple.getT1(), tuple.getT2()))
+                .then(Mono.fromRunnable(() ->
+                        newBindings.forEach(binding -> edges.referencesByBinding.putIfAbsent(binding, Set.of()))));
     }
 
     /**
      * This function finds all the executables in the page whose name matches the possible entity names found in the
-     * bindings in the widget. Caveat : It first removes all invalid bindings from the set of all bindings from the DSL
-     * This today means only the usage of an async JS function as a call instead of referring to the `.data`.
+     * bindings at a widget path, and all the widgets that the widget path depends on. Caveat : Invalid bindings are
+     * removed first. This today means only the usage of an async JS function as a call instead of referring to the
+     * `.data`.
+     *
+     * @param widgetPath                    : The widget path where the bindings are
+     * @param bindings                      : The bindings at the widget path
+     * @param executableNameToExecutableMap : All the executables in the page
+     * @param edges                         : The edges holding the references found in the bindings
+     * @return The edges that the widget path adds to the graph
+     */
+    private OnLoadGraphState.WidgetPathEdges findWidgetPathEdges(
+            String widgetPath,
+            Set<String> bindings,
+            Map<String, Executable> executableNameToExecutableMap,
+            OnLoadGraphState.Edges edges) {
+
+        // For each widget in the DSL that has a dynamic binding,
+        // we define an entity dependency node beforehand
+        // This will be a leaf node in the DAG that is constructed for on page load dependencies
+        EntityDependencyNode widgetDependencyNode =
+                new EntityDependencyNode(EntityReferenceType.WIDGET, widgetPath, widgetPath, null, null);
+
+        Set<ExecutableDependencyEdge> executableEdges = new HashSet<>();
+        Set<String> executableNames = new HashSet<>();
+        Set<EntityDependencyNode> executableBindingsInDsl = new HashSet<>();
+
+        // We want to be finding both type of references
+        Set<EntityDependencyNode> possibleEntities = getPossibleEntityReferences(
+                executableNameToExecutableMap,
+                getPossibleEntityParentsMap(bindings, EXECUTABLE_ENTITY_REFERENCES | WIDGET_ENTITY_REFERENCES, edges),
+                executableBindingsInDsl);
+
+        // Add dependencies of the executables found in the DSL in the graph
+        // We are ignoring the widget references at this point
+        for (EntityDependencyNode possibleEntity : possibleEntities) {
+            if (getExecutableTypes().contains(possibleEntity.getEntityReferenceType())) {
+                executableEdges.add(new ExecutableDependencyEdge(possibleEntity, widgetDependencyNode));
+                executableNames.add(possibleEntity.getValidEntityName());
+            }
+        }
+
+        // This part will ensure that we are discovering widget to widget relationships.
+        Set<ExecutableDependencyEdge> widgetEdges = new HashSet<>();
+        getPossibleEntityParentsMap(bindings, WIDGET_ENTITY_REFERENCES, edges).forEach((binding, widgetNodes) -> {
+            if (widgetNodes == null || widgetNodes.isEmpty()) {
+                return;
+            }
+            String trimmedWidgetPath = widgetPath.trim();
+            String[] widgetPathParts = trimmedWidgetPath.split("\\.");
+            String widgetName = trimmedWidgetPath;
+            if (widgetPathParts.length > 0) {
+                widgetName = widgetPathParts[0];
+            }
+            EntityDependencyNode entityDependencyNode =
+                    new EntityDependencyNode(EntityReferenceType.WIDGET, widgetName, trimmedWidgetPath, null, null);
+            widgetNodes.forEach(
+                    widgetNode -> widgetEdges.add(new ExecutableDependencyEdge(widgetNode, entityDependencyNode)));
+        });
+
+        return new OnLoadGraphState.WidgetPathEdges(
+                bindings, executableEdges, widgetEdges, executableNames, executableBindingsInDsl);
+    }
+
+    /**
+     * This function walks the given executables, and then recursively all the executables found in their bindings,
+     * until all the executables that the on load executables may depend on have been walked. The edges of an
+     * executable are only found again if the executable has changed since they were found, and the references in all
+     * the new bindings of a level of the walk are found in a single call to AST.
      * <p>
-     * !!! WARNING !!! : This function updates executablesUsedInDSL set which is used to store all the directly referenced
-     * executables in the DSL.
+     * An executable is only walked once, which ensures that we don't end up in a recursive infinite loop in case of a
+     * cyclical relationship between executables (and not specific paths).
+     * e.g : Consider the following relationships :
+     * Api1.actionConfiguration.body <- Api2.data.users[0].name
+     * Api2.actionConfiguration.url <- Api1.actionConfiguration.url
+     * In the above case, the two executables depend on each other without there being a real cyclical dependency.
      *
-     * @param edgesRef
-     * @param executablesUsedInDSLRef
-     * @param bindingsFromExecutablesRef
-     * @param executablesFoundDuringWalkRef
-     * @param widgetDynamicBindingsMap
-     * @param executableNameToExecutableMapMono
-     * @param executableBindingsInDslRef
-     * @param evalVersion
-     * @return
+     * @param executablesToWalk      : The executables of this level of the walk, by name
+     * @param walkedExecutablesRef   : Where the edges of every walked executable are added, by the executable name
+     * @param executableFingerprints : The fingerprints of the executables in the page, by executable id
      */
-    private Mono<Set<ExecutableDependencyEdge>> addDirectlyReferencedExecutablesToGraph(
-            Set<ExecutableDependencyEdge> edgesRef,
-            Set<String> executablesUsedInDSLRef,
-            Set<String> bindingsFromExecutablesRef,
-            Map<String, EntityDependencyNode> executablesFoundDuringWalkRef,
-            Map<String, Set<String>> widgetDynamicBindingsMap,
-            Mono<Map<String, Executable>> executableNameToExecutableMapMono,
-            Set<EntityDependencyNode> executableBindingsInDslRef,
+    private Mono<Void> walkExecutables(
+            Map<String, Executable> executablesToWalk,
+            Map<String, OnLoadGraphState.ExecutableEdges> walkedExecutablesRef,
+            OnLoadGraphState.Edges edges,
+            Map<String, Executable> executableNameToExecutableMap,
+            Map<String, String> executableFingerprints,
             int evalVersion) {
-        return Flux.fromIterable(widgetDynamicBindingsMap.entrySet())
-                .flatMap(entry -> {
-                    String widgetName = entry.getKey();
-                    // For each widget in the DSL that has a dynamic binding,
-                    // we define an entity dependency node beforehand
-                    // This will be a leaf node in the DAG that is constructed for on page load dependencies
-                    EntityDependencyNode widgetDependencyNode =
-                            new EntityDependencyNode(EntityReferenceType.WIDGET, widgetName, widgetName, null, null);
-                    Set<String> bindingsInWidget = entry.getValue();
-                    return getPossibleEntityReferences(
-                                    executableNameToExecutableMapMono,
-                                    bindingsInWidget,
-                                    evalVersion,
-                                    executableBindingsInDslRef)
-                            .flatMapMany(Flux::fromIterable)
-                            // Add dependencies of the executables found in the DSL in the graph
-                            // We are ignoring the widget references at this point
-                            // TODO: Possible optimization in the future
-                            .flatMap(possibleEntity -> {
-                                if (getExecutableTypes().contains(possibleEntity.getEntityReferenceType())) {
-                                    edgesRef.add(new ExecutableDependencyEdge(possibleEntity, widgetDependencyNode));
-                                    // This executable is directly referenced in the DSL. This executable is an ideal
-                                    // candidate
-                                    // for on page load
-                                    executablesUsedInDSLRef.add(possibleEntity.getValidEntityName());
-                                    return updateExecutableSelfReferencingPaths(possibleEntity)
-                                            .flatMap(executable -> extractAndSetExecutableBindingsInGraphEdges(
-                                                    possibleEntity,
-                                                    edgesRef,
-                                                    bindingsFromExecutablesRef,
-                                                    executableNameToExecutableMapMono,
-                                                    executablesFoundDuringWalkRef,
-                                                    null,
-                                                    evalVersion))
-                                            .thenReturn(possibleEntity);
-                                }
-                                return Mono.just(possibleEntity);
-                            });
-                })
-                .collectList()
-                .thenReturn(edgesRef);
+        if (executablesToWalk.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Map<String, String> changedExecutableFingerprints = new HashMap<>();
+        executablesToWalk.forEach((executableName, executable) -> {
+            String fingerprint = executableFingerprints.get(executable.getId());
+            if (fingerprint == null) {
+                fingerprint = getExecutableFingerprint(executable);
+            }
+            OnLoadGraphState.ExecutableEdges executableEdges = edges.executableEdges.get(executableName);
+            if (executableEdges != null && executableEdges.fingerprint().equals(fingerprint)) {
+                walkedExecutablesRef.put(executableName, executableEdges);
+            } else {
+                changedExecutableFingerprints.put(executableName, fingerprint);
+            }
+        });
+
+        Map<String, Map<String, Set<String>>> executableBindingsMaps = new ConcurrentHashMap<>();
+        Map<String, Executable> changedExecutables = new ConcurrentHashMap<>();
+
+        Mono<Void> findChangedExecutableEdgesMono = Flux.fromIterable(changedExecutableFingerprints.keySet())
+                .flatMap(executableName -> fillSelfReferencingPaths(executablesToWalk.get(executableName))
+                        .doOnNext(executable -> {
+                            changedExecutables.put(executableName, executable);
+                            executableBindingsMaps.put(executableName, getExecutableBindingsMap(executable));
+                        }))
+                .then(Mono.defer(() -> {
+                    Set<String> bindings = new HashSet<>();
+                    executableBindingsMaps
+                            .values()
+                            .forEach(bindingsMap -> bindingsMap.values().forEach(bindings::addAll));
+                    return findReferences(edges, bindings, evalVersion);
+                }))
+                .then(Mono.fromRunnable(() -> changedExecutables.forEach((executableName, executable) -> {
+                    OnLoadGraphState.ExecutableEdges executableEdges = findExecutableEdges(
+                            executableName,
+                            executable,
+                            changedExecutableFingerprints.get(executableName),
+                            executableBindingsMaps.get(executableName),
+                            executableNameToExecutableMap,
+                            edges);
+                    edges.executableEdges.put(executableName, executableEdges);
+                    walkedExecutablesRef.put(executableName, executableEdges);
+                })));
+
+        // Find all the executables referred to in the bindings of this level, and walk the ones that haven't been
+        // walked yet
+        return findChangedExecutableEdgesMono.then(Mono.defer(() -> {
+            Set<String> referenceStrings = new HashSet<>();
+            for (String executableName : executablesToWalk.keySet()) {
+                OnLoadGraphState.ExecutableEdges executableEdges = walkedExecutablesRef.get(executableName);
+                if (executableEdges != null) {
+                    referenceStrings.addAll(executableEdges.referenceStrings());
+                }
+            }
+            Set<String> newReferenceStrings = new HashSet<>(referenceStrings);
+            newReferenceStrings.removeAll(edges.executableNamesByReference.keySet());
+
+            return findReferences(edges, newReferenceStrings, evalVersion).then(Mono.defer(() -> {
+                Map<String, Executable> nextExecutablesToWalk = new HashMap<>();
+                for (String referenceString : referenceStrings) {
+                    Set<String> executableNames = edges.executableNamesByReference.computeIfAbsent(
+                            referenceString, key -> findExecutableNames(key, executableNameToExecutableMap, edges));
+                    for (String executableName : executableNames) {
+                        Executable executable = executableNameToExecutableMap.get(executableName);
+                        // Check if the executable has been deleted in unpublished state. If yes, ignore it.
+                        if (!walkedExecutablesRef.containsKey(executableName) && executable.getDeletedAt() == null) {
+                            nextExecutablesToWalk.put(executableName, executable);
+                        }
+                    }
+                }
+                return walkExecutables(
+                        nextExecutablesToWalk,
+                        walkedExecutablesRef,
+                        edges,
+                        executableNameToExecutableMap,
+                        executableFingerprints,
+                        evalVersion);
+            }));
+        }));
     }
 
-    protected Mono<Executable> updateExecutableSelfReferencingPaths(EntityDependencyNode possibleEntity) {
-        return this.fillSelfReferencingPaths(possibleEntity.getExecutable()).map(executable -> {
-            possibleEntity.setExecutable(executable);
-            return executable;
+    /**
+     * Given an executable, this function finds all the dependencies of the executable. This is achieved by first
+     * walking the executable configuration and finding the paths and the mustache JS snippets found at the said path.
+     * Then the relationship between the complete path and the property paths found in the mustache JS snippets are
+     * added to the edges. The references in the bindings must have been found by
+     * {@link #findReferences(OnLoadGraphState.Edges, Set, int)} first.
+     *
+     * @param executableName        : The name the executable has been found by
+     * @param fingerprint           : The fingerprint of the executable, which the edges are valid for
+     * @param executableBindingsMap : The bindings of the executable, by the path they are at
+     * @return The edges that the executable adds to the graph
+     */
+    private OnLoadGraphState.ExecutableEdges findExecutableEdges(
+            String executableName,
+            Executable executable,
+            String fingerprint,
+            Map<String, Set<String>> executableBindingsMap,
+            Map<String, Executable> executableNameToExecutableMap,
+            OnLoadGraphState.Edges edges) {
+
+        Set<String> allBindings = new HashSet<>();
+        executableBindingsMap.values().stream().forEach(bindings -> allBindings.addAll(bindings));
+
+        // TODO : Throw an error on executable save when bindings from dynamic binding path list do not match the json
+        //  path keys and get the client to recompute the dynamic binding path list and try again.
+        if (!allBindings.containsAll(executable.getJsonPathKeys())) {
+            Set<String> invalidBindings = new HashSet<>(executable.getJsonPathKeys());
+            invalidBindings.removeAll(allBindings);
+            log.error(
+                    "Invalid dynamic binding path list for executable id {}. Not taking the following bindings in "
+                            + "consideration for computing on page load executables : {}",
+                    executable.getId(),
+                    invalidBindings);
+        }
+
+        Set<ExecutableDependencyEdge> executableEdges = new HashSet<>();
+        Set<String> referenceStrings = new HashSet<>();
+        Set<EntityDependencyNode> executableReferences = new HashSet<>();
+
+        executableBindingsMap.forEach((bindingPath, bindings) -> {
+            EntityDependencyNode executableDependencyNode = new EntityDependencyNode(
+                    executable.getEntityReferenceType(), executableName, bindingPath, null, executable);
+            Set<EntityDependencyNode> relatedDependencyNodes = getPossibleEntityReferences(
+                    executableNameToExecutableMap,
+                    getPossibleEntityParentsMap(
+                            bindings, EXECUTABLE_ENTITY_REFERENCES | WIDGET_ENTITY_REFERENCES, edges),
+                    executableReferences);
+            for (EntityDependencyNode relatedDependencyNode : relatedDependencyNodes) {
+                referenceStrings.add(relatedDependencyNode.getReferenceString());
+                executableEdges.add(new ExecutableDependencyEdge(relatedDependencyNode, executableDependencyNode));
+            }
         });
+
+        return new OnLoadGraphState.ExecutableEdges(
+                fingerprint, executableEdges, referenceStrings, allBindings, executableReferences);
+    }
+
+    /**
+     * Returns the names of the executables whose data is referred to in a reference found in the bindings of an
+     * executable. The references in the reference string must have been found by
+     * {@link #findReferences(OnLoadGraphState.Edges, Set, int)} first.
+     */
+    private Set<String> findExecutableNames(
+            String referenceString,
+            Map<String, Executable> executableNameToExecutableMap,
+            OnLoadGraphState.Edges edges) {
+        return getPossibleEntityReferences(
+                        executableNameToExecutableMap,
+                        getPossibleEntityParentsMap(
+                                Set.of(referenceString),
+                                EXECUTABLE_ENTITY_REFERENCES | WIDGET_ENTITY_REFERENCES,
+                                edges),
+                        null)
+                .stream()
+                .filter(possibleEntity -> getExecutableTypes().contains(possibleEntity.getEntityReferenceType()))
+                .map(EntityDependencyNode::getValidEntityName)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     protected <T extends Executable> Mono<Executable> fillSelfReferencingPaths(T executable) {
@@ -647,12 +1002,11 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
     }
 
     /**
-     * This function takes all the edges found and outputs a Directed Acyclic Graph. To create the complete graph, the
-     * following steps are followed :
-     * 1. Trim the edges to only contain relationships between property paths belonging to appsmith entities (executables,
-     * widgets, global variables provided by appsmith). If any/all the vertices of the edge are unknown, the edge
-     * is removed.
-     * 2. Add implicit relationship between property paths and their immediate parents. This is to ensure that in the
+     * This function expands an edge between property paths belonging to appsmith entities (executables, widgets,
+     * global variables provided by appsmith) into all the edges it adds to the Directed Acyclic Graph :
+     * 1. The edge itself.
+     * 2. The implicit relationship between the executable configuration and the executable paths.
+     * 3. The implicit relationship between property paths and their immediate parents. This is to ensure that in the
      * DAG, all the relationships are considered.
      * e.g following are the implicit relationships generated for property path `Dropdown1.options[1].value`:
      * <p>
@@ -660,118 +1014,29 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      * Dropdown1.options[1] -> Dropdown1.options
      * Dropdown1.options -> Dropdown1
      * <p>
-     * 3. Now create the DAG using the edges after the two steps.
+     * Edges with an unknown entity are left out of the graph by {@link OnLoadDependencyGraph} before they are
+     * expanded.
      *
-     * @param executableNames
-     * @param widgetNames
-     * @param edges
-     * @param executableBindingsInDsl
+     * @param edge
      * @return
      */
-    private DirectedAcyclicGraph<String, DefaultEdge> constructDAG(
-            Set<String> executableNames,
-            Set<String> widgetNames,
-            Set<ExecutableDependencyEdge> edges,
-            Set<EntityDependencyNode> executableBindingsInDsl) {
-
-        DirectedAcyclicGraph<String, DefaultEdge> executableSchedulingGraph =
-                new DirectedAcyclicGraph<>(DefaultEdge.class);
-
-        // Add the vertices for all the executables found in the DSL
-        for (EntityDependencyNode executableBindingInDsl : executableBindingsInDsl) {
-            executableSchedulingGraph.addVertex(executableBindingInDsl.getReferenceString());
-        }
-
-        Set<ExecutableDependencyEdge> implicitParentChildEdges = new HashSet<>();
-
-        // Remove any edge which contains an unknown entity - aka neither a known executable nor a known widget
-        // Note : appsmith world objects like `appsmith` would also count as an unknown here.
-        // TODO : Handle the above global variables provided by appsmith in the following filtering.
-        edges = edges.stream()
-                .filter(edge -> {
-                    String source = edge.getSourceNode().getReferenceString();
-                    String target = edge.getTargetNode().getReferenceString();
-
-                    // Edges here are assumed to be non-null
-                    // If an edge comprises vertices that depend on itself (caused by self-referencing),
-                    // We want to throw an error before attempting to create the DAG
-                    // Example: Text1.text has the value {{ Text1.text }}
-                    if (source.equals(target)) {
-                        throw new AppsmithException(AppsmithError.CYCLICAL_DEPENDENCY_ERROR, edge.toString());
-                    }
-
-                    Set<String> vertices = Set.of(source, target);
-
-                    boolean isValidEdge = true;
-
-                    // Assert that the vertices which are entire property paths have a possible parent which is either
-                    // an executable or a widget or a static variable provided by appsmith at page/application level.
-                    for (String vertex : vertices) {
-                        Optional<String> validEntity = getPossibleParents(vertex).stream()
-                                .filter(parent -> {
-                                    if (!executableNames.contains(parent)
-                                            && !widgetNames.contains(parent)
-                                            && !APPSMITH_GLOBAL_VARIABLES.contains(parent)) {
-                                        return false;
-                                    }
-                                    return true;
-                                })
-                                .findFirst();
-                        // If any of the generated entity names from the path are valid appsmith entity name,
-                        // the vertex is considered valid
-                        if (!validEntity.isPresent()) {
-                            isValidEdge = FALSE;
-                            break;
-                        }
-                    }
-
-                    return isValidEdge;
-                })
-                .collect(Collectors.toSet());
-
-        Set<ExecutableDependencyEdge> executableDataFromConfigurationEdges = new HashSet<>();
-
-        edges.stream().forEach(edge -> {
-            addImplicitExecutableConfigurationDependency(edge.getSourceNode(), executableDataFromConfigurationEdges);
-            addImplicitExecutableConfigurationDependency(edge.getTargetNode(), executableDataFromConfigurationEdges);
-        });
+    private Set<ExecutableDependencyEdge> expandEdge(ExecutableDependencyEdge edge) {
+        Set<ExecutableDependencyEdge> edges = new HashSet<>();
+        edges.add(edge);
 
-        edges.addAll(executableDataFromConfigurationEdges);
+        addImplicitExecutableConfigurationDependency(edge.getSourceNode(), edges);
+        addImplicitExecutableConfigurationDependency(edge.getTargetNode(), edges);
 
         // Now add the relationship aka when a child gets updated, the parent should get updated as well. Aka
         // parent depends on the child.
-        for (ExecutableDependencyEdge edge : edges) {
-            EntityDependencyNode source = edge.getSourceNode();
-            EntityDependencyNode target = edge.getTargetNode();
-
-            Set<EntityDependencyNode> edgeVertices = Set.of(source, target);
-
-            edgeVertices.stream()
-                    .forEach(vertex -> implicitParentChildEdges.addAll(generateParentChildRelationships(vertex)));
+        Set<ExecutableDependencyEdge> implicitParentChildEdges = new HashSet<>();
+        for (ExecutableDependencyEdge expandedEdge : edges) {
+            implicitParentChildEdges.addAll(generateParentChildRelationships(expandedEdge.getSourceNode()));
+            implicitParentChildEdges.addAll(generateParentChildRelationships(expandedEdge.getTargetNode()));
         }
-
         edges.addAll(implicitParentChildEdges);
 
-        // Now create the graph from all the edges.
-        for (ExecutableDependencyEdge edge : edges) {
-
-            String source = edge.getSourceNode().getReferenceString();
-            String target = edge.getTargetNode().getReferenceString();
-
-            executableSchedulingGraph.addVertex(source);
-            executableSchedulingGraph.addVertex(target);
-
-            try {
-                executableSchedulingGraph.addEdge(source, target);
-            } catch (IllegalArgumentException e) {
-                // This error is also thrown when adding an edge which makes the graph cyclical
-                if (e.getMessage().contains("Edge would induce a cycle")) {
-                    throw new AppsmithException(AppsmithError.CYCLICAL_DEPENDENCY_ERROR, edge.toString());
-                }
-            }
-        }
-
-        return executableSchedulingGraph;
+        return edges;
     }
 
     /**
@@ -824,6 +1089,9 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         // Find all root nodes to start the BFS traversal from
         List<String> rootNodes = dag.vertexSet().stream()
                 .filter(key -> dag.incomingEdgesOf(key).size() == 0)
+                // The depth of a vertex depends on the order the roots are traversed in, which is kept the same
+                // whatever order the vertices have been added to the graph in
+                .sorted()
                 .collect(Collectors.toList());
 
         BreadthFirstIterator<String, DefaultEdge> bfsIterator = new BreadthFirstIterator<>(dag, rootNodes);
@@ -859,249 +1127,11 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                 .collect(Collectors.toList());
     }
 
-    /**
-     * This function gets a set of binding names that come from other executables. It looks for executables in the page with
-     * the same names as words in the binding names set. If yes, it creates a new set of dynamicBindingNames, adds these newly
-     * found executables' bindings in the set, adds the new executables and their bindings to executableNames and edges and
-     * recursively calls itself with the new set of dynamicBindingNames.
-     * This ensures that the DAG that we create is complete and contains all possible executables and their dependencies
-     *
-     * @return
-     */
-    private Mono<Set<ExecutableDependencyEdge>> recursivelyAddExecutablesAndTheirDependentsToGraphFromBindings(
-            Set<ExecutableDependencyEdge> edges,
-            Map<String, EntityDependencyNode> executablesFoundDuringWalk,
-            Set<String> dynamicBindings,
-            Mono<Map<String, Executable>> executableNameToExecutableMapMono,
-            int evalVersion) {
-        if (dynamicBindings == null || dynamicBindings.isEmpty()) {
-            return Mono.just(edges);
-        }
-
-        // All executables found from possibleExecutableNames set would add their dependencies in the following set for
-        // further
-        // walk to find more executables recursively.
-        Set<String> newBindings = ConcurrentHashMap.newKeySet();
-
-        // First fetch all the executables in the page whose name matches the words found in all the dynamic bindings
-        Mono<List<EntityDependencyNode>> findAndAddExecutablesInBindingsMono = getPossibleEntityReferences(
-                        executableNameToExecutableMapMono, dynamicBindings, evalVersion)
-                .flatMapMany(Flux::fromIterable)
-                // Add dependencies of the executables found in the DSL in the graph.
-                .flatMap(possibleEntity -> {
-                    if (getExecutableTypes().contains(possibleEntity.getEntityReferenceType())) {
-                        return updateExecutableSelfReferencingPaths(possibleEntity)
-                                .then(extractAndSetExecutableBindingsInGraphEdges(
-                                        possibleEntity,
-                                        edges,
-                                        newBindings,
-                                        executableNameToExecutableMapMono,
-                                        executablesFoundDuringWalk,
-                                        null,
-                                        evalVersion))
-                                .thenReturn(possibleEntity);
-                    } else {
-                        return Mono.empty();
-                    }
-                })
-                .collectList();
-
-        return findAndAddExecutablesInBindingsMono.flatMap(entityDependencyNodes -> {
-            // Now that the next set of bindings have been found, find recursively all executables by these names
-            // and their bindings
-            return recursivelyAddExecutablesAndTheirDependentsToGraphFromBindings(
-                    edges, executablesFoundDuringWalk, newBindings, executableNameToExecutableMapMono, evalVersion);
-        });
-    }
-
-    /**
-     * This function finds all the executables which have been set to run on page load by the user and adds their
-     * dependencies to the graph.
-     * <p>
-     * Note : If such an executable has no dependencies and no interesting entity depends on it,
-     * this executable would still not get added to the output of page load scheduler. This function only ensures that the
-     * dependencies of user set on page load executables are accounted for.
-     * <p>
-     * !!! WARNING !!! : This function updates the set `explicitUserSetOnLoadExecutables` and adds the names of all such
-     * executables found in this function.
-     *
-     * @param creatorId
-     * @param edges
-     * @param explicitUserSetOnLoadExecutables
-     * @param executablesFoundDuringWalkRef
-     * @param bindingsFromExecutablesRef
-     * @return
-     */
-    private Mono<Set<ExecutableDependencyEdge>> addExplicitUserSetOnLoadExecutablesToGraph(
-            String creatorId,
-            Set<ExecutableDependencyEdge> edges,
-            Set<String> explicitUserSetOnLoadExecutables,
-            Map<String, EntityDependencyNode> executablesFoundDuringWalkRef,
-            Set<String> bindingsFromExecutablesRef,
-            Mono<Map<String, Executable>> executableNameToExecutableMapMono,
-            Set<EntityDependencyNode> executableBindingsInDsl,
-            int evalVersion,
-            CreatorContextType creatorType) {
-
-        // First fetch all the executables which have been tagged as on load by the user explicitly.
-        return getUnpublishedOnLoadExecutablesExplicitSetByUserInCreatorContextFlux(creatorId, creatorType)
-                .flatMap(this::fillSelfReferencingPaths)
-                // Add the vertices and edges to the graph for these executables
-                .flatMap(executable -> {
-                    EntityDependencyNode entityDependencyNode = new EntityDependencyNode(
-                            executable.getEntityReferenceType(),
-                            executable.getUserExecutableName(),
-                            null,
-                            null,
-                            executable);
-                    explicitUserSetOnLoadExecutables.add(executable.getUserExecutableName());
-                    return extractAndSetExecutableBindingsInGraphEdges(
-                                    entityDependencyNode,
-                                    edges,
-                                    bindingsFromExecutablesRef,
-                                    executableNameToExecutableMapMono,
-                                    executablesFoundDuringWalkRef,
-                                    executableBindingsInDsl,
-                                    evalVersion)
-                            .thenReturn(executable);
-                })
-                .collectList()
-                .thenReturn(edges);
-    }
-
     protected Flux<Executable> getUnpublishedOnLoadExecutablesExplicitSetByUserInCreatorContextFlux(
             String creatorId, CreatorContextType creatorType) {
         return pageExecutableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(creatorId);
     }
 
-    /**
-     * Given an executable, this function adds all the dependencies the executable to the graph edges. This is achieved by first
-     * walking the executable configuration and finding the paths and the mustache JS snippets found at the said path. Then
-     * the relationship between the complete path and the property paths found in the mustache JS snippets are added to
-     * the graph edges.
-     * <p>
-     * !!! WARNING !!! : This function updates the set executablesFoundDuringWalk since this function is called from all
-     * places to add the executable dependencies. If the executable has already been discovered, this function exits by checking
-     * in the executablesFoundDuringWalk, else, it adds it to the set.
-     * This function also updates `edges` by adding all the new relationships for the said executable in the set.
-     *
-     * @param edges
-     * @param entityDependencyNode
-     * @param bindingsFromExecutables
-     * @param executablesFoundDuringWalk
-     */
-    private Mono<Void> extractAndSetExecutableBindingsInGraphEdges(
-            EntityDependencyNode entityDependencyNode,
-            Set<ExecutableDependencyEdge> edges,
-            Set<String> bindingsFromExecutables,
-            Mono<Map<String, Executable>> executableNameToExecutableMapMono,
-            Map<String, EntityDependencyNode> executablesFoundDuringWalk,
-            Set<EntityDependencyNode> bindingsInDsl,
-            int evalVersion) {
-
-        Executable executable = entityDependencyNode.getExecutable();
-
-        // Check if the executable has been deleted in unpublished state. If yes, ignore it.
-        if (executable.getDeletedAt() != null) {
-            return Mono.empty().then();
-        }
-
-        String name = entityDependencyNode.getValidEntityName();
-
-        if (executablesFoundDuringWalk.containsKey(name)) {
-            // This executable has already been found in our walk. Ignore this.
-            return Mono.empty().then();
-        }
-        executablesFoundDuringWalk.put(name, entityDependencyNode);
-
-        Map<String, Set<String>> executableBindingsMap = getExecutableBindingsMap(executable);
-
-        Set<String> allBindings = new HashSet<>();
-        executableBindingsMap.values().stream().forEach(bindings -> allBindings.addAll(bindings));
-
-        // TODO : Throw an error on executable save when bindings from dynamic binding path list do not match the json
-        //  path keys and get the client to recompute the dynamic binding path list and try again.
-        if (!allBindings.containsAll(executable.getJsonPathKeys())) {
-            Set<String> invalidBindings = new HashSet<>(executable.getJsonPathKeys());
-            invalidBindings.removeAll(allBindings);
-            log.error(
-                    "Invalid dynamic binding path list for executable id {}. Not taking the following bindings in "
-                            + "consideration for computing on page load executables : {}",
-                    executable.getId(),
-                    invalidBindings);
-        }
-
-        Set<String> bindingPaths = executableBindingsMap.keySet();
-
-        return Flux.fromIterable(bindingPaths)
-                .flatMap(bindingPath -> {
-                    EntityDependencyNode executableDependencyNode = new EntityDependencyNode(
-                            entityDependencyNode.getEntityReferenceType(),
-                            entityDependencyNode.getValidEntityName(),
-                            bindingPath,
-                            null,
-                            executable);
-                    return getPossibleEntityReferences(
-                                    executableNameToExecutableMapMono,
-                                    executableBindingsMap.get(bindingPath),
-                                    evalVersion,
-                                    bindingsInDsl)
-                            .flatMapMany(Flux::fromIterable)
-                            .map(relatedDependencyNode -> {
-                                bindingsFromExecutables.add(relatedDependencyNode.getReferenceString());
-                                ExecutableDependencyEdge edge =
-                                        new ExecutableDependencyEdge(relatedDependencyNode, executableDependencyNode);
-                                edges.add(edge);
-                                return relatedDependencyNode;
-                            })
-                            .collectList();
-                })
-                .collectList()
-                .then();
-    }
-
-    /**
-     * This function walks the widget bindings and adds all the relationships which have been discovered earlier while
-     * walking the DSL and extracting all the relationships into edges between the widget path where there is a dynamic
-     * binding and the entities in the bindings.
-     *
-     * @param edges
-     * @param widgetBindingMap
-     * @return
-     */
-    private Mono<Set<ExecutableDependencyEdge>> addWidgetRelationshipToGraph(
-            Set<ExecutableDependencyEdge> edges, Map<String, Set<String>> widgetBindingMap, int evalVersion) {
-        final int entityTypes = WIDGET_ENTITY_REFERENCES;
-        // This part will ensure that we are discovering widget to widget relationships.
-        return Flux.fromIterable(widgetBindingMap.entrySet())
-                .flatMap(widgetBindingEntries -> getPossibleEntityParentsMap(
-                                widgetBindingEntries.getValue(), entityTypes, evalVersion)
-                        .map(possibleParentsMap -> {
-                            possibleParentsMap.entrySet().stream().forEach(entry -> {
-                                if (entry.getValue() == null || entry.getValue().isEmpty()) {
-                                    return;
-                                }
-                                String widgetPath =
-                                        widgetBindingEntries.getKey().trim();
-                                String[] widgetPathParts = widgetPath.split("\\.");
-                                String widgetName = widgetPath;
-                                if (widgetPathParts.length > 0) {
-                                    widgetName = widgetPathParts[0];
-                                }
-                                EntityDependencyNode entityDependencyNode = new EntityDependencyNode(
-                                        EntityReferenceType.WIDGET, widgetName, widgetPath, null, null);
-                                entry.getValue().stream().forEach(widgetDependencyNode -> {
-                                    ExecutableDependencyEdge edge =
-                                            new ExecutableDependencyEdge(widgetDependencyNode, entityDependencyNode);
-                                    edges.add(edge);
-                                });
-                            });
-                            return possibleParentsMap;
-                        }))
-                .collectList()
-                .then(Mono.just(edges));
-    }
-
     private boolean hasUserSetExecutableToNotRunOnPageLoad(Executable executable) {
         if (TRUE.equals(executable.getUserSetOnLoad()) && !TRUE.equals(executable.getExecuteOnLoad())) {
             return true;
@@ -0,0 +1,167 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.models.EntityDependencyNode;
+import com.appsmith.external.models.EntityReferenceType;
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dependency graph of a creator, e.g. a page, that is kept between its on load executables computations, so that a
+ * computation only works on what has changed since the last one.
+ * <p>
+ * The edges of the graph are kept by the widget path or executable they were found in, along with the bindings or the
+ * executable fingerprint they were found from. A computation only finds the edges again for the widget paths whose
+ * bindings have changed and for the executables whose fingerprints have changed, and only asks AST for the references
+ * in the bindings that it hasn't seen before. The {@link OnLoadDependencyGraph} is then patched with the edges that
+ * have been added or removed. The scheduling order is walked again on the patched graph.
+ */
+class OnLoadGraphState {
+
+    /**
+     * Everything the on load executables of a creator depend on. The executables are represented by fingerprints of
+     * their configuration and of their on load settings.
+     */
+    record Inputs(
+            Integer evaluatedVersion,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindings,
+            Map<String, String> executableFingerprints) {}
+
+    /**
+     * The scheduling order and on load executable names are the ones before the executables that the user has turned
+     * off are filtered out, since the executables themselves are fetched again for every computation.
+     */
+    record Outputs(
+            List<Set<String>> schedulingOrder,
+            Set<String> onLoadExecutableNames,
+            Set<String> executablesUsedInDsl,
+            Set<ExecutableDependencyEdge> edges) {}
+
+    record Computation(Inputs inputs, Outputs outputs) {}
+
+    /**
+     * What a widget path adds to the graph, found from its bindings.
+     *
+     * @param executableEdges         : Edges from the executables referred to in the bindings to the widget path
+     * @param widgetEdges             : Edges from the widgets referred to in the bindings to the widget path
+     * @param executableNames         : Names of the executables whose data is referred to in the bindings
+     * @param executableBindingsInDsl : All the references to executables in the bindings, function calls included
+     */
+    record WidgetPathEdges(
+            Set<String> bindings,
+            Set<ExecutableDependencyEdge> executableEdges,
+            Set<ExecutableDependencyEdge> widgetEdges,
+            Set<String> executableNames,
+            Set<EntityDependencyNode> executableBindingsInDsl) {}
+
+    /**
+     * What an executable adds to the graph when it is walked, found from its bindings.
+     *
+     * @param edges                : Edges from the entities referred to in the bindings to the executable paths
+     * @param referenceStrings     : References to other entities in the bindings, which are walked in turn
+     * @param bindings             : All the bindings of the executable
+     * @param executableReferences : The references to executables in the bindings, function calls included
+     */
+    record ExecutableEdges(
+            String fingerprint,
+            Set<ExecutableDependencyEdge> edges,
+            Set<String> referenceStrings,
+            Set<String> bindings,
+            Set<EntityDependencyNode> executableReferences) {}
+
+    /**
+     * The edges found for every widget path and executable, which are only valid for the eval version and the
+     * executable names they were found with. References to executables are only kept when an executable of the same
+     * name and type exists.
+     */
+    static class Edges {
+
+        private final int evaluatedVersion;
+
+        private final Map<String, EntityReferenceType> executableTypes;
+
+        /**
+         * References found by AST in every binding. A binding that AST found no references in has an empty set.
+         */
+        final Map<String, Set<String>> referencesByBinding = new ConcurrentHashMap<>();
+
+        final Map<String, WidgetPathEdges> widgetPathEdges = new ConcurrentHashMap<>();
+
+        final Map<String, ExecutableEdges> executableEdges = new ConcurrentHashMap<>();
+
+        /**
+         * Names of the executables whose data is referred to in each of the references found in executables.
+         */
+        final Map<String, Set<String>> executableNamesByReference = new ConcurrentHashMap<>();
+
+        private Edges(int evaluatedVersion, Map<String, EntityReferenceType> executableTypes) {
+            this.evaluatedVersion = evaluatedVersion;
+            this.executableTypes = executableTypes;
+        }
+
+        /**
+         * Forgets whatever is not part of the creator anymore, i.e. the widget paths and executables that are gone and
+         * the bindings and references that none of the rest has.
+         */
+        void retainAll(Set<String> widgetPaths, Set<String> executableNames) {
+            widgetPathEdges.keySet().retainAll(widgetPaths);
+            executableEdges.keySet().retainAll(executableNames);
+
+            Set<String> bindings = new HashSet<>();
+            widgetPathEdges.values().forEach(edges -> bindings.addAll(edges.bindings()));
+            Set<String> referenceStrings = new HashSet<>();
+            executableEdges.values().forEach(edges -> {
+                bindings.addAll(edges.bindings());
+                referenceStrings.addAll(edges.referenceStrings());
+            });
+            bindings.addAll(referenceStrings);
+
+            referencesByBinding.keySet().retainAll(bindings);
+            executableNamesByReference.keySet().retainAll(referenceStrings);
+        }
+    }
+
+    private volatile Computation lastComputation;
+
+    private volatile Edges edges;
+
+    private final OnLoadDependencyGraph dependencyGraph = new OnLoadDependencyGraph();
+
+    Computation getLastComputation() {
+        return lastComputation;
+    }
+
+    void setLastComputation(Computation lastComputation) {
+        this.lastComputation = lastComputation;
+    }
+
+    /**
+     * Returns the edges found by earlier computations, or none of them if the eval version or the names and types of
+     * the executables have changed since.
+     */
+    Edges getEdges(int evaluatedVersion, Map<String, EntityReferenceType> executableTypes) {
+        Edges currentEdges = edges;
+        if (currentEdges == null
+                || currentEdges.evaluatedVersion != evaluatedVersion
+                || !currentEdges.executableTypes.equals(executableTypes)) {
+            // The type of an executable without a plugin type is null, which Map.copyOf doesn't allow
+            currentEdges = new Edges(evaluatedVersion, Collections.unmodifiableMap(new HashMap<>(executableTypes)));
+            edges = currentEdges;
+        }
+        return currentEdges;
+    }
+
+    /**
+     * The graph is patched in place, so callers must hold the lock of this state while they use it.
+     */
+    OnLoadDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+}
@@ -7,6 +7,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.UserPermissionUtils;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
@@ -89,6 +90,9 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public static final int NO_SKIP = 0;
 
+    // Number of documents inserted in a single insertMany command by bulkInsert
+    private static final int BULK_INSERT_BATCH_SIZE = 500;
+
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl() {
         this.genericDomain =
@@ -357,20 +361,18 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         Set<String> permissions = new HashSet<>();
         obj.setUserPermissions(permissions);
 
-        if (CollectionUtils.isEmpty(obj.getPolicies()) || permissionGroups.isEmpty()) {
+        if (CollectionUtils.isEmpty(obj.getPolicies()) || CollectionUtils.isEmpty(permissionGroups)) {
             return Mono.just(obj);
         }
 
         for (Policy policy : obj.getPolicies()) {
             Set<String> policyPermissionGroups = policy.getPermissionGroups();
-            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
+            // The same permission may be granted by more than one policy
+            if (CollectionUtils.isEmpty(policyPermissionGroups) || permissions.contains(policy.getPermission())) {
                 continue;
             }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
-                    permissions.add(policy.getPermission());
-                    break;
-                }
+            if (UserPermissionUtils.sharesPermissionGroup(policyPermissionGroups, permissionGroups)) {
+                permissions.add(policy.getPermission());
             }
         }
 
@@ -466,19 +468,21 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             return Mono.empty();
         }
 
-        // convert the list of domains to a list of DBObjects
-        List<Document> dbObjects = domainList.stream()
-                .map(domain -> {
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(domain, document);
-                    return document;
-                })
-                .collect(Collectors.toList());
-
+        // The domains are converted to DBObjects one batch at a time, and the next batch is converted while the
+        // previous one is being inserted. The batches are inserted one after the other, since a transaction doesn't
+        // allow parallel operations in its session.
         return mongoOperations
                 .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
-                .collectList()
+                .flatMapMany(documentMongoCollection -> Flux.fromIterable(domainList)
+                        .buffer(BULK_INSERT_BATCH_SIZE)
+                        .map(domains -> domains.stream()
+                                .map(domain -> {
+                                    Document document = new Document();
+                                    mongoOperations.getConverter().write(domain, document);
+                                    return document;
+                                })
+                                .collect(Collectors.toList()))
+                        .concatMap(documentMongoCollection::insertMany, 1))
                 .then();
     }
 
@@ -2,12 +2,14 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.AppsmithRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
@@ -42,4 +44,12 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
     Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission);
 
     Flux<NewPage> findAllByApplicationIdsWithoutPermission(List<String> applicationIds, List<String> includeFields);
+
+    Mono<Integer> updateUnpublishedLayout(
+            String id,
+            String layoutId,
+            int layoutIndex,
+            Map<String, String> widgetIdsByPath,
+            BridgeUpdate update,
+            AclPermission permission);
 }
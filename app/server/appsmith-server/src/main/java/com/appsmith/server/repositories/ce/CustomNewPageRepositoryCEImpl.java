@@ -7,6 +7,7 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
+import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +20,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -238,4 +241,28 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
                 .fields(includeFields)
                 .all();
     }
+
+    /**
+     * Updates the fields of a single layout in edit mode, as long as the layout and the widgets at the given paths are
+     * still the ones the update was computed from. Returns the number of pages matched, i.e. zero if the layout or the
+     * widgets have been moved in the meantime.
+     */
+    @Override
+    public Mono<Integer> updateUnpublishedLayout(
+            String id,
+            String layoutId,
+            int layoutIndex,
+            Map<String, String> widgetIdsByPath,
+            BridgeUpdate update,
+            AclPermission permission) {
+        final String layoutPath = dotted(NewPage.Fields.unpublishedPage_layouts, String.valueOf(layoutIndex));
+
+        final BridgeQuery<NewPage> q =
+                Bridge.<NewPage>equal(NewPage.Fields.id, id).equal(dotted(layoutPath, Layout.Fields.id), layoutId);
+        widgetIdsByPath.forEach((widgetPath, widgetId) -> q.equal(dotted(widgetPath, FieldName.WIDGET_ID), widgetId));
+
+        update.set(NewPage.Fields.updatedAt, Instant.now());
+
+        return queryBuilder().criteria(q).permission(permission).updateFirst(update);
+    }
 }
@@ -0,0 +1,5 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ActionResultCacheServiceCE;
+
+public interface ActionResultCacheService extends ActionResultCacheServiceCE {}
@@ -0,0 +1,16 @@
+package com.appsmith.server.services;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.server.services.ce.ActionResultCacheServiceCEImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class ActionResultCacheServiceImpl extends ActionResultCacheServiceCEImpl implements ActionResultCacheService {
+
+    public ActionResultCacheServiceImpl(CacheManager cacheManager, ObjectMapper objectMapper) {
+        super(cacheManager, objectMapper);
+    }
+}
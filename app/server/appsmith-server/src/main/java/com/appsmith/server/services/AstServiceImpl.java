@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.caching.components.CacheManager;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.services.ce.AstServiceCEImpl;
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class AstServiceImpl extends AstServiceCEImpl implements AstService {
 
-    public AstServiceImpl(CommonConfig commonConfig, InstanceConfig instanceConfig) {
-        super(commonConfig, instanceConfig);
+    public AstServiceImpl(CommonConfig commonConfig, InstanceConfig instanceConfig, CacheManager cacheManager) {
+        super(commonConfig, instanceConfig, cacheManager);
     }
 }
@@ -58,7 +58,8 @@ public class GitServiceImpl extends GitServiceCECompatibleImpl implements GitSer
             ObservationRegistry observationRegistry,
             GitPrivateRepoHelper gitPrivateRepoHelper,
             TransactionalOperator transactionalOperator,
-            GitAutoCommitHelper gitAutoCommitHelper) {
+            GitAutoCommitHelper gitAutoCommitHelper,
+            FeatureFlagService featureFlagService) {
         super(
                 userService,
                 userDataService,
@@ -86,6 +87,7 @@ public class GitServiceImpl extends GitServiceCECompatibleImpl implements GitSer
                 observationRegistry,
                 gitPrivateRepoHelper,
                 transactionalOperator,
-                gitAutoCommitHelper);
+                gitAutoCommitHelper,
+                featureFlagService);
     }
 }
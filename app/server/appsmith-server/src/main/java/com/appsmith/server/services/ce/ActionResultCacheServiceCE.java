@@ -0,0 +1,27 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import reactor.core.publisher.Mono;
+
+public interface ActionResultCacheServiceCE {
+
+    /**
+     * Returns the cached result of an earlier execution of the action with the same parameters, against the same
+     * datasource configuration, if the action has result caching turned on. Otherwise, runs the given execution and
+     * caches its result if it was successful.
+     *
+     * @param actionDTO         : The action being executed, with its result cache settings
+     * @param executeActionDTO  : The parameters of the execution
+     * @param datasourceStorage : The datasource configuration the action is executed against
+     * @param executionMono     : Executes the action
+     * @return The cached or the fresh result of the execution
+     */
+    Mono<ActionExecutionResult> getOrExecute(
+            ActionDTO actionDTO,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceStorage datasourceStorage,
+            Mono<ActionExecutionResult> executionMono);
+}
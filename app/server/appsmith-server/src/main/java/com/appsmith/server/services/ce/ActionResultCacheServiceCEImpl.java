@@ -0,0 +1,179 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Param;
+import com.appsmith.server.dtos.CachedActionExecutionResultDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Caches the results of the actions that have result caching turned on, in the reactive-caching module's cache, i.e.
+ * locally and in Redis. The key is made of the action id, the environment, and a hash of everything the result
+ * depends on: the action configuration, the datasource configuration and the rendered parameter values. Updating the
+ * action or the datasource hence changes the key, and the entries of the earlier versions are left to expire.
+ */
+@Slf4j
+public class ActionResultCacheServiceCEImpl implements ActionResultCacheServiceCE {
+
+    public static final String CACHE_NAME = "actionExecutionResult";
+
+    public static final int DEFAULT_MAX_SIZE_IN_BYTES = 1024 * 1024;
+
+    private static final String BODY_FIELD = "body";
+
+    private static final String REQUEST_FIELD = "request";
+
+    private static final byte SEPARATOR = 0;
+
+    private final CacheManager cacheManager;
+
+    private final ObjectMapper objectMapper;
+
+    public ActionResultCacheServiceCEImpl(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<ActionExecutionResult> getOrExecute(
+            ActionDTO actionDTO,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceStorage datasourceStorage,
+            Mono<ActionExecutionResult> executionMono) {
+
+        final ActionConfiguration actionConfiguration = actionDTO.getActionConfiguration();
+        final Integer ttlInSeconds =
+                actionConfiguration == null ? null : actionConfiguration.getResultCacheTtlInSeconds();
+        if (ttlInSeconds == null || ttlInSeconds <= 0) {
+            return executionMono;
+        }
+
+        final String key;
+        try {
+            key = getCacheKey(actionDTO, executeActionDTO, datasourceStorage);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Unable to compute the result cache key of action {}", actionDTO.getId(), e);
+            return executionMono;
+        }
+
+        return cacheManager
+                .get(CACHE_NAME, key)
+                .onErrorResume(error -> {
+                    log.warn("Unable to read the cached result of action {}", actionDTO.getId(), error);
+                    return Mono.empty();
+                })
+                .flatMap(cachedValue -> Mono.justOrEmpty(readCachedResult(cachedValue, executeActionDTO)))
+                .switchIfEmpty(Mono.defer(() -> executionMono.flatMap(result -> cacheResult(
+                                key, result, ttlInSeconds, actionConfiguration.getResultCacheMaxSizeInBytes())
+                        .onErrorResume(error -> {
+                            log.warn("Unable to cache the result of action {}", actionDTO.getId(), error);
+                            return Mono.just(false);
+                        })
+                        .thenReturn(result))));
+    }
+
+    protected String getCacheKey(
+            ActionDTO actionDTO, ExecuteActionDTO executeActionDTO, DatasourceStorage datasourceStorage)
+            throws IOException, NoSuchAlgorithmException {
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(objectMapper.writeValueAsBytes(actionDTO.getActionConfiguration()));
+        digest.update(SEPARATOR);
+        digest.update(objectMapper.writeValueAsBytes(datasourceStorage.getDatasourceConfiguration()));
+        digest.update(SEPARATOR);
+        digest.update(String.valueOf(datasourceStorage.getUpdatedAt()).getBytes(StandardCharsets.UTF_8));
+        digest.update(SEPARATOR);
+        digest.update(String.valueOf(executeActionDTO.getPaginationField()).getBytes(StandardCharsets.UTF_8));
+
+        if (executeActionDTO.getParams() != null) {
+            List<Param> params = new ArrayList<>(executeActionDTO.getParams());
+            params.sort(Comparator.comparing(Param::getKey, Comparator.nullsFirst(Comparator.naturalOrder())));
+            for (Param param : params) {
+                digest.update(SEPARATOR);
+                digest.update(String.valueOf(param.getKey()).getBytes(StandardCharsets.UTF_8));
+                digest.update(SEPARATOR);
+                digest.update(String.valueOf(param.getValue()).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        return actionDTO.getId() + ":" + datasourceStorage.getEnvironmentId() + ":"
+                + HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Mono<Boolean> cacheResult(
+            String key, ActionExecutionResult result, int ttlInSeconds, Integer maxSizeInBytes) {
+        if (!TRUE.equals(result.getIsExecutionSuccess())) {
+            return Mono.just(false);
+        }
+
+        byte[] bytes;
+        try {
+            // The request is specific to every execution, and is created again for every cache hit
+            ObjectNode resultNode = objectMapper.valueToTree(result);
+            resultNode.remove(REQUEST_FIELD);
+            bytes = objectMapper.writeValueAsBytes(resultNode);
+        } catch (IOException | IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        int maxSize = maxSizeInBytes == null || maxSizeInBytes <= 0 ? DEFAULT_MAX_SIZE_IN_BYTES : maxSizeInBytes;
+        if (bytes.length > maxSize) {
+            log.debug("Not caching result of {} bytes, larger than the limit of {} bytes", bytes.length, maxSize);
+            return Mono.just(false);
+        }
+
+        Duration ttl = Duration.ofSeconds(ttlInSeconds);
+        CachedActionExecutionResultDTO cachedResult = new CachedActionExecutionResultDTO(
+                bytes,
+                result.getBody() instanceof JsonNode,
+                Instant.now().plus(ttl).toEpochMilli());
+        return cacheManager.put(CACHE_NAME, key, cachedResult, ttl);
+    }
+
+    private ActionExecutionResult readCachedResult(Object cachedValue, ExecuteActionDTO executeActionDTO) {
+        if (!(cachedValue instanceof CachedActionExecutionResultDTO cachedResult)
+                || cachedResult.getExpiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+
+        try {
+            ObjectNode resultNode = (ObjectNode) objectMapper.readTree(cachedResult.getResult());
+            JsonNode body = resultNode.remove(BODY_FIELD);
+
+            ActionExecutionResult result = objectMapper.treeToValue(resultNode, ActionExecutionResult.class);
+            result.setBody(
+                    cachedResult.isJsonBody() || body == null ? body : objectMapper.treeToValue(body, Object.class));
+
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setActionId(executeActionDTO.getActionId());
+            request.setRequestedAt(Instant.now());
+            result.setRequest(request);
+            return result;
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to read cached action execution result", e);
+            return null;
+        }
+    }
+}
@@ -16,15 +16,33 @@ import com.appsmith.server.projections.ApplicationSnapshotResponseDTO;
 import com.appsmith.server.repositories.ApplicationSnapshotRepository;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RequiredArgsConstructor
 public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServiceCE {
@@ -38,6 +56,24 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
 
     private static final int MAX_SNAPSHOT_SIZE = 15 * 1024 * 1024; // 15 MB
 
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+    private static final String GZIP_COMPRESSION = "gzip";
+
+    private static final Timer SNAPSHOT_CREATE_TIMER = Timer.builder("appsmith.snapshot.create")
+            .description("Time taken to serialise and compress an application snapshot")
+            .register(Metrics.globalRegistry);
+
+    private static final Timer SNAPSHOT_RESTORE_TIMER = Timer.builder("appsmith.snapshot.restore")
+            .description("Time taken to decompress and parse an application snapshot")
+            .register(Metrics.globalRegistry);
+
+    private static final DistributionSummary SNAPSHOT_SIZE_SUMMARY = DistributionSummary.builder(
+                    "appsmith.snapshot.size")
+            .description("Compressed size of application snapshots")
+            .baseUnit(BaseUnits.BYTES)
+            .register(Metrics.globalRegistry);
+
     @Override
     public Mono<Boolean> createApplicationSnapshot(String applicationId, String branchName) {
         return applicationService
@@ -60,10 +96,9 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
     }
 
     private Flux<ApplicationSnapshot> createSnapshots(String applicationId, ApplicationJson applicationJson) {
-        String json = gson.toJson(applicationJson);
-        // check the size of the exported json before storing to avoid mongodb document size limit
-        byte[] utf8JsonString = json.getBytes(StandardCharsets.UTF_8);
-        List<ApplicationSnapshot> applicationSnapshots = createSnapshotsObjects(utf8JsonString, applicationId);
+        // The chunks are split from the compressed json, to avoid the mongodb document size limit
+        List<ApplicationSnapshot> applicationSnapshots =
+                SNAPSHOT_CREATE_TIMER.record(() -> createSnapshotsObjects(applicationJson, applicationId));
         return applicationSnapshotRepository.saveAll(applicationSnapshots);
     }
 
@@ -84,12 +119,11 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                         branchName, applicationId, applicationPermission.getEditPermission())
                 .switchIfEmpty(Mono.error(
                         new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
-                .flatMap(application -> getApplicationJsonStringFromSnapShot(application.getId())
-                        .zipWith(Mono.just(application)))
+                .flatMap(application ->
+                        getApplicationJsonFromSnapShot(application.getId()).zipWith(Mono.just(application)))
                 .flatMap(objects -> {
-                    String applicationJsonString = objects.getT1();
+                    ApplicationJson applicationJson = objects.getT1();
                     Application application = objects.getT2();
-                    ApplicationJson applicationJson = gson.fromJson(applicationJsonString, ApplicationJson.class);
                     return importService.restoreSnapshot(
                             application.getWorkspaceId(), application.getId(), branchName, applicationJson);
                 })
@@ -100,48 +134,115 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                 .map(responseUtils::updateApplicationWithDefaultResources);
     }
 
-    private Mono<String> getApplicationJsonStringFromSnapShot(String applicationId) {
+    private Mono<ApplicationJson> getApplicationJsonFromSnapShot(String applicationId) {
         return applicationSnapshotRepository
                 .findByApplicationId(applicationId)
                 .sort(Comparator.comparingInt(ApplicationSnapshot::getChunkOrder))
-                .map(ApplicationSnapshot::getData)
                 .collectList()
-                .map(bytes -> {
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    for (byte[] b : bytes) {
-                        outputStream.writeBytes(b);
-                    }
-                    return outputStream.toString(StandardCharsets.UTF_8);
-                });
+                .map(applicationSnapshots ->
+                        SNAPSHOT_RESTORE_TIMER.record(() -> readApplicationJson(applicationSnapshots)));
     }
 
-    private List<ApplicationSnapshot> createSnapshotsObjects(byte[] bytes, String applicationId) {
-        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
-        int total = bytes.length;
-        int copiedCount = 0;
-        int chunkOrder = 1;
+    /**
+     * Parses the json while the chunks are read one after the other, and decompressed if needed, without joining the
+     * chunks into a single array first
+     */
+    private ApplicationJson readApplicationJson(List<ApplicationSnapshot> applicationSnapshots) {
+        List<InputStream> chunkStreams = applicationSnapshots.stream()
+                .map(applicationSnapshot -> (InputStream) new ByteArrayInputStream(applicationSnapshot.getData()))
+                .toList();
+        InputStream inputStream = new SequenceInputStream(Collections.enumeration(chunkStreams));
+        String compression = applicationSnapshots.isEmpty()
+                ? null
+                : applicationSnapshots.get(0).getCompression();
+        try (Reader reader = new InputStreamReader(
+                GZIP_COMPRESSION.equals(compression) ? new GZIPInputStream(inputStream) : inputStream,
+                StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, ApplicationJson.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        while (copiedCount < total) {
-            int currentChunkSize = MAX_SNAPSHOT_SIZE;
-            if (copiedCount + currentChunkSize > total) {
-                currentChunkSize = total - copiedCount;
-            }
-            byte[] sub = new byte[currentChunkSize];
-            System.arraycopy(bytes, copiedCount, sub, 0, currentChunkSize);
-            copiedCount += currentChunkSize;
+    private List<ApplicationSnapshot> createSnapshotsObjects(ApplicationJson applicationJson, String applicationId) {
+        SnapshotChunkOutputStream chunkOutputStream = new SnapshotChunkOutputStream(MAX_SNAPSHOT_SIZE);
+        try (JsonWriter jsonWriter = gson.newJsonWriter(new OutputStreamWriter(
+                new GZIPOutputStream(chunkOutputStream, COMPRESSION_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            gson.toJson(applicationJson, applicationJson.getClass(), jsonWriter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
+        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
+        int chunkOrder = 1;
+        long snapshotSize = 0;
+        for (byte[] chunk : chunkOutputStream.getChunks()) {
             // create snapshot that'll contain the chunk of data
             ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
-            applicationSnapshot.setData(sub);
+            applicationSnapshot.setData(chunk);
             applicationSnapshot.setApplicationId(applicationId);
             applicationSnapshot.setChunkOrder(chunkOrder);
+            applicationSnapshot.setCompression(GZIP_COMPRESSION);
             applicationSnapshots.add(applicationSnapshot);
 
+            snapshotSize += chunk.length;
             chunkOrder++;
         }
+        SNAPSHOT_SIZE_SUMMARY.record(snapshotSize);
         return applicationSnapshots;
     }
 
+    /**
+     * Splits the written bytes into chunks of the given size as they are written, so that the compressed snapshot is
+     * never held in a single array
+     */
+    private static class SnapshotChunkOutputStream extends OutputStream {
+
+        private final int chunkSize;
+
+        @Getter
+        private final List<byte[]> chunks = new ArrayList<>();
+
+        private ByteArrayOutputStream currentChunk = new ByteArrayOutputStream();
+
+        SnapshotChunkOutputStream(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void write(int b) {
+            if (currentChunk.size() == chunkSize) {
+                completeChunk();
+            }
+            currentChunk.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                if (currentChunk.size() == chunkSize) {
+                    completeChunk();
+                }
+                int count = Math.min(length, chunkSize - currentChunk.size());
+                currentChunk.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (currentChunk.size() > 0) {
+                completeChunk();
+            }
+        }
+
+        private void completeChunk() {
+            chunks.add(currentChunk.toByteArray());
+            currentChunk = new ByteArrayOutputStream();
+        }
+    }
+
     @Override
     public Mono<Boolean> deleteSnapshot(String applicationId, String branchName) {
         // find root application by applicationId and branchName
@@ -36,6 +36,8 @@ public interface AstServiceCE {
      * for references
      * In case the AST service returns with an error, throw an exception that propagates to the layout error messages,
      * to let the user know that their on page load actions have not been updated.
+     * The references found by RTS are cached by binding value and eval version, so that only the binding values that
+     * haven't been seen before are sent to RTS.
      *
      * @param bindingValues : List of mustache binding value strings to be analyzed
      * @param evalVersion   : The evaluated value version of the current app to be used while AST parsing
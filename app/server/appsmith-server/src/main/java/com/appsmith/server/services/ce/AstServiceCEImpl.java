@@ -1,5 +1,6 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.caching.components.CacheManager;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.MustacheBindingToken;
 import com.appsmith.server.configurations.CommonConfig;
@@ -7,10 +8,14 @@ import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.util.WebClientUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -24,24 +29,32 @@ import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 import reactor.util.retry.Retry;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
-@RequiredArgsConstructor
 public class AstServiceCEImpl implements AstServiceCE {
 
     private final CommonConfig commonConfig;
 
     private final InstanceConfig instanceConfig;
 
+    private final CacheManager cacheManager;
+
     private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
             .maxConnections(100)
             .maxIdleTime(Duration.ofSeconds(30))
@@ -52,6 +65,32 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
 
+    public static final String REFERENCES_CACHE_NAME = "astReferences";
+
+    private static final Duration REFERENCES_REDIS_TTL = Duration.ofDays(1);
+
+    private static final Timer REFERENCES_RTS_TIMER = Timer.builder("appsmith.rts.ast.references")
+            .description("Time taken by RTS to find the references in the bindings that are not cached")
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+
+    /**
+     * References found by RTS in binding values, keyed by the eval version and a hash of the binding value. The
+     * references only depend on these, so the entries never need to be invalidated.
+     */
+    private final Cache<String, Set<String>> referencesCache;
+
+    public AstServiceCEImpl(CommonConfig commonConfig, InstanceConfig instanceConfig, CacheManager cacheManager) {
+        this.commonConfig = commonConfig;
+        this.instanceConfig = instanceConfig;
+        this.cacheManager = cacheManager;
+        this.referencesCache = Caffeine.newBuilder()
+                .maximumSize(commonConfig.getRtsAstCacheMaxSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, referencesCache, REFERENCES_CACHE_NAME);
+    }
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> replaceValueInMustacheKeys(
             Set<MustacheBindingToken> mustacheKeySet,
@@ -115,22 +154,113 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
+
+        // Only the distinct binding values that aren't cached are sent to RTS
+        Map<String, Set<String>> referencesByBinding = new ConcurrentHashMap<>();
+        Map<String, String> cacheKeysOfMisses = new LinkedHashMap<>();
+        for (String bindingValue : bindingValues) {
+            if (referencesByBinding.containsKey(bindingValue) || cacheKeysOfMisses.containsKey(bindingValue)) {
+                continue;
+            }
+            String cacheKey = getReferencesCacheKey(bindingValue, evalVersion);
+            Set<String> references = referencesCache.getIfPresent(cacheKey);
+            if (references != null) {
+                referencesByBinding.put(bindingValue, references);
+            } else {
+                cacheKeysOfMisses.put(bindingValue, cacheKey);
+            }
+        }
+
+        return getReferencesFromRedis(cacheKeysOfMisses, referencesByBinding)
+                .then(Mono.defer(() -> {
+                    cacheKeysOfMisses.keySet().removeAll(referencesByBinding.keySet());
+                    return getReferencesFromRts(cacheKeysOfMisses, evalVersion, referencesByBinding);
+                }))
+                .thenMany(Flux.fromIterable(bindingValues))
+                // RTS may return fewer results than the scripts sent, the bindings left without any are skipped
+                .mapNotNull(bindingValue -> {
+                    Set<String> references = referencesByBinding.get(bindingValue);
+                    return references == null ? null : Tuples.of(bindingValue, new HashSet<>(references));
+                });
+        // TODO: add error handling scenario for when RTS is not accessible in fat container
+    }
+
+    protected String getReferencesCacheKey(String bindingValue, int evalVersion) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return evalVersion + ":"
+                    + HexFormat.of().formatHex(digest.digest(bindingValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Void> getReferencesFromRedis(
+            Map<String, String> cacheKeysOfMisses, Map<String, Set<String>> referencesByBinding) {
+        if (!commonConfig.isRtsAstCacheRedisEnabled() || cacheKeysOfMisses.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(cacheKeysOfMisses.entrySet())
+                .flatMap(entry -> cacheManager
+                        .get(REFERENCES_CACHE_NAME, entry.getValue())
+                        .onErrorResume(error -> {
+                            log.debug("Unable to read the cached references of a binding", error);
+                            return Mono.empty();
+                        })
+                        .filter(Set.class::isInstance)
+                        .doOnNext(value -> {
+                            Set<String> references = Set.copyOf((Set<String>) value);
+                            referencesCache.put(entry.getValue(), references);
+                            referencesByBinding.put(entry.getKey(), references);
+                        }))
+                .then();
+    }
+
+    private Mono<Void> getReferencesFromRts(
+            Map<String, String> cacheKeysOfMisses, int evalVersion, Map<String, Set<String>> referencesByBinding) {
+        if (cacheKeysOfMisses.isEmpty()) {
+            return Mono.empty();
+        }
+
+        List<String> scripts = new ArrayList<>(cacheKeysOfMisses.keySet());
         return webClient
                 .post()
                 .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
                 .contentType(MediaType.APPLICATION_JSON)
-                .body(BodyInserters.fromValue(new GetIdentifiersRequestBulk(bindingValues, evalVersion)))
+                .body(BodyInserters.fromValue(new GetIdentifiersRequestBulk(scripts, evalVersion)))
                 .retrieve()
                 .bodyToMono(GetIdentifiersResponseBulk.class)
                 .retryWhen(Retry.max(3))
-                .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
+                .elapsed()
+                .flatMapIterable(tuple -> {
+                    REFERENCES_RTS_TIMER.record(Duration.ofMillis(tuple.getT1()));
+                    return tuple.getT2().data;
+                })
                 .index()
+                // Any results beyond the scripts sent can't be matched to a binding
+                .filter(tuple2 -> tuple2.getT1() < scripts.size())
                 .flatMap(tuple2 -> {
-                    long currentIndex = tuple2.getT1();
-                    Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
-                });
-        // TODO: add error handling scenario for when RTS is not accessible in fat container
+                    String bindingValue = scripts.get(tuple2.getT1().intValue());
+                    String cacheKey = cacheKeysOfMisses.get(bindingValue);
+                    Set<String> references = tuple2.getT2().getReferences() == null
+                            ? Set.of()
+                            : Set.copyOf(tuple2.getT2().getReferences());
+                    referencesCache.put(cacheKey, references);
+                    referencesByBinding.put(bindingValue, references);
+
+                    if (!commonConfig.isRtsAstCacheRedisEnabled()) {
+                        return Mono.empty();
+                    }
+                    return cacheManager
+                            .put(REFERENCES_CACHE_NAME, cacheKey, new HashSet<>(references), REFERENCES_REDIS_TTL)
+                            .onErrorResume(error -> {
+                                log.debug("Unable to cache the references of a binding", error);
+                                return Mono.just(false);
+                            });
+                })
+                .then();
     }
 
     @Override
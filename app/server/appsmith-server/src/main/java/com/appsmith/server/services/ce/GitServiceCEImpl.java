@@ -6,6 +6,7 @@ import com.appsmith.external.dtos.GitBranchDTO;
 import com.appsmith.external.dtos.GitLogDTO;
 import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.MergeStatusDTO;
+import com.appsmith.external.enums.FeatureFlagEnum;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.constants.GitConstants;
 import com.appsmith.external.git.constants.GitSpan;
@@ -59,6 +60,7 @@ import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.repositories.GitDeployKeysRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationPageService;
+import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.UserDataService;
 import com.appsmith.server.services.UserService;
@@ -163,6 +165,7 @@ public class GitServiceCEImpl implements GitServiceCE {
     private final GitPrivateRepoHelper gitPrivateRepoHelper;
     private final TransactionalOperator transactionalOperator;
     private final GitAutoCommitHelper gitAutoCommitHelper;
+    private final FeatureFlagService featureFlagService;
 
     @Override
     public Mono<Application> updateGitMetadata(String applicationId, GitArtifactMetadata gitArtifactMetadata) {
@@ -1947,54 +1950,41 @@ public class GitServiceCEImpl implements GitServiceCE {
                     Path repoSuffix = Paths.get(
                             application.getWorkspaceId(), gitData.getDefaultApplicationId(), gitData.getRepoName());
 
-                    try {
-                        // Create a Mono to fetch the status from remote
-                        Path repoSuffixForFetchRemote = Paths.get(
-                                application.getWorkspaceId(), gitData.getDefaultApplicationId(), gitData.getRepoName());
-                        GitAuth gitAuth = gitData.getGitAuth();
-                        Mono<String> fetchRemoteMono;
-
-                        if (compareRemote) {
-                            fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
-                                            repoSuffixForFetchRemote,
-                                            gitAuth.getPublicKey(),
-                                            gitAuth.getPrivateKey(),
-                                            false,
-                                            branchName,
-                                            false))
-                                    .onErrorResume(error -> Mono.error(new AppsmithException(
-                                            AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
-                        } else {
-                            fetchRemoteMono = Mono.just("ignored");
-                        }
-                        return Mono.zip(
-                                fileUtils.saveApplicationToLocalRepoWithAnalytics(
-                                        repoSuffix, applicationJson, finalBranchName),
-                                Mono.just(repoSuffix),
-                                fetchRemoteMono);
-                    } catch (IOException | GitAPIException e) {
-                        return Mono.error(
-                                new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+                    // Create a Mono to fetch the status from remote
+                    Path repoSuffixForFetchRemote = Paths.get(
+                            application.getWorkspaceId(), gitData.getDefaultApplicationId(), gitData.getRepoName());
+                    GitAuth gitAuth = gitData.getGitAuth();
+                    Mono<String> fetchRemoteMono;
+
+                    if (compareRemote) {
+                        fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
+                                        repoSuffixForFetchRemote,
+                                        gitAuth.getPublicKey(),
+                                        gitAuth.getPrivateKey(),
+                                        false,
+                                        branchName,
+                                        false))
+                                .onErrorResume(error -> Mono.error(
+                                        new AppsmithException(AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
+                    } else {
+                        fetchRemoteMono = Mono.just("ignored");
                     }
-                })
-                .flatMap(tuple3 -> {
-                    return gitExecutor
-                            .getStatus(tuple3.getT1(), finalBranchName)
-                            .flatMap(result -> {
-                                // Remove any files which are copied by hard resetting the repo
-                                try {
-                                    return gitExecutor
-                                            .resetToLastCommit(tuple3.getT2(), branchName)
-                                            .thenReturn(result);
-                                } catch (Exception e) {
-                                    log.error(
-                                            "failed to reset to last commit for application: {}, branch: {}",
-                                            defaultApplicationId,
-                                            branchName,
-                                            e);
-                                    return Mono.error(new AppsmithException(
-                                            AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+                    return featureFlagService
+                            .check(FeatureFlagEnum.release_git_tree_status_enabled)
+                            .flatMap(isTreeStatusEnabled -> {
+                                if (TRUE.equals(isTreeStatusEnabled)) {
+                                    // Compare the application with the last commit without writing it to the
+                                    // working tree, after the remote branch has been fetched
+                                    return fetchRemoteMono.then(Mono.defer(
+                                            () -> fileUtils.getStatus(repoSuffix, applicationJson, finalBranchName)));
                                 }
+                                return getStatusFromWorkingTree(
+                                        defaultApplicationId,
+                                        branchName,
+                                        finalBranchName,
+                                        repoSuffix,
+                                        applicationJson,
+                                        fetchRemoteMono);
                             });
                 })
                 .flatMap(result -> {
@@ -2037,6 +2027,48 @@ public class GitServiceCEImpl implements GitServiceCE {
                 });
     }
 
+    /**
+     * Copies the application to the local repo and gets the status of the working tree, after which the working tree
+     * is reset to the last commit
+     */
+    private Mono<GitStatusDTO> getStatusFromWorkingTree(
+            String defaultApplicationId,
+            String branchName,
+            String finalBranchName,
+            Path repoSuffix,
+            ApplicationJson applicationJson,
+            Mono<String> fetchRemoteMono) {
+        try {
+            return Mono.zip(
+                            fileUtils.saveApplicationToLocalRepoWithAnalytics(
+                                    repoSuffix, applicationJson, finalBranchName),
+                            Mono.just(repoSuffix),
+                            fetchRemoteMono)
+                    .flatMap(tuple3 -> {
+                        return gitExecutor
+                                .getStatus(tuple3.getT1(), finalBranchName)
+                                .flatMap(result -> {
+                                    // Remove any files which are copied by hard resetting the repo
+                                    try {
+                                        return gitExecutor
+                                                .resetToLastCommit(tuple3.getT2(), branchName)
+                                                .thenReturn(result);
+                                    } catch (Exception e) {
+                                        log.error(
+                                                "failed to reset to last commit for application: {}, branch: {}",
+                                                defaultApplicationId,
+                                                branchName,
+                                                e);
+                                        return Mono.error(new AppsmithException(
+                                                AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+                                    }
+                                });
+                    });
+        } catch (IOException | GitAPIException e) {
+            return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+        }
+    }
+
     private Mono<Void> sendUnitExecutionTimeAnalyticsEvent(
             String flowName, Long elapsedTime, User currentUser, Application app) {
         final Map<String, Object> data = Map.of(
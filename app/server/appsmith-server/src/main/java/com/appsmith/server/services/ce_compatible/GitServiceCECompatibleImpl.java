@@ -18,6 +18,7 @@ import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.repositories.GitDeployKeysRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationPageService;
+import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.UserDataService;
 import com.appsmith.server.services.UserService;
@@ -60,7 +61,8 @@ public class GitServiceCECompatibleImpl extends GitServiceCEImpl implements GitS
             ObservationRegistry observationRegistry,
             GitPrivateRepoHelper gitPrivateRepoHelper,
             TransactionalOperator transactionalOperator,
-            GitAutoCommitHelper gitAutoCommitHelper) {
+            GitAutoCommitHelper gitAutoCommitHelper,
+            FeatureFlagService featureFlagService) {
         super(
                 userService,
                 userDataService,
@@ -88,6 +90,7 @@ public class GitServiceCECompatibleImpl extends GitServiceCEImpl implements GitS
                 observationRegistry,
                 gitPrivateRepoHelper,
                 transactionalOperator,
-                gitAutoCommitHelper);
+                gitAutoCommitHelper,
+                featureFlagService);
     }
 }
@@ -22,6 +22,13 @@ public interface ActionExecutionSolutionCE {
     Mono<ActionExecutionResult> executeAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
+    Flux<Object> executeActionStreaming(
+            Flux<Part> partFlux,
+            String branchName,
+            String environmentId,
+            HttpHeaders httpHeaders,
+            Boolean operateWithoutPermission);
+
     Mono<ActionDTO> getValidActionForExecution(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
@@ -38,6 +38,7 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.services.ActionResultCacheService;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
@@ -78,6 +79,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -117,6 +119,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final EnvironmentPermission environmentPermission;
     private final ConfigService configService;
     private final TenantService tenantService;
+    private final ActionResultCacheService actionResultCacheService;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -143,7 +146,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            ActionResultCacheService actionResultCacheService) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -162,6 +166,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.environmentPermission = environmentPermission;
         this.configService = configService;
         this.tenantService = tenantService;
+        this.actionResultCacheService = actionResultCacheService;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -183,6 +188,20 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
      */
     protected Mono<ActionExecutionResult> populateAndExecuteAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        return populateExecuteAction(executeActionDTO, executeActionMetaDTO)
+                .flatMap(populatedExecuteActionDTO -> executeAction(populatedExecuteActionDTO, executeActionMetaDTO));
+    }
+
+    /**
+     * Populates the executeActionDTO with the details of the action to be executed and sets the true environmentId
+     * for the action execution in the executeActionMetaDTO
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return the populated executeActionDTO
+     */
+    private Mono<ExecuteActionDTO> populateExecuteAction(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
         AclPermission executePermission = getPermission(executeActionMetaDTO, actionPermission.getExecutePermission());
         Mono<NewAction> newActionMono = newActionService
                 .findByBranchNameAndDefaultActionId(
@@ -201,11 +220,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     return getTrueEnvironmentId(newAction, populatedExecuteActionDTO, executeActionMetaDTO);
                 });
 
-        return Mono.zip(populatedExecuteActionDTOMono, environmentIdMono).flatMap(pair -> {
+        return Mono.zip(populatedExecuteActionDTOMono, environmentIdMono).map(pair -> {
             ExecuteActionDTO populatedExecuteActionDTO = pair.getT1();
             String environmentId = pair.getT2();
             executeActionMetaDTO.setEnvironmentId(environmentId);
-            return executeAction(populatedExecuteActionDTO, executeActionMetaDTO);
+            return populatedExecuteActionDTO;
         });
     }
 
@@ -339,6 +358,178 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
+    /**
+     * Executes the action and streams the rows of its result one by one, as they are read from the datasource,
+     * instead of collecting them into a single ActionExecutionResult. Plugins that don't support streaming fall back
+     * to their regular execution, see {@link PluginExecutor#executeParameterizedStreaming}.
+     * <p>
+     * In case the execution fails, an ActionExecutionResult describing the failure is emitted as the last element.
+     * The analytics event of the execution is sent once all the rows have been emitted, as for {@link
+     * #executeAction}.
+     *
+     * @param partFlux
+     * @param branchName
+     * @param environmentId
+     * @return Flux of rows if the query succeeds, ending with an error result otherwise
+     */
+    @Override
+    public Flux<Object> executeActionStreaming(
+            Flux<Part> partFlux,
+            String branchName,
+            String environmentId,
+            HttpHeaders httpHeaders,
+            Boolean operateWithoutPermission) {
+        ExecuteActionMetaDTO executeActionMetaDTO = ExecuteActionMetaDTO.builder()
+                .headers(httpHeaders)
+                .operateWithoutPermission(operateWithoutPermission)
+                .branchName(branchName)
+                .environmentId(environmentId)
+                .build();
+        return createExecuteActionDTO(partFlux)
+                .flatMap(executeActionDTO -> populateExecuteAction(executeActionDTO, executeActionMetaDTO))
+                .flatMapMany(executeActionDTO -> executeActionStreaming(executeActionDTO, executeActionMetaDTO))
+                .name(ACTION_EXECUTION_SERVER_EXECUTION)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    protected Flux<Object> executeActionStreaming(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
+
+        Mono<ActionDTO> actionDTOMono = getValidActionForExecution(executeActionDTO, executeActionMetaDTO)
+                .cache();
+        Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, executeActionMetaDTO);
+        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
+        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+
+        return Mono.zip(actionDTOMono, datasourceStorageMono, pluginExecutorMono, pluginMono)
+                .flatMapMany(tuple -> {
+                    final ActionDTO actionDTO = tuple.getT1();
+                    final DatasourceStorage datasourceStorage = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+                    final Plugin plugin = tuple.getT4();
+
+                    log.debug(
+                            "[{}]Execute Action Streaming called in Page {}, for action id : {}  action name : {}",
+                            Thread.currentThread().getName(),
+                            actionDTO.getPageId(),
+                            actionDTO.getId(),
+                            actionDTO.getName());
+
+                    Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
+
+                    // The timeout applies to the first row and to the wait for every row after it, so that a stalled
+                    // cursor doesn't keep the request open, however long the whole result takes to be read.
+                    Flux<Object> rowsFlux = setAutoGeneratedHeaders(
+                                    plugin, actionDTO, executeActionMetaDTO.getHeaders())
+                            .flatMapMany(actionDTO1 -> verifyDatasourceAndStreamRequest(
+                                    executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor))
+                            .timeout(Duration.ofMillis(timeoutDuration))
+                            .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
+                            .onErrorResume(executionExceptionHandler(actionDTO));
+
+                    return sendExecuteAnalyticsEventOnCompletion(
+                            rowsFlux, actionDTO, datasourceStorage, executeActionDTO);
+                })
+                .onErrorResume(AppsmithException.class, error -> {
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(false);
+                    result.setErrorInfo(error);
+                    return Mono.just(result);
+                });
+    }
+
+    /**
+     * Sends the analytics event of a streamed execution once its last row has been emitted. The execution is reported
+     * as failed when it ended with an error result, and its request is the one of that result, if any. Executions that
+     * are cancelled by the client aren't reported.
+     */
+    private Flux<Object> sendExecuteAnalyticsEventOnCompletion(
+            Flux<Object> rowsFlux,
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            ExecuteActionDTO executeActionDTO) {
+        return Flux.defer(() -> {
+            final long startTime = System.currentTimeMillis();
+            final AtomicReference<ActionExecutionResult> failedResult = new AtomicReference<>();
+
+            return rowsFlux.doOnNext(row -> {
+                        if (row instanceof ActionExecutionResult result
+                                && !TRUE.equals(result.getIsExecutionSuccess())) {
+                            failedResult.set(result);
+                        }
+                    })
+                    .concatWith(Mono.defer(() -> {
+                        long timeElapsed = System.currentTimeMillis() - startTime;
+                        ActionExecutionResult result = failedResult.get();
+                        if (result == null) {
+                            result = new ActionExecutionResult();
+                            result.setIsExecutionSuccess(true);
+                        }
+
+                        log.debug(
+                                "{}: Action {} with id {} streaming execution time : {} ms",
+                                Thread.currentThread().getName(),
+                                actionDTO.getName(),
+                                actionDTO.getId(),
+                                timeElapsed);
+
+                        return sendExecuteAnalyticsEvent(
+                                        actionDTO, datasourceStorage, executeActionDTO, result, timeElapsed)
+                                .then(Mono.empty());
+                    }));
+        });
+    }
+
+    /**
+     * Streaming counterpart of {@link #verifyDatasourceAndMakeRequest}. The execution is retried with a fresh context
+     * in case the connection turns out to be stale, as long as no row has been emitted yet. Once rows have been sent
+     * to the client, retrying would send them again, hence the failure is reported instead.
+     */
+    protected Flux<Object> verifyDatasourceAndStreamRequest(
+            ExecuteActionDTO executeActionDTO,
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor pluginExecutor) {
+
+        Flux<Object> executionFlux = authenticationValidator
+                .validateAuthentication(datasourceStorage)
+                .zipWhen(validatedDatasource -> datasourceContextService
+                        .getDatasourceContext(validatedDatasource, plugin)
+                        .tag("plugin", plugin.getPackageName())
+                        .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
+                        .tap(Micrometer.observation(observationRegistry)))
+                .flatMapMany(tuple2 -> {
+                    DatasourceStorage datasourceStorage1 = tuple2.getT1();
+                    DatasourceContext<?> resourceContext = tuple2.getT2();
+                    return ((PluginExecutor<Object>) pluginExecutor)
+                            .executeParameterizedStreaming(
+                                    resourceContext.getConnection(),
+                                    executeActionDTO,
+                                    datasourceStorage1.getDatasourceConfiguration(),
+                                    actionDTO.getActionConfiguration());
+                });
+
+        return Flux.defer(() -> {
+            final AtomicBoolean isRowEmitted = new AtomicBoolean(false);
+
+            return executionFlux
+                    .doOnNext(row -> isRowEmitted.set(true))
+                    .onErrorResume(StaleConnectionException.class, error -> {
+                        Mono<DatasourceContext<?>> deleteDatasourceContextMono =
+                                datasourceContextService.deleteDatasourceContext(datasourceStorage);
+                        if (isRowEmitted.get()) {
+                            log.info("Looks like the connection is stale. Not retrying as rows have been sent.");
+                            return deleteDatasourceContextMono.then(Mono.error(error));
+                        }
+
+                        log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                        return deleteDatasourceContextMono.thenMany(executionFlux);
+                    });
+        });
+    }
+
     /**
      * Creates the ExecuteActionDTO from Flux of ByteBuffers
      *
@@ -813,9 +1004,18 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                             setAutoGeneratedHeaders(plugin, actionDTO, httpHeaders);
 
                     Mono<ActionExecutionResult> actionExecutionResultMono =
-                            actionDTOWithAutoGeneratedHeadersMono.flatMap(actionDTO1 -> verifyDatasourceAndMakeRequest(
-                                            executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor)
-                                    .timeout(Duration.ofMillis(timeoutDuration)));
+                            actionDTOWithAutoGeneratedHeadersMono.flatMap(
+                                    actionDTO1 -> actionResultCacheService.getOrExecute(
+                                            actionDTO,
+                                            executeActionDTO,
+                                            datasourceStorage,
+                                            verifyDatasourceAndMakeRequest(
+                                                            executeActionDTO,
+                                                            actionDTO,
+                                                            datasourceStorage,
+                                                            plugin,
+                                                            pluginExecutor)
+                                                    .timeout(Duration.ofMillis(timeoutDuration))));
 
                     return actionExecutionResultMono
                             .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
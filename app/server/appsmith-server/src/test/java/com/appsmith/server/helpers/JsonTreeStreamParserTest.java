@@ -0,0 +1,94 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonTreeStreamParserTest {
+
+    private JsonElement parse(String json, int chunkSize) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonTreeStreamParser parser = new JsonTreeStreamParser();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            byte[] chunk = Arrays.copyOfRange(bytes, offset, Math.min(offset + chunkSize, bytes.length));
+            parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return parser.complete();
+    }
+
+    @Test
+    public void feed_whenDocumentArrivesInChunks_buildsSameTreeAsGson() throws IOException {
+        String json = "{\"name\": \"Ünïcödé \\\"app\\\" \\u00e9 😀\", \"pages\": [{\"id\": 1, \"hidden\": false},"
+                + " {\"id\": 2, \"layout\": null}], \"version\": 1.5e3, \"big\": 12345678901234567890,"
+                + " \"nested\": {\"empty\": {}, \"list\": [[], [true]]}}";
+
+        // Single bytes split the multi byte characters across buffers
+        for (int chunkSize : new int[] {1, 3, 16, json.length()}) {
+            assertThat(parse(json, chunkSize)).isEqualTo(JsonParser.parseString(json));
+        }
+    }
+
+    @Test
+    public void feed_withExportedApplication_buildsSameTreeAsGson() throws IOException {
+        String json = new ClassPathResource("test_assets/ImportExportServiceTest/building-block.json")
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(parse(json, 4096)).isEqualTo(JsonParser.parseString(json));
+    }
+
+    @Test
+    public void feed_keepsNumbersAsText() throws IOException {
+        JsonElement json = parse("{\"version\": 1e3, \"id\": 12345678901234567890}", 4);
+
+        assertThat(json.getAsJsonObject().get("version").getAsString()).isEqualTo("1e3");
+        assertThat(json.getAsJsonObject().get("version").getAsInt()).isEqualTo(1000);
+        assertThat(json.getAsJsonObject().get("id").getAsBigInteger()).hasToString("12345678901234567890");
+    }
+
+    @Test
+    public void feed_buildsRootWhileDocumentArrives() throws IOException {
+        JsonTreeStreamParser parser = new JsonTreeStreamParser();
+        parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(
+                "{\"clientSchemaVersion\": 1, \"exportedApplication\": {\"na".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(parser.getRoot().getAsJsonObject().get("clientSchemaVersion").getAsInt())
+                .isEqualTo(1);
+        assertThat(parser.getRoot().getAsJsonObject().has("exportedApplication"))
+                .isTrue();
+    }
+
+    @Test
+    public void complete_whenDocumentIsEmpty_returnsNull() throws IOException {
+        assertThat(parse("", 1)).isNull();
+        assertThat(parse("  \n", 1)).isNull();
+    }
+
+    @Test
+    public void complete_whenDocumentIsTruncated_throwsException() {
+        assertThatThrownBy(() -> parse("{\"name\": [1, 2", 4)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void feed_whenDocumentIsMalformed_throwsException() {
+        assertThatThrownBy(() -> parse("{\"name\": }", 4)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void feed_whenDocumentIsLenient_parsesIt() throws IOException {
+        assertThat(parse("{/* comment */ name: 'app'}", 2)).isEqualTo(JsonParser.parseString("{\"name\": \"app\"}"));
+    }
+
+    @Test
+    public void feed_ignoresContentAfterFirstValue() throws IOException {
+        assertThat(parse("{\"name\": \"app\"} trailing ]", 3)).isEqualTo(JsonParser.parseString("{\"name\": \"app\"}"));
+    }
+}
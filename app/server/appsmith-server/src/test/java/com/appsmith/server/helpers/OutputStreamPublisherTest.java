@@ -0,0 +1,84 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OutputStreamPublisherTest {
+
+    @Test
+    public void create_whenContentIsLargerThanChunk_publishesContentInChunks() {
+        byte[] content = new byte[25];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        Flux<DataBuffer> publisher = OutputStreamPublisher.create(
+                outputStream -> {
+                    outputStream.write(content, 0, 7);
+                    outputStream.write(content[7]);
+                    outputStream.write(content, 8, content.length - 8);
+                },
+                DefaultDataBufferFactory.sharedInstance,
+                10,
+                Schedulers.boundedElastic());
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        StepVerifier.create(publisher)
+                .thenConsumeWhile(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    assertThat(bytes.length).isLessThanOrEqualTo(10);
+                    result.writeBytes(bytes);
+                    return true;
+                })
+                .verifyComplete();
+
+        assertThat(result.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void create_whenSubscriberCancels_stopsWriter() {
+        AtomicInteger writtenChunks = new AtomicInteger();
+        AtomicReference<Throwable> writerError = new AtomicReference<>();
+
+        Flux<DataBuffer> publisher = OutputStreamPublisher.create(
+                outputStream -> {
+                    try {
+                        while (true) {
+                            outputStream.write(new byte[10]);
+                            writtenChunks.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        writerError.set(e);
+                        throw e;
+                    }
+                },
+                DefaultDataBufferFactory.sharedInstance,
+                10,
+                Schedulers.boundedElastic());
+
+        StepVerifier.create(publisher, 2).expectNextCount(2).thenCancel().verify();
+
+        // The writer waits for demand before every chunk, so it can't run ahead of the subscriber
+        StepVerifier.create(Mono.fromCallable(writerError::get)
+                        .repeatWhenEmpty(100, flux -> flux.delayElements(Duration.ofMillis(10))))
+                .assertNext(error -> assertThat(error).isInstanceOf(IOException.class))
+                .verifyComplete();
+        assertThat(writtenChunks.get()).isLessThanOrEqualTo(3);
+    }
+}
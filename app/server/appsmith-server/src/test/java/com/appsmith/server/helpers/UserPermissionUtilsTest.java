@@ -0,0 +1,27 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserPermissionUtilsTest {
+
+    @Test
+    public void testSharesPermissionGroupWhenSetsOverlap() {
+        Set<String> policyPermissionGroups = Set.of("a", "b", "c", "d");
+
+        assertTrue(UserPermissionUtils.sharesPermissionGroup(policyPermissionGroups, Set.of("d")));
+        assertTrue(UserPermissionUtils.sharesPermissionGroup(Set.of("b"), Set.of("x", "y", "b")));
+    }
+
+    @Test
+    public void testSharesPermissionGroupWhenSetsDoNotOverlap() {
+        assertFalse(UserPermissionUtils.sharesPermissionGroup(Set.of("a", "b", "c"), Set.of("x")));
+        assertFalse(UserPermissionUtils.sharesPermissionGroup(Set.of("a"), Set.of()));
+        assertFalse(UserPermissionUtils.sharesPermissionGroup(null, Set.of("a")));
+        assertFalse(UserPermissionUtils.sharesPermissionGroup(Set.of("a"), null));
+    }
+}
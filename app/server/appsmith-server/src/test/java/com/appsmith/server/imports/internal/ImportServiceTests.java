@@ -110,6 +110,7 @@ import reactor.util.function.Tuple4;
 
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -147,6 +148,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 @DirtiesContext
 @TestMethodOrder(MethodOrderer.MethodName.class)
 public class ImportServiceTests {
+    private static final String INVALID_JSON_FILE = "invalid json file";
     private static final Map<String, Datasource> datasourceMap = new HashMap<>();
     private static Plugin installedPlugin;
     private static String workspaceId;
@@ -340,6 +342,16 @@ public class ImportServiceTests {
         return filepart;
     }
 
+    private FilePart createJsonFilePart(String json) {
+        FilePart filepart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(filepart.content())
+                .thenReturn(
+                        Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8))));
+        Mockito.when(filepart.headers().getContentType()).thenReturn(MediaType.APPLICATION_JSON);
+
+        return filepart;
+    }
+
     private Mono<ApplicationJson> createAppJson(String filePath) {
         FilePart filePart = createFilePart(filePath);
 
@@ -1440,6 +1452,99 @@ public class ImportServiceTests {
                 .verify();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void extractArtifactExchangeJson_withEmptyFile_throwsValidationFailure() {
+        StepVerifier.create(importService.extractArtifactExchangeJson(createJsonFilePart("")))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable
+                                .getMessage()
+                                .equals(AppsmithError.VALIDATION_FAILURE.getMessage(INVALID_JSON_FILE)))
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void extractArtifactExchangeJson_withNonObjectJson_throwsValidationFailure() {
+        StepVerifier.create(
+                        importService.extractArtifactExchangeJson(createJsonFilePart("[{\"clientSchemaVersion\": 1}]")))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable
+                                .getMessage()
+                                .equals(AppsmithError.VALIDATION_FAILURE.getMessage(INVALID_JSON_FILE)))
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void extractArtifactExchangeJson_withIncompatibleSchemaVersions_throwsException() {
+        String json = "{\"exportedApplication\": {\"name\": \"app\"}, \"clientSchemaVersion\": 1000, "
+                + "\"serverSchemaVersion\": 1000}";
+
+        StepVerifier.create(importService.extractArtifactExchangeJson(createJsonFilePart(json)))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable.getMessage().equals(AppsmithError.INCOMPATIBLE_IMPORTED_JSON.getMessage()))
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void extractArtifactExchangeJson_withArtifactJsonType_returnsJsonOfThatType() {
+        String json = "{\"artifactJsonType\": \"APPLICATION\", \"exportedApplication\": {\"name\": \"app\"}}";
+
+        StepVerifier.create(importService.extractArtifactExchangeJson(createJsonFilePart(json)))
+                .assertNext(artifactExchangeJson -> {
+                    assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+                    assertThat(((ApplicationJson) artifactExchangeJson)
+                                    .getExportedApplication()
+                                    .getName())
+                            .isEqualTo("app");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void extractArtifactExchangeJson_withoutArtifactJsonType_returnsApplicationJson() {
+        String json = "{\"exportedApplication\": {\"name\": \"app\"}, \"clientSchemaVersion\": 1}";
+
+        StepVerifier.create(importService.extractArtifactExchangeJson(createJsonFilePart(json)))
+                .assertNext(artifactExchangeJson -> {
+                    assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+                    assertThat(artifactExchangeJson.getClientSchemaVersion()).isEqualTo(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void extractArtifactExchangeJson_withMalformedJson_throwsValidationFailure() {
+        StepVerifier.create(importService.extractArtifactExchangeJson(
+                        createJsonFilePart("{\"exportedApplication\": {\"name\": }}")))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable
+                                .getMessage()
+                                .equals(AppsmithError.VALIDATION_FAILURE.getMessage(INVALID_JSON_FILE)))
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void extractArtifactExchangeJson_withIncompatibleSchemaVersionsAtTop_throwsExceptionBeforeReadingTheRest() {
+        String json = "{\"clientSchemaVersion\": 1000, \"serverSchemaVersion\": 1000, \"exportedApplication\": {";
+        FilePart filePart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(filePart.content())
+                .thenReturn(Flux.concat(
+                        Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8))),
+                        Flux.error(new IllegalStateException("The rest of the file shouldn't be read"))));
+        Mockito.when(filePart.headers().getContentType()).thenReturn(MediaType.APPLICATION_JSON);
+
+        StepVerifier.create(importService.extractArtifactExchangeJson(filePart))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable.getMessage().equals(AppsmithError.INCOMPATIBLE_IMPORTED_JSON.getMessage()))
+                .verify();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void importApplication_withUnConfiguredDatasources_Success() {
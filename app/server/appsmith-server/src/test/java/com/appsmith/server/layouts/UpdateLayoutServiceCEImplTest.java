@@ -0,0 +1,198 @@
+package com.appsmith.server.layouts;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.LayoutPatchDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
+import com.appsmith.server.newpages.base.NewPageService;
+import com.appsmith.server.onload.internal.OnLoadExecutablesUtil;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.solutions.PagePermission;
+import com.appsmith.util.SerializationUtils;
+import net.minidev.json.JSONObject;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class UpdateLayoutServiceCEImplTest {
+
+    private NewPageService newPageService;
+
+    private ApplicationService applicationService;
+
+    private OnLoadExecutablesUtil onLoadExecutablesUtil;
+
+    private UpdateLayoutServiceCEImpl updateLayoutService;
+
+    @BeforeEach
+    public void setUp() {
+        newPageService = Mockito.mock(NewPageService.class);
+        applicationService = Mockito.mock(ApplicationService.class);
+        onLoadExecutablesUtil = Mockito.mock(OnLoadExecutablesUtil.class);
+
+        PagePermission pagePermission = Mockito.mock(PagePermission.class);
+        Mockito.when(pagePermission.getEditPermission()).thenReturn(AclPermission.MANAGE_PAGES);
+
+        SessionUserService sessionUserService = Mockito.mock(SessionUserService.class);
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.empty());
+        Mockito.when(newPageService.getById(anyString())).thenReturn(Mono.empty());
+        Mockito.when(applicationService.saveLastEditInformation(anyString())).thenReturn(Mono.just(new Application()));
+
+        updateLayoutService = new UpdateLayoutServiceCEImpl(
+                onLoadExecutablesUtil,
+                sessionUserService,
+                newPageService,
+                Mockito.mock(AnalyticsService.class),
+                Mockito.mock(ResponseUtils.class),
+                pagePermission,
+                applicationService,
+                SerializationUtils.getDefaultObjectMapper(null));
+    }
+
+    private Map<String, Object> createWidget(String widgetId, String widgetName, String text) {
+        // Nested parts of the DSL are read from the database as documents
+        Document widget = new Document();
+        widget.put(FieldName.WIDGET_ID, widgetId);
+        widget.put(FieldName.WIDGET_NAME, widgetName);
+        widget.put(FieldName.WIDGET_TYPE, "TEXT_WIDGET");
+        widget.put("text", text);
+        widget.put(FieldName.DYNAMIC_BINDING_PATH_LIST, new ArrayList<>(List.of(new Document(FieldName.KEY, "text"))));
+        return widget;
+    }
+
+    private NewPage createPage() {
+        JSONObject dsl = new JSONObject();
+        dsl.put(FieldName.WIDGET_ID, "0");
+        dsl.put(FieldName.WIDGET_NAME, FieldName.DEFAULT_WIDGET_NAME);
+        dsl.put(FieldName.WIDGET_TYPE, FieldName.CANVAS_WIDGET);
+        dsl.put(
+                FieldName.CHILDREN,
+                new ArrayList<>(List.of(
+                        createWidget("widget1", "Text1", "{{Query1.data}}"),
+                        createWidget("widget2", "Text2", "{{Query2.data}}"))));
+
+        Layout layout = new Layout();
+        layout.setId("layoutId");
+        layout.setDsl(dsl);
+
+        PageDTO pageDTO = new PageDTO();
+        pageDTO.setLayouts(List.of(new Layout(), layout));
+
+        NewPage page = new NewPage();
+        page.setId("pageId");
+        page.setApplicationId("applicationId");
+        page.setUnpublishedPage(pageDTO);
+        return page;
+    }
+
+    private LayoutPatchDTO createPatch(
+            String widgetId, LayoutPatchDTO.OperationType operationType, String path, Object value) {
+        LayoutPatchDTO.OperationDTO operation = new LayoutPatchDTO.OperationDTO();
+        operation.setOp(operationType);
+        operation.setPath(path);
+        operation.setValue(value);
+
+        LayoutPatchDTO.WidgetPatchDTO widgetPatch = new LayoutPatchDTO.WidgetPatchDTO();
+        widgetPatch.setWidgetId(widgetId);
+        widgetPatch.setOperations(List.of(operation));
+
+        LayoutPatchDTO layoutPatch = new LayoutPatchDTO();
+        layoutPatch.setWidgets(List.of(widgetPatch));
+        return layoutPatch;
+    }
+
+    @Test
+    public void patchLayout_whenBindingsAreUnchanged_writesOnlyPatchedProperties() {
+        Mockito.when(newPageService.findById(eq("pageId"), any(AclPermission.class)))
+                .thenReturn(Mono.just(createPage()));
+        Mockito.when(newPageService.updateUnpublishedLayout(
+                        anyString(), anyString(), anyInt(), anyMap(), any(BridgeUpdate.class), any()))
+                .thenReturn(Mono.just(1));
+
+        LayoutPatchDTO layoutPatch = createPatch(
+                "widget2", LayoutPatchDTO.OperationType.ADD, "/textStyle", Map.of("color", "{{Query2.color}}"));
+
+        StepVerifier.create(updateLayoutService.patchLayout("pageId", "layoutId", layoutPatch, null))
+                .assertNext(layoutDTO -> {
+                    assertThat(layoutDTO.getId()).isEqualTo("layoutId");
+                    assertThat(layoutDTO.getDsl()).isNull();
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<Map<String, String>> widgetIdsCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<BridgeUpdate> updateCaptor = ArgumentCaptor.forClass(BridgeUpdate.class);
+        Mockito.verify(newPageService)
+                .updateUnpublishedLayout(
+                        eq("pageId"),
+                        eq("layoutId"),
+                        eq(1),
+                        widgetIdsCaptor.capture(),
+                        updateCaptor.capture(),
+                        eq(AclPermission.MANAGE_PAGES));
+
+        String widgetPath = "unpublishedPage.layouts.1.dsl.children.1";
+        assertThat(widgetIdsCaptor.getValue()).isEqualTo(Map.of(widgetPath, "widget2"));
+        Document setObject =
+                (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertThat(setObject.keySet()).containsExactly(widgetPath + ".textStyle");
+        Mockito.verifyNoInteractions(onLoadExecutablesUtil);
+    }
+
+    @Test
+    public void patchLayout_whenBindingsChange_updatesCompleteLayout() {
+        Mockito.when(newPageService.findById(eq("pageId"), any(AclPermission.class)))
+                .thenReturn(Mono.just(createPage()));
+        Mockito.when(applicationService.findById("applicationId")).thenReturn(Mono.empty());
+
+        LayoutPatchDTO layoutPatch =
+                createPatch("widget1", LayoutPatchDTO.OperationType.REPLACE, "/text", "{{Query3.data}}");
+
+        // The complete layout update starts by reading the evaluation version of the application
+        StepVerifier.create(updateLayoutService.patchLayout("pageId", "layoutId", layoutPatch, null))
+                .expectError(AppsmithException.class)
+                .verify();
+
+        Mockito.verify(applicationService).findById("applicationId");
+        Mockito.verify(newPageService, Mockito.never())
+                .updateUnpublishedLayout(anyString(), anyString(), anyInt(), anyMap(), any(), any());
+    }
+
+    @Test
+    public void patchLayout_whenPathIsNotPatchable_returnsError() {
+        Mockito.when(newPageService.findById(eq("pageId"), any(AclPermission.class)))
+                .thenReturn(Mono.just(createPage()));
+
+        LayoutPatchDTO layoutPatch =
+                createPatch("widget1", LayoutPatchDTO.OperationType.REPLACE, "/widgetName", "Text3");
+
+        StepVerifier.create(updateLayoutService.patchLayout("pageId", "layoutId", layoutPatch, null))
+                .expectError(AppsmithException.class)
+                .verify();
+
+        Mockito.verify(newPageService, Mockito.never())
+                .updateUnpublishedLayout(anyString(), anyString(), anyInt(), anyMap(), any(), any());
+    }
+}
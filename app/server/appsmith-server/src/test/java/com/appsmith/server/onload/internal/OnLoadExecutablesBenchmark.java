@@ -0,0 +1,180 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.services.AstService;
+import com.appsmith.util.SerializationUtils;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the on load executables computation of a page with 500 widgets and 200 queries when the page is saved for
+ * the first time, which builds the whole graph, with a save where a single binding has changed, which patches the
+ * graph of the last save, and with a save where nothing the computation depends on has changed.
+ * <p>
+ * Run with {@code mvn -pl appsmith-server test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.appsmith.server.onload.internal.OnLoadExecutablesBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OnLoadExecutablesBenchmark {
+
+    private static final int WIDGET_COUNT = 500;
+
+    private static final int QUERY_COUNT = 200;
+
+    private AstService astService;
+
+    private ExecutableOnLoadService<NewPage> pageExecutableOnLoadService;
+
+    private OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil;
+
+    private List<Executable> executables;
+
+    private Set<String> widgetNames;
+
+    private Map<String, Set<String>> widgetDynamicBindingsMap;
+
+    private int saveCount;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        // Same references as the ones found without RTS, which are enough for simple bindings
+        astService = Mockito.mock(AstService.class);
+        Mockito.when(astService.getPossibleReferencesFromDynamicBinding(
+                        ArgumentMatchers.anyList(), ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<String>) invocation.getArgument(0))
+                        .map(binding ->
+                                Tuples.of(binding, new HashSet<>(MustacheHelper.getPossibleParentsOld(binding)))));
+
+        executables = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            executables.add(createQuery("Query" + i, "SELECT * FROM users WHERE id = {{Input" + i + ".text}}"));
+        }
+
+        pageExecutableOnLoadService = Mockito.mock(ExecutableOnLoadService.class);
+        Mockito.when(pageExecutableOnLoadService.getAllExecutablesByCreatorIdFlux(ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(executables));
+        Mockito.when(pageExecutableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(
+                        ArgumentMatchers.anyString()))
+                .thenReturn(Flux.empty());
+        Mockito.when(pageExecutableOnLoadService.fillSelfReferencingPaths(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // A page with a table bound to every query, and an input that the query of the same index reads from
+        widgetNames = new HashSet<>();
+        widgetDynamicBindingsMap = new HashMap<>();
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            widgetNames.add("Table" + i);
+            widgetDynamicBindingsMap.put(
+                    "Table" + i + ".tableData", new HashSet<>(Set.of("Query" + (i % QUERY_COUNT) + ".data")));
+        }
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            widgetNames.add("Input" + i);
+        }
+
+        onLoadExecutablesUtil = createOnLoadExecutablesUtil();
+        findAllOnLoadExecutables(onLoadExecutablesUtil);
+    }
+
+    private OnLoadExecutablesUtilCEImpl createOnLoadExecutablesUtil() {
+        return new OnLoadExecutablesUtilCEImpl(
+                astService, SerializationUtils.getDefaultObjectMapper(null), pageExecutableOnLoadService);
+    }
+
+    private ActionDTO createQuery(String name, String body) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+
+        ActionDTO action = new ActionDTO();
+        action.setId(name + "Id");
+        action.setName(name);
+        action.setPluginType(PluginType.DB);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDynamicBindingPathList(List.of(new Property("body", null)));
+        action.setJsonPathKeys(MustacheHelper.extractMustacheKeysFromFields(body).stream()
+                .map(token -> token.getValue())
+                .collect(Collectors.toSet()));
+        action.setExecuteOnLoad(false);
+        action.setUserSetOnLoad(false);
+        return action;
+    }
+
+    private List<Set<DslExecutableDTO>> findAllOnLoadExecutables(OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil) {
+        return onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        "pageId",
+                        2,
+                        widgetNames,
+                        new HashSet<>(),
+                        widgetDynamicBindingsMap,
+                        new ArrayList<>(),
+                        new HashSet<>(),
+                        CreatorContextType.PAGE)
+                .block();
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> firstSave() {
+        return findAllOnLoadExecutables(createOnLoadExecutablesUtil());
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> saveWithChangedBinding() {
+        // Every save binds the first table to a query it hasn't been bound to before
+        saveCount++;
+        widgetDynamicBindingsMap.put(
+                "Table0.tableData", Set.of("Query" + (saveCount % QUERY_COUNT) + ".data[" + saveCount + "]"));
+        return findAllOnLoadExecutables(onLoadExecutablesUtil);
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> saveWithoutChange() {
+        return findAllOnLoadExecutables(onLoadExecutablesUtil);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(OnLoadExecutablesBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
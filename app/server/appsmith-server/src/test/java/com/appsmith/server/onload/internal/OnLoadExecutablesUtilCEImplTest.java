@@ -0,0 +1,299 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.services.AstService;
+import com.appsmith.util.SerializationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+public class OnLoadExecutablesUtilCEImplTest {
+
+    private static final int WIDGET_COUNT = 500;
+
+    private static final int QUERY_COUNT = 200;
+
+    private AstService astService;
+
+    private ExecutableOnLoadService<NewPage> pageExecutableOnLoadService;
+
+    private OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil;
+
+    private List<Executable> executables;
+
+    private List<Executable> explicitUserSetOnLoadExecutables;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        // Same references as the ones found without RTS, which are enough for simple bindings
+        astService = Mockito.mock(AstService.class);
+        Mockito.when(astService.getPossibleReferencesFromDynamicBinding(
+                        ArgumentMatchers.anyList(), ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<String>) invocation.getArgument(0))
+                        .map(binding ->
+                                Tuples.of(binding, new HashSet<>(MustacheHelper.getPossibleParentsOld(binding)))));
+
+        executables = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            executables.add(createQuery("Query" + i, "SELECT * FROM users WHERE id = {{Input" + i + ".text}}"));
+        }
+
+        explicitUserSetOnLoadExecutables = new ArrayList<>();
+
+        pageExecutableOnLoadService = Mockito.mock(ExecutableOnLoadService.class);
+        Mockito.when(pageExecutableOnLoadService.getAllExecutablesByCreatorIdFlux(ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(executables));
+        Mockito.when(pageExecutableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(
+                        ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(explicitUserSetOnLoadExecutables));
+        Mockito.when(pageExecutableOnLoadService.fillSelfReferencingPaths(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        onLoadExecutablesUtil = createOnLoadExecutablesUtil();
+    }
+
+    private OnLoadExecutablesUtilCEImpl createOnLoadExecutablesUtil() {
+        return new OnLoadExecutablesUtilCEImpl(
+                astService, SerializationUtils.getDefaultObjectMapper(null), pageExecutableOnLoadService);
+    }
+
+    private ActionDTO createQuery(String name, String body) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+
+        ActionDTO action = new ActionDTO();
+        action.setId(name + "Id");
+        action.setName(name);
+        action.setPluginType(PluginType.DB);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDynamicBindingPathList(List.of(new Property("body", null)));
+        action.setJsonPathKeys(MustacheHelper.extractMustacheKeysFromFields(body).stream()
+                .map(token -> token.getValue())
+                .collect(Collectors.toSet()));
+        action.setExecuteOnLoad(false);
+        action.setUserSetOnLoad(false);
+        return action;
+    }
+
+    /**
+     * A page with a table bound to every query, and an input that the query of the same index reads from
+     */
+    private Map<String, Set<String>> createWidgetDynamicBindings() {
+        Map<String, Set<String>> widgetDynamicBindingsMap = new HashMap<>();
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            widgetDynamicBindingsMap.put(
+                    "Table" + i + ".tableData", new HashSet<>(Set.of("Query" + (i % QUERY_COUNT) + ".data")));
+        }
+        return widgetDynamicBindingsMap;
+    }
+
+    private Set<String> createWidgetNames(Map<String, Set<String>> widgetDynamicBindingsMap) {
+        Set<String> widgetNames = new HashSet<>();
+        for (String widgetPath : widgetDynamicBindingsMap.keySet()) {
+            widgetNames.add(widgetPath.split("\\.")[0]);
+        }
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            widgetNames.add("Input" + i);
+        }
+        return widgetNames;
+    }
+
+    private record OnLoadResult(
+            List<Set<DslExecutableDTO>> schedulingOrder,
+            Set<String> flatOnLoadExecutableNames,
+            Set<String> executablesUsedInDsl,
+            Set<ExecutableDependencyEdge> edges) {}
+
+    private OnLoadResult findAllOnLoadExecutables(Map<String, Set<String>> widgetDynamicBindingsMap) {
+        return findAllOnLoadExecutables(onLoadExecutablesUtil, widgetDynamicBindingsMap);
+    }
+
+    private OnLoadResult findAllOnLoadExecutables(
+            OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil, Map<String, Set<String>> widgetDynamicBindingsMap) {
+        Set<ExecutableDependencyEdge> edges = new HashSet<>();
+        List<Executable> flatOnLoadExecutables = new ArrayList<>();
+        Set<String> executablesUsedInDsl = new HashSet<>();
+
+        List<Set<DslExecutableDTO>> schedulingOrder = onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        "pageId",
+                        2,
+                        createWidgetNames(widgetDynamicBindingsMap),
+                        edges,
+                        widgetDynamicBindingsMap,
+                        flatOnLoadExecutables,
+                        executablesUsedInDsl,
+                        CreatorContextType.PAGE)
+                .block();
+
+        return new OnLoadResult(
+                schedulingOrder,
+                flatOnLoadExecutables.stream()
+                        .map(Executable::getUserExecutableName)
+                        .collect(Collectors.toSet()),
+                executablesUsedInDsl,
+                edges);
+    }
+
+    private Set<String> getScheduledNames(List<Set<DslExecutableDTO>> schedulingOrder) {
+        return schedulingOrder.stream()
+                .flatMap(Set::stream)
+                .map(DslExecutableDTO::getName)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_whenInputsAreUnchanged_reusesEarlierComputation() {
+        OnLoadResult computedResult = findAllOnLoadExecutables(createWidgetDynamicBindings());
+        assertThat(getScheduledNames(computedResult.schedulingOrder())).hasSize(QUERY_COUNT);
+        assertThat(computedResult.flatOnLoadExecutableNames()).hasSize(QUERY_COUNT);
+
+        Mockito.clearInvocations(astService);
+        OnLoadResult reusedResult = findAllOnLoadExecutables(createWidgetDynamicBindings());
+
+        assertThat(reusedResult).isEqualTo(computedResult);
+        Mockito.verifyNoInteractions(astService);
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_whenBindingOrExecutableChanges_computesAgain() {
+        Map<String, Set<String>> widgetDynamicBindingsMap = createWidgetDynamicBindings();
+        findAllOnLoadExecutables(widgetDynamicBindingsMap);
+
+        // Query0 isn't on load anymore once none of the tables are bound to it
+        widgetDynamicBindingsMap.put("Table0.tableData", Set.of("Input1.text"));
+        widgetDynamicBindingsMap.put("Table200.tableData", Set.of("Input1.text"));
+        widgetDynamicBindingsMap.put("Table400.tableData", Set.of("Input1.text"));
+        OnLoadResult result = findAllOnLoadExecutables(widgetDynamicBindingsMap);
+        assertThat(getScheduledNames(result.schedulingOrder())).doesNotContain("Query0");
+        assertThat(result.executablesUsedInDsl()).doesNotContain("Query0");
+
+        // A query that depends on another query is scheduled after it
+        executables.set(1, createQuery("Query1", "SELECT * FROM users WHERE id = {{Query2.data[0].id}}"));
+        result = findAllOnLoadExecutables(widgetDynamicBindingsMap);
+        assertThat(getLevel(result.schedulingOrder(), "Query1"))
+                .isGreaterThan(getLevel(result.schedulingOrder(), "Query2"));
+    }
+
+    private int getLevel(List<Set<DslExecutableDTO>> schedulingOrder, String name) {
+        for (int level = 0; level < schedulingOrder.size(); level++) {
+            if (schedulingOrder.get(level).stream().anyMatch(executable -> name.equals(executable.getName()))) {
+                return level;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_whenBindingChanges_onlyFindsReferencesInChangedBinding() {
+        Map<String, Set<String>> widgetDynamicBindingsMap = createWidgetDynamicBindings();
+        findAllOnLoadExecutables(widgetDynamicBindingsMap);
+
+        Mockito.clearInvocations(astService);
+        widgetDynamicBindingsMap.put("Table0.tableData", Set.of("Query1.data.rows"));
+        OnLoadResult result = findAllOnLoadExecutables(widgetDynamicBindingsMap);
+
+        Mockito.verify(astService).getPossibleReferencesFromDynamicBinding(List.of("Query1.data.rows"), 2);
+        Mockito.verifyNoMoreInteractions(astService);
+        assertThat(result.edges())
+                .anyMatch(edge -> "Query1.data.rows".equals(edge.getSourceNode().getReferenceString())
+                        && "Table0.tableData".equals(edge.getTargetNode().getReferenceString()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void findAllOnLoadExecutables_whenExecutableChanges_onlyFindsReferencesInChangedExecutable() {
+        Map<String, Set<String>> widgetDynamicBindingsMap = createWidgetDynamicBindings();
+        findAllOnLoadExecutables(widgetDynamicBindingsMap);
+
+        Mockito.clearInvocations(astService);
+        executables.set(1, createQuery("Query1", "SELECT * FROM users WHERE id = {{Query2.data[0].id}}"));
+        findAllOnLoadExecutables(widgetDynamicBindingsMap);
+
+        ArgumentCaptor<List<String>> bindingsCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(astService, Mockito.atLeastOnce())
+                .getPossibleReferencesFromDynamicBinding(bindingsCaptor.capture(), ArgumentMatchers.eq(2));
+        // The new binding, and the references found in it to look for more executables in
+        Set<String> newBindings = new HashSet<>(MustacheHelper.getPossibleParentsOld("Query2.data[0].id"));
+        newBindings.add("Query2.data[0].id");
+        assertThat(bindingsCaptor.getAllValues().stream().flatMap(List::stream))
+                .contains("Query2.data[0].id")
+                .allMatch(newBindings::contains);
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_whenPageChanges_matchesComputationFromScratch() {
+        Map<String, Set<String>> widgetDynamicBindingsMap = createWidgetDynamicBindings();
+        assertMatchesComputationFromScratch(widgetDynamicBindingsMap);
+
+        // A binding changes, and widgets are removed and added
+        widgetDynamicBindingsMap.put("Table0.tableData", Set.of("Query1.data"));
+        widgetDynamicBindingsMap.remove("Table200.tableData");
+        widgetDynamicBindingsMap.remove("Table400.tableData");
+        widgetDynamicBindingsMap.put("Text1.text", Set.of("Table3.selectedRow.name", "Query7.data.length"));
+        assertMatchesComputationFromScratch(widgetDynamicBindingsMap);
+
+        // Queries depend on other queries, one is deleted, and one is set to run on load by the user
+        executables.set(1, createQuery("Query1", "SELECT * FROM users WHERE id = {{Query2.data[0].id}}"));
+        executables.set(2, createQuery("Query2", "SELECT * FROM users WHERE id = {{Query3.data[0].id}}"));
+        ((ActionDTO) executables.get(3)).setDeletedAt(Instant.now());
+        ActionDTO explicitQuery = createQuery("Query200", "SELECT * FROM users WHERE id = {{Query5.data[0].id}}");
+        explicitQuery.setExecuteOnLoad(true);
+        explicitQuery.setUserSetOnLoad(true);
+        executables.add(explicitQuery);
+        explicitUserSetOnLoadExecutables.add(explicitQuery);
+        assertMatchesComputationFromScratch(widgetDynamicBindingsMap);
+
+        // A cyclical dependency fails both computations, and the page computes again once it is fixed
+        executables.set(2, createQuery("Query2", "SELECT * FROM users WHERE id = {{Query1.data[0].id}}"));
+        Map<String, Set<String>> cyclicalWidgetDynamicBindingsMap = widgetDynamicBindingsMap;
+        assertThatThrownBy(() -> findAllOnLoadExecutables(onLoadExecutablesUtil, cyclicalWidgetDynamicBindingsMap))
+                .isInstanceOf(AppsmithException.class)
+                .matches(e -> ((AppsmithException) e).getError() == AppsmithError.CYCLICAL_DEPENDENCY_ERROR);
+        assertThatThrownBy(
+                        () -> findAllOnLoadExecutables(createOnLoadExecutablesUtil(), cyclicalWidgetDynamicBindingsMap))
+                .isInstanceOf(AppsmithException.class);
+
+        executables.set(2, createQuery("Query2", "SELECT * FROM users WHERE id = {{Input2.text}}"));
+        assertMatchesComputationFromScratch(widgetDynamicBindingsMap);
+    }
+
+    private void assertMatchesComputationFromScratch(Map<String, Set<String>> widgetDynamicBindingsMap) {
+        OnLoadResult result = findAllOnLoadExecutables(widgetDynamicBindingsMap);
+        OnLoadResult resultFromScratch =
+                findAllOnLoadExecutables(createOnLoadExecutablesUtil(), widgetDynamicBindingsMap);
+        assertThat(result).isEqualTo(resultFromScratch);
+    }
+}
@@ -0,0 +1,200 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Param;
+import com.appsmith.server.dtos.CachedActionExecutionResultDTO;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class ActionResultCacheServiceCEImplTest {
+
+    private final ObjectMapper objectMapper = SerializationUtils.getDefaultObjectMapper(null);
+
+    private CacheManager cacheManager;
+
+    private ActionResultCacheServiceCEImpl actionResultCacheService;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = Mockito.mock(CacheManager.class);
+        Mockito.when(cacheManager.get(anyString(), anyString())).thenReturn(Mono.empty());
+        Mockito.when(cacheManager.put(anyString(), anyString(), any(), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+        actionResultCacheService = new ActionResultCacheServiceCEImpl(cacheManager, objectMapper);
+    }
+
+    private ActionDTO createAction(Integer ttlInSeconds, Integer maxSizeInBytes) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id = {{Input1.text}}");
+        actionConfiguration.setResultCacheTtlInSeconds(ttlInSeconds);
+        actionConfiguration.setResultCacheMaxSizeInBytes(maxSizeInBytes);
+
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setId("actionId");
+        actionDTO.setActionConfiguration(actionConfiguration);
+        return actionDTO;
+    }
+
+    private ExecuteActionDTO createExecuteActionDTO(String value) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setParams(List.of(new Param("Input1.text", value)));
+        return executeActionDTO;
+    }
+
+    private DatasourceStorage createDatasourceStorage() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("jdbc:postgresql://localhost/db");
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setId("datasourceStorageId");
+        datasourceStorage.setEnvironmentId("environmentId");
+        datasourceStorage.setDatasourceConfiguration(datasourceConfiguration);
+        return datasourceStorage;
+    }
+
+    private ActionExecutionResult createResult(Object body) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setStatusCode("200");
+        result.setBody(body);
+        result.setMessages(Set.of("message"));
+        ActionExecutionRequest request = new ActionExecutionRequest();
+        request.setActionId("actionId");
+        request.setRequestedAt(Instant.now());
+        result.setRequest(request);
+        return result;
+    }
+
+    @Test
+    public void getOrExecute_whenTtlIsNotSet_doesNotUseCache() {
+        ActionExecutionResult result = createResult("body");
+
+        StepVerifier.create(actionResultCacheService.getOrExecute(
+                        createAction(null, null),
+                        createExecuteActionDTO("1"),
+                        createDatasourceStorage(),
+                        Mono.just(result)))
+                .assertNext(actionExecutionResult ->
+                        assertThat(actionExecutionResult).isSameAs(result))
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    public void getOrExecute_whenCached_returnsCachedResultWithoutExecuting() {
+        JsonNode body = objectMapper
+                .createArrayNode()
+                .add(objectMapper.createObjectNode().put("id", 1));
+        ActionDTO actionDTO = createAction(60, null);
+        DatasourceStorage datasourceStorage = createDatasourceStorage();
+
+        StepVerifier.create(actionResultCacheService.getOrExecute(
+                        actionDTO, createExecuteActionDTO("1"), datasourceStorage, Mono.just(createResult(body))))
+                .assertNext(result -> assertThat(result.getBody()).isEqualTo(body))
+                .verifyComplete();
+
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(cacheManager)
+                .put(
+                        eq(ActionResultCacheServiceCEImpl.CACHE_NAME),
+                        keyCaptor.capture(),
+                        valueCaptor.capture(),
+                        eq(Duration.ofSeconds(60)));
+        assertThat(keyCaptor.getValue()).startsWith("actionId:environmentId:");
+        assertThat(valueCaptor.getValue()).isInstanceOf(CachedActionExecutionResultDTO.class);
+
+        Mockito.when(cacheManager.get(ActionResultCacheServiceCEImpl.CACHE_NAME, keyCaptor.getValue()))
+                .thenReturn(Mono.just(valueCaptor.getValue()));
+        AtomicInteger executions = new AtomicInteger();
+        Mono<ActionExecutionResult> executionMono =
+                Mono.fromSupplier(() -> createResult("executed")).doOnNext(ignored -> executions.incrementAndGet());
+
+        StepVerifier.create(actionResultCacheService.getOrExecute(
+                        actionDTO, createExecuteActionDTO("1"), datasourceStorage, executionMono))
+                .assertNext(result -> {
+                    assertThat(result.getBody()).isEqualTo(body);
+                    assertThat(result.getIsExecutionSuccess()).isTrue();
+                    assertThat(result.getStatusCode()).isEqualTo("200");
+                    assertThat(result.getMessages()).containsExactly("message");
+                    assertThat(result.getRequest().getActionId()).isEqualTo("actionId");
+                    assertThat(result.getRequest().getRequestedAt()).isNotNull();
+                })
+                .verifyComplete();
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    public void getCacheKey_whenParamsOrDatasourceChange_returnsDifferentKeys() throws Exception {
+        ActionDTO actionDTO = createAction(60, null);
+        DatasourceStorage datasourceStorage = createDatasourceStorage();
+
+        String key = actionResultCacheService.getCacheKey(actionDTO, createExecuteActionDTO("1"), datasourceStorage);
+        assertThat(actionResultCacheService.getCacheKey(actionDTO, createExecuteActionDTO("1"), datasourceStorage))
+                .isEqualTo(key);
+        assertThat(actionResultCacheService.getCacheKey(actionDTO, createExecuteActionDTO("2"), datasourceStorage))
+                .isNotEqualTo(key);
+
+        datasourceStorage.getDatasourceConfiguration().setUrl("jdbc:postgresql://localhost/other");
+        assertThat(actionResultCacheService.getCacheKey(actionDTO, createExecuteActionDTO("1"), datasourceStorage))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void getOrExecute_whenResultIsLargerThanLimit_doesNotCacheResult() {
+        StepVerifier.create(actionResultCacheService.getOrExecute(
+                        createAction(60, 16),
+                        createExecuteActionDTO("1"),
+                        createDatasourceStorage(),
+                        Mono.just(createResult("a body that is larger than sixteen bytes"))))
+                .assertNext(
+                        result -> assertThat(result.getBody()).isEqualTo("a body that is larger than sixteen bytes"))
+                .verifyComplete();
+
+        Mockito.verify(cacheManager, Mockito.never()).put(anyString(), anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    public void getOrExecute_whenExecutionFails_doesNotCacheResult() {
+        ActionExecutionResult result = createResult("error");
+        result.setIsExecutionSuccess(false);
+
+        StepVerifier.create(actionResultCacheService.getOrExecute(
+                        createAction(60, null),
+                        createExecuteActionDTO("1"),
+                        createDatasourceStorage(),
+                        Mono.just(result)))
+                .assertNext(actionExecutionResult ->
+                        assertThat(actionExecutionResult).isSameAs(result))
+                .verifyComplete();
+
+        Mockito.verify(cacheManager, Mockito.never()).put(anyString(), anyString(), any(), any(Duration.class));
+    }
+}
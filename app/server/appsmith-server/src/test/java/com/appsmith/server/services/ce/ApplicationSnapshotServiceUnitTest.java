@@ -69,9 +69,9 @@ public class ApplicationSnapshotServiceUnitTest {
     public void createApplicationSnapshot_WhenApplicationTooLarge_SnapshotCreatedSuccessfully() {
         String defaultAppId = "default-app-id", branchName = "develop", branchedAppId = "branched-app-id";
 
-        // Create a large ApplicationJson object that exceeds the 15 MB size
+        // Create a large ApplicationJson object that exceeds the 15 MB size even after it is compressed
         JSONObject jsonObject = new JSONObject();
-        jsonObject.put("key", generateRandomString(16));
+        jsonObject.put("key", generateRandomString(24));
 
         Layout layout = new Layout();
         layout.setDsl(jsonObject);
@@ -161,6 +161,62 @@ public class ApplicationSnapshotServiceUnitTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void restoreSnapshot_WhenSnapshotIsCompressed_RestoredSuccessfully() {
+        String defaultAppId = "default-app-id",
+                branchedAppId = "branched-app-id",
+                workspaceId = "workspace-id",
+                branch = "development";
+
+        Application application = new Application();
+        application.setName("Compressed snapshot test");
+        application.setWorkspaceId(workspaceId);
+        application.setId(branchedAppId);
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+
+        Mockito.when(applicationService.findBranchedApplicationId(
+                        branch, defaultAppId, AclPermission.MANAGE_APPLICATIONS))
+                .thenReturn(Mono.just(branchedAppId));
+        Mockito.when(applicationService.findByBranchNameAndDefaultApplicationId(
+                        branch, defaultAppId, AclPermission.MANAGE_APPLICATIONS))
+                .thenReturn(Mono.just(application));
+        Mockito.when(exportService.exportByArtifactId(
+                        branchedAppId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION))
+                .thenAnswer(getTypeSafeMockAnswer(applicationJson));
+        Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
+                .thenReturn(Mono.empty());
+
+        // keep the snapshots that are saved, so that they are returned when the snapshot is restored
+        List<ApplicationSnapshot> savedSnapshots = new ArrayList<>();
+        Mockito.when(applicationSnapshotRepository.saveAll(any(Iterable.class))).thenAnswer(invocationOnMock -> {
+            Iterable<ApplicationSnapshot> snapshots = invocationOnMock.getArgument(0);
+            snapshots.forEach(savedSnapshots::add);
+            return Flux.fromIterable(snapshots);
+        });
+        Mockito.when(applicationSnapshotRepository.findByApplicationId(branchedAppId))
+                .thenAnswer(invocationOnMock -> Flux.fromIterable(savedSnapshots));
+
+        Mockito.when(importService.restoreSnapshot(
+                        eq(workspaceId), eq(branchedAppId), eq(branch), argThat(applicationJson1 -> applicationJson1
+                                .getArtifact()
+                                .getName()
+                                .equals(application.getName()))))
+                .thenAnswer(getTypeSafeMockAnswer(application));
+
+        StepVerifier.create(applicationSnapshotService
+                        .createApplicationSnapshot(defaultAppId, branch)
+                        .then(applicationSnapshotService.restoreSnapshot(defaultAppId, branch)))
+                .assertNext(application1 -> {
+                    assertThat(application1.getName()).isEqualTo(application.getName());
+                })
+                .verifyComplete();
+
+        assertThat(savedSnapshots).hasSize(1);
+        assertThat(savedSnapshots.get(0).getCompression()).isEqualTo("gzip");
+    }
+
     @Test
     public void restoreSnapshot_WhenApplicationHasDefaultPageIds_IdReplacedWithDefaultPageId() {
         String defaultAppId = "default-app-id",
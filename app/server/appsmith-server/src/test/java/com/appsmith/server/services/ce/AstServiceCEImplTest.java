@@ -0,0 +1,125 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AstServiceCEImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockWebServer mockRtsServer;
+
+    private AstServiceCEImpl astService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mockRtsServer = new MockWebServer();
+        mockRtsServer.start();
+
+        CommonConfig commonConfig = Mockito.mock(CommonConfig.class);
+        Mockito.when(commonConfig.getRtsBaseUrl())
+                .thenReturn("http://" + mockRtsServer.getHostName() + ":" + mockRtsServer.getPort());
+        Mockito.when(commonConfig.getRtsAstCacheMaxSize()).thenReturn(100L);
+
+        InstanceConfig instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        astService = new AstServiceCEImpl(commonConfig, instanceConfig, Mockito.mock(CacheManager.class));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        mockRtsServer.shutdown();
+    }
+
+    private void enqueueReferences(List<Set<String>> references) throws IOException {
+        List<Map<String, Object>> data = references.stream()
+                .map(referenceSet -> Map.<String, Object>of(
+                        "references", referenceSet, "functionalParams", Set.of(), "variables", Set.of()))
+                .collect(Collectors.toList());
+        mockRtsServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(objectMapper.writeValueAsString(Map.of("data", data))));
+    }
+
+    private List<String> getRequestedScripts() throws Exception {
+        RecordedRequest request = mockRtsServer.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+        return objectMapper.convertValue(
+                body.get("scripts"), objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_whenBindingsAreCached_sendsOnlyMissesToRts() throws Exception {
+        enqueueReferences(List.of(Set.of("Api1.data"), Set.of("Query1.data")));
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Api1.data", "Query1.data", "Api1.data"), 2)
+                        .map(Tuple2::getT2)
+                        .collectList())
+                .assertNext(references -> assertThat(references)
+                        .containsExactly(Set.of("Api1.data"), Set.of("Query1.data"), Set.of("Api1.data")))
+                .verifyComplete();
+        assertThat(getRequestedScripts()).containsExactly("Api1.data", "Query1.data");
+
+        enqueueReferences(List.of(Set.of("Input1.text")));
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Query1.data", "Input1.text"), 2)
+                        .collectMap(Tuple2::getT1, Tuple2::getT2))
+                .assertNext(references -> assertThat(references)
+                        .isEqualTo(Map.of("Query1.data", Set.of("Query1.data"), "Input1.text", Set.of("Input1.text"))))
+                .verifyComplete();
+        assertThat(getRequestedScripts()).containsExactly("Input1.text");
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Api1.data", "Input1.text"), 2)
+                        .count())
+                .expectNext(2L)
+                .verifyComplete();
+        assertThat(mockRtsServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_whenRtsReturnsFewerResults_skipsBindingsWithoutResults()
+            throws Exception {
+        enqueueReferences(List.of(Set.of("Api1.data")));
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Api1.data", "Query1.data"), 2)
+                        .collectMap(Tuple2::getT1, Tuple2::getT2))
+                .assertNext(references -> assertThat(references).isEqualTo(Map.of("Api1.data", Set.of("Api1.data"))))
+                .verifyComplete();
+        assertThat(getRequestedScripts()).containsExactly("Api1.data", "Query1.data");
+    }
+
+    @Test
+    public void getReferencesCacheKey_whenEvalVersionDiffers_returnsDifferentKeys() {
+        assertThat(astService.getReferencesCacheKey("Api1.data", 1))
+                .isEqualTo(astService.getReferencesCacheKey("Api1.data", 1))
+                .isNotEqualTo(astService.getReferencesCacheKey("Api1.data", 2))
+                .isNotEqualTo(astService.getReferencesCacheKey("Api2.data", 1));
+    }
+}
@@ -1,23 +1,38 @@
 package com.appsmith.server.solutions.ce;
 
+import com.appsmith.external.constants.AnalyticsEvents;
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.ParamProperty;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.Param;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ExecuteActionMetaDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.services.ActionResultCacheService;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
@@ -27,11 +42,13 @@ import com.appsmith.server.services.TenantService;
 import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.EnvironmentPermission;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -59,6 +76,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -67,12 +86,15 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -131,6 +153,9 @@ class ActionExecutionSolutionCEImplTest {
     @SpyBean
     TenantService tenantService;
 
+    @SpyBean
+    ActionResultCacheService actionResultCacheService;
+
     @Autowired
     EnvironmentPermission environmentPermission;
 
@@ -158,7 +183,8 @@ class ActionExecutionSolutionCEImplTest {
                 datasourceStorageService,
                 environmentPermission,
                 configService,
-                tenantService);
+                tenantService,
+                actionResultCacheService);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -450,4 +476,221 @@ class ActionExecutionSolutionCEImplTest {
                 })
                 .verifyComplete();
     }
+    /**
+     * Makes the spied execution solution run the given plugin executor for an action with the given timeout, without
+     * looking up the action, its datasource or its plugin
+     */
+    private ActionExecutionSolutionCEImpl mockStreamingExecution(
+            PluginExecutor<Object> pluginExecutor, ActionDTO actionDTO, DatasourceStorage datasourceStorage) {
+        ActionExecutionSolutionCEImpl executionSolutionSpy = spy(actionExecutionSolution);
+
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setName("Plugin");
+        plugin.setPackageName("plugin-package");
+
+        doReturn(Mono.just(actionDTO)).when(executionSolutionSpy).getValidActionForExecution(any(), any());
+        doReturn(Mono.just(datasourceStorage)).when(executionSolutionSpy).getCachedDatasourceStorage(any(), any());
+        doReturn(Mono.just(plugin)).when(executionSolutionSpy).getCachedPluginForActionExecution(any());
+        doReturn(Mono.just(pluginExecutor)).when(pluginExecutorHelper).getPluginExecutor(any());
+        doReturn(Mono.just(datasourceStorage)).when(authenticationValidator).validateAuthentication(any());
+        doReturn(Mono.just(new DatasourceContext<>()))
+                .when(datasourceContextService)
+                .getDatasourceContext(any(), any());
+        doReturn(Mono.empty()).when(datasourceContextService).deleteDatasourceContext(any());
+
+        return executionSolutionSpy;
+    }
+
+    private ActionDTO getStreamedActionDTO(int timeoutInMillisecond) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setTimeoutInMillisecond(String.valueOf(timeoutInMillisecond));
+
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setId("actionId");
+        actionDTO.setName("Query1");
+        actionDTO.setPageId("pageId");
+        actionDTO.setApplicationId("applicationId");
+        actionDTO.setPluginId("pluginId");
+        actionDTO.setPluginType(PluginType.DB);
+        actionDTO.setCreatedAt(Instant.now());
+        actionDTO.setActionConfiguration(actionConfiguration);
+        return actionDTO;
+    }
+
+    private DatasourceStorage getStreamedDatasourceStorage() {
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("datasourceId");
+        datasourceStorage.setName("Datasource");
+        datasourceStorage.setEnvironmentId(FieldName.UNUSED_ENVIRONMENT_ID);
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        return datasourceStorage;
+    }
+
+    private ExecuteActionDTO getStreamedExecuteActionDTO() {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(false);
+        return executeActionDTO;
+    }
+
+    @Test
+    public void testExecuteActionStreaming_withStreamingPlugin_emitsRowsAndSendsAnalyticsEvent() {
+        PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.executeParameterizedStreaming(any(), any(), any(), any()))
+                .thenReturn(Flux.just(Map.of("id", 1), Map.of("id", 2)));
+
+        ActionDTO actionDTO = getStreamedActionDTO(10000);
+        ActionExecutionSolutionCEImpl executionSolutionSpy =
+                mockStreamingExecution(pluginExecutor, actionDTO, getStreamedDatasourceStorage());
+
+        Application application = new Application();
+        application.setName("App");
+        application.setWorkspaceId("workspaceId");
+        User user = new User();
+        user.setEmail("user@example.com");
+        Plugin plugin = new Plugin();
+        plugin.setName("Plugin");
+        Mockito.when(analyticsService.isActive()).thenReturn(true);
+        Mockito.when(applicationService.findById(any())).thenReturn(Mono.just(application));
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.just(user));
+        Mockito.when(newPageService.getNameByPageId(any(), anyBoolean())).thenReturn(Mono.just("Page1"));
+        Mockito.when(pluginService.getById(any())).thenReturn(Mono.just(plugin));
+        Mockito.when(datasourceStorageService.getEnvironmentNameFromEnvironmentIdForAnalytics(any()))
+                .thenReturn(Mono.just("production"));
+        Mockito.when(analyticsService.sendObjectEvent(any(), any(), any())).thenReturn(Mono.just(actionDTO));
+
+        Flux<Object> rowsFlux = executionSolutionSpy.executeActionStreaming(
+                getStreamedExecuteActionDTO(), ExecuteActionMetaDTO.builder().build());
+
+        StepVerifier.create(rowsFlux)
+                .expectNext(Map.of("id", 1))
+                .expectNext(Map.of("id", 2))
+                .verifyComplete();
+
+        ArgumentCaptor<Map<String, Object>> dataCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(analyticsService, times(1))
+                .sendObjectEvent(
+                        Mockito.eq(AnalyticsEvents.EXECUTE_ACTION), Mockito.eq(actionDTO), dataCaptor.capture());
+        assertEquals(true, dataCaptor.getValue().get("isSuccessfulExecution"));
+    }
+
+    @Test
+    public void testExecuteActionStreaming_whenPluginFailsAfterRows_emitsErrorResultAfterRows() {
+        PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.executeParameterizedStreaming(any(), any(), any(), any()))
+                .thenReturn(Flux.concat(
+                        Flux.just(Map.of("id", 1)),
+                        Flux.error(new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Failed to read the row"))));
+
+        ActionExecutionSolutionCEImpl executionSolutionSpy =
+                mockStreamingExecution(pluginExecutor, getStreamedActionDTO(10000), getStreamedDatasourceStorage());
+
+        Flux<Object> rowsFlux = executionSolutionSpy.executeActionStreaming(
+                getStreamedExecuteActionDTO(), ExecuteActionMetaDTO.builder().build());
+
+        StepVerifier.create(rowsFlux)
+                .expectNext(Map.of("id", 1))
+                .assertNext(row -> {
+                    ActionExecutionResult result = (ActionExecutionResult) row;
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals("Failed to read the row", result.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteActionStreaming_withPluginThatDoesNotStream_emitsRowsOfTheResultBody() {
+        ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
+        actionExecutionResult.setIsExecutionSuccess(true);
+        actionExecutionResult.setBody(objectMapper.createArrayNode().add(1).add(2));
+
+        PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.executeParameterized(any(), any(), any(), any()))
+                .thenReturn(Mono.just(actionExecutionResult));
+        Mockito.when(pluginExecutor.executeParameterizedStreaming(any(), any(), any(), any()))
+                .thenCallRealMethod();
+
+        ActionExecutionSolutionCEImpl executionSolutionSpy =
+                mockStreamingExecution(pluginExecutor, getStreamedActionDTO(10000), getStreamedDatasourceStorage());
+
+        Flux<Object> rowsFlux = executionSolutionSpy.executeActionStreaming(
+                getStreamedExecuteActionDTO(), ExecuteActionMetaDTO.builder().build());
+
+        StepVerifier.create(rowsFlux)
+                .assertNext(row -> assertEquals(1, ((JsonNode) row).asInt()))
+                .assertNext(row -> assertEquals(2, ((JsonNode) row).asInt()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteActionStreaming_whenConnectionIsStaleBeforeAnyRow_retriesWithFreshContext() {
+        PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.executeParameterizedStreaming(any(), any(), any(), any()))
+                .thenReturn(Flux.error(new StaleConnectionException("Connection is closed")))
+                .thenReturn(Flux.just(Map.of("id", 1)));
+
+        ActionExecutionSolutionCEImpl executionSolutionSpy =
+                mockStreamingExecution(pluginExecutor, getStreamedActionDTO(10000), getStreamedDatasourceStorage());
+
+        Flux<Object> rowsFlux = executionSolutionSpy.executeActionStreaming(
+                getStreamedExecuteActionDTO(), ExecuteActionMetaDTO.builder().build());
+
+        StepVerifier.create(rowsFlux).expectNext(Map.of("id", 1)).verifyComplete();
+
+        verify(datasourceContextService, times(1)).deleteDatasourceContext(any());
+        verify(pluginExecutor, times(2)).executeParameterizedStreaming(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testExecuteActionStreaming_whenConnectionIsStaleAfterRows_doesNotSendRowsAgain() {
+        PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.executeParameterizedStreaming(any(), any(), any(), any()))
+                .thenReturn(Flux.concat(
+                        Flux.just(Map.of("id", 1)), Flux.error(new StaleConnectionException("Connection is closed"))));
+
+        ActionExecutionSolutionCEImpl executionSolutionSpy =
+                mockStreamingExecution(pluginExecutor, getStreamedActionDTO(10000), getStreamedDatasourceStorage());
+
+        Flux<Object> rowsFlux = executionSolutionSpy.executeActionStreaming(
+                getStreamedExecuteActionDTO(), ExecuteActionMetaDTO.builder().build());
+
+        StepVerifier.create(rowsFlux)
+                .expectNext(Map.of("id", 1))
+                .assertNext(row -> {
+                    ActionExecutionResult result = (ActionExecutionResult) row;
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.STALE_CONNECTION_ERROR.getAppErrorCode(), result.getStatusCode());
+                })
+                .verifyComplete();
+
+        // The context is still refreshed for the next execution
+        verify(datasourceContextService, times(1)).deleteDatasourceContext(any());
+        verify(pluginExecutor, times(1)).executeParameterizedStreaming(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testExecuteActionStreaming_whenRowsStall_timesOutAfterLastRow() {
+        PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.executeParameterizedStreaming(any(), any(), any(), any()))
+                .thenReturn(Flux.concat(Flux.just(Map.of("id", 1)), Flux.never()));
+
+        ActionExecutionSolutionCEImpl executionSolutionSpy =
+                mockStreamingExecution(pluginExecutor, getStreamedActionDTO(200), getStreamedDatasourceStorage());
+
+        Flux<Object> rowsFlux = executionSolutionSpy.executeActionStreaming(
+                getStreamedExecuteActionDTO(), ExecuteActionMetaDTO.builder().build());
+
+        StepVerifier.create(rowsFlux)
+                .expectNext(Map.of("id", 1))
+                .assertNext(row -> {
+                    ActionExecutionResult result = (ActionExecutionResult) row;
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR.getAppErrorCode(), result.getStatusCode());
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
 }
@@ -22,4 +22,10 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Only for methods returning Flux. When positive, a cached list loaded more than these many seconds ago is still
+     * returned as is, while the original method is called in the background to refresh the cache.
+     */
+    long staleAfterSeconds() default 0;
 }
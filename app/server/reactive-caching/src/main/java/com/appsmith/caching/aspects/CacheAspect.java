@@ -3,6 +3,7 @@ package com.appsmith.caching.aspects;
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.components.CacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,7 +12,10 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
@@ -19,7 +23,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -32,7 +40,32 @@ public class CacheAspect {
 
     private final CacheManager cacheManager;
 
-    public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+    /**
+     * Key expressions are compiled to bytecode once they have been interpreted a few times, falling back to
+     * interpretation if a compiled expression fails.
+     */
+    public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CacheAspect.class.getClassLoader()));
+
+    private static final int MAX_TRACKED_LOAD_TIMES = 10_000;
+
+    /**
+     * Calls to original methods that are in progress after a cache miss, keyed by the cache path.
+     */
+    private final Map<String, Mono<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+    /**
+     * Parsed key expressions, keyed by the expression strings of the annotated methods.
+     */
+    private final Map<String, Expression> keyExpressions = new ConcurrentHashMap<>();
+
+    /**
+     * Time at which the cached value of a path was loaded, or first seen by this node, used for stale-while-revalidate.
+     */
+    private final Map<String, Long> loadTimes = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_LOAD_TIMES)
+            .<String, Long>build()
+            .asMap();
 
     @Autowired
     public CacheAspect(CacheManager cacheManager) {
@@ -87,6 +120,63 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to share one call to the original method between all the concurrent cache misses of the same
+     * key. The first miss starts the call, and the ones that arrive before it completes subscribe to the same result,
+     * instead of each of them calling the original method and writing to the cache.
+     * Note that the call runs with the context of the subscriber that started it.
+     *
+     * @param path The path of the cache entry, i.e. cacheName:key
+     * @param call Supplies the call to the original method, along with caching its result
+     * @return The shared result of the call
+     */
+    private Mono<Object> singleFlight(String path, Supplier<Mono<Object>> call) {
+        return Mono.defer(() -> inFlightCalls.computeIfAbsent(path, inFlightPath -> Mono.defer(call)
+                .doFinally(signalType -> inFlightCalls.remove(inFlightPath))
+                .cache()));
+    }
+
+    /**
+     * This method is used to return a cached list from a Flux<T> returning method, and refresh it in the background
+     * if it was loaded more than staleAfter ago. The refresh shares the in-flight call with any concurrent misses.
+     *
+     * @param joinPoint  The join point
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param staleAfter The age after which the cached list gets refreshed
+     * @param value      The cached list
+     * @return The cached list
+     */
+    private Mono<Object> revalidateIfStale(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, Duration staleAfter, Object value) {
+        String path = cacheName + ":" + key;
+        long now = System.currentTimeMillis();
+        // If the value was loaded by another node, its age is counted from when this node first saw it
+        Long loadTime = loadTimes.putIfAbsent(path, now);
+        if (loadTime == null || now - loadTime <= staleAfter.toMillis()) {
+            return Mono.just(value);
+        }
+
+        return Mono.deferContextual(contextView -> {
+            singleFlight(path, () -> loadFluxMethod(joinPoint, cacheName, key))
+                    .contextWrite(contextView)
+                    .subscribe(
+                            refreshedValue -> log.debug("Refreshed stale cache entry {}", path),
+                            error -> log.error("Error refreshing stale cache entry {}", path, error));
+            return Mono.just(value);
+        });
+    }
+
+    /**
+     * This method is used to call original Flux<T> returning method, cache its result and note when it was loaded.
+     */
+    private Mono<Object> loadFluxMethod(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+        return callFluxMethodAndCache(joinPoint, cacheName, key).collectList().map(value -> {
+            loadTimes.put(cacheName + ":" + key, System.currentTimeMillis());
+            return value;
+        });
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -122,8 +212,10 @@ public class CacheAspect {
             // Add method arguments to evaluation context
             evaluationContext.setVariable(parameterNames[i], args[i]);
         }
-        // Parse expression and return the result
-        return EXPRESSION_PARSER.parseExpression(expression).getValue(evaluationContext, String.class);
+        // Parse expression once per annotated method and return the result
+        return keyExpressions
+                .computeIfAbsent(expression, EXPRESSION_PARSER::parseExpression)
+                .getValue(evaluationContext, String.class);
     }
 
     /**
@@ -163,20 +255,27 @@ public class CacheAspect {
         String key = deriveKey(annotation.key(), parameterNames, args);
 
         Class<?> returnType = method.getReturnType();
+        String path = cacheName + ":" + key;
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
+            // The call is deferred until subscription as it will call original function, and shared between concurrent
+            // misses of the same key
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+                    .switchIfEmpty(singleFlight(path, () -> callMonoMethodAndCache(joinPoint, cacheName, key)));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+            Mono<Object> cachedValue = cacheManager.get(cacheName, key);
+            if (annotation.staleAfterSeconds() > 0) {
+                Duration staleAfter = Duration.ofSeconds(annotation.staleAfterSeconds());
+                cachedValue =
+                        cachedValue.flatMap(value -> revalidateIfStale(joinPoint, cacheName, key, staleAfter, value));
+            }
+
+            // The call is deferred until subscription as it will call original function, and shared between concurrent
+            // misses of the same key
+            return cachedValue
+                    .switchIfEmpty(singleFlight(path, () -> loadFluxMethod(joinPoint, cacheName, key)))
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -209,6 +308,7 @@ public class CacheAspect {
         }
 
         if (all) { // If all is true, evict all keys from the cache
+            loadTimes.keySet().removeIf(path -> path.startsWith(cacheName + ":"));
             return cacheManager.evictAll(cacheName).then((Mono<?>) joinPoint.proceed());
         }
 
@@ -216,6 +316,7 @@ public class CacheAspect {
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
+        loadTimes.remove(cacheName + ":" + key);
         // Evict key from the cache then call the original method
         return cacheManager.evict(cacheName, key).then((Mono<?>) joinPoint.proceed());
     }
@@ -0,0 +1,38 @@
+package com.appsmith.caching.codec;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * A CacheCodec is used to store the values of specific caches in Redis with a format of its own, instead of the
+ * serializer of the shared ReactiveRedisTemplate. Any bean implementing this interface is picked up by the cache
+ * manager for the cache names it returns.
+ */
+public interface CacheCodec {
+
+    /**
+     * The names of the caches whose values are stored with this codec.
+     */
+    Set<String> getCacheNames();
+
+    /**
+     * Identifies the format of the stored values. It is added to the Redis keys of the caches, so that entries written
+     * in another format, e.g. by nodes that don't use this codec yet, are never read with it. It should be changed
+     * whenever the format of the values changes.
+     */
+    String getFormat();
+
+    /**
+     * This will convert a value into the bytes stored in Redis.
+     * @param value The value to be cached.
+     * @return The encoded value.
+     */
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * This will convert the bytes stored in Redis back into the cached value.
+     * @param bytes The encoded value.
+     * @return The cached value.
+     */
+    Object decode(byte[] bytes) throws IOException;
+}
@@ -0,0 +1,68 @@
+package com.appsmith.caching.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * CacheCodec that stores values with Jackson, as a single known type. Since the type is fixed per cache, no type
+ * information needs to be written along with the values, which keeps them compact.
+ */
+public class JacksonCacheCodec implements CacheCodec {
+
+    public static final String SMILE_FORMAT = "smile1";
+
+    private final ObjectMapper objectMapper;
+
+    private final JavaType valueType;
+
+    private final Set<String> cacheNames;
+
+    private final String format;
+
+    public JacksonCacheCodec(ObjectMapper objectMapper, JavaType valueType, Set<String> cacheNames, String format) {
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.cacheNames = cacheNames;
+        this.format = format;
+    }
+
+    /**
+     * Creates a codec that stores values in the Smile binary format, for the given type and caches.
+     * @param valueType The type of the cached values, e.g. built with Jackson's TypeFactory.
+     * @param cacheNames The names of the caches to use the codec for.
+     */
+    public static JacksonCacheCodec smile(JavaType valueType, String... cacheNames) {
+        return new JacksonCacheCodec(smileMapper(), valueType, Set.of(cacheNames), SMILE_FORMAT);
+    }
+
+    /**
+     * Returns an ObjectMapper writing the Smile binary format, with all the modules found on the classpath registered.
+     */
+    public static ObjectMapper smileMapper() {
+        return new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+    }
+
+    @Override
+    public Set<String> getCacheNames() {
+        return cacheNames;
+    }
+
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) throws IOException {
+        return objectMapper.readValue(bytes, valueType);
+    }
+}
@@ -2,6 +2,8 @@ package com.appsmith.caching.components;
 
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
@@ -25,6 +27,16 @@ public interface CacheManager {
      */
     Mono<Boolean> put(String cacheName, String key, Object value);
 
+    /**
+     * This will put item into the cache, which expires after the given time.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @param ttl The time after which the item is removed from the cache.
+     * @return Mono<Boolean> true if put was successful, false otherwise.
+     */
+    Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl);
+
     /**
      * This will remove item from the cache.
      * @param cacheName The name of the cache.
@@ -1,29 +1,97 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.codec.CacheCodec;
 import com.appsmith.caching.model.CacheStats;
+import com.appsmith.caching.model.WeightedCacheValue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ * <p>
+ * When the local tier is enabled, entries are also kept in a size bounded in-memory cache with a TTL, which is looked
+ * up before going to Redis. Evictions are published on a Redis channel, so that every node drops the evicted entries
+ * from its own local tier as well. The TTL bounds the staleness of an entry if an invalidation message is ever missed.
+ * A value read from or written to Redis isn't put in the local tier if an entry of its cache was invalidated meanwhile.
+ * <p>
+ * Values of the caches that have a {@link CacheCodec} configured are stored as the bytes produced by the codec, all
+ * the others with the serializer of the ReactiveRedisTemplate. The Redis keys of the former also hold the format of the
+ * codec, e.g. {@code cacheName:smile1:key}, so that nodes using different formats during a rolling deployment never read
+ * each other's entries. The local tier and the invalidation messages use the {@code cacheName:key} path of the entries.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidation";
+
+    private static final String EVICT = "evict";
+
+    private static final String EVICT_ALL = "evictAll";
+
+    private static final String MESSAGE_SEPARATOR = "|";
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final ReactiveRedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    /**
+     * Codecs keyed by the names of the caches they are used for.
+     */
+    private final Map<String, CacheCodec> cacheCodecs = new HashMap<>();
+
+    /**
+     * Local tier keyed by the same path as the Redis entries, null when the local tier is disabled.
+     */
+    private final Cache<String, Object> localCache;
+
+    private final Duration localCacheTtl;
+
+    /**
+     * Number of times the local entries of each cache have been invalidated. A value is only put in the local tier if
+     * no entry of its cache has been invalidated since it was read from or written to Redis, as it may be the value
+     * that the invalidation removed.
+     */
+    private final Map<String, AtomicLong> localInvalidations = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies the invalidation messages published by this node, which have already been applied locally.
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private Disposable invalidationSubscription;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
@@ -32,9 +100,35 @@ public class RedisCacheManagerImpl implements CacheManager {
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+        statsMap.computeIfAbsent(cacheName, name -> {
+            registerMetrics(name);
+            return CacheStats.newInstance();
+        });
+    }
+
+    /**
+     * Publishes the stats of the cache to Micrometer. The counters look up the stats on every read, so that they keep
+     * working after the stats have been reset.
+     */
+    private void registerMetrics(String cacheName) {
+        registerCounter("appsmith.cache.hits", cacheName, "redis", CacheStats::getHits);
+        registerCounter("appsmith.cache.misses", cacheName, "redis", CacheStats::getMisses);
+        registerCounter("appsmith.cache.hits", cacheName, "local", CacheStats::getLocalHits);
+        registerCounter("appsmith.cache.misses", cacheName, "local", CacheStats::getLocalMisses);
+        registerCounter("appsmith.cache.evictions", cacheName, "local", CacheStats::getLocalEvictions);
+        registerCounter("appsmith.cache.evictions.single", cacheName, "redis", CacheStats::getSingleEvictions);
+        registerCounter("appsmith.cache.evictions.complete", cacheName, "redis", CacheStats::getCompleteEvictions);
+    }
+
+    private void registerCounter(
+            String name, String cacheName, String tier, Function<CacheStats, AtomicInteger> counter) {
+        FunctionCounter.builder(name, statsMap, stats -> {
+                    CacheStats cacheStats = stats.get(cacheName);
+                    return cacheStats == null ? 0 : counter.apply(cacheStats).get();
+                })
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .register(Metrics.globalRegistry);
     }
 
     @Override
@@ -42,10 +136,14 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: hits = {}, misses = {}, localHits = {}, localMisses = {}, localEvictions = {}, "
+                            + "singleEvictions = {}, completeEvictions = {}",
                     key,
                     stats.getHits(),
                     stats.getMisses(),
+                    stats.getLocalHits(),
+                    stats.getLocalMisses(),
+                    stats.getLocalEvictions(),
                     stats.getSingleEvictions(),
                     stats.getCompleteEvictions());
         });
@@ -58,40 +156,268 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.clear();
     }
 
+    /**
+     * Returns the stats of the given cache, null if the cache has not been used yet.
+     */
+    public CacheStats getStats(String cacheName) {
+        return statsMap.get(cacheName);
+    }
+
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            ObjectProvider<CacheCodec> cacheCodecProvider,
+            @Value("${appsmith.cache.local.enabled:true}") boolean localCacheEnabled,
+            @Value("${appsmith.cache.local.max-size:10000}") long localCacheMaxSize,
+            @Value("${appsmith.cache.local.ttl-seconds:60}") long localCacheTtlSeconds) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        this.binaryRedisTemplate = new ReactiveRedisTemplate<>(
+                reactiveRedisTemplate.getConnectionFactory(),
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                        .key(RedisSerializer.string())
+                        .hashKey(RedisSerializer.string())
+                        .build());
+        cacheCodecProvider.orderedStream().forEach(codec -> codec.getCacheNames()
+                .forEach(cacheName -> cacheCodecs.put(cacheName, codec)));
+
+        this.localCacheTtl = Duration.ofSeconds(localCacheTtlSeconds);
+
+        if (!localCacheEnabled) {
+            this.localCache = null;
+            return;
+        }
+
+        // Values take one slot of the local tier each, unless they declare a weight of their own
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(localCacheMaxSize)
+                .weigher((String path, Object value) ->
+                        value instanceof WeightedCacheValue weightedValue ? Math.max(1, weightedValue.getWeight()) : 1)
+                .expireAfter(new LocalTierExpiry(localCacheTtl))
+                .removalListener((String path, Object value, RemovalCause cause) -> {
+                    if (path != null && cause.wasEvicted()) {
+                        String cacheName = getCacheName(path);
+                        ensureStats(cacheName);
+                        statsMap.get(cacheName).getLocalEvictions().incrementAndGet();
+                    }
+                })
+                .build();
+
+        subscribeToInvalidations();
+    }
+
+    /**
+     * Expires local entries after the TTL of the local tier, unless they have been put with a shorter one.
+     */
+    private record LocalTierExpiry(Duration ttl) implements Expiry<String, Object> {
+
+        @Override
+        public long expireAfterCreate(String path, Object value, long currentTime) {
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String path, Object value, long currentTime, long currentDuration) {
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String path, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Listens to the evictions done by other nodes and applies them to the local tier. If the subscription fails, the
+     * local tier is cleared before subscribing again, as invalidation messages may have been missed in the meantime.
+     */
+    private void subscribeToInvalidations() {
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .doOnNext(message -> applyInvalidation(message.getMessage()))
+                .doOnError(error -> {
+                    log.warn("Error listening to cache invalidations, clearing local cache", error);
+                    localInvalidations.values().forEach(AtomicLong::incrementAndGet);
+                    localCache.invalidateAll();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    private void applyInvalidation(String message) {
+        String[] parts = message.split("\\" + MESSAGE_SEPARATOR, 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        if (EVICT.equals(parts[1])) {
+            invalidateLocalEntry(parts[2]);
+        } else if (EVICT_ALL.equals(parts[1])) {
+            invalidateLocalCache(parts[2]);
+        }
+    }
+
+    private Mono<Void> publishInvalidation(String type, String target) {
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, String.join(MESSAGE_SEPARATOR, instanceId, type, target))
+                .then();
+    }
+
+    private AtomicLong getLocalInvalidations(String cacheName) {
+        return localInvalidations.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    /*
+     * The count of invalidations is increased before the entries are removed. So a value that is put in the local
+     * tier concurrently either is put before the removal and gets removed, or sees the new count and isn't put.
+     */
+    private void invalidateLocalEntry(String path) {
+        getLocalInvalidations(getCacheName(path)).incrementAndGet();
+        localCache.invalidate(path);
+    }
+
+    private void invalidateLocalCache(String cacheName) {
+        getLocalInvalidations(cacheName).incrementAndGet();
+        String prefix = cacheName + ":";
+        localCache.asMap().keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    /**
+     * Puts a value in the local tier, unless an entry of its cache has been invalidated since the given count of
+     * invalidations was read. The check is done while holding the lock of the entry, which invalidating it needs as
+     * well.
+     */
+    private void putInLocalCache(String cacheName, String path, Object value, Duration ttl, long invalidations) {
+        AtomicLong currentInvalidations = getLocalInvalidations(cacheName);
+        BiFunction<String, Object, Object> remapping =
+                (entryPath, currentValue) -> currentInvalidations.get() == invalidations ? value : currentValue;
+        if (ttl == null) {
+            localCache.asMap().compute(path, remapping);
+        } else {
+            localCache.policy().expireVariably().ifPresent(expiry -> expiry.compute(path, remapping, ttl));
+        }
+    }
+
+    /**
+     * Returns the Redis key of an entry, which holds the format of the codec of the cache, if it has one.
+     */
+    private String getRedisKey(String cacheName, String key) {
+        CacheCodec cacheCodec = cacheCodecs.get(cacheName);
+        return cacheCodec == null ? cacheName + ":" + key : cacheName + ":" + cacheCodec.getFormat() + ":" + key;
+    }
+
+    private static String getCacheName(String path) {
+        int separatorIndex = path.indexOf(':');
+        return separatorIndex < 0 ? path : path.substring(0, separatorIndex);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
-                .map(value -> {
-                    // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
-                    return value;
-                })
-                .switchIfEmpty(Mono.defer(() -> {
-                    // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
-                    return Mono.empty();
-                }));
+
+        if (localCache != null) {
+            Object localValue = localCache.getIfPresent(path);
+            if (localValue != null) {
+                statsMap.get(cacheName).getLocalHits().incrementAndGet();
+                return Mono.just(localValue);
+            }
+            statsMap.get(cacheName).getLocalMisses().incrementAndGet();
+        }
+
+        return Mono.defer(() -> {
+            // Read before going to Redis, as the entry may be evicted while it is being read
+            long invalidations =
+                    localCache == null ? 0 : getLocalInvalidations(cacheName).get();
+            return getFromRedis(cacheName, getRedisKey(cacheName, key))
+                    .map(value -> {
+                        // This is a cache hit, update stats and return value
+                        statsMap.get(cacheName).getHits().incrementAndGet();
+                        if (localCache != null) {
+                            putInLocalCache(cacheName, path, value, null, invalidations);
+                        }
+                        return value;
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        // This is a cache miss, update stats and return empty
+                        statsMap.get(cacheName).getMisses().incrementAndGet();
+                        log.debug("Cache miss for key {}", path);
+                        return Mono.empty();
+                    }));
+        });
+    }
+
+    private Mono<Object> getFromRedis(String cacheName, String redisKey) {
+        CacheCodec cacheCodec = cacheCodecs.get(cacheName);
+        if (cacheCodec == null) {
+            return reactiveRedisTemplate.opsForValue().get(redisKey);
+        }
+
+        return binaryRedisTemplate.opsForValue().get(redisKey).flatMap(bytes -> {
+            try {
+                return Mono.just(cacheCodec.decode(bytes));
+            } catch (IOException e) {
+                // The entry may be corrupt, or the format may have changed without the codec being renamed. Treat it
+                // as a miss, so that it gets overwritten.
+                log.debug("Unable to decode cache entry for key {}", redisKey, e);
+                return Mono.empty();
+            }
+        });
+    }
+
+    private Mono<Boolean> putInRedis(String cacheName, String redisKey, Object value, Duration ttl) {
+        CacheCodec cacheCodec = cacheCodecs.get(cacheName);
+        if (cacheCodec == null) {
+            return ttl == null
+                    ? reactiveRedisTemplate.opsForValue().set(redisKey, value)
+                    : reactiveRedisTemplate.opsForValue().set(redisKey, value, ttl);
+        }
+
+        try {
+            byte[] bytes = cacheCodec.encode(value);
+            return ttl == null
+                    ? binaryRedisTemplate.opsForValue().set(redisKey, bytes)
+                    : binaryRedisTemplate.opsForValue().set(redisKey, bytes, ttl);
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
     }
 
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
+        return put(cacheName, key, value, null);
+    }
+
+    /**
+     * Note that an entry with a TTL may outlive it in the local tier by up to the TTL of the local tier, when it has
+     * been read from Redis shortly before expiring there.
+     */
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        return Mono.defer(() -> {
+            long invalidations =
+                    localCache == null ? 0 : getLocalInvalidations(cacheName).get();
+            return putInRedis(cacheName, getRedisKey(cacheName, key), value, ttl)
+                    .doOnNext(success -> {
+                        if (localCache == null || !Boolean.TRUE.equals(success)) {
+                            return;
+                        }
+
+                        Duration localTtl = ttl == null || ttl.compareTo(localCacheTtl) >= 0 ? null : ttl;
+                        putInLocalCache(cacheName, path, value, localTtl, invalidations);
+                    });
+        });
     }
 
     @Override
@@ -100,7 +426,20 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        // The entry without the format of the codec is removed as well, as it may still be read by nodes that store
+        // the cache in another format
+        Mono<Long> redisEviction = cacheCodecs.containsKey(cacheName)
+                ? reactiveRedisTemplate.delete(getRedisKey(cacheName, key), path)
+                : reactiveRedisTemplate.delete(path);
+        if (localCache == null) {
+            return redisEviction.then();
+        }
+
+        // A lookup that read the Redis entry before it was deleted may finish after the local entry is dropped. It
+        // doesn't put the old value back in the local tier, as the count of invalidations has changed since it started.
+        return redisEviction
+                .then(Mono.fromRunnable(() -> invalidateLocalEntry(path)))
+                .then(publishInvalidation(EVICT, path));
     }
 
     @Override
@@ -111,6 +450,14 @@ public class RedisCacheManagerImpl implements CacheManager {
         // Remove all matching keys with wildcard
         final String script =
                 "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        Mono<Void> redisEviction =
+                reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        if (localCache == null) {
+            return redisEviction;
+        }
+
+        return redisEviction
+                .then(Mono.fromRunnable(() -> invalidateLocalCache(cacheName)))
+                .then(publishInvalidation(EVICT_ALL, cacheName));
     }
 }
@@ -13,15 +13,30 @@ import java.util.concurrent.atomic.AtomicInteger;
 @NoArgsConstructor(staticName = "newInstance")
 public class CacheStats {
     /**
-     * The number of times the cache was hit.
+     * The number of times the cache was hit in Redis.
      */
     private AtomicInteger hits = new AtomicInteger(0);
 
     /**
-     * The number of times the cache was missed.
+     * The number of times the cache was missed in Redis.
      */
     private AtomicInteger misses = new AtomicInteger(0);
 
+    /**
+     * The number of times the cache was hit in the local in-memory tier.
+     */
+    private AtomicInteger localHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the cache was missed in the local in-memory tier, and had to be looked up in Redis.
+     */
+    private AtomicInteger localMisses = new AtomicInteger(0);
+
+    /**
+     * The number of entries removed from the local in-memory tier because of its size limit or expiry.
+     */
+    private AtomicInteger localEvictions = new AtomicInteger(0);
+
     /**
      * The number of times the cache was evicted (single key).
      */
@@ -0,0 +1,13 @@
+package com.appsmith.caching.model;
+
+/**
+ * Implemented by cached values whose size varies a lot, e.g. query results, so that the local in-memory tier can
+ * account for them in proportion to their size. Other values take a single slot of the local tier.
+ */
+public interface WeightedCacheValue {
+
+    /**
+     * The number of slots of the local tier this value takes, at least 1.
+     */
+    int getWeight();
+}
@@ -0,0 +1,101 @@
+package com.appsmith.testcaching.benchmarks;
+
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.codec.JacksonCacheCodec;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per call cost of the cache:
+ * <ul>
+ *     <li>a round trip of a permissionGroupsForUser like value through the Smile codec and through Java
+ *     serialization</li>
+ *     <li>deriving a key by parsing its expression every time and by reusing the parsed expression</li>
+ * </ul>
+ * <p>
+ * Run with {@code mvn -pl reactive-caching test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.appsmith.testcaching.benchmarks.CacheCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    private static final String KEY_EXPRESSION = "{#email + #tenantId}";
+
+    private final JacksonCacheCodec smileCodec = JacksonCacheCodec.smile(
+            TypeFactory.defaultInstance().constructCollectionType(Set.class, String.class), "permissionGroupsForUser");
+
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+    private Set<String> permissionGroups;
+
+    private EvaluationContext evaluationContext;
+
+    private Expression parsedExpression;
+
+    @Setup
+    public void setUp() {
+        permissionGroups = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            permissionGroups.add(UUID.randomUUID().toString().replace("-", "").substring(0, 24));
+        }
+
+        evaluationContext = new StandardEvaluationContext();
+        evaluationContext.setVariable("email", "test@appsmith.com");
+        evaluationContext.setVariable("tenantId", "tenantId");
+        parsedExpression = CacheAspect.EXPRESSION_PARSER.parseExpression(KEY_EXPRESSION);
+    }
+
+    @Benchmark
+    public Object smileRoundTrip() throws IOException {
+        return smileCodec.decode(smileCodec.encode(permissionGroups));
+    }
+
+    @Benchmark
+    public Object jdkRoundTrip() {
+        return jdkSerializer.deserialize(jdkSerializer.serialize(permissionGroups));
+    }
+
+    @Benchmark
+    public String keyExpressionParsedEveryCall() {
+        return CacheAspect.EXPRESSION_PARSER.parseExpression(KEY_EXPRESSION).getValue(evaluationContext, String.class);
+    }
+
+    @Benchmark
+    public String keyExpressionParsedOnce() {
+        return parsedExpression.getValue(evaluationContext, String.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(CacheCodecBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
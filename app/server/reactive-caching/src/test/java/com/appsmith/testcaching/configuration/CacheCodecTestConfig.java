@@ -0,0 +1,22 @@
+package com.appsmith.testcaching.configuration;
+
+import com.appsmith.caching.codec.CacheCodec;
+import com.appsmith.caching.codec.JacksonCacheCodec;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class CacheCodecTestConfig {
+
+    public static final String CODEC_CACHE_NAME = "codeccache";
+
+    @Bean
+    public CacheCodec testCacheCodec() {
+        return JacksonCacheCodec.smile(
+                TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Boolean.class),
+                CODEC_CACHE_NAME);
+    }
+}
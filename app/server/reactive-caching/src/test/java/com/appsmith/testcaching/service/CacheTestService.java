@@ -13,12 +13,15 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class CacheTestService {
 
     PodamFactory factory = new PodamFactoryImpl();
 
+    private final AtomicInteger countedCalls = new AtomicInteger();
+
     /**
      * This method is used to test the caching functionality for Mono<T>.
      * @param id The id
@@ -31,6 +34,31 @@ public class CacheTestService {
         return Mono.just(model).delayElement(Duration.ofSeconds(2));
     }
 
+    /**
+     * This method is used to count how many times the original method is called for concurrent cache misses.
+     * The delay keeps the calls overlapping.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "countedcache")
+    public Mono<TestModel> getCountedObjectFor(String id) {
+        countedCalls.incrementAndGet();
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofMillis(500));
+    }
+
+    /**
+     * @return The number of times getCountedObjectFor has been called since the last reset
+     */
+    public int getCountedCalls() {
+        return countedCalls.get();
+    }
+
+    public void resetCountedCalls() {
+        countedCalls.set(0);
+    }
+
     /**
      * This method is used to test the eviction functionality for Mono<T>.
      * @param id The id
@@ -0,0 +1,103 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.codec.CacheCodec;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the local tier of the cache manager against mocked Redis operations, so that a lookup can be held between
+ * reading Redis and putting the value in the local tier.
+ */
+public class RedisCacheManagerImplTest {
+
+    private static final String CACHE_NAME = "localtiercache";
+
+    private static final String REDIS_KEY = CACHE_NAME + ":key1";
+
+    private ReactiveValueOperations<String, Object> valueOperations;
+
+    private RedisCacheManagerImpl cacheManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        when(reactiveRedisTemplate.getConnectionFactory()).thenReturn(mock(ReactiveRedisConnectionFactory.class));
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(reactiveRedisTemplate.delete(anyString())).thenReturn(Mono.just(1L));
+
+        ReactiveRedisOperations<String, String> reactiveRedisOperations = mock(ReactiveRedisOperations.class);
+        when(reactiveRedisOperations.listenToChannel(anyString())).thenReturn(Flux.never());
+        when(reactiveRedisOperations.convertAndSend(anyString(), anyString())).thenReturn(Mono.just(1L));
+        when(reactiveRedisOperations.execute(any(RedisScript.class))).thenReturn(Flux.empty());
+
+        ObjectProvider<CacheCodec> cacheCodecProvider = mock(ObjectProvider.class);
+        when(cacheCodecProvider.orderedStream()).thenReturn(Stream.empty());
+
+        cacheManager = new RedisCacheManagerImpl(
+                reactiveRedisTemplate, reactiveRedisOperations, cacheCodecProvider, true, 100, 60);
+    }
+
+    @Test
+    public void get_whenReadFromRedis_isServedByLocalTierAfterwards() {
+        when(valueOperations.get(REDIS_KEY)).thenReturn(Mono.just("value"));
+
+        assertEquals("value", cacheManager.get(CACHE_NAME, "key1").block());
+        assertEquals("value", cacheManager.get(CACHE_NAME, "key1").block());
+
+        verify(valueOperations, times(1)).get(REDIS_KEY);
+    }
+
+    @Test
+    public void get_whenEvictedWhileReadingRedis_doesNotPutOldValueInLocalTier() throws Exception {
+        Sinks.One<Object> redisRead = Sinks.one();
+        when(valueOperations.get(REDIS_KEY)).thenReturn(redisRead.asMono()).thenReturn(Mono.empty());
+
+        // The lookup reads the entry from Redis before it is evicted, and gets the value after the eviction is done
+        CompletableFuture<Object> lookup = cacheManager.get(CACHE_NAME, "key1").toFuture();
+        cacheManager.evict(CACHE_NAME, "key1").block();
+        redisRead.tryEmitValue("old value");
+        assertEquals("old value", lookup.get());
+
+        // The next lookup goes to Redis again, instead of being served the old value by the local tier
+        assertNull(cacheManager.get(CACHE_NAME, "key1").block());
+        verify(valueOperations, times(2)).get(REDIS_KEY);
+    }
+
+    @Test
+    public void get_whenEvictAllWhileReadingRedis_doesNotPutOldValueInLocalTier() throws Exception {
+        Sinks.One<Object> redisRead = Sinks.one();
+        when(valueOperations.get(REDIS_KEY)).thenReturn(redisRead.asMono()).thenReturn(Mono.empty());
+
+        CompletableFuture<Object> lookup = cacheManager.get(CACHE_NAME, "key1").toFuture();
+        cacheManager.evictAll(CACHE_NAME).block();
+        redisRead.tryEmitValue("old value");
+        assertEquals("old value", lookup.get());
+
+        assertNull(cacheManager.get(CACHE_NAME, "key1").block());
+        verify(valueOperations, times(2)).get(REDIS_KEY);
+    }
+}
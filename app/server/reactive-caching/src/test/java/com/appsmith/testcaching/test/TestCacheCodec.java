@@ -0,0 +1,111 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.codec.JacksonCacheCodec;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+public class TestCacheCodec {
+
+    private static final int COUNT = 10_000;
+
+    /**
+     * This Test is used to test that values survive the round trip through the Smile codec
+     */
+    @Test
+    public void testSmileCodecRoundTrip() throws Exception {
+        JacksonCacheCodec codec = JacksonCacheCodec.smile(
+                TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Boolean.class), "flags");
+
+        Map<String, Boolean> flags = Map.of("release_feature_enabled", true, "license_feature_enabled", false);
+
+        assertEquals(Set.of("flags"), codec.getCacheNames());
+        assertEquals(flags, codec.decode(codec.encode(flags)));
+    }
+
+    /**
+     * Test to measure the size and per call overhead of the Smile codec against Java serialization, for a value like
+     * the one cached for permissionGroupsForUser
+     */
+    @Test
+    public void measureCodecPerformance() throws Exception {
+        Set<String> permissionGroups = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            permissionGroups.add(UUID.randomUUID().toString().replace("-", "").substring(0, 24));
+        }
+
+        JacksonCacheCodec codec = JacksonCacheCodec.smile(
+                TypeFactory.defaultInstance().constructCollectionType(Set.class, String.class),
+                "permissionGroupsForUser");
+        JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+        byte[] smileBytes = codec.encode(permissionGroups);
+        byte[] jdkBytes = jdkSerializer.serialize(permissionGroups);
+        assertEquals(permissionGroups, codec.decode(smileBytes));
+        assertTrue(smileBytes.length < jdkBytes.length);
+
+        long initialTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            codec.decode(codec.encode(permissionGroups));
+        }
+        long smileTime = (System.nanoTime() - initialTime) / COUNT;
+
+        initialTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            jdkSerializer.deserialize(jdkSerializer.serialize(permissionGroups));
+        }
+        long jdkTime = (System.nanoTime() - initialTime) / COUNT;
+
+        log.info(
+                "Smile codec: {} bytes, {} nanos per round trip. Java serialization: {} bytes, {} nanos per round trip",
+                smileBytes.length,
+                smileTime,
+                jdkBytes.length,
+                jdkTime);
+    }
+
+    /**
+     * Test to measure the per call overhead of parsing key expressions every time against reusing the parsed ones
+     */
+    @Test
+    public void measureKeyExpressionPerformance() {
+        String keyExpression = "{#email + #tenantId}";
+        EvaluationContext evaluationContext = new StandardEvaluationContext();
+        evaluationContext.setVariable("email", "test@appsmith.com");
+        evaluationContext.setVariable("tenantId", "tenantId");
+
+        long initialTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            CacheAspect.EXPRESSION_PARSER.parseExpression(keyExpression).getValue(evaluationContext, String.class);
+        }
+        long parseTime = (System.nanoTime() - initialTime) / COUNT;
+
+        Expression expression = CacheAspect.EXPRESSION_PARSER.parseExpression(keyExpression);
+        initialTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            expression.getValue(evaluationContext, String.class);
+        }
+        long reuseTime = (System.nanoTime() - initialTime) / COUNT;
+
+        // The keys must stay the same as the ones produced by interpreted expressions, which are already in Redis
+        assertEquals(
+                new SpelExpressionParser().parseExpression(keyExpression).getValue(evaluationContext, String.class),
+                expression.getValue(evaluationContext, String.class));
+        log.info("Key expression parsed every call: {} nanos, parsed once: {} nanos", parseTime, reuseTime);
+    }
+}
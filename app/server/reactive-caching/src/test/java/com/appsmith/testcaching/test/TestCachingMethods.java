@@ -1,6 +1,8 @@
 package com.appsmith.testcaching.test;
 
+import com.appsmith.caching.codec.JacksonCacheCodec;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
@@ -10,12 +12,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Map;
 
+import static com.appsmith.testcaching.configuration.CacheCodecTestConfig.CODEC_CACHE_NAME;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +36,9 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -99,6 +110,73 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that repeated lookups are served by the local tier, and that evictions clear it.
+     */
+    @Test
+    public void testLocalTier() {
+        RedisCacheManagerImpl redisCacheManager = (RedisCacheManagerImpl) cacheManager;
+
+        TestModel model = cacheTestService.getObjectFor("local1").block();
+        int localHits = redisCacheManager.getStats("objectcache").getLocalHits().get();
+        int redisHits = redisCacheManager.getStats("objectcache").getHits().get();
+
+        TestModel model2 = cacheTestService.getObjectFor("local1").block();
+        assertEquals(model, model2);
+        assertEquals(
+                localHits + 1,
+                redisCacheManager.getStats("objectcache").getLocalHits().get());
+        assertEquals(
+                redisHits, redisCacheManager.getStats("objectcache").getHits().get());
+
+        cacheTestService.evictObjectFor("local1").block();
+
+        model2 = cacheTestService.getObjectFor("local1").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that concurrent misses of the same key share one call to the original method
+     */
+    @Test
+    public void testConcurrentMissesShareOneCall() {
+        cacheTestService.resetCountedCalls();
+
+        List<TestModel> models = Flux.range(0, 5)
+                .flatMap(i -> cacheTestService.getCountedObjectFor("concurrent1"))
+                .collectList()
+                .block();
+
+        assertEquals(1, cacheTestService.getCountedCalls());
+        assertEquals(5, models.size());
+        models.forEach(model -> assertEquals(models.get(0), model));
+    }
+
+    /**
+     * This Test is used to test that caches with a codec don't read the entries written in another format, and that
+     * evicting an entry removes it in both formats
+     */
+    @Test
+    public void testCodecCacheIgnoresEntriesOfOtherFormats() {
+        // Entry written by a node that doesn't use the codec
+        String legacyKey = CODEC_CACHE_NAME + ":key1";
+        reactiveRedisTemplate.opsForValue().set(legacyKey, "legacy").block();
+
+        assertNull(cacheManager.get(CODEC_CACHE_NAME, "key1").block());
+
+        cacheManager.put(CODEC_CACHE_NAME, "key1", Map.of("flag", true)).block();
+        assertEquals(
+                Map.of("flag", true), cacheManager.get(CODEC_CACHE_NAME, "key1").block());
+        assertEquals(
+                "legacy", reactiveRedisTemplate.opsForValue().get(legacyKey).block());
+
+        cacheManager.evict(CODEC_CACHE_NAME, "key1").block();
+        assertFalse(reactiveRedisTemplate.hasKey(legacyKey).block());
+        assertFalse(reactiveRedisTemplate
+                .hasKey(CODEC_CACHE_NAME + ":" + JacksonCacheCodec.SMILE_FORMAT + ":key1")
+                .block());
+    }
+
     /**
      * Test to measure performance of caching
      */